@@ -0,0 +1,86 @@
+package com.cojac.storyteller.benchmark;
+
+import com.cojac.storyteller.book.dto.BookListCursor;
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookListSliceDTO;
+import com.cojac.storyteller.common.cache.CacheEnvelope;
+import com.cojac.storyteller.common.cache.VersionedSmileRedisSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 책 목록 캐시 값 직렬화 비교 (JDK 직렬화 vs Smile)
+ * L2에 실제로 저장되는 값과 같은 CacheEnvelope<BookListSliceDTO>를 CacheConfig와 같은 타입으로 직렬화
+ * 실행: ./gradlew jmh
+ * - encode/decode: 한 번 직렬화/역직렬화하는 평균 시간
+ * - 직렬화된 값의 크기는 각 벤치마크 시작 시 [payload]로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializerBenchmark {
+
+    @Param({"jdk", "smile"})
+    private String format;
+
+    // 한 페이지의 책 수
+    @Param({"10", "50"})
+    private int size;
+
+    private RedisSerializer<Object> serializer;
+    private CacheEnvelope<BookListSliceDTO> envelope;
+    private byte[] payload;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        if (format.equals("jdk")) {
+            serializer = new JdkSerializationRedisSerializer();
+        } else {
+            ObjectMapper smileMapper = VersionedSmileRedisSerializer.createSmileMapper();
+            serializer = (RedisSerializer<Object>) (RedisSerializer<?>) new VersionedSmileRedisSerializer<CacheEnvelope<BookListSliceDTO>>(smileMapper,
+                    smileMapper.getTypeFactory().constructParametricType(CacheEnvelope.class, BookListSliceDTO.class));
+        }
+        BookListSliceDTO slice = new BookListSliceDTO(new ArrayList<>(IntStream.rangeClosed(1, size)
+                .mapToObj(i -> BookListResponseDTO.builder()
+                        .bookId(i)
+                        .title("동화 제목 " + i)
+                        .coverImage("https://s3.ap-northeast-2.amazonaws.com/storyteller/cover/" + i + ".png")
+                        .currentPage(i % 5)
+                        .isReading(i % 2 == 0)
+                        .isFavorite(i % 3 == 0)
+                        .build())
+                .toList()), new BookListCursor(LocalDateTime.of(2024, 1, 1, 12, 0), size).encode(), true);
+        envelope = new CacheEnvelope<>(slice, System.currentTimeMillis() + 60_000, 15);
+        payload = serializer.serialize(envelope);
+        // 역직렬화에 실패하면 null(캐시 미스)이 반환되어 측정값이 의미 없어지므로 미리 확인
+        if (!(serializer.deserialize(payload) instanceof CacheEnvelope<?> restored && restored.value() instanceof BookListSliceDTO)) {
+            throw new IllegalStateException("직렬화한 값을 복원할 수 없습니다 : " + format);
+        }
+        System.out.printf("%n[payload] format=%s, size=%d : %d bytes%n", format, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(envelope);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(payload);
+    }
+}
@@ -1,18 +1,18 @@
 package com.cojac.storyteller.book.controller;
 
+import com.cojac.storyteller.book.service.BookGenerationJobService;
 import com.cojac.storyteller.book.service.BookService;
 import com.cojac.storyteller.book.dto.*;
 import com.cojac.storyteller.response.code.ResponseCode;
+import com.cojac.storyteller.common.idempotency.Idempotent;
+import com.cojac.storyteller.common.ownership.VerifyOwnership;
 import com.cojac.storyteller.common.swagger.BookControllerDocs;
 import com.cojac.storyteller.response.dto.ResponseDTO;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/profiles/{profileId}/books")
@@ -20,11 +20,14 @@ import java.util.List;
 public class BookController implements BookControllerDocs {
 
     private final BookService bookService;
+    private final BookGenerationJobService bookGenerationJobService;
 
     /**
      * 동화 내용 생성
      */
     @PostMapping
+    @Idempotent
+    @VerifyOwnership
     public ResponseEntity<ResponseDTO> createBook(@PathVariable Integer profileId, @RequestBody CreateBookRequest request) {
         BookDTO createdBook = bookService.createBook(request.getPrompt(), profileId);
         return ResponseEntity
@@ -33,18 +36,51 @@ public class BookController implements BookControllerDocs {
     }
 
     /**
-     * 동화 목록 조회
+     * 동화 생성 작업 등록 (비동기)
+     */
+    @PostMapping("/jobs")
+    @VerifyOwnership
+    public ResponseEntity<ResponseDTO<BookGenerationJobDTO>> submitBookGeneration(@PathVariable Integer profileId, @RequestBody CreateBookRequest request) {
+        BookGenerationJobDTO job = bookGenerationJobService.submit(request.getPrompt(), profileId);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_SUBMIT_BOOK_GENERATION.getStatus().value())
+                .body(new ResponseDTO<>(ResponseCode.SUCCESS_SUBMIT_BOOK_GENERATION, job));
+    }
+
+    /**
+     * 동화 생성 작업 상태 조회
+     */
+    @GetMapping("/jobs/{jobId}")
+    @VerifyOwnership
+    public ResponseEntity<ResponseDTO<BookGenerationJobDTO>> getBookGeneration(@PathVariable Integer profileId, @PathVariable String jobId) {
+        BookGenerationJobDTO job = bookGenerationJobService.getJob(profileId, jobId);
+        return ResponseEntity
+                .status(ResponseCode.SUCCESS_RETRIEVE_BOOK_GENERATION.getStatus().value())
+                .body(new ResponseDTO<>(ResponseCode.SUCCESS_RETRIEVE_BOOK_GENERATION, job));
+    }
+
+    /**
+     * 동화 생성 작업 진행 상황 구독 (SSE)
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @VerifyOwnership
+    public SseEmitter subscribeBookGeneration(@PathVariable Integer profileId, @PathVariable String jobId) {
+        return bookGenerationJobService.subscribe(profileId, jobId);
+    }
+
+    /**
+     * 동화 목록 조회 (최신순)
+     * 다음 목록은 응답의 nextCursor를 cursor로 전달하여 조회
      */
     @GetMapping
-    public ResponseEntity<ResponseDTO> getBookList(
+    @VerifyOwnership
+    public ResponseEntity<ResponseDTO<BookListSliceDTO>> getBookList(
             @PathVariable Integer profileId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "12") int size) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        List<BookListResponseDTO> books = bookService.getBooksPage(profileId, pageable);
-        ResponseCode responseCode = books.isEmpty() ? ResponseCode.SUCCESS_RETRIEVE_EMPTY_LIST : ResponseCode.SUCCESS_RETRIEVE_BOOKS;
+        BookListSliceDTO books = bookService.getBooksPage(profileId, cursor, size);
+        ResponseCode responseCode = books.getBooks().isEmpty() ? ResponseCode.SUCCESS_RETRIEVE_EMPTY_LIST : ResponseCode.SUCCESS_RETRIEVE_BOOKS;
         return ResponseEntity
                 .status(responseCode.getStatus().value())
                 .body(new ResponseDTO<>(responseCode, books));
@@ -54,6 +90,7 @@ public class BookController implements BookControllerDocs {
      * 동화 세부 정보 조회
      */
     @GetMapping("/{bookId}")
+    @VerifyOwnership(bookId = "#bookId")
     public ResponseEntity<ResponseDTO<BookDetailResponseDTO>> getBookDetail(@PathVariable Integer profileId, @PathVariable Integer bookId) {
         BookDetailResponseDTO bookDetail = bookService.getBookDetail(profileId, bookId);
         return ResponseEntity
@@ -65,6 +102,7 @@ public class BookController implements BookControllerDocs {
      * 즐겨찾기 상태로 업데이트
      */
     @PutMapping("/{bookId}/favorite")
+    @VerifyOwnership(bookId = "#bookId")
     public ResponseEntity<ResponseDTO<Boolean>> isFavorite(@PathVariable Integer profileId, @PathVariable Integer bookId) {
         Boolean newFavoriteStatus = bookService.toggleFavorite(profileId, bookId);
         return ResponseEntity
@@ -76,6 +114,7 @@ public class BookController implements BookControllerDocs {
      * 동화 삭제
      */
     @DeleteMapping("/{bookId}")
+    @VerifyOwnership(bookId = "#bookId")
     public ResponseEntity<ResponseDTO> deleteBook(@PathVariable Integer profileId, @PathVariable Integer bookId) throws Exception {
         bookService.deleteBook(profileId, bookId);
         return ResponseEntity
@@ -87,8 +126,9 @@ public class BookController implements BookControllerDocs {
      * 현재 읽고 있는 페이지 업데이트
      */
     @PutMapping("/{bookId}/current")
-    public ResponseEntity<ResponseDTO<BookDTO>> updateCurrentPage(@PathVariable Integer profileId, @PathVariable Integer bookId, @RequestParam Integer currentPage) {
-        BookDTO updatedBook = bookService.updateCurrentPage(profileId, bookId, currentPage);
+    @VerifyOwnership(bookId = "#bookId")
+    public ResponseEntity<ResponseDTO<BookProgressDTO>> updateCurrentPage(@PathVariable Integer profileId, @PathVariable Integer bookId, @RequestParam Integer currentPage) {
+        BookProgressDTO updatedBook = bookService.updateCurrentPage(profileId, bookId, currentPage);
         return ResponseEntity
                 .status(ResponseCode.SUCCESS_UPDATE_CURRENT_PAGE.getStatus().value())
                 .body(new ResponseDTO<>(ResponseCode.SUCCESS_UPDATE_CURRENT_PAGE, updatedBook));
@@ -98,16 +138,14 @@ public class BookController implements BookControllerDocs {
      * 즐겨찾기 동화 조회
      */
     @GetMapping("/favorites")
-    public ResponseEntity<ResponseDTO<List<BookListResponseDTO>>> getFavoriteBooks(
+    @VerifyOwnership
+    public ResponseEntity<ResponseDTO<BookListSliceDTO>> getFavoriteBooks(
             @PathVariable Integer profileId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String[] sort) {
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sort[0]).ascending());
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
 
-        List<BookListResponseDTO> favoriteBooks = bookService.getFavoriteBooks(profileId, pageable);
-        ResponseCode responseCode = favoriteBooks.isEmpty() ? ResponseCode.SUCCESS_RETRIEVE_EMPTY_LIST : ResponseCode.SUCCESS_RETRIEVE_FAVORITE_BOOKS;
+        BookListSliceDTO favoriteBooks = bookService.getFavoriteBooks(profileId, cursor, size);
+        ResponseCode responseCode = favoriteBooks.getBooks().isEmpty() ? ResponseCode.SUCCESS_RETRIEVE_EMPTY_LIST : ResponseCode.SUCCESS_RETRIEVE_FAVORITE_BOOKS;
         return ResponseEntity
                 .status(responseCode.getStatus().value())
                 .body(new ResponseDTO<>(responseCode, favoriteBooks));
@@ -117,16 +155,14 @@ public class BookController implements BookControllerDocs {
      * 읽고 있는 동화 조회
      */
     @GetMapping("/reading")
-    public ResponseEntity<ResponseDTO<List<BookListResponseDTO>>> getReadingBooks(
+    @VerifyOwnership
+    public ResponseEntity<ResponseDTO<BookListSliceDTO>> getReadingBooks(
             @PathVariable Integer profileId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String[] sort) {
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sort[0]).ascending());
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size) {
 
-        List<BookListResponseDTO> readingBooks = bookService.getReadingBooks(profileId, pageable);
-        ResponseCode responseCode = readingBooks.isEmpty() ? ResponseCode.SUCCESS_RETRIEVE_EMPTY_LIST : ResponseCode.SUCCESS_RETRIEVE_READING_BOOKS;
+        BookListSliceDTO readingBooks = bookService.getReadingBooks(profileId, cursor, size);
+        ResponseCode responseCode = readingBooks.getBooks().isEmpty() ? ResponseCode.SUCCESS_RETRIEVE_EMPTY_LIST : ResponseCode.SUCCESS_RETRIEVE_READING_BOOKS;
         return ResponseEntity
                 .status(responseCode.getStatus().value())
                 .body(new ResponseDTO<>(responseCode, readingBooks));
@@ -136,6 +172,8 @@ public class BookController implements BookControllerDocs {
      * 동화 퀴즈 생성
      */
     @PostMapping("/{bookId}/quiz")
+    @Idempotent
+    @VerifyOwnership(bookId = "#bookId")
     public ResponseEntity<ResponseDTO> createQuiz(@PathVariable Integer profileId, @PathVariable Integer bookId) {
         QuizResponseDTO createdBook = bookService.createQuiz(profileId, bookId);
         return ResponseEntity
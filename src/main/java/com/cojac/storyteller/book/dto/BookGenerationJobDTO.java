@@ -0,0 +1,64 @@
+package com.cojac.storyteller.book.dto;
+
+import lombok.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookGenerationJobDTO {
+
+    private String jobId;
+    private Integer profileId;
+    private BookGenerationStatus status;
+    private String title;
+    private Integer totalPages;
+    private Integer illustratedPages;
+    private Integer bookId;
+    private String errorCode;
+    private String errorMessage;
+
+    /**
+     * Redis 해시로 저장하기 위해 값이 있는 필드만 문자열로 변환
+     */
+    public Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        hash.put("jobId", jobId);
+        hash.put("profileId", String.valueOf(profileId));
+        hash.put("status", status.name());
+        putIfNotNull(hash, "title", title);
+        putIfNotNull(hash, "totalPages", totalPages);
+        putIfNotNull(hash, "illustratedPages", illustratedPages);
+        putIfNotNull(hash, "bookId", bookId);
+        putIfNotNull(hash, "errorCode", errorCode);
+        putIfNotNull(hash, "errorMessage", errorMessage);
+        return hash;
+    }
+
+    public static BookGenerationJobDTO fromHash(Map<String, String> hash) {
+        return BookGenerationJobDTO.builder()
+                .jobId(hash.get("jobId"))
+                .profileId(toInteger(hash.get("profileId")))
+                .status(BookGenerationStatus.valueOf(hash.get("status")))
+                .title(hash.get("title"))
+                .totalPages(toInteger(hash.get("totalPages")))
+                .illustratedPages(toInteger(hash.get("illustratedPages")))
+                .bookId(toInteger(hash.get("bookId")))
+                .errorCode(hash.get("errorCode"))
+                .errorMessage(hash.get("errorMessage"))
+                .build();
+    }
+
+    private static void putIfNotNull(Map<String, String> hash, String key, Object value) {
+        if (value != null) {
+            hash.put(key, String.valueOf(value));
+        }
+    }
+
+    private static Integer toInteger(String value) {
+        return value == null ? null : Integer.valueOf(value);
+    }
+}
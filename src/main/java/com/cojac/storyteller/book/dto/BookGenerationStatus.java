@@ -0,0 +1,14 @@
+package com.cojac.storyteller.book.dto;
+
+public enum BookGenerationStatus {
+    QUEUED,             // 작업 대기 중
+    GENERATING_STORY,   // 동화 내용 생성 중
+    ILLUSTRATING,       // 삽화 생성 중
+    PERSISTING,         // DB 저장 중
+    COMPLETED,          // 생성 완료
+    FAILED;             // 생성 실패
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
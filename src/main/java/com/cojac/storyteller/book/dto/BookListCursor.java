@@ -0,0 +1,41 @@
+package com.cojac.storyteller.book.dto;
+
+import com.cojac.storyteller.book.exception.InvalidCursorException;
+import com.cojac.storyteller.response.code.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 책 목록 커서 (마지막으로 반환한 책의 생성 시각과 ID)
+ * 클라이언트에는 내용을 알 수 없는 토큰으로 전달하고, 다음 요청에서 이 책 이후의 목록을 조회
+ * @param createdAt 마지막 책의 생성 시각
+ * @param id 마지막 책의 ID (생성 시각이 같은 책의 순서 구분)
+ */
+public record BookListCursor(LocalDateTime createdAt, Integer id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token 이전 응답의 nextCursor
+     * @return 커서 (토큰이 없으면 null, 첫 페이지)
+     */
+    public static BookListCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new BookListCursor(LocalDateTime.parse(raw.substring(0, separator)), Integer.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.cojac.storyteller.book.dto;
+
+import com.cojac.storyteller.common.cache.CacheWeighted;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@Builder
+public class BookListSliceDTO implements Serializable, CacheWeighted {
+
+    private static final long serialVersionUID = 1L;
+
+    private List<BookListResponseDTO> books;
+    private String nextCursor; // 다음 목록 요청에 전달할 커서 (마지막 목록이면 null)
+    private Boolean hasNext;
+
+    public BookListSliceDTO(List<BookListResponseDTO> books, String nextCursor, Boolean hasNext) {
+        this.books = books;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    @Override
+    public int cacheWeight() {
+        return books == null ? 1 : Math.max(1, books.size());
+    }
+}
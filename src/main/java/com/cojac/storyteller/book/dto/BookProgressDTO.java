@@ -0,0 +1,17 @@
+package com.cojac.storyteller.book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookProgressDTO {
+    private Integer bookId;
+    private Integer currentPage;
+    private Integer totalPageCount;
+    private Boolean isReading;
+}
@@ -5,10 +5,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class QuizResponseDTO {
+public class QuizResponseDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private String question;
 }
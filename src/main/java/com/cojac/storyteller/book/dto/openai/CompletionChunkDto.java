@@ -0,0 +1,36 @@
+package com.cojac.storyteller.book.dto.openai;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스트리밍 응답(stream=true)의 각 data 이벤트에 담기는 chat completion chunk
+ */
+@Getter
+@NoArgsConstructor
+public class CompletionChunkDto {
+    private String id;
+    private String object;
+    private long created;
+    private String model;
+    private List<Choice> choices;
+    // stream_options.include_usage 요청 시 마지막 chunk에만 포함
+    private CompletionResponseDto.Usage usage;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Choice {
+        private Delta delta;
+        private int index;
+        private String finish_reason;
+
+        @Getter
+        @NoArgsConstructor
+        public static class Delta {
+            private String role;
+            private String content;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.cojac.storyteller.book.dto.openai;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
 import java.util.List;
@@ -12,6 +13,15 @@ public class CompletionRequestDto {
     private String model;
     private List<Message> messages;
     private float temperature;
+    // 응답으로 생성할 최대 토큰 수
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer max_tokens;
+    // true이면 응답을 SSE(data: ...) 형식의 chunk로 나누어 전송
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;
+    // 스트리밍 응답의 마지막 chunk에 토큰 사용량 포함 여부
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private StreamOptions stream_options;
 
     @Getter
     @NoArgsConstructor
@@ -21,4 +31,11 @@ public class CompletionRequestDto {
         private String role;
         private String content;
     }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StreamOptions {
+        private boolean include_usage;
+    }
 }
@@ -13,6 +13,7 @@ public class CompletionResponseDto {
     private long created;
     private String model;
     private List<Choice> choices;
+    private Usage usage;
 
     @Getter
     @NoArgsConstructor
@@ -29,4 +30,12 @@ public class CompletionResponseDto {
             private String content;
         }
     }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Usage {
+        private int prompt_tokens;
+        private int completion_tokens;
+        private int total_tokens;
+    }
 }
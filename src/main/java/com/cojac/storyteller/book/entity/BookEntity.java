@@ -5,6 +5,7 @@ import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.setting.entity.SettingEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -18,6 +19,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("deletedAt IS NULL") // 삭제 표시된 책은 조회되지 않음 (실제 삭제는 TombstoneReaper가 수행)
 public class BookEntity {
 
     @Id
@@ -33,6 +35,11 @@ public class BookEntity {
     @Column(nullable = false)
     private Integer currentPage;
 
+    // 생성 시 페이지 수를 저장하여, 페이지 수 확인에 pages 컬렉션을 로딩하지 않음
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer totalPageCount = 0;
+
     @OneToMany(mappedBy = "book", cascade = CascadeType.ALL)
     @Builder.Default
     private List<PageEntity> pages = new ArrayList<>();
@@ -54,9 +61,7 @@ public class BookEntity {
     @JoinColumn(name = "created_at")
     private LocalDateTime createdAt; // 생성일
 
-    public int getTotalPageCount() {
-        return pages.size();
-    }
+    private LocalDateTime deletedAt; // 삭제 표시 시각
 
     public void updateProfile(ProfileEntity profile) {
         this.profile = profile;
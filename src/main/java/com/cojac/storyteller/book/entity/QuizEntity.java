@@ -0,0 +1,35 @@
+package com.cojac.storyteller.book.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 책마다 한 번 생성한 퀴즈를 저장 (책 내용은 바뀌지 않으므로 재사용)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_quiz_book", columnNames = "book_id"))
+public class QuizEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    private BookEntity book;
+
+    @Column(nullable = false, length = 2000)
+    private String question;
+
+    @CreatedDate
+    private LocalDateTime createdAt; // 생성일
+}
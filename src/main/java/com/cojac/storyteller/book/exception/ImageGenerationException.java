@@ -0,0 +1,14 @@
+package com.cojac.storyteller.book.exception;
+
+import com.cojac.storyteller.response.code.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ImageGenerationException extends RuntimeException {
+    private final ErrorCode errorCode;
+
+    public ImageGenerationException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode.getMessage(), cause);
+        this.errorCode = errorCode;
+    }
+}
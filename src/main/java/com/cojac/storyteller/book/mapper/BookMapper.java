@@ -13,12 +13,13 @@ import java.util.stream.Collectors;
 
 
 public class BookMapper {
-    public static BookEntity mapToBookEntity(String title, String coverImageUrl, ProfileEntity profile, SettingEntity setting) {
+    public static BookEntity mapToBookEntity(String title, String coverImageUrl, int totalPageCount, ProfileEntity profile, SettingEntity setting) {
 
         return BookEntity.builder()
                 .title(title)
                 .coverImage(coverImageUrl)
                 .currentPage(0)
+                .totalPageCount(totalPageCount)
                 .isReading(true)
                 .isFavorite(false)
                 .profile(profile)
@@ -46,31 +47,7 @@ public class BookMapper {
                 .pages(pageDTOs)
                 .isReading(book.isReading())
                 .isFavorite(book.isFavorite())
-                .totalPageCount(book.getPages().size())
-                .profileId(book.getProfile().getId())
-                .build();
-    }
-
-    public static BookDTO mapToBookDTO(BookEntity book) {
-        List<PageDTO> pageDTOs = book.getPages().stream()
-                .map(page -> PageDTO.builder()
-                        .id(page.getId())
-                        .pageNumber(page.getPageNumber())
-                        .image(page.getImage())
-                        .content(page.getContent())
-                        .bookId(page.getBook().getId())
-                        .build())
-                .collect(Collectors.toList());
-
-        return BookDTO.builder()
-                .id(book.getId())
-                .title(book.getTitle())
-                .coverImage(book.getCoverImage())
-                .currentPage(book.getCurrentPage())
-                .pages(pageDTOs)
-                .isReading(book.isReading())
-                .isFavorite(book.isFavorite())
-                .totalPageCount(book.getPages().size())
+                .totalPageCount(book.getTotalPageCount())
                 .profileId(book.getProfile().getId())
                 .build();
     }
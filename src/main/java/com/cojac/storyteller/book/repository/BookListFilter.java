@@ -0,0 +1,8 @@
+package com.cojac.storyteller.book.repository;
+
+/**
+ * 책 목록 종류
+ */
+public enum BookListFilter {
+    ALL, FAVORITE, READING
+}
@@ -1,30 +1,44 @@
 package com.cojac.storyteller.book.repository;
 
+import com.cojac.storyteller.book.dto.BookProgressDTO;
 import com.cojac.storyteller.book.entity.BookEntity;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<BookEntity, Integer> {
-    Page<BookEntity> findByProfile(ProfileEntity profile, Pageable pageable);
-
+public interface BookRepository extends JpaRepository<BookEntity, Integer>, BookRepositoryCustom {
     List<BookEntity> findByProfile(ProfileEntity profile);
 
     Optional<BookEntity> findByIdAndProfile(Integer id, ProfileEntity profile);
 
-    @Query("SELECT b FROM BookEntity b JOIN FETCH b.setting WHERE b.id = :bookId AND b.profile = :profile")
-    Optional<BookEntity> findByIdAndProfileWithSetting(Integer bookId, ProfileEntity profile);
-
-    // 즐겨찾기 책 필터링
-    Page<BookEntity> findByProfileAndIsFavoriteTrue(ProfileEntity profile, Pageable pageable);
-
-    // 읽고 있는 책 필터링
-    Page<BookEntity> findByProfileAndIsReadingTrue(ProfileEntity profile, Pageable pageable);
+    @Query("SELECT b FROM BookEntity b JOIN FETCH b.setting WHERE b.id = :bookId")
+    Optional<BookEntity> findByIdWithSetting(Integer bookId);
+
+    // 현재 페이지 변경 (페이지 범위 확인과 읽는 중 여부 계산을 UPDATE 한 번으로 처리, 변경된 행이 없으면 0)
+    // 책이나 프로필이 삭제 표시되었으면 변경하지 않음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BookEntity b SET b.currentPage = :currentPage, " +
+            "b.isReading = CASE WHEN :currentPage >= b.totalPageCount THEN false ELSE true END " +
+            "WHERE b.id = :bookId AND b.profile.id = :profileId AND :currentPage <= b.totalPageCount AND b.deletedAt IS NULL " +
+            "AND EXISTS (SELECT 1 FROM ProfileEntity p WHERE p.id = :profileId AND p.deletedAt IS NULL)")
+    int updateCurrentPage(Integer profileId, Integer bookId, Integer currentPage);
+
+    // 읽기 진행 상태 조회 (pages를 로딩하지 않음)
+    @Query("SELECT new com.cojac.storyteller.book.dto.BookProgressDTO(b.id, b.currentPage, b.totalPageCount, b.isReading) " +
+            "FROM BookEntity b WHERE b.id = :bookId")
+    Optional<BookProgressDTO> findProgressById(Integer bookId);
+
+    boolean existsByIdAndProfile_Id(Integer bookId, Integer profileId);
+
+    // 책 삭제 표시 (이후 조회에서 제외되고, 실제 삭제는 TombstoneReaper가 수행)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BookEntity b SET b.deletedAt = :deletedAt WHERE b.id = :bookId AND b.profile.id = :profileId AND b.deletedAt IS NULL")
+    int markDeleted(Integer profileId, Integer bookId, LocalDateTime deletedAt);
 }
@@ -0,0 +1,28 @@
+package com.cojac.storyteller.book.repository;
+
+import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
+import com.cojac.storyteller.book.dto.BookListCursor;
+import com.cojac.storyteller.book.dto.BookListSliceDTO;
+
+import java.util.Optional;
+
+public interface BookRepositoryCustom {
+
+    /**
+     * 책 세부 정보와 페이지 목록을 쿼리 한 번으로 조회 (소유 프로필 확인 포함)
+     * @param profileId 프로필 ID
+     * @param bookId 책 ID
+     * @return 책 세부 정보 (프로필의 책이 아니거나 삭제 표시된 책/프로필이면 empty)
+     */
+    Optional<BookDetailResponseDTO> findBookDetail(Integer profileId, Integer bookId);
+
+    /**
+     * 책 목록을 최신순(생성 시각, ID 내림차순)으로 커서 이후부터 조회 (전체 개수 쿼리 없음)
+     * @param profileId 프로필 ID
+     * @param filter 목록 종류
+     * @param cursor 이전 목록의 마지막 책 (null이면 처음부터)
+     * @param size 조회할 책 수
+     * @return 책 목록과 다음 커서
+     */
+    BookListSliceDTO findBookSlice(Integer profileId, BookListFilter filter, BookListCursor cursor, int size);
+}
@@ -0,0 +1,130 @@
+package com.cojac.storyteller.book.repository;
+
+import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
+import com.cojac.storyteller.book.dto.BookListCursor;
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookListSliceDTO;
+import com.cojac.storyteller.page.dto.PageDTO;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.cojac.storyteller.book.entity.QBookEntity.bookEntity;
+import static com.cojac.storyteller.page.entity.QPageEntity.pageEntity;
+import static com.cojac.storyteller.profile.entity.QProfileEntity.profileEntity;
+
+/**
+ * 책 조회 전용 쿼리 (세부 조회, 목록 커서 페이지네이션)
+ * 엔티티를 로딩하지 않고 필요한 컬럼만 조회하므로, 페이지 지연 로딩(N+1)과 영속성 컨텍스트 비용이 없음
+ */
+@RequiredArgsConstructor
+public class BookRepositoryImpl implements BookRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Optional<BookDetailResponseDTO> findBookDetail(Integer profileId, Integer bookId) {
+        // 책 헤더 + 페이지를 한 행씩 조회 (페이지가 없는 책은 페이지 컬럼이 null인 한 행)
+        List<Tuple> rows = queryFactory
+                .select(bookEntity.id, bookEntity.title, bookEntity.coverImage, bookEntity.currentPage,
+                        pageEntity.id, pageEntity.pageNumber, pageEntity.image, pageEntity.content)
+                .from(bookEntity)
+                .join(bookEntity.profile, profileEntity)
+                .leftJoin(bookEntity.pages, pageEntity)
+                .where(bookEntity.id.eq(bookId),
+                        profileEntity.id.eq(profileId),
+                        profileEntity.deletedAt.isNull())
+                .orderBy(pageEntity.pageNumber.asc())
+                .fetch();
+
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<PageDTO> pages = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            if (row.get(pageEntity.id) == null) {
+                continue;
+            }
+            pages.add(PageDTO.builder()
+                    .id(row.get(pageEntity.id))
+                    .pageNumber(row.get(pageEntity.pageNumber))
+                    .image(row.get(pageEntity.image))
+                    .content(row.get(pageEntity.content))
+                    .bookId(bookId)
+                    .build());
+        }
+
+        Tuple header = rows.get(0);
+        return Optional.of(BookDetailResponseDTO.builder()
+                .bookId(header.get(bookEntity.id))
+                .title(header.get(bookEntity.title))
+                .coverImage(header.get(bookEntity.coverImage))
+                .currentPage(header.get(bookEntity.currentPage))
+                .totalPageCount(pages.size())
+                .pages(pages)
+                .build());
+    }
+
+    @Override
+    public BookListSliceDTO findBookSlice(Integer profileId, BookListFilter filter, BookListCursor cursor, int size) {
+        // 다음 목록이 있는지 확인하기 위해 한 권 더 조회
+        List<Tuple> rows = queryFactory
+                .select(bookEntity.id, bookEntity.title, bookEntity.coverImage, bookEntity.currentPage,
+                        bookEntity.isReading, bookEntity.isFavorite, bookEntity.createdAt)
+                .from(bookEntity)
+                .join(bookEntity.profile, profileEntity)
+                .where(bookEntity.profile.id.eq(profileId),
+                        profileEntity.deletedAt.isNull(),
+                        matches(filter),
+                        after(cursor))
+                .orderBy(bookEntity.createdAt.desc(), bookEntity.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> content = hasNext ? rows.subList(0, size) : rows;
+
+        List<BookListResponseDTO> books = content.stream()
+                .map(row -> BookListResponseDTO.builder()
+                        .bookId(row.get(bookEntity.id))
+                        .title(row.get(bookEntity.title))
+                        .coverImage(row.get(bookEntity.coverImage))
+                        .currentPage(row.get(bookEntity.currentPage))
+                        .isReading(row.get(bookEntity.isReading))
+                        .isFavorite(row.get(bookEntity.isFavorite))
+                        .build())
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = content.get(content.size() - 1);
+            nextCursor = new BookListCursor(last.get(bookEntity.createdAt), last.get(bookEntity.id)).encode();
+        }
+        return new BookListSliceDTO(books, nextCursor, hasNext);
+    }
+
+    private static BooleanExpression matches(BookListFilter filter) {
+        return switch (filter) {
+            case FAVORITE -> bookEntity.isFavorite.isTrue();
+            case READING -> bookEntity.isReading.isTrue();
+            case ALL -> null;
+        };
+    }
+
+    /**
+     * (createdAt, id) < (커서의 createdAt, id)
+     */
+    private static BooleanExpression after(BookListCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return bookEntity.createdAt.lt(cursor.createdAt())
+                .or(bookEntity.createdAt.eq(cursor.createdAt()).and(bookEntity.id.lt(cursor.id())));
+    }
+}
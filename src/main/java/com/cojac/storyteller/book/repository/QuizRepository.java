@@ -0,0 +1,21 @@
+package com.cojac.storyteller.book.repository;
+
+import com.cojac.storyteller.book.entity.QuizEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QuizRepository extends JpaRepository<QuizEntity, Integer> {
+
+    // 책 소유자 확인과 퀴즈 조회를 한 번에 처리 (book_id 유니크 인덱스 사용)
+    @Query("SELECT q.question FROM QuizEntity q WHERE q.book.id = :bookId AND q.book.profile.id = :profileId")
+    Optional<String> findQuestionByBookIdAndProfileId(Integer bookId, Integer profileId);
+
+    @Query("SELECT q.question FROM QuizEntity q WHERE q.book.id = :bookId")
+    Optional<String> findQuestionByBookId(Integer bookId);
+
+    boolean existsByBookId(Integer bookId);
+}
@@ -0,0 +1,294 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.BookDTO;
+import com.cojac.storyteller.book.dto.BookGenerationJobDTO;
+import com.cojac.storyteller.book.dto.BookGenerationStatus;
+import com.cojac.storyteller.book.exception.BookGenerationJobNotFoundException;
+import com.cojac.storyteller.book.exception.BookGenerationJobRejectedException;
+import com.cojac.storyteller.book.exception.BookCreationInProgressException;
+import com.cojac.storyteller.book.exception.ImageGenerationException;
+import com.cojac.storyteller.common.exception.ExternalServiceUnavailableException;
+import com.cojac.storyteller.common.exception.OpenAIRateLimitException;
+import com.cojac.storyteller.common.redis.RedisService;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.response.code.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+/**
+ * 동화 생성 작업 등록, 상태 조회, 진행 상황 구독
+ * - 작업 상태는 Redis 해시에 저장하고, 상태가 바뀌면 Redis pub/sub으로 작업 ID를 발행
+ * - SSE 연결은 연결을 받은 노드에만 있으므로, 각 노드는 메시지를 받으면 자신의 연결에 최신 상태를 전송
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BookGenerationJobService implements MessageListener {
+
+    // 메시지: 상태가 바뀐 작업 ID
+    public static final String PROGRESS_CHANNEL = "book-generation-job:progress";
+    private static final String JOB_KEY_PREFIX = "book-generation-job:";
+    private static final Duration JOB_TTL = Duration.ofHours(1);
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private final BookService bookService;
+    private final ProfileRepository profileRepository;
+    private final RedisService redisService;
+
+    @Qualifier("bookGenerationExecutor")
+    private final ThreadPoolTaskExecutor bookGenerationExecutor;
+
+    // 이 노드에서 진행 상황을 구독 중인 SSE 연결 (작업 ID를 키로 사용)
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * 동화 생성 작업 등록
+     * 작업은 워커 스레드 풀에서 실행되고, 요청 스레드는 작업 ID만 받아 즉시 반환
+     */
+    public BookGenerationJobDTO submit(String prompt, Integer profileId) {
+        // 존재하지 않는 프로필은 작업 등록 전에 바로 거절
+        if (!profileRepository.existsById(profileId)) {
+            throw new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND);
+        }
+
+        BookGenerationJobDTO job = BookGenerationJobDTO.builder()
+                .jobId(UUID.randomUUID().toString())
+                .profileId(profileId)
+                .status(BookGenerationStatus.QUEUED)
+                .build();
+        save(job);
+
+        try {
+            bookGenerationExecutor.execute(() -> run(job, prompt));
+        } catch (TaskRejectedException e) {
+            redisService.deleteValues(JOB_KEY_PREFIX + job.getJobId());
+            throw new BookGenerationJobRejectedException(ErrorCode.BOOK_GENERATION_JOB_REJECTED);
+        }
+        return job;
+    }
+
+    /**
+     * 동화 생성 작업 상태 조회
+     */
+    public BookGenerationJobDTO getJob(Integer profileId, String jobId) {
+        Map<String, String> hash = redisService.getHashEntries(JOB_KEY_PREFIX + jobId);
+        if (hash.isEmpty() || !String.valueOf(profileId).equals(hash.get("profileId"))) {
+            throw new BookGenerationJobNotFoundException(ErrorCode.BOOK_GENERATION_JOB_NOT_FOUND);
+        }
+        return BookGenerationJobDTO.fromHash(hash);
+    }
+
+    /**
+     * 동화 생성 작업 진행 상황 구독 (Server-Sent Events)
+     * 구독 즉시 현재 상태를 한 번 전송하고, 이후 상태가 바뀔 때마다 전송
+     */
+    public SseEmitter subscribe(Integer profileId, String jobId) {
+        BookGenerationJobDTO job = getJob(profileId, jobId);
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        if (job.getStatus().isFinished()) {
+            send(emitter, job);
+            emitter.complete();
+            return emitter;
+        }
+
+        List<SseEmitter> jobEmitters = emitters.computeIfAbsent(jobId, key -> new CopyOnWriteArrayList<>());
+        jobEmitters.add(emitter);
+        emitter.onCompletion(() -> jobEmitters.remove(emitter));
+        emitter.onTimeout(() -> jobEmitters.remove(emitter));
+        emitter.onError(throwable -> jobEmitters.remove(emitter));
+
+        // 등록 직후 작업이 끝났을 수 있으므로 최신 상태를 다시 읽어서 전송
+        forward(getJob(profileId, jobId));
+        return emitter;
+    }
+
+    /**
+     * 진행 상황 메시지 수신 (작업을 실행한 노드 포함 모든 노드)
+     * 이 노드에 구독 중인 연결이 있을 때만 Redis에서 최신 상태를 읽어 전송
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String jobId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!emitters.containsKey(jobId)) {
+            return;
+        }
+
+        Map<String, String> hash = redisService.getHashEntries(JOB_KEY_PREFIX + jobId);
+        if (!hash.isEmpty()) {
+            forward(BookGenerationJobDTO.fromHash(hash));
+        }
+    }
+
+    private void run(BookGenerationJobDTO queuedJob, String prompt) {
+        JobProgress progress = new JobProgress(queuedJob);
+        progress.update(job -> job.toBuilder().status(BookGenerationStatus.GENERATING_STORY).build());
+
+        try {
+            BookDTO book = bookService.createBook(prompt, queuedJob.getProfileId(), progress);
+            progress.update(job -> job.toBuilder()
+                    .status(BookGenerationStatus.COMPLETED)
+                    .bookId(book.getId())
+                    .build());
+        } catch (Exception e) {
+            log.error("동화 생성 작업 실패 : jobId={}", queuedJob.getJobId(), e);
+            ErrorCode errorCode = resolveErrorCode(e);
+            progress.update(job -> job.toBuilder()
+                    .status(BookGenerationStatus.FAILED)
+                    .errorCode(errorCode.name())
+                    .errorMessage(errorCode.getMessage())
+                    .build());
+        }
+    }
+
+    private ErrorCode resolveErrorCode(Exception e) {
+        if (e instanceof ProfileNotFoundException profileNotFoundException) {
+            return profileNotFoundException.getErrorCode();
+        }
+        if (e instanceof ImageGenerationException imageGenerationException) {
+            return imageGenerationException.getErrorCode();
+        }
+        if (e instanceof BookCreationInProgressException bookCreationInProgressException) {
+            return bookCreationInProgressException.getErrorCode();
+        }
+        if (e instanceof OpenAIRateLimitException openAIRateLimitException) {
+            return openAIRateLimitException.getErrorCode();
+        }
+        if (e instanceof ExternalServiceUnavailableException externalServiceUnavailableException) {
+            return externalServiceUnavailableException.getErrorCode();
+        }
+        return ErrorCode.INTERNAL_SERVER_ERROR;
+    }
+
+    private void save(BookGenerationJobDTO job) {
+        String key = JOB_KEY_PREFIX + job.getJobId();
+        redisService.setHashOps(key, job.toHash());
+        redisService.expireValues(key, (int) JOB_TTL.toMillis());
+    }
+
+    private void publish(BookGenerationJobDTO job) {
+        try {
+            redisService.publish(PROGRESS_CHANNEL, job.getJobId());
+        } catch (RuntimeException e) {
+            // 발행하지 못하면 이 노드의 연결에만 전송 (다른 노드의 연결은 상태 조회 API로 확인)
+            log.warn("동화 생성 진행 상황 발행 실패 : jobId={}", job.getJobId(), e);
+            forward(job);
+        }
+    }
+
+    /**
+     * 이 노드에서 구독 중인 연결에 상태 전송 (끝난 작업이면 연결 종료)
+     */
+    private void forward(BookGenerationJobDTO job) {
+        List<SseEmitter> jobEmitters = emitters.get(job.getJobId());
+        if (jobEmitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : jobEmitters) {
+            send(emitter, job);
+            if (job.getStatus().isFinished()) {
+                emitter.complete();
+            }
+        }
+        if (job.getStatus().isFinished()) {
+            emitters.remove(job.getJobId());
+        }
+    }
+
+    private void send(SseEmitter emitter, BookGenerationJobDTO job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("progress")
+                    .data(job));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 작업 하나의 진행 상황을 Redis에 저장하고 발행
+     * 여러 삽화 스레드에서 동시에 호출되므로, 현재 상태를 읽고 바꾸는 과정을 update 안에서 한 번에 처리
+     */
+    private class JobProgress implements BookGenerationListener {
+
+        private BookGenerationJobDTO job;
+
+        private JobProgress(BookGenerationJobDTO job) {
+            this.job = job;
+        }
+
+        /**
+         * 현재 상태에 변경 내용을 병합하여 저장
+         * 끝난 작업(COMPLETED, FAILED)은 더 이상 바꾸지 않고, 진행 상태와 페이지 수는 이전 값보다 뒤로 되돌리지 않음
+         */
+        private synchronized void update(UnaryOperator<BookGenerationJobDTO> change) {
+            if (job.getStatus().isFinished()) {
+                return;
+            }
+
+            BookGenerationJobDTO changed = change.apply(job);
+            BookGenerationJobDTO merged = changed.toBuilder()
+                    .status(changed.getStatus().compareTo(job.getStatus()) < 0 ? job.getStatus() : changed.getStatus())
+                    .illustratedPages(max(changed.getIllustratedPages(), job.getIllustratedPages()))
+                    .totalPages(max(changed.getTotalPages(), job.getTotalPages()))
+                    .build();
+
+            this.job = merged;
+            save(merged);
+            publish(merged);
+        }
+
+        private Integer max(Integer value, Integer previous) {
+            if (value == null || previous == null) {
+                return value == null ? previous : value;
+            }
+            return Math.max(value, previous);
+        }
+
+        @Override
+        public void onStoryGenerated(String title, int totalPages) {
+            // 스트리밍 생성에서는 본문 생성 중에 이미 완료된 삽화가 있을 수 있으므로 진행 수를 유지
+            update(job -> job.toBuilder()
+                    .status(BookGenerationStatus.ILLUSTRATING)
+                    .title(title)
+                    .totalPages(totalPages)
+                    .illustratedPages(job.getIllustratedPages() == null ? 0 : job.getIllustratedPages())
+                    .build());
+        }
+
+        @Override
+        public void onPageIllustrated(int illustratedPages, int totalPages) {
+            update(job -> job.toBuilder()
+                    .illustratedPages(illustratedPages)
+                    .totalPages(totalPages)
+                    .build());
+        }
+
+        @Override
+        public void onPersisting() {
+            update(job -> job.toBuilder()
+                    .status(BookGenerationStatus.PERSISTING)
+                    .build());
+        }
+    }
+}
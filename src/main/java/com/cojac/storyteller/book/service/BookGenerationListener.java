@@ -0,0 +1,33 @@
+package com.cojac.storyteller.book.service;
+
+/**
+ * 동화 생성 진행 상황을 전달받는 리스너
+ * 동기 생성(API 직접 호출)에서는 NONE을 사용하고, 비동기 생성 작업에서는 진행 상황을 저장/전송
+ */
+public interface BookGenerationListener {
+
+    BookGenerationListener NONE = new BookGenerationListener() {
+    };
+
+    /**
+     * 동화 내용(제목, 본문) 생성 완료
+     * @param title 동화 제목
+     * @param totalPages 삽화를 생성할 전체 페이지 수
+     */
+    default void onStoryGenerated(String title, int totalPages) {
+    }
+
+    /**
+     * 페이지 삽화 하나가 생성 및 업로드 완료
+     * @param illustratedPages 현재까지 완료된 페이지 수
+     * @param totalPages 전체 페이지 수
+     */
+    default void onPageIllustrated(int illustratedPages, int totalPages) {
+    }
+
+    /**
+     * 생성된 동화를 DB에 저장하기 시작
+     */
+    default void onPersisting() {
+    }
+}
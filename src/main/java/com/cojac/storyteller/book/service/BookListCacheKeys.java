@@ -0,0 +1,135 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.common.cache.TwoLevelCacheManager;
+import com.cojac.storyteller.common.redis.RedisService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 책 목록 캐시(bookListCache) 키 생성과 프로필 단위 무효화
+ * - 키: {profileId}:v{version}:{filter}:{cursor}:{size} 이므로 커서(첫 목록은 first), 크기마다 따로 캐시됨
+ * - 프로필마다 버전 번호를 두고, 목록이 바뀌면 버전만 올려(INCR 한 번) 해당 프로필의 모든 목록 캐시를 무효화
+ *   (이전 버전의 캐시는 더 이상 조회되지 않고 TTL이 지나면 삭제됨)
+ * - 버전은 인스턴스 안에 짧게 보관하여 L1 적중 시 Redis를 거치지 않음
+ *   버전을 올리면 캐시 무효화 메시지(cache:invalidation)로 다른 인스턴스의 보관 값도 삭제
+ * - Redis에서 버전을 읽지 못하면 요청마다 다른 버전을 사용하여 캐시를 건너뜀
+ */
+@Slf4j
+@Component
+public class BookListCacheKeys {
+
+    private static final String VERSION_KEY_PREFIX = "book-list:version:";
+    private static final String CACHE_NAME = "bookListCache";
+    // 무효화 메시지의 키 자리에 넣는 버전 표시 (목록 캐시 키와 겹치지 않음)
+    private static final String VERSION_INVALIDATION_PREFIX = "version:";
+    private static final int VERSION_CACHE_MAXIMUM_SIZE = 10_000;
+
+    // 목록 한 번에 조회할 수 있는 최대 책 수
+    private static final int MAX_SIZE = 50;
+
+    public static final String ALL = "all";
+    public static final String FAVORITE = "favorite";
+    public static final String READING = "reading";
+
+    private final RedisService redisService;
+    private final TwoLevelCacheManager cacheManager;
+    // 프로필별 목록 버전
+    private final Cache<Integer, String> versions;
+
+    public BookListCacheKeys(RedisService redisService, TwoLevelCacheManager cacheManager,
+                             @Value("${cache.book-list.version-ttl:5s}") Duration versionTtl) {
+        this.redisService = redisService;
+        this.cacheManager = cacheManager;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(VERSION_CACHE_MAXIMUM_SIZE)
+                .expireAfterWrite(versionTtl)
+                .build();
+        cacheManager.addInvalidationListener(CACHE_NAME, this::onInvalidation);
+    }
+
+    /**
+     * 조회할 책 수 (1 ~ 50)
+     */
+    public static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * @Cacheable 키 생성 (SpEL에서 @bookListCacheKeys.key(...)로 호출)
+     * @param profileId 프로필 ID
+     * @param filter 목록 종류 (all, favorite, reading)
+     * @param cursor 목록 커서 (null이면 첫 목록)
+     * @param size 조회할 책 수 (실제 조회 크기로 맞춰 키를 만듦)
+     */
+    public String key(Integer profileId, String filter, String cursor, int size) {
+        String position = cursor == null || cursor.isBlank() ? "first" : cursor;
+        return profileId + ":v" + version(profileId) + ":" + filter + ":" + position + ":" + pageSize(size);
+    }
+
+    /**
+     * 프로필의 모든 책 목록 캐시 무효화
+     * 트랜잭션 안에서 호출하면 커밋 후에 무효화하여, 커밋 전의 목록이 새 버전으로 다시 캐시되지 않도록 함
+     */
+    public void invalidate(Integer profileId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion(profileId);
+                }
+            });
+        } else {
+            bumpVersion(profileId);
+        }
+    }
+
+    private void bumpVersion(Integer profileId) {
+        try {
+            redisService.incrementValues(VERSION_KEY_PREFIX + profileId);
+        } catch (Exception e) {
+            log.warn("책 목록 캐시 무효화 실패 : {}", profileId, e);
+        } finally {
+            versions.invalidate(profileId);
+        }
+        cacheManager.publishInvalidation(CACHE_NAME, VERSION_INVALIDATION_PREFIX + profileId);
+    }
+
+    private String version(Integer profileId) {
+        String cached = versions.getIfPresent(profileId);
+        if (cached != null) {
+            return cached;
+        }
+
+        String version;
+        try {
+            String stored = redisService.getValues(VERSION_KEY_PREFIX + profileId);
+            version = redisService.checkExistsValue(stored) ? stored : "0";
+        } catch (RuntimeException e) {
+            // 최신 버전을 알 수 없으므로 이번 요청은 캐시된 목록을 사용하지 않음
+            log.warn("책 목록 캐시 버전 조회 실패 : {}", profileId, e);
+            return "bypass-" + UUID.randomUUID();
+        }
+        versions.put(profileId, version);
+        return version;
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 수신
+     * @param key 무효화된 키 (null이면 전체)
+     */
+    private void onInvalidation(String key) {
+        if (key == null) {
+            versions.invalidateAll();
+        } else if (key.startsWith(VERSION_INVALIDATION_PREFIX)) {
+            versions.invalidate(Integer.valueOf(key.substring(VERSION_INVALIDATION_PREFIX.length())));
+        }
+    }
+}
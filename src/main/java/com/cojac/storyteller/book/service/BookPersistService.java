@@ -0,0 +1,92 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.BookDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.exception.BookCreationInProgressException;
+import com.cojac.storyteller.book.mapper.BookMapper;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.page.repository.batch.BatchPageInsert;
+import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.response.code.ErrorCode;
+import com.cojac.storyteller.setting.entity.SettingEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 생성이 끝난 동화를 DB에 저장하는 서비스
+ * OpenAI/S3 호출이 모두 끝난 뒤에만 호출되어 DB 커넥션은 INSERT 동안만 점유됨
+ */
+@Service
+@RequiredArgsConstructor
+public class BookPersistService {
+
+    private final BookRepository bookRepository;
+    private final ProfileRepository profileRepository;
+    private final BatchPageInsert batchPageInsert;
+    private final BookListCacheKeys bookListCacheKeys;
+
+    /**
+     * 동화 생성 시작을 프로필에 기록
+     * 생성 잠금을 획득한 직후 호출하며, 이후 같은 프로필에서 생성을 시작한 요청이 있으면 이 요청은 저장할 수 없게 됨
+     * @param fencingToken 생성 잠금의 펜싱 토큰
+     */
+    @Transactional
+    public void claimCreation(Integer profileId, long fencingToken) {
+        if (profileRepository.claimBookCreation(profileId, fencingToken) == 0) {
+            throw new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 책, 설정, 페이지를 하나의 짧은 트랜잭션으로 저장
+     * 프로필 행을 잠근 뒤 펜싱 토큰을 확인하므로, 잠금이 만료된 뒤 다른 요청이 생성을 시작했다면 저장하지 않음
+     * @param fencingToken claimCreation에 전달한 펜싱 토큰
+     */
+    @Transactional
+    public BookDTO saveGeneratedBook(Integer profileId, long fencingToken, String title, String coverImageUrl, List<String> paragraphs, List<String> imageUrls) {
+        ProfileEntity profile = profileRepository.findByIdForUpdate(profileId)
+                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
+        if (!profile.holdsBookCreation(fencingToken)) {
+            throw new BookCreationInProgressException(ErrorCode.BOOK_CREATION_LOCK_LOST);
+        }
+
+        // Setting 초기 설정
+        SettingEntity setting = SettingEntity.createDefaultSetting();
+
+        // 책 엔티티 생성
+        BookEntity book = BookMapper.mapToBookEntity(title, coverImageUrl, paragraphs.size(), profile, setting);
+        BookEntity savedBook = bookRepository.save(book);
+
+        // 페이지 생성
+        List<PageEntity> pages = createPage(savedBook, paragraphs, imageUrls);
+        batchPageInsert.batchInsertPages(pages);
+
+        // 새 책이 목록에 보이도록 프로필의 목록 캐시 무효화 (커밋 후)
+        bookListCacheKeys.invalidate(profile.getId());
+
+        return BookMapper.mapToBookDTO(savedBook, pages);
+    }
+
+    private List<PageEntity> createPage(BookEntity book, List<String> paragraphs, List<String> imageUrls) {
+        List<PageEntity> pages = new ArrayList<>();
+
+        for (int i = 0; i < paragraphs.size(); i++) {
+            PageEntity pageEntity = PageEntity.builder()
+                    .pageNumber(i + 1)
+                    .content(paragraphs.get(i))
+                    .image(imageUrls.get(i))
+                    .book(book)
+                    .build();
+            pages.add(pageEntity);
+        }
+
+        return pages;
+    }
+}
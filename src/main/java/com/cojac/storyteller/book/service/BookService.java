@@ -1,40 +1,43 @@
 package com.cojac.storyteller.book.service;
 
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.exception.BookCreationInProgressException;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
+import com.cojac.storyteller.book.exception.InvalidCurrentPageException;
+import com.cojac.storyteller.book.repository.BookListFilter;
 import com.cojac.storyteller.book.repository.BookRepository;
-import com.cojac.storyteller.book.repository.batch.BatchBookDelete;
 import com.cojac.storyteller.response.code.ErrorCode;
-import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
-import com.cojac.storyteller.setting.entity.SettingEntity;
 import com.cojac.storyteller.book.dto.BookDTO;
 import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
-import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookListCursor;
+import com.cojac.storyteller.book.dto.BookListSliceDTO;
+import com.cojac.storyteller.book.dto.BookProgressDTO;
 import com.cojac.storyteller.book.dto.QuizResponseDTO;
-import com.cojac.storyteller.page.dto.PageDTO;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
-import com.cojac.storyteller.page.repository.batch.BatchPageInsert;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
-import com.cojac.storyteller.common.amazon.AmazonS3Service;
-import com.cojac.storyteller.common.openAI.ImageGenerationService;
+import com.cojac.storyteller.common.openAI.IllustrationBatch;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
+import com.cojac.storyteller.common.openAI.IllustrationPipeline;
 import com.cojac.storyteller.common.openAI.OpenAIService;
-import com.cojac.storyteller.book.mapper.BookMapper;
+import com.cojac.storyteller.common.openAI.StoryStreamListener;
+import com.cojac.storyteller.common.redis.RedisLeaseLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.Period;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Slf4j
@@ -44,260 +47,266 @@ public class BookService {
     private final BookRepository bookRepository;
     private final ProfileRepository profileRepository;
     private final OpenAIService openAIService;
-    private final ImageGenerationService imageGenerationService;
-    private final BatchPageInsert batchPageInsert;
-    private final BatchBookDelete batchBookDelete;
-    private final AmazonS3Service amazonS3Service;
+    private final IllustrationPipeline illustrationPipeline;
+    private final BookPersistService bookPersistService;
+    private final RedisLeaseLock redisLeaseLock;
+    private final QuizService quizService;
+    private final BookListCacheKeys bookListCacheKeys;
+    private final OwnershipResolver ownershipResolver;
 
-    // 동화 생성 중인지 확인하는 맵 (프로필 ID를 키로 사용)
-    private final ConcurrentHashMap<Integer, Boolean> creatingBooks = new ConcurrentHashMap<>();
+    // 동화 본문을 스트리밍으로 생성할지 여부
+    @Value("${openai.story.streaming:false}")
+    private boolean storyStreaming;
+
+    // 동화 생성 직후 퀴즈를 미리 생성할지 여부
+    @Value("${book.quiz.precompute.enabled:true}")
+    private boolean quizPrecompute;
+
+    // 프로필별 동화 생성 잠금 (여러 인스턴스에서 같은 프로필의 동화를 동시에 생성하지 않도록 Redis에 보관)
+    private static final String CREATION_LOCK_KEY_PREFIX = "book-creation-lock:";
+
+    // 잠금 임대 시간 (생성 중에는 주기적으로 갱신되고, 노드가 죽으면 이 시간 후 만료)
+    @Value("${book.generation.lock-lease-time:2m}")
+    private Duration creationLockLeaseTime = Duration.ofMinutes(2);
 
     /**
      * 동화 생성
      */
-    @Transactional
     public BookDTO createBook(String prompt, Integer profileId) {
-        // 동화 생성 중복 확인
-        if (creatingBooks.getOrDefault(profileId, false)) {
-            throw new IllegalStateException("이미 동화가 생성 중입니다. 나중에 다시 시도해주세요.");
-        }
+        return createBook(prompt, profileId, BookGenerationListener.NONE);
+    }
 
-        // 동화 생성 중 상태로 설정
-        creatingBooks.put(profileId, true);
+    /**
+     * 동화 생성 (진행 상황을 listener로 전달)
+     * OpenAI/S3 호출은 트랜잭션 밖에서 진행하고, 저장만 BookPersistService의 짧은 트랜잭션으로 처리
+     */
+    public BookDTO createBook(String prompt, Integer profileId, BookGenerationListener listener) {
+        // 동화 생성 잠금 획득 (이미 생성 중이면 거절)
+        try (RedisLeaseLock.Lease lease = redisLeaseLock.tryAcquire(CREATION_LOCK_KEY_PREFIX + profileId, creationLockLeaseTime)
+                .orElseThrow(() -> new BookCreationInProgressException(ErrorCode.BOOK_CREATION_IN_PROGRESS))) {
 
-        try {
             // 프로필 확인
             ProfileEntity profile = profileRepository.findById(profileId)
                     .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
 
+            // 생성 시작 기록 (잠금이 만료된 사이 먼저 시작한 요청이 있었다면 그 요청은 더 이상 저장할 수 없음)
+            bookPersistService.claimCreation(profileId, lease.getFencingToken());
+
             // 나이를 계산 (birthDate 기준)
             LocalDate birthDate = profile.getBirthDate();
             LocalDate currentDate = LocalDate.now();
             int age = Period.between(birthDate, currentDate).getYears();
 
-            // OpenAI 서비스로부터 동화 생성
-            String story = openAIService.generateStory(prompt, age);
-
-            // 제목과 내용을 분리 (Title: 과 Content: 기준)
-            String title = story.split("Content:")[0].replace("Title:", "").trim();
-            String content = story.split("Content:")[1].trim();
-
-            // Setting 초기 설정
-            SettingEntity setting = SettingEntity.createDefaultSetting();
+            // 동화 생성과 삽화 생성 (스트리밍 모드에서는 문단이 완성되는 대로 삽화 생성을 시작)
+            IllustrationBatch illustrations = illustrationPipeline.newBatch();
+            GeneratedStory story = storyStreaming
+                    ? streamStoryWithIllustrations(prompt, age, illustrations, listener)
+                    : generateStoryWithIllustrations(prompt, age, illustrations, listener);
+            illustrations.await();
+
+            // 책과 페이지 저장 (실패하거나, 잠금이 만료되어 다른 요청이 생성을 시작했다면 업로드한 이미지를 S3에서 삭제)
+            listener.onPersisting();
+            BookDTO savedBook;
+            try {
+                savedBook = bookPersistService.saveGeneratedBook(profileId, lease.getFencingToken(), story.title(), illustrations.getCoverImageUrl(), story.paragraphs(), illustrations.getPageImageUrls());
+            } catch (RuntimeException e) {
+                illustrations.discard();
+                throw e;
+            }
 
-            // 책 표지 이미지 생성 및 업로드
-            String coverImageUrl = imageGenerationService.generateAndUploadBookCoverImage(title);
+            // 첫 퀴즈 요청이 OpenAI 호출을 기다리지 않도록 백그라운드에서 미리 생성
+            if (quizPrecompute) {
+                quizService.precomputeQuizAsync(savedBook.getId(), story.paragraphs(), age);
+            }
+            return savedBook;
+        }
+    }
 
-            // 책 엔티티 생성
-            BookEntity book = BookMapper.mapToBookEntity(title, coverImageUrl, profile, setting);
-            BookEntity savedBook = bookRepository.save(book);
+    /**
+     * 동화 전체를 생성한 뒤 표지와 페이지 삽화를 한 번에 제출
+     */
+    private GeneratedStory generateStoryWithIllustrations(String prompt, int age, IllustrationBatch illustrations, BookGenerationListener listener) {
+        // OpenAI 서비스로부터 동화 생성
+        String story = openAIService.generateStory(prompt, age);
+        // 응답이 없거나 첫 문단이 끝나기 전에 잘린 경우
+        if (story == null || !story.contains("Content:")) {
+            throw new IllegalStateException("동화 응답에서 제목과 내용을 구분할 수 없습니다.");
+        }
 
-            // 페이지 생성
-            List<PageEntity> pages = createPage(savedBook, content);
-            batchPageInsert.batchInsertPages(pages);
+        // 제목과 내용을 분리 (Title: 과 Content: 기준)
+        String title = story.split("Content:")[0].replace("Title:", "").trim();
+        String content = story.split("Content:")[1].trim();
 
-            // 성공적으로 생성된 동화 반환
-            return BookMapper.mapToBookDTO(savedBook, pages);
+        // 표지와 페이지 삽화를 병렬로 생성 및 업로드
+        List<String> paragraphs = splitParagraphs(content);
+        listener.onStoryGenerated(title, paragraphs.size());
 
-        } finally {
-            // 동화 생성이 끝나면 상태를 제거하여 다시 요청 가능하게 함
-            creatingBooks.remove(profileId);
+        illustrations.onPageIllustrated(illustrated -> listener.onPageIllustrated(illustrated, paragraphs.size()));
+        illustrations.submitCover(title);
+        for (int i = 0; i < paragraphs.size(); i++) {
+            illustrations.submitPage(i + 1, paragraphs.get(i));
         }
+        return new GeneratedStory(title, paragraphs);
     }
 
-    private List<PageEntity> createPage(BookEntity book, String content) {
-        String[] contentParts = content.split("\n\n");
-        List<PageEntity> pages = new ArrayList<>();
+    /**
+     * 동화를 스트리밍으로 생성하면서 제목/문단이 완성될 때마다 삽화 생성을 제출
+     * 문단 N의 삽화가 생성되는 동안 문단 N+1의 텍스트가 생성되므로 전체 생성 시간이 단축됨
+     */
+    private GeneratedStory streamStoryWithIllustrations(String prompt, int age, IllustrationBatch illustrations, BookGenerationListener listener) {
+        AtomicReference<String> title = new AtomicReference<>();
+        List<String> paragraphs = new CopyOnWriteArrayList<>();
+        illustrations.onPageIllustrated(illustrated -> listener.onPageIllustrated(illustrated, paragraphs.size()));
+
+        try {
+            openAIService.streamStory(prompt, age, new StoryStreamListener() {
+                @Override
+                public void onTitle(String storyTitle) {
+                    title.set(storyTitle);
+                    illustrations.submitCover(storyTitle);
+                }
+
+                @Override
+                public void onParagraph(String paragraph) {
+                    paragraphs.add(paragraph);
+                    illustrations.submitPage(paragraphs.size(), paragraph);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 스트림이 중간에 끊기면 이미 제출한 삽화를 정리
+            illustrations.discard();
+            throw e;
+        }
 
-        for (int i = 0; i < contentParts.length; i++) {
-            String trimContent = contentParts[i].trim();
+        listener.onStoryGenerated(title.get(), paragraphs.size());
+        return new GeneratedStory(title.get(), List.copyOf(paragraphs));
+    }
 
-            String imageUrl = imageGenerationService.generateAndUploadPageImage(trimContent);
+    private record GeneratedStory(String title, List<String> paragraphs) {
+    }
 
-            PageEntity pageEntity = PageEntity.builder()
-                    .pageNumber(i + 1)
-                    .content(trimContent)
-                    .image(imageUrl)
-                    .book(book)
-                    .build();
-            pages.add(pageEntity);
+    private List<String> splitParagraphs(String content) {
+        List<String> paragraphs = new ArrayList<>();
+        for (String contentPart : content.split("\n\n")) {
+            paragraphs.add(contentPart.trim());
         }
-
-        return pages;
+        return paragraphs;
     }
 
     /**
-     * 책 목록 조회
+     * 책 목록 조회 (최신순, 커서 페이지네이션)
+     * sync = true: 캐시 미스/만료 시 같은 키의 조회는 한 번만 실행 (빈 목록도 캐시하며, 책이 추가되면 목록 버전이 바뀜)
      */
-    @Cacheable(value = "bookListCache", key = "#profileId", unless = "#result.isEmpty()")
-    public List<BookListResponseDTO> getBooksPage(Integer profileId, Pageable pageable) {
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
-
-        Page<BookEntity> booksPage = bookRepository.findByProfile(profile, pageable);
-        return BookMapper.mapToBookListResponseDTOs(booksPage.getContent());
+    @Cacheable(value = "bookListCache", key = "@bookListCacheKeys.key(#profileId, 'all', #cursor, #size)", sync = true)
+    public BookListSliceDTO getBooksPage(Integer profileId, String cursor, int size) {
+        return findBookSlice(profileId, BookListFilter.ALL, cursor, size);
     }
 
     /**
      * 즐겨찾기 책 목록 조회
      */
-    @Cacheable(value = "favoriteBooksCache", key = "#profileId", unless = "#result.isEmpty()")
-    public List<BookListResponseDTO> getFavoriteBooks(Integer profileId, Pageable pageable) {
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
-
-        Page<BookEntity> books = bookRepository.findByProfileAndIsFavoriteTrue(profile, pageable);
-        return BookMapper.mapToBookListResponseDTOs(books.getContent());
+    @Cacheable(value = "bookListCache", key = "@bookListCacheKeys.key(#profileId, 'favorite', #cursor, #size)", sync = true)
+    public BookListSliceDTO getFavoriteBooks(Integer profileId, String cursor, int size) {
+        return findBookSlice(profileId, BookListFilter.FAVORITE, cursor, size);
     }
 
     /**
      * 읽고 있는 책 목록 조회
      */
-    @Cacheable(value = "readingBooksCache", key = "#profileId", unless = "#result.isEmpty()")
-    public List<BookListResponseDTO> getReadingBooks(Integer profileId, Pageable pageable) {
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
+    @Cacheable(value = "bookListCache", key = "@bookListCacheKeys.key(#profileId, 'reading', #cursor, #size)", sync = true)
+    public BookListSliceDTO getReadingBooks(Integer profileId, String cursor, int size) {
+        return findBookSlice(profileId, BookListFilter.READING, cursor, size);
+    }
 
-        Page<BookEntity> books = bookRepository.findByProfileAndIsReadingTrue(profile, pageable);
-        return BookMapper.mapToBookListResponseDTOs(books.getContent());
+    private BookListSliceDTO findBookSlice(Integer profileId, BookListFilter filter, String cursor, int size) {
+        int pageSize = BookListCacheKeys.pageSize(size);
+        BookListSliceDTO slice = bookRepository.findBookSlice(profileId, filter, BookListCursor.decode(cursor), pageSize);
+
+        // 목록이 비어 있을 때만 프로필 존재 여부 확인
+        if (slice.getBooks().isEmpty() && !profileRepository.existsById(profileId)) {
+            throw new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND);
+        }
+        return slice;
     }
 
     /**
      * 책 세부 조회
      */
     public BookDetailResponseDTO getBookDetail(Integer profileId, Integer bookId) {
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
-
-        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
-                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
-
-        List<PageDTO> pageDTOs = book.getPages().stream()
-                .map(page -> PageDTO.builder()
-                        .id(page.getId())
-                        .pageNumber(page.getPageNumber())
-                        .image(page.getImage())
-                        .content(page.getContent())
-                        .bookId(page.getBook().getId())
-                        .build())
-                .collect(Collectors.toList());
-
-        return BookDetailResponseDTO.builder()
-                .bookId(book.getId())
-                .title(book.getTitle())
-                .coverImage(book.getCoverImage())
-                .currentPage(book.getCurrentPage())
-                .totalPageCount(book.getPages().size())
-                .pages(pageDTOs)
-                .build();
+        // 소유 프로필 확인과 페이지 조회를 쿼리 한 번으로 처리하고, 없을 때만 프로필 존재 여부로 예외 구분
+        return bookRepository.findBookDetail(profileId, bookId)
+                .orElseThrow(() -> profileRepository.existsById(profileId)
+                        ? new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND)
+                        : new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
     }
 
     /**
      * 즐겨찾기 토글 기능 추가
      */
-    @CacheEvict(value = {"bookListCache", "favoriteBooksCache"}, key = "#profileId")
     public Boolean toggleFavorite(Integer profileId, Integer bookId) {
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
+        // 프로필과 책의 소유 확인 (컨트롤러에서 확인했으면 쿼리 없음)
+        ownershipResolver.verify(profileId, bookId);
 
-        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
+        BookEntity book = bookRepository.findById(bookId)
                 .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
 
         boolean newFavoriteStatus = !book.isFavorite();
         book.updateIsFavorite(newFavoriteStatus);
         bookRepository.save(book);
+        bookListCacheKeys.invalidate(profileId);
 
         return newFavoriteStatus;
     }
 
     /**
-     * 책 삭제 기능
+     * 책 삭제 기능 (삭제 표시 후 백그라운드에서 실제 삭제)
      */
     @Transactional
-    @CacheEvict(value = {"bookListCache", "favoriteBooksCache", "readingBooksCache"}, allEntries = true)
+    @CacheEvict(value = "quizCache", key = "#profileId + ':' + #bookId")
     public void deleteBook(Integer profileId, Integer bookId) throws Exception {
 
         if (!profileRepository.existsById(profileId)) {
             throw new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND);
         }
 
-        BookEntity book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
-
-        // 책과 페이지 이미지 삭제
-        deleteBookAndPageImages(book);
-
-        batchBookDelete.deleteByBookId(bookId);
-    }
-
-    private void deleteBookAndPageImages(BookEntity book) throws Exception {
-        // S3에서 책 표지 이미지 삭제
-        deleteImageIfNotNull(book.getCoverImage());
-
-        // 각 페이지의 이미지 삭제
-        for (PageEntity page : book.getPages()) {
-            if (page.getImage() != null) {
-                amazonS3Service.deleteS3(page.getImage());
-            }
-        }
-    }
-
-    private void deleteImageIfNotNull(String imageUrl) throws Exception {
-        if (imageUrl != null) {
-            amazonS3Service.deleteS3(imageUrl);
+        // 삭제 표시만 하고 바로 반환 (이미지와 페이지 등은 TombstoneReaper가 나누어 삭제)
+        if (bookRepository.markDeleted(profileId, bookId, LocalDateTime.now()) == 0) {
+            throw new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND);
         }
+        bookListCacheKeys.invalidate(profileId);
+        ownershipResolver.evictBook(bookId);
     }
 
     /**
      * 현재 읽고 있는 페이지 업데이트
+     * 소유 확인, 페이지 범위 확인, 변경을 UPDATE 한 번으로 처리하고 pages는 로딩하지 않음
      */
     @Transactional
-    @CacheEvict(value = {"bookListCache", "readingBooksCache"}, key = "#profileId")
-    public BookDTO updateCurrentPage(Integer profileId, Integer bookId, Integer currentPage) {
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
-
-        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
-                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
+    public BookProgressDTO updateCurrentPage(Integer profileId, Integer bookId, Integer currentPage) {
+        if (currentPage == null || currentPage < 0) {
+            throw new InvalidCurrentPageException(ErrorCode.INVALID_CURRENT_PAGE);
+        }
 
-        book.updateCurrentPage(currentPage);
-        if (currentPage >= book.getTotalPageCount()) {
-            book.updateIsReading(false);
-        } else {
-            book.updateIsReading(true);
+        if (bookRepository.updateCurrentPage(profileId, bookId, currentPage) == 0) {
+            // 변경되지 않은 경우에만 원인 확인
+            if (!profileRepository.existsById(profileId)) {
+                throw new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND);
+            }
+            if (!bookRepository.existsByIdAndProfile_Id(bookId, profileId)) {
+                throw new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND);
+            }
+            throw new InvalidCurrentPageException(ErrorCode.INVALID_CURRENT_PAGE);
         }
-        bookRepository.save(book);
+        bookListCacheKeys.invalidate(profileId);
 
-        return BookMapper.mapToBookDTO(book);
+        return bookRepository.findProgressById(bookId)
+                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
     }
 
     /**
-     * 퀴즈만 생성
+     * 퀴즈만 생성 (이미 생성된 퀴즈가 있으면 재사용)
      */
     public QuizResponseDTO createQuiz(Integer profileId, Integer bookId) {
-        String defaultCoverImage = "defaultCover.jpg";
-
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
-
-        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
-                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
-
-        // 책 내용 story 변수에 담기
-        StringBuilder story = new StringBuilder();
-        for (PageEntity page : book.getPages()) {
-            story.append(page.getContent());
-            story.append("\n\n");
-        }
-
-        // birthDate로 age 얻기
-        LocalDate birthDate = profile.getBirthDate();
-        LocalDate currentDate = LocalDate.now();
-        int age = Period.between(birthDate, currentDate).getYears();
-
-        // 생성한 동화 내용으로 퀴즈 생성
-        String quiz = openAIService.generateQuiz(story.toString(), age);
-
-        return new QuizResponseDTO(quiz);
+        return quizService.getQuiz(profileId, bookId);
     }
 }
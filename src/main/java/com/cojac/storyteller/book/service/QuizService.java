@@ -0,0 +1,148 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.QuizResponseDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.entity.QuizEntity;
+import com.cojac.storyteller.book.exception.BookNotFoundException;
+import com.cojac.storyteller.book.exception.QuizGenerationException;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.book.repository.QuizRepository;
+import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.response.code.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 동화 퀴즈 조회 및 생성
+ * - 책마다 한 번만 OpenAI로 생성하여 DB에 저장하고, 이후에는 Redis 캐시 또는 DB 조회로 응답
+ * - 동화 생성 직후 백그라운드에서 미리 생성 가능
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class QuizService {
+
+    // 책마다 퀴즈 하나 (V2__create_quiz_table.sql)
+    private static final String QUIZ_BOOK_UNIQUE_KEY = "uk_quiz_book";
+
+    private final QuizRepository quizRepository;
+    private final BookRepository bookRepository;
+    private final ProfileRepository profileRepository;
+    private final OpenAIService openAIService;
+    @Qualifier("quizGenerationExecutor")
+    private final ThreadPoolTaskExecutor quizGenerationExecutor;
+
+    /**
+     * 퀴즈 조회 (저장된 퀴즈가 없으면 생성 후 저장)
+     */
+    @Cacheable(value = "quizCache", key = "#profileId + ':' + #bookId", sync = true)
+    public QuizResponseDTO getQuiz(Integer profileId, Integer bookId) {
+        // 저장된 퀴즈가 있으면 인덱스 조회 한 번으로 반환
+        Optional<String> savedQuestion = quizRepository.findQuestionByBookIdAndProfileId(bookId, profileId);
+        if (savedQuestion.isPresent()) {
+            return new QuizResponseDTO(savedQuestion.get());
+        }
+
+        ProfileEntity profile = profileRepository.findById(profileId)
+                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
+
+        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
+                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
+
+        // 책 내용으로 퀴즈 생성
+        List<String> contents = book.getPages().stream()
+                .map(PageEntity::getContent)
+                .toList();
+        String question = openAIService.generateQuiz(toStory(contents), calculateAge(profile));
+
+        return new QuizResponseDTO(saveQuiz(book, question));
+    }
+
+    /**
+     * 동화 생성 직후 퀴즈를 백그라운드에서 미리 생성
+     * 실패하거나 대기열이 가득 차도 동화 생성에는 영향을 주지 않고, 첫 조회 시 생성됨
+     * @param bookId 생성된 책 ID
+     * @param paragraphs 페이지 내용 (DB에서 다시 읽지 않도록 전달)
+     * @param age 프로필 나이
+     */
+    public void precomputeQuizAsync(Integer bookId, List<String> paragraphs, int age) {
+        try {
+            quizGenerationExecutor.execute(() -> precomputeQuiz(bookId, paragraphs, age));
+        } catch (TaskRejectedException e) {
+            log.warn("퀴즈 사전 생성 대기열 초과 : bookId={}", bookId);
+        }
+    }
+
+    private void precomputeQuiz(Integer bookId, List<String> paragraphs, int age) {
+        try {
+            if (quizRepository.existsByBookId(bookId)) {
+                return;
+            }
+            String question = openAIService.generateQuiz(toStory(paragraphs), age);
+            saveQuiz(bookRepository.getReferenceById(bookId), question);
+        } catch (Exception e) {
+            log.warn("퀴즈 사전 생성 실패 : bookId={}", bookId, e);
+        }
+    }
+
+    /**
+     * 퀴즈 저장
+     * 생성 결과가 비어 있으면 저장하지 않고 예외를 던짐 (예외는 quizCache에 저장되지 않으므로 다음 조회에서 다시 생성)
+     */
+    private String saveQuiz(BookEntity book, String question) {
+        if (question == null || question.isBlank()) {
+            throw new QuizGenerationException(ErrorCode.QUIZ_GENERATION_FAILED);
+        }
+        try {
+            quizRepository.save(QuizEntity.builder()
+                    .book(book)
+                    .question(question)
+                    .build());
+            return question;
+        } catch (DataIntegrityViolationException e) {
+            // 사전 생성과 조회 요청이 동시에 저장한 경우 먼저 저장된 퀴즈를 사용 (그 외 무결성 오류는 그대로 던짐)
+            if (!isDuplicateQuiz(e)) {
+                throw e;
+            }
+            return quizRepository.findQuestionByBookId(book.getId()).orElse(question);
+        }
+    }
+
+    private boolean isDuplicateQuiz(DataIntegrityViolationException e) {
+        // MySQL은 "테이블명.제약조건명" 형태로 알려주므로 끝부분으로 비교
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().endsWith(QUIZ_BOOK_UNIQUE_KEY);
+    }
+
+    private String toStory(List<String> contents) {
+        StringBuilder story = new StringBuilder();
+        for (String content : contents) {
+            story.append(content);
+            story.append("\n\n");
+        }
+        return story.toString();
+    }
+
+    private int calculateAge(ProfileEntity profile) {
+        LocalDate birthDate = profile.getBirthDate();
+        LocalDate currentDate = LocalDate.now();
+        return Period.between(birthDate, currentDate).getYears();
+    }
+}
@@ -3,6 +3,8 @@ package com.cojac.storyteller.common.amazon;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.*;
+import com.cojac.storyteller.common.resilience.ExternalDependency;
+import com.cojac.storyteller.common.resilience.ResilienceGuard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -12,8 +14,12 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,6 +31,10 @@ public class AmazonS3Service {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
     private final AmazonS3Client amazonS3Client;
+    private final ResilienceGuard resilienceGuard;
+
+    // DeleteObjects 요청 하나에 담을 수 있는 최대 키 개수
+    private static final int MAX_DELETE_OBJECTS_KEYS = 1000;
 
     /**
      * 로컬 경로에 저장
@@ -55,8 +65,8 @@ public class AmazonS3Service {
      * @return 업로드 경로
      */
     public String putS3(File uploadFile, String fileName) {
-        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, uploadFile).withCannedAcl(
-                CannedAccessControlList.PublicRead));
+        resilienceGuard.call(ExternalDependency.S3, () -> amazonS3Client.putObject(
+                new PutObjectRequest(bucket, fileName, uploadFile).withCannedAcl(CannedAccessControlList.PublicRead)));
         return amazonS3Client.getUrl(bucket, fileName).toString();
     }
 
@@ -66,7 +76,7 @@ public class AmazonS3Service {
      */
     public void deleteS3(String filePath) throws Exception {
         try{
-            String key = filePath.substring(filePath.indexOf(bucket) + bucket.length() + 1);
+            String key = toKey(filePath);
 
             try {
                 amazonS3Client.deleteObject(bucket, key);
@@ -80,6 +90,50 @@ public class AmazonS3Service {
         log.info("[S3Uploader] : S3에 있는 파일 삭제");
     }
 
+    /**
+     * S3에 있는 여러 파일을 DeleteObjects 요청으로 한 번에 삭제 (요청당 최대 1000개)
+     * @param filePaths 삭제할 파일 URL 목록
+     * @return 삭제에 실패한 파일 URL 목록
+     */
+    public List<String> deleteS3Objects(List<String> filePaths) {
+        Map<String, String> filePathByKey = new LinkedHashMap<>();
+        filePaths.forEach(filePath -> filePathByKey.put(toKey(filePath), filePath));
+
+        List<String> keys = new ArrayList<>(filePathByKey.keySet());
+        List<String> failedFilePaths = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_OBJECTS_KEYS) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_OBJECTS_KEYS, keys.size()));
+            deleteChunk(chunk).forEach(key -> failedFilePaths.add(filePathByKey.get(key)));
+        }
+        log.info("[S3Uploader] : S3에 있는 파일 {}개 삭제 (실패 {}개)", keys.size(), failedFilePaths.size());
+        return failedFilePaths;
+    }
+
+    /**
+     * @return 삭제에 실패한 키 목록
+     */
+    private List<String> deleteChunk(List<String> keys) {
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(String[]::new))
+                .withQuiet(true);
+        try {
+            resilienceGuard.call(ExternalDependency.S3, () -> amazonS3Client.deleteObjects(request));
+            return List.of();
+        } catch (MultiObjectDeleteException e) {
+            // 요청은 성공했지만 일부 키만 삭제에 실패한 경우
+            return e.getErrors().stream()
+                    .map(MultiObjectDeleteException.DeleteError::getKey)
+                    .toList();
+        } catch (Exception e) {
+            log.warn("S3 일괄 삭제 실패 ({}개)", keys.size(), e);
+            return keys;
+        }
+    }
+
+    private String toKey(String filePath) {
+        return filePath.substring(filePath.indexOf(bucket) + bucket.length() + 1);
+    }
+
     /**
      * S3에서 특정 경로에 있는 사진 목록 가져오기
      *
@@ -139,31 +193,39 @@ public class AmazonS3Service {
     }
 
     /**
-     * 이미지를 바이트 배열로 받아서 S3에 업로드
-     * @param imageBytes 이미지의 바이트 배열
+     * 이미지를 InputStream으로 받아서 로컬 파일 없이 S3에 업로드
+     * @param imageStream 이미지 스트림
+     * @param contentLength 이미지 크기 (S3 SDK가 스트림 전체를 메모리에 버퍼링하지 않도록 지정)
      * @return 업로드된 이미지의 URL
      */
-    public String uploadImageToS3(byte[] imageBytes, String dirPath) throws IOException {
-        String fileName = UUID.randomUUID() + ".png"; // 파일 이름
-
-        // 디렉토리가 존재하지 않으면 생성
-        File dir = new File(dirPath);
-        if (!dir.exists()) {
-            dir.mkdirs();
+    public String uploadImageToS3(InputStream imageStream, long contentLength) {
+        String fileName = "books/photos/" + UUID.randomUUID() + ".png";
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType("image/png");
+
+        PutObjectRequest request = new PutObjectRequest(bucket, fileName, imageStream, metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+
+        if (imageStream.markSupported()) {
+            // 재시도 시 스트림을 처음부터 다시 읽음
+            imageStream.mark(Integer.MAX_VALUE);
+            resilienceGuard.call(ExternalDependency.S3, () -> {
+                rewind(imageStream);
+                return amazonS3Client.putObject(request);
+            });
+        } else {
+            resilienceGuard.callOnce(ExternalDependency.S3, () -> amazonS3Client.putObject(request));
         }
+        return amazonS3Client.getUrl(bucket, fileName).toString();
+    }
 
-        File file = new File(dirPath + "/" + fileName);
-
-        // 이미지 바이트 배열을 파일로 저장
-        try (FileOutputStream fos = new FileOutputStream(file)) {
-            fos.write(imageBytes);
+    private void rewind(InputStream inputStream) {
+        try {
+            inputStream.reset();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-
-        // 파일을 S3로 업로드
-        String uploadImageUrl = putS3(file, "books/photos/" + fileName);
-
-        // 로컬 파일 삭제
-        removeNewFile(file);
-        return uploadImageUrl;
     }
 }
@@ -0,0 +1,151 @@
+package com.cojac.storyteller.common.amazon;
+
+import com.cojac.storyteller.common.openAI.IllustrationCache;
+import com.cojac.storyteller.common.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 책/프로필 삭제 시 S3 이미지 일괄 삭제
+ * - DB 트랜잭션이 커밋된 뒤에 비동기로 삭제 (롤백되면 이미지를 지우지 않음)
+ * - 이미지를 묶음 단위로 나누어 스레드 풀에서 동시에 DeleteObjects 요청
+ * - 삭제에 실패한 이미지는 Redis 재시도 대기열에 넣고, 주기적으로 지수 백오프로 다시 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3BulkDeleteService {
+
+    // 재시도 대기열 (값: 이미지 URL, 점수: 다음 재시도 시각(ms))
+    private static final String RETRY_QUEUE_KEY = "s3-delete:retry";
+    // 이미지별 재시도 횟수
+    private static final String RETRY_ATTEMPTS_KEY = "s3-delete:attempts";
+
+    private final AmazonS3Service amazonS3Service;
+    private final IllustrationCache illustrationCache;
+    private final RedisService redisService;
+
+    @Qualifier("s3DeleteExecutor")
+    private final ThreadPoolTaskExecutor s3DeleteExecutor;
+
+    // 스레드 하나가 처리할 이미지 수 (DeleteObjects 요청 한 번의 최대 키 개수)
+    @Value("${cloud.aws.s3.delete.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${cloud.aws.s3.delete.retry.max-attempts:10}")
+    private int maxRetryAttempts = 10;
+
+    @Value("${cloud.aws.s3.delete.retry.initial-delay:30s}")
+    private Duration initialRetryDelay = Duration.ofSeconds(30);
+
+    @Value("${cloud.aws.s3.delete.retry.max-delay:1h}")
+    private Duration maxRetryDelay = Duration.ofHours(1);
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 이미지 삭제 (트랜잭션 밖에서 호출하면 바로 삭제 시작)
+     * 다른 책과 공유 중인 삽화는 참조만 해제하고 S3에서는 삭제하지 않음
+     * @param imageUrls 삭제할 이미지 URL (null은 무시, 같은 삽화를 여러 페이지에서 사용했다면 참조 수만큼 포함)
+     */
+    public void deleteAfterCommit(Collection<String> imageUrls) {
+        // 참조를 하나씩 해제해야 하므로 중복을 제거하지 않음
+        List<String> urls = imageUrls.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        if (urls.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(urls);
+                }
+            });
+        } else {
+            submit(urls);
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 이미지를 다시 삭제
+     * 여러 인스턴스가 동시에 실행해도 대기열에서 먼저 제거한 인스턴스만 처리
+     */
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.delete.retry.poll-interval-ms:60000}")
+    public void retryFailedDeletes() {
+        List<String> dueUrls = redisService.getSortedSetRangeByScore(RETRY_QUEUE_KEY, System.currentTimeMillis(), batchSize);
+        List<String> claimedUrls = dueUrls.stream()
+                .filter(url -> redisService.removeSortedSetOps(RETRY_QUEUE_KEY, url))
+                .toList();
+        if (claimedUrls.isEmpty()) {
+            return;
+        }
+
+        Set<String> failedUrls = new HashSet<>(amazonS3Service.deleteS3Objects(claimedUrls));
+        claimedUrls.stream()
+                .filter(url -> !failedUrls.contains(url))
+                .forEach(url -> redisService.deleteHashOps(RETRY_ATTEMPTS_KEY, url));
+        failedUrls.forEach(this::scheduleRetry);
+    }
+
+    private void submit(List<String> urls) {
+        for (int from = 0; from < urls.size(); from += batchSize) {
+            List<String> chunk = urls.subList(from, Math.min(from + batchSize, urls.size()));
+            try {
+                s3DeleteExecutor.execute(() -> delete(chunk));
+            } catch (TaskRejectedException e) {
+                // 스레드 풀이 가득 찬 경우 호출한 스레드에서 삭제
+                delete(chunk);
+            }
+        }
+    }
+
+    private void delete(List<String> urls) {
+        try {
+            // 참조마다 해제하고, S3에는 더 이상 참조되지 않는 이미지를 한 번씩만 삭제 요청
+            Set<String> unreferencedUrls = new LinkedHashSet<>();
+            for (String url : urls) {
+                if (illustrationCache.release(url)) {
+                    unreferencedUrls.add(url);
+                }
+            }
+            if (!unreferencedUrls.isEmpty()) {
+                amazonS3Service.deleteS3Objects(new ArrayList<>(unreferencedUrls)).forEach(this::scheduleRetry);
+            }
+        } catch (Exception e) {
+            log.error("S3 이미지 일괄 삭제 실패 ({}개)", urls.size(), e);
+        }
+    }
+
+    /**
+     * 재시도 대기열에 추가 (재시도할 때마다 대기 시간을 두 배로 늘리고, 최대 횟수를 넘으면 포기)
+     */
+    private void scheduleRetry(String url) {
+        long attempts = redisService.incrementHashOps(RETRY_ATTEMPTS_KEY, url);
+        if (attempts > maxRetryAttempts) {
+            log.error("S3 이미지 삭제 재시도 횟수 초과, 수동 삭제 필요 : {}", url);
+            redisService.deleteHashOps(RETRY_ATTEMPTS_KEY, url);
+            return;
+        }
+
+        long delayMillis = Math.min(maxRetryDelay.toMillis(), initialRetryDelay.toMillis() << Math.min(attempts - 1, 20));
+        redisService.addSortedSetOps(RETRY_QUEUE_KEY, url, System.currentTimeMillis() + delayMillis);
+    }
+}
@@ -0,0 +1,16 @@
+package com.cojac.storyteller.common.cache;
+
+import java.io.Serializable;
+
+/**
+ * L2(Redis)에 저장하는 캐시 값과 갱신 정보
+ * @param value 캐시 값
+ * @param softExpiresAt 논리적 만료 시각(ms), 이후에는 오래된 값을 반환하면서 백그라운드에서 갱신
+ * @param computeMillis 값을 계산하는 데 걸린 시간(ms), 조기 갱신(XFetch) 확률 계산에 사용
+ */
+public record CacheEnvelope<T>(T value, long softExpiresAt, long computeMillis) implements Serializable {
+
+    public boolean isStale(long now) {
+        return now >= softExpiresAt;
+    }
+}
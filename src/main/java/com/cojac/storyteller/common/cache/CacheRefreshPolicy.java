@@ -0,0 +1,38 @@
+package com.cojac.storyteller.common.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 만료 시 동시 재계산(stampede)을 막기 위한 설정
+ * @param ttl 논리적 유효 기간 (Redis에는 staleWindow만큼 더 보관하여 만료 후에도 오래된 값을 반환할 수 있음)
+ * @param staleWindow 논리적 만료 후 오래된 값을 반환하면서 백그라운드에서 갱신할 수 있는 기간
+ * @param beta 조기 갱신(XFetch) 강도 (클수록 만료 전에 더 일찍 갱신, 0이면 조기 갱신 안 함)
+ * @param lockLeaseTime 다른 인스턴스와 재계산을 나누지 않기 위한 Redis 잠금 유효 기간
+ * @param lockWait 잠금을 얻지 못했을 때 다른 인스턴스가 계산한 값을 기다리는 최대 시간
+ */
+public record CacheRefreshPolicy(Duration ttl, Duration staleWindow, double beta, Duration lockLeaseTime, Duration lockWait) {
+
+    public long softExpiresAt(long now) {
+        return now + ttl.toMillis();
+    }
+
+    /**
+     * Redis 키 유효 기간 (논리적 유효 기간 + 오래된 값 반환 기간)
+     */
+    public Duration redisTtl() {
+        return ttl.plus(staleWindow);
+    }
+
+    /**
+     * XFetch: 계산이 오래 걸리는 값일수록, 만료가 가까울수록 높은 확률로 미리 갱신
+     * now - computeMillis * beta * ln(rand) >= softExpiresAt
+     */
+    public boolean shouldRefreshEarly(CacheEnvelope<?> envelope, long now) {
+        if (beta <= 0 || envelope.computeMillis() <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return now - envelope.computeMillis() * beta * Math.log(random) >= envelope.softExpiresAt();
+    }
+}
@@ -0,0 +1,9 @@
+package com.cojac.storyteller.common.cache;
+
+/**
+ * L1 캐시 가중치를 직접 계산하는 캐시 값 (목록을 감싼 응답 등)
+ */
+public interface CacheWeighted {
+
+    int cacheWeight();
+}
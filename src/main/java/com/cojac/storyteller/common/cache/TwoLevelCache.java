@@ -0,0 +1,428 @@
+package com.cojac.storyteller.common.cache;
+
+import com.cojac.storyteller.common.redis.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * L1(프로세스 내 Caffeine) + L2(Redis) 2단계 캐시
+ * - 조회: L1 -> L2 순서로 찾고, L2에서 찾은 값은 L1에 저장 (L1 적중 시 네트워크 왕복과 역직렬화가 없음)
+ * - 저장: L2와 L1에 모두 저장
+ * - 삭제: L2와 L1에서 삭제한 뒤 다른 인스턴스에 L1 무효화 메시지 발행
+ * L1은 L2보다 짧은 유효 기간을 두어, 무효화 메시지가 유실되어도 오래된 값이 남는 시간을 제한
+ * Redis 장애 시 L2 조회는 캐시 미스로, L2 저장은 건너뛰고 계산한 값을 그대로 반환
+ *
+ * 만료 시 동시 재계산(stampede) 방지 (@Cacheable(sync = true)로 값 계산 함수를 받는 경우)
+ * - 인스턴스 안: 같은 키의 계산은 하나만 실행하고 나머지 요청은 그 결과를 기다림 (single-flight)
+ * - 인스턴스 간: Redis 잠금을 얻은 인스턴스만 계산하고, 나머지는 잠시 기다렸다가 계산된 값을 읽음
+ * - 논리적 만료가 지난 값은 Redis에 조금 더 남겨 두고, 오래된 값을 반환하면서 백그라운드에서 갱신 (stale-while-revalidate)
+ * - 만료 전에도 계산 시간에 비례한 확률로 미리 백그라운드 갱신 (XFetch)
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final String LOCK_KEY_PREFIX = "cache-lock:";
+    // 다른 인스턴스의 계산 결과를 확인하는 간격
+    private static final long LOCK_POLL_INTERVAL_MILLIS = 50;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> l1;
+    private final Cache l2;
+    // 키 삭제(null이면 전체 삭제) 시 다른 인스턴스에 알림
+    private final Consumer<Object> invalidationPublisher;
+    private final RedisService redisService;
+    private final CacheRefreshPolicy refreshPolicy;
+    private final Executor refreshExecutor;
+
+    // 키별 진행 중인 계산
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 키별 진행 중인 백그라운드 갱신
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+    private final Timer l1Latency;
+    private final Timer l2Latency;
+    private final Counter staleRefresh;
+    private final Counter earlyRefresh;
+    private final Counter coalescedLoad;
+    private final Counter lockContended;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> l1, Cache l2,
+                         Consumer<Object> invalidationPublisher, RedisService redisService,
+                         CacheRefreshPolicy refreshPolicy, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationPublisher = invalidationPublisher;
+        this.redisService = redisService;
+        this.refreshPolicy = refreshPolicy;
+        this.refreshExecutor = refreshExecutor;
+        this.l1Hit = requests(meterRegistry, "l1", "hit");
+        this.l1Miss = requests(meterRegistry, "l1", "miss");
+        this.l2Hit = requests(meterRegistry, "l2", "hit");
+        this.l2Miss = requests(meterRegistry, "l2", "miss");
+        this.l1Latency = latency(meterRegistry, "l1");
+        this.l2Latency = latency(meterRegistry, "l2");
+        this.staleRefresh = refreshes(meterRegistry, "stale");
+        this.earlyRefresh = refreshes(meterRegistry, "early");
+        this.coalescedLoad = Counter.builder("cache.load.coalesced")
+                .description("진행 중인 계산 결과를 기다린 요청 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.lockContended = Counter.builder("cache.lock.contended")
+                .description("다른 인스턴스가 계산 중이어서 기다린 요청 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    /**
+     * 값 계산 함수가 없는 조회이므로 논리적 만료가 지난 값은 캐시 미스로 처리
+     */
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = getFromL1(key);
+        if (value != null) {
+            return value;
+        }
+
+        CacheEnvelope<?> envelope = getFromL2(key);
+        if (envelope == null || envelope.isStale(System.currentTimeMillis())) {
+            return null;
+        }
+        return putL1(key, envelope.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값의 타입이 " + type.getName() + "이(가) 아닙니다 : " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = getFromL1(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+
+        CacheEnvelope<?> envelope = getFromL2(key);
+        if (envelope != null) {
+            long now = System.currentTimeMillis();
+            if (envelope.isStale(now)) {
+                // 만료된 값은 L1에 올리지 않고 바로 반환하며, 백그라운드에서 갱신
+                refreshInBackground(key, valueLoader, staleRefresh);
+            } else {
+                // 갱신 결과를 덮어쓰지 않도록 L1에 먼저 저장
+                putL1(key, envelope.value());
+                if (refreshPolicy.shouldRefreshEarly(envelope, now)) {
+                    refreshInBackground(key, valueLoader, earlyRefresh);
+                }
+            }
+            return (T) envelope.value();
+        }
+
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, envelope(value, 0));
+        putL1(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, envelope(value, 0));
+        if (existing != null && existing.get() instanceof CacheEnvelope<?> envelope) {
+            return putL1(key, envelope.value());
+        }
+        putL1(key, value);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(l1Key(key));
+        invalidationPublisher.accept(key);
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        invalidationPublisher.accept(null);
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 처리 (L1만 삭제)
+     * @param key 삭제할 키 (null이면 전체 삭제)
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    private ValueWrapper getFromL1(Object key) {
+        ValueWrapper value = l1Latency.record(() -> l1.getIfPresent(l1Key(key)));
+        (value != null ? l1Hit : l1Miss).increment();
+        return value;
+    }
+
+    /**
+     * L2 조회 (다른 형식으로 저장된 값과 Redis 장애는 캐시 미스로 처리)
+     */
+    private CacheEnvelope<?> getFromL2(Object key) {
+        ValueWrapper value;
+        try {
+            value = l2Latency.record(() -> l2.get(key));
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 조회 실패 (cache={}, key={})", name, key, e);
+            l2Miss.increment();
+            return null;
+        }
+        if (value != null && value.get() instanceof CacheEnvelope<?> envelope) {
+            l2Hit.increment();
+            return envelope;
+        }
+        l2Miss.increment();
+        return null;
+    }
+
+    /**
+     * 캐시 미스: 같은 키의 계산이 진행 중이면 그 결과를 기다리고, 아니면 직접 계산
+     */
+    private Object load(Object key, Callable<?> valueLoader) {
+        String cacheKey = l1Key(key);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(cacheKey, mine);
+        if (running != null) {
+            coalescedLoad.increment();
+            return join(running, key, valueLoader);
+        }
+
+        try {
+            Object value = loadWithLock(key, valueLoader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 계산 중이면 잠시 기다렸다가 그 결과를 사용하고, 기다려도 없으면 직접 계산
+     */
+    private Object loadWithLock(Object key, Callable<?> valueLoader) {
+        String lockKey = lockKey(key);
+        String token = UUID.randomUUID().toString();
+        boolean locked = tryLock(lockKey, token);
+        try {
+            if (!locked) {
+                lockContended.increment();
+                CacheEnvelope<?> computed = waitForOtherInstance(key);
+                if (computed != null) {
+                    putL1(key, computed.value());
+                    return computed.value();
+                }
+            }
+            return compute(key, valueLoader);
+        } finally {
+            if (locked) {
+                unlock(lockKey, token);
+            }
+        }
+    }
+
+    /**
+     * 백그라운드 갱신 (이미 계산/갱신 중이거나 다른 인스턴스가 잠금을 가지고 있으면 건너뜀)
+     */
+    private void refreshInBackground(Object key, Callable<?> valueLoader, Counter trigger) {
+        String cacheKey = l1Key(key);
+        if (inFlight.containsKey(cacheKey) || !refreshing.add(cacheKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                String lockKey = lockKey(key);
+                String token = UUID.randomUUID().toString();
+                try {
+                    if (tryLock(lockKey, token)) {
+                        try {
+                            trigger.increment();
+                            compute(key, valueLoader);
+                        } finally {
+                            unlock(lockKey, token);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("캐시 백그라운드 갱신 실패 (cache={}, key={})", name, key, e);
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신 스레드가 모두 사용 중이면 이번에는 오래된 값을 그대로 사용
+            refreshing.remove(cacheKey);
+        }
+    }
+
+    private Object compute(Object key, Callable<?> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        try {
+            l2.put(key, envelope(value, System.currentTimeMillis() - startedAt));
+        } catch (RuntimeException e) {
+            // 계산한 값은 그대로 반환 (L2에 없으므로 다른 인스턴스는 다시 계산)
+            log.warn("L2 캐시 저장 실패 (cache={}, key={})", name, key, e);
+        }
+        putL1(key, value);
+        return value;
+    }
+
+    private CacheEnvelope<?> waitForOtherInstance(Object key) {
+        long deadline = System.currentTimeMillis() + refreshPolicy.lockWait().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            CacheEnvelope<?> envelope = getFromL2(key);
+            if (envelope != null && !envelope.isStale(System.currentTimeMillis())) {
+                return envelope;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Redis 잠금 획득 (Redis 장애 시에는 잠금 없이 계산)
+     */
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return redisService.setValuesIfAbsent(lockKey, token, refreshPolicy.lockLeaseTime());
+        } catch (Exception e) {
+            log.warn("캐시 재계산 잠금 획득 실패 : {}", lockKey, e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            redisService.deleteValuesIfEquals(lockKey, token);
+        } catch (Exception e) {
+            // 잠금은 유효 기간이 지나면 자동으로 해제됨
+            log.warn("캐시 재계산 잠금 해제 실패 : {}", lockKey, e);
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> running, Object key, Callable<?> valueLoader) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private CacheEnvelope<Object> envelope(Object value, long computeMillis) {
+        return new CacheEnvelope<>(value, refreshPolicy.softExpiresAt(System.currentTimeMillis()), computeMillis);
+    }
+
+    private ValueWrapper putL1(Object key, Object value) {
+        ValueWrapper wrapper = new SimpleValueWrapper(value);
+        l1.put(l1Key(key), wrapper);
+        return wrapper;
+    }
+
+    private String lockKey(Object key) {
+        return LOCK_KEY_PREFIX + name + "::" + l1Key(key);
+    }
+
+    /**
+     * L1 키는 L2(Redis 키)와 같이 문자열로 변환하여, 다른 인스턴스의 무효화 메시지와 비교할 수 있도록 함
+     */
+    private static String l1Key(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .description("캐시 계층별 조회 결과")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Timer latency(MeterRegistry meterRegistry, String tier) {
+        return Timer.builder("cache.tier.latency")
+                .description("캐시 계층별 조회 시간")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    private Counter refreshes(MeterRegistry meterRegistry, String trigger) {
+        return Counter.builder("cache.refresh")
+                .description("백그라운드 캐시 갱신 수")
+                .tag("cache", name)
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+}
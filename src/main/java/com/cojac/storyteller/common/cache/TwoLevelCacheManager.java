@@ -0,0 +1,142 @@
+package com.cojac.storyteller.common.cache;
+
+import com.cojac.storyteller.common.redis.RedisService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * L1(Caffeine) + L2(Redis) 2단계 캐시 매니저
+ * - L1은 캐시마다 최대 가중치(대략 캐시된 원소 수)로 크기를 제한
+ * - 키 삭제 시 Redis pub/sub으로 다른 인스턴스(blue/green)의 L1도 삭제
+ *   메시지 형식: {발행 인스턴스 ID}|{캐시 이름}|{키} (전체 삭제는 키 자리에 *)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String ALL_KEYS = "*";
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager l2CacheManager;
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaximumWeight;
+    private final Duration l1Ttl;
+    private final CacheRefreshPolicy refreshPolicy;
+    private final Executor refreshExecutor;
+
+    // 자신이 발행한 메시지를 구분하기 위한 인스턴스 ID
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    // 캐시 이름별로 무효화 메시지를 함께 받는 리스너 (L1 밖에 둔 인스턴스 로컬 값 삭제용)
+    private final Map<String, List<Consumer<String>>> invalidationListeners = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager l2CacheManager, RedisService redisService, MeterRegistry meterRegistry,
+                                long l1MaximumWeight, Duration l1Ttl,
+                                CacheRefreshPolicy refreshPolicy, Executor refreshExecutor) {
+        this.l2CacheManager = l2CacheManager;
+        this.redisService = redisService;
+        this.meterRegistry = meterRegistry;
+        this.l1MaximumWeight = l1MaximumWeight;
+        this.l1Ttl = l1Ttl;
+        this.refreshPolicy = refreshPolicy;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Set.copyOf(caches.keySet());
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length != 3 || parts[0].equals(instanceId)) {
+            return;
+        }
+        String key = parts[2].equals(ALL_KEYS) ? null : parts[2];
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+        invalidationListeners.getOrDefault(parts[1], List.of()).forEach(listener -> listener.accept(key));
+    }
+
+    /**
+     * 다른 인스턴스가 발행한 무효화 메시지를 캐시 이름 단위로 함께 받음
+     * @param name 캐시 이름
+     * @param listener 무효화된 키를 받음 (null이면 전체 삭제)
+     */
+    public void addInvalidationListener(String name, Consumer<String> listener) {
+        invalidationListeners.computeIfAbsent(name, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache l2 = l2CacheManager.getCache(name);
+        if (l2 == null) {
+            throw new IllegalStateException("L2 캐시를 생성할 수 없습니다 : " + name);
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> l1 = Caffeine.newBuilder()
+                .maximumWeight(l1MaximumWeight)
+                .weigher((String key, Cache.ValueWrapper value) -> weigh(value.get()))
+                .expireAfterWrite(l1Ttl)
+                .build();
+        return new TwoLevelCache(name, l1, l2, key -> publishInvalidation(name, key),
+                redisService, refreshPolicy, refreshExecutor, meterRegistry);
+    }
+
+    /**
+     * 다른 인스턴스에 무효화 메시지 발행 (발행 실패는 기록만 함)
+     * @param name 캐시 이름
+     * @param key 무효화할 키 (null이면 전체)
+     */
+    public void publishInvalidation(String name, Object key) {
+        try {
+            redisService.publish(INVALIDATION_CHANNEL, instanceId + SEPARATOR + name + SEPARATOR + (key == null ? ALL_KEYS : key));
+        } catch (Exception e) {
+            // 전달되지 않으면 다른 인스턴스의 L1은 유효 기간이 지나면 갱신됨
+            log.warn("캐시 무효화 메시지 발행 실패 (cache={}, key={})", name, key, e);
+        }
+    }
+
+    /**
+     * 캐시 값의 가중치 (목록은 원소 수, 그 외는 1)
+     */
+    static int weigh(Object value) {
+        if (value instanceof CacheWeighted weighted) {
+            return Math.max(1, weighted.cacheWeight());
+        }
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Math.max(1, map.size());
+        }
+        return 1;
+    }
+}
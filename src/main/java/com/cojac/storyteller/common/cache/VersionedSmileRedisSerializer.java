@@ -0,0 +1,135 @@
+package com.cojac.storyteller.common.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 캐시 값 직렬화 (Jackson Smile 바이너리 JSON)
+ * - 캐시마다 값의 타입을 지정하므로 클래스 정보를 저장하지 않아 JDK 직렬화보다 작고 빠름
+ * - 값 앞에 [형식 표시 1바이트][스키마 지문 4바이트]를 붙여 저장
+ *   DTO 필드가 바뀌어 지문이 달라지거나 다른 형식(JDK 직렬화 등)으로 저장된 값은 캐시 미스로 처리하여,
+ *   배포 후 이전 형식의 캐시 값 때문에 오류가 나지 않도록 함
+ */
+@Slf4j
+public class VersionedSmileRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte FORMAT_SMILE = 'S';
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+    // 지문 계산 시 필드를 따라 들어갈 패키지 (그 외 클래스는 이름만 사용)
+    private static final String FINGERPRINT_PACKAGE = "com.cojac.storyteller";
+
+    private final JavaType type;
+    // 타입별 직렬화기를 미리 찾아 두어 호출마다 조회하지 않음
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final int schemaFingerprint;
+
+    public VersionedSmileRedisSerializer(ObjectMapper smileMapper, JavaType type) {
+        this.type = type;
+        this.reader = smileMapper.readerFor(type);
+        this.writer = smileMapper.writerFor(type);
+        this.schemaFingerprint = fingerprint(type);
+    }
+
+    /**
+     * 캐시용 Smile ObjectMapper
+     * 생성자로만 값을 받는 DTO를 위해 파라미터 이름 모듈을 직접 등록 (ServiceLoader 검색은 패키징 방식에 따라 누락될 수 있음)
+     */
+    public static ObjectMapper createSmileMapper() {
+        return SmileMapper.builder()
+                .addModule(new ParameterNamesModule())
+                .addModule(new JavaTimeModule())
+                .build();
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            byte[] body = writer.writeValueAsBytes(value);
+            return ByteBuffer.allocate(HEADER_SIZE + body.length)
+                    .put(FORMAT_SMILE)
+                    .putInt(schemaFingerprint)
+                    .put(body)
+                    .array();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 직렬화할 수 없습니다 : " + type, e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.get() != FORMAT_SMILE || buffer.getInt() != schemaFingerprint) {
+            // 이전 배포의 DTO 또는 다른 형식으로 저장된 값은 캐시 미스로 처리 (새 값으로 덮어씀)
+            return null;
+        }
+        try {
+            return reader.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        } catch (IOException e) {
+            log.warn("캐시 값을 역직렬화할 수 없어 캐시 미스로 처리 : {}", type, e);
+            return null;
+        }
+    }
+
+    public int getSchemaFingerprint() {
+        return schemaFingerprint;
+    }
+
+    /**
+     * 타입 구조의 지문 (클래스 이름과 필드 이름/타입, 제네릭 타입 인자 포함)
+     */
+    static int fingerprint(JavaType type) {
+        StringBuilder schema = new StringBuilder();
+        describe(type, schema, new HashSet<>());
+        return schema.toString().hashCode();
+    }
+
+    private static void describe(JavaType type, StringBuilder schema, Set<Class<?>> visited) {
+        Class<?> raw = type.getRawClass();
+        schema.append(raw.getName());
+        for (int i = 0; i < type.containedTypeCount(); i++) {
+            schema.append('<');
+            describe(type.containedType(i), schema, visited);
+            schema.append('>');
+        }
+        if (!raw.getName().startsWith(FINGERPRINT_PACKAGE) || !visited.add(raw)) {
+            return;
+        }
+        schema.append('{');
+        Field[] fields = raw.getDeclaredFields();
+        Arrays.sort(fields, Comparator.comparing(Field::getName));
+        for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                continue;
+            }
+            schema.append(field.getName()).append(':');
+            describe(TypeFactory.defaultInstance().resolveMemberType(field.getGenericType(), type.getBindings()), schema, visited);
+            schema.append(';');
+        }
+        schema.append('}');
+    }
+}
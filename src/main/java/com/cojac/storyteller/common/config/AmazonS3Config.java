@@ -1,5 +1,6 @@
 package com.cojac.storyteller.common.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
@@ -18,13 +19,34 @@ public class AmazonS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 커넥션 풀 및 타임아웃 설정 (삽화 업로드가 병렬로 수행되므로 풀 크기를 이미지 생성 동시성보다 크게 유지)
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+    @Value("${cloud.aws.s3.connection-timeout-ms:5000}")
+    private int connectionTimeoutMs;
+    @Value("${cloud.aws.s3.socket-timeout-ms:30000}")
+    private int socketTimeoutMs;
+    @Value("${cloud.aws.s3.connection-max-idle-ms:30000}")
+    private long connectionMaxIdleMs;
+    @Value("${cloud.aws.s3.connection-ttl-ms:300000}")
+    private long connectionTtlMs;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withMaxConnections(maxConnections)
+                .withConnectionTimeout(connectionTimeoutMs)
+                .withSocketTimeout(socketTimeoutMs)
+                .withConnectionMaxIdleMillis(connectionMaxIdleMs)
+                .withConnectionTTL(connectionTtlMs)
+                .withTcpKeepAlive(true);
+
         return (AmazonS3Client) AmazonS3ClientBuilder
                 .standard()
                 .withRegion(region).enablePathStyleAccess()
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
+                .withClientConfiguration(clientConfiguration)
                 .build();
 
     }
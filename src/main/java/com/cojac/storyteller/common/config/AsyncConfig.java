@@ -0,0 +1,151 @@
+package com.cojac.storyteller.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    // 노드당 동시에 진행할 수 있는 이미지 생성(DALL-E 호출 + S3 업로드) 개수
+    @Value("${openai.image.max-concurrency:4}")
+    private int imageMaxConcurrency;
+
+    // 동시 실행 한도를 넘은 이미지 생성 작업이 대기할 수 있는 개수
+    @Value("${openai.image.queue-capacity:200}")
+    private int imageQueueCapacity;
+
+    // 노드당 동시에 실행할 수 있는 비동기 동화 생성 작업 수
+    @Value("${book.generation.worker-count:4}")
+    private int bookGenerationWorkerCount;
+
+    // 워커가 모두 사용 중일 때 대기할 수 있는 동화 생성 작업 수
+    @Value("${book.generation.queue-capacity:50}")
+    private int bookGenerationQueueCapacity;
+
+    // 퀴즈 사전 생성 워커 수와 대기열 크기
+    @Value("${book.quiz.precompute.worker-count:2}")
+    private int quizGenerationWorkerCount;
+
+    @Value("${book.quiz.precompute.queue-capacity:100}")
+    private int quizGenerationQueueCapacity;
+
+    // 책/프로필 삭제 후 S3 이미지 일괄 삭제 워커 수와 대기열 크기
+    @Value("${cloud.aws.s3.delete.worker-count:4}")
+    private int s3DeleteWorkerCount;
+
+    @Value("${cloud.aws.s3.delete.queue-capacity:100}")
+    private int s3DeleteQueueCapacity;
+
+    // 만료되었거나 만료가 가까운 캐시 값을 백그라운드에서 다시 계산하는 워커 수와 대기열 크기
+    @Value("${cache.refresh.worker-count:2}")
+    private int cacheRefreshWorkerCount;
+
+    @Value("${cache.refresh.queue-capacity:50}")
+    private int cacheRefreshQueueCapacity;
+
+    /**
+     * 동화 표지/페이지 삽화 생성용 스레드 풀
+     * 대기열까지 가득 차면 작업을 거절(TaskRejectedException)하여 호출 측에서 실패로 처리
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageGenerationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageMaxConcurrency);
+        executor.setMaxPoolSize(imageMaxConcurrency);
+        executor.setQueueCapacity(imageQueueCapacity);
+        executor.setThreadNamePrefix("image-generation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 비동기 동화 생성 작업(스토리 생성 → 삽화 생성 → 저장)용 워커 스레드 풀
+     * 요청 스레드(Tomcat)는 작업 등록 후 바로 반환되고, 생성은 이 풀에서 진행
+     */
+    @Bean
+    public ThreadPoolTaskExecutor bookGenerationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bookGenerationWorkerCount);
+        executor.setMaxPoolSize(bookGenerationWorkerCount);
+        executor.setQueueCapacity(bookGenerationQueueCapacity);
+        executor.setThreadNamePrefix("book-generation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(300);
+        return executor;
+    }
+
+    /**
+     * 동화 생성 직후 퀴즈 사전 생성용 스레드 풀
+     * 사전 생성은 선택적인 작업이므로 작은 풀을 사용하고, 대기열이 가득 차면 건너뜀
+     */
+    @Bean
+    public ThreadPoolTaskExecutor quizGenerationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(quizGenerationWorkerCount);
+        executor.setMaxPoolSize(quizGenerationWorkerCount);
+        executor.setQueueCapacity(quizGenerationQueueCapacity);
+        executor.setThreadNamePrefix("quiz-generation-");
+        return executor;
+    }
+
+    /**
+     * 분산 잠금 임대 갱신용 스케줄러
+     * 갱신 작업은 Redis 호출 한 번으로 짧으므로 작은 풀로 충분
+     */
+    @Bean
+    public ThreadPoolTaskScheduler leaseRenewalScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("lease-renewal-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * 커밋 이후 S3 이미지 일괄 삭제(DeleteObjects)용 스레드 풀
+     * 대기열이 가득 차면 호출 측에서 직접 삭제
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3DeleteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(s3DeleteWorkerCount);
+        executor.setMaxPoolSize(s3DeleteWorkerCount);
+        executor.setQueueCapacity(s3DeleteQueueCapacity);
+        executor.setThreadNamePrefix("s3-delete-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 캐시 백그라운드 갱신(stale-while-revalidate, 조기 갱신)용 스레드 풀
+     * 대기열이 가득 차면 갱신을 건너뛰고 기존 값을 그대로 반환
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cacheRefreshWorkerCount);
+        executor.setMaxPoolSize(cacheRefreshWorkerCount);
+        executor.setQueueCapacity(cacheRefreshQueueCapacity);
+        executor.setThreadNamePrefix("cache-refresh-");
+        return executor;
+    }
+
+    /**
+     * @Scheduled 작업(S3 삭제 재시도 등)용 스케줄러
+     * TaskScheduler 빈이 여러 개이므로 taskScheduler 이름으로 등록하여 @Scheduled가 사용하도록 함
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("scheduled-");
+        return scheduler;
+    }
+}
@@ -1,25 +1,122 @@
 package com.cojac.storyteller.common.config;
 
+import com.cojac.storyteller.book.dto.BookListSliceDTO;
+import com.cojac.storyteller.book.dto.QuizResponseDTO;
+import com.cojac.storyteller.common.cache.CacheEnvelope;
+import com.cojac.storyteller.common.cache.CacheRefreshPolicy;
+import com.cojac.storyteller.common.cache.TwoLevelCacheManager;
+import com.cojac.storyteller.common.cache.VersionedSmileRedisSerializer;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.cojac.storyteller.common.redis.RedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    // 인스턴스별 L1 캐시의 최대 가중치 (캐시마다, 대략 캐시된 목록 원소 수)
+    @Value("${cache.l1.maximum-weight:10000}")
+    private long l1MaximumWeight;
+
+    // L1 유효 기간 (무효화 메시지가 유실되어도 이 시간이 지나면 L2에서 다시 읽음)
+    @Value("${cache.l1.ttl:1m}")
+    private Duration l1Ttl;
+
+    // 캐시 값의 논리적 유효 기간
+    @Value("${cache.ttl:10m}")
+    private Duration ttl;
+
+    // 논리적 만료 후에도 오래된 값을 반환하면서 백그라운드에서 갱신하는 기간
+    @Value("${cache.stale-window:2m}")
+    private Duration staleWindow;
+
+    // 조기 갱신(XFetch) 강도 (0이면 조기 갱신 안 함)
+    @Value("${cache.xfetch.beta:1.0}")
+    private double xfetchBeta;
+
+    // 재계산 잠금 유효 기간과, 잠금을 얻지 못했을 때 다른 인스턴스의 계산 결과를 기다리는 시간
+    @Value("${cache.lock.lease-time:10s}")
+    private Duration lockLeaseTime;
+
+    @Value("${cache.lock.wait:2s}")
+    private Duration lockWait;
+
+    // Redis 캐시 값 직렬화 방식 (smile, jdk)
+    @Value("${cache.serializer:smile}")
+    private String serializer;
+
+    /**
+     * L1(Caffeine) + L2(Redis) 2단계 캐시 매니저
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, RedisService redisService, MeterRegistry meterRegistry,
+                                             @Qualifier("cacheRefreshExecutor") ThreadPoolTaskExecutor cacheRefreshExecutor) {
+        CacheRefreshPolicy refreshPolicy = new CacheRefreshPolicy(ttl, staleWindow, xfetchBeta, lockLeaseTime, lockWait);
         RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10));
+                .entryTtl(refreshPolicy.redisTtl());
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(cacheConfiguration)
+                .withInitialCacheConfigurations(valueSerializerConfigurations(cacheConfiguration))
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, redisService, meterRegistry, l1MaximumWeight, l1Ttl,
+                refreshPolicy, cacheRefreshExecutor);
+    }
+
+    /**
+     * 캐시별 값 직렬화 설정 (Smile + 스키마 지문, 등록되지 않은 캐시는 기본 JDK 직렬화)
+     * L2에는 값을 CacheEnvelope로 감싸서 저장
+     * cache.serializer=jdk로 설정하면 모든 캐시에 JDK 직렬화 사용
+     */
+    private Map<String, RedisCacheConfiguration> valueSerializerConfigurations(RedisCacheConfiguration base) {
+        if (!"smile".equalsIgnoreCase(serializer)) {
+            return Map.of();
+        }
+        ObjectMapper smileMapper = VersionedSmileRedisSerializer.createSmileMapper();
+        TypeFactory typeFactory = smileMapper.getTypeFactory();
+
+        Map<String, JavaType> valueTypes = Map.of(
+                "bookListCache", typeFactory.constructType(BookListSliceDTO.class),
+                "quizCache", typeFactory.constructType(QuizResponseDTO.class)
+        );
+
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        valueTypes.forEach((name, type) -> {
+            JavaType envelopeType = typeFactory.constructParametricType(CacheEnvelope.class, type);
+            configurations.put(name, base.serializeValuesWith(
+                    RedisSerializationContext.SerializationPair.fromSerializer(new VersionedSmileRedisSerializer<>(smileMapper, envelopeType))));
+        });
+        return configurations;
+    }
+
+    /**
+     * 다른 인스턴스의 L1 무효화 메시지 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory, TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 }
@@ -1,21 +1,110 @@
 package com.cojac.storyteller.common.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class OpenAIConfig {
 
     @Value("${openai.secret-key}")
     private String secretKey;
 
+    // 커넥션 풀 크기 (OpenAI는 단일 호스트이므로 route 당 최대 커넥션 수가 실제 동시 호출 한도)
+    @Value("${openai.http.max-connections:50}")
+    private int maxConnections;
+    @Value("${openai.http.max-connections-per-route:20}")
+    private int maxConnectionsPerRoute;
+
+    // 타임아웃 설정
+    @Value("${openai.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+    @Value("${openai.http.connection-request-timeout:10s}")
+    private Duration connectionRequestTimeout;
+    @Value("${openai.http.chat-response-timeout:120s}")
+    private Duration chatResponseTimeout;
+    @Value("${openai.http.image-response-timeout:180s}")
+    private Duration imageResponseTimeout;
+
+    // 유휴 커넥션 정리 주기 및 커넥션 최대 수명
+    @Value("${openai.http.idle-timeout:30s}")
+    private Duration idleTimeout;
+    @Value("${openai.http.time-to-live:5m}")
+    private Duration timeToLive;
+
+    /**
+     * OpenAI 전용 커넥션 풀
+     * Keep-Alive 커넥션을 재사용하여 호출마다 TLS 핸드셰이크를 반복하지 않음
+     * 풀은 openAIHttpClient가 소유하고 종료 시 함께 닫으므로 여기서는 닫지 않음
+     */
+    @Bean(destroyMethod = "")
+    public PoolingHttpClientConnectionManager openAIConnectionManager(MeterRegistry meterRegistry) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setTimeToLive(TimeValue.of(timeToLive))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+
+        // 풀 사용량(leased, pending, available, max) 메트릭 등록
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "openai").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    /**
+     * OpenAI 호출용 HTTP 클라이언트
+     * 커넥션 풀을 공유 모드로 넘기면 유휴/만료 커넥션 정리 스레드(IdleConnectionEvictor)가 만들어지지 않으므로,
+     * 클라이언트가 풀을 소유하여 정리 스레드를 실행하고 종료 시 풀까지 닫음
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient openAIHttpClient(PoolingHttpClientConnectionManager openAIConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(openAIConnectionManager)
+                .setDefaultRequestConfig(requestConfig(chatResponseTimeout))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate openAIRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient openAIHttpClient) {
+        RequestConfig chatRequestConfig = requestConfig(chatResponseTimeout);
+        RequestConfig imageRequestConfig = requestConfig(imageResponseTimeout);
+
+        // 이미지 생성은 채팅보다 응답이 느리므로 엔드포인트별로 응답 타임아웃을 다르게 적용
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(openAIHttpClient);
+        requestFactory.setHttpContextFactory((httpMethod, uri) -> {
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(uri.getPath().startsWith("/v1/images") ? imageRequestConfig : chatRequestConfig);
+            return context;
+        });
+
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .build();
     }
 
     @Bean
@@ -25,4 +114,11 @@ public class OpenAIConfig {
         headers.setContentType(MediaType.APPLICATION_JSON);
         return headers;
     }
+
+    private RequestConfig requestConfig(Duration responseTimeout) {
+        return RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                .setResponseTimeout(Timeout.of(responseTimeout))
+                .build();
+    }
 }
@@ -1,5 +1,6 @@
 package com.cojac.storyteller.common.config;
 
+import com.cojac.storyteller.book.service.BookGenerationJobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -7,6 +8,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -36,4 +39,15 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    /**
+     * 동화 생성 진행 상황 구독 (작업을 실행하는 노드와 SSE 연결을 받은 노드가 다를 수 있음)
+     */
+    @Bean
+    public RedisMessageListenerContainer bookGenerationProgressListenerContainer(BookGenerationJobService bookGenerationJobService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(bookGenerationJobService, new ChannelTopic(BookGenerationJobService.PROGRESS_CHANNEL));
+        return container;
+    }
 }
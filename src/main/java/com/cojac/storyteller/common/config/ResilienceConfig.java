@@ -0,0 +1,133 @@
+package com.cojac.storyteller.common.config;
+
+import com.cojac.storyteller.common.resilience.ExternalDependency;
+import com.cojac.storyteller.common.resilience.ResilienceGuard;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRetryMetrics;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 외부 의존성(OpenAI chat, OpenAI image, S3)별 서킷 브레이커, 재시도, 벌크헤드 설정
+ * 상태와 호출 결과는 resilience4j_* 메트릭으로 노출
+ */
+@Configuration
+public class ResilienceConfig {
+
+    // 서킷 브레이커: 최근 호출 중 실패(또는 느린 호출) 비율이 기준을 넘으면 일정 시간 호출을 차단
+    @Value("${resilience.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+    @Value("${resilience.circuit-breaker.minimum-calls:10}")
+    private int minimumNumberOfCalls;
+    @Value("${resilience.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+    @Value("${resilience.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+    @Value("${resilience.circuit-breaker.wait-in-open-state:30s}")
+    private Duration waitDurationInOpenState;
+    @Value("${resilience.circuit-breaker.half-open-calls:3}")
+    private int permittedCallsInHalfOpenState;
+
+    // 느린 호출 기준 (정상 응답 시간 분포보다 충분히 길게 설정)
+    @Value("${resilience.openai-chat.slow-call-duration:60s}")
+    private Duration openAIChatSlowCallDuration;
+    @Value("${resilience.openai-image.slow-call-duration:90s}")
+    private Duration openAIImageSlowCallDuration;
+    @Value("${resilience.s3.slow-call-duration:10s}")
+    private Duration s3SlowCallDuration;
+
+    // 재시도: 지수 백오프에 지터를 더해 여러 요청이 같은 시점에 다시 몰리지 않도록 함
+    @Value("${resilience.retry.openai-max-attempts:3}")
+    private int openAIMaxAttempts;
+    // S3 SDK가 자체적으로 재시도하므로 한 번만 더 시도
+    @Value("${resilience.retry.s3-max-attempts:2}")
+    private int s3MaxAttempts;
+    @Value("${resilience.retry.initial-interval:500ms}")
+    private Duration retryInitialInterval;
+    @Value("${resilience.retry.max-interval:5s}")
+    private Duration retryMaxInterval;
+    @Value("${resilience.retry.randomization-factor:0.5}")
+    private double retryRandomizationFactor;
+
+    // 벌크헤드: 의존성별 동시 호출 수 (가득 차면 기다리지 않고 실패)
+    @Value("${resilience.bulkhead.openai-chat:40}")
+    private int openAIChatMaxConcurrentCalls;
+    @Value("${resilience.bulkhead.openai-image:20}")
+    private int openAIImageMaxConcurrentCalls;
+    @Value("${resilience.bulkhead.s3:30}")
+    private int s3MaxConcurrentCalls;
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.ofDefaults();
+        Map.of(
+                ExternalDependency.OPENAI_CHAT, openAIChatSlowCallDuration,
+                ExternalDependency.OPENAI_IMAGE, openAIImageSlowCallDuration,
+                ExternalDependency.S3, s3SlowCallDuration
+        ).forEach((dependency, slowCallDuration) -> registry.circuitBreaker(dependency.getInstanceName(),
+                CircuitBreakerConfig.custom()
+                        .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                        .slidingWindowSize(slidingWindowSize)
+                        .minimumNumberOfCalls(minimumNumberOfCalls)
+                        .failureRateThreshold(failureRateThreshold)
+                        .slowCallRateThreshold(slowCallRateThreshold)
+                        .slowCallDurationThreshold(slowCallDuration)
+                        .waitDurationInOpenState(waitDurationInOpenState)
+                        .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                        .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                        .recordException(ResilienceGuard::isTransientFailure)
+                        .build()));
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public RetryRegistry retryRegistry(MeterRegistry meterRegistry) {
+        RetryRegistry registry = RetryRegistry.ofDefaults();
+        Map.of(
+                ExternalDependency.OPENAI_CHAT, openAIMaxAttempts,
+                ExternalDependency.OPENAI_IMAGE, openAIMaxAttempts,
+                ExternalDependency.S3, s3MaxAttempts
+        ).forEach((dependency, maxAttempts) -> registry.retry(dependency.getInstanceName(),
+                RetryConfig.custom()
+                        .maxAttempts(maxAttempts)
+                        .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                                retryInitialInterval, 2.0, retryRandomizationFactor, retryMaxInterval))
+                        .retryOnException(ResilienceGuard::isTransientFailure)
+                        .build()));
+
+        TaggedRetryMetrics.ofRetryRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.ofDefaults();
+        Map.of(
+                ExternalDependency.OPENAI_CHAT, openAIChatMaxConcurrentCalls,
+                ExternalDependency.OPENAI_IMAGE, openAIImageMaxConcurrentCalls,
+                ExternalDependency.S3, s3MaxConcurrentCalls
+        ).forEach((dependency, maxConcurrentCalls) -> registry.bulkhead(dependency.getInstanceName(),
+                BulkheadConfig.custom()
+                        .maxConcurrentCalls(maxConcurrentCalls)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()));
+
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+}
@@ -0,0 +1,41 @@
+package com.cojac.storyteller.common.deletion;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 일괄 삭제 결과 (테이블별 삭제된 행 수)
+ */
+public class DeleteReport {
+
+    private final Map<String, Integer> rowsByTable = new LinkedHashMap<>();
+
+    public void add(String table, int rows) {
+        rowsByTable.merge(table, rows, Integer::sum);
+    }
+
+    public void merge(DeleteReport other) {
+        other.rowsByTable.forEach(this::add);
+    }
+
+    /**
+     * @return 테이블 이름 -> 삭제된 행 수 (삭제 순서대로)
+     */
+    public Map<String, Integer> getRowsByTable() {
+        return Collections.unmodifiableMap(rowsByTable);
+    }
+
+    public int getRows(String table) {
+        return rowsByTable.getOrDefault(table, 0);
+    }
+
+    public int getTotalRows() {
+        return rowsByTable.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        return rowsByTable.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.cojac.storyteller.common.deletion;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 책 일괄 삭제 엔진 (BatchBookDelete를 통해 TombstonePurger가 사용)
+ * - 책 ID를 chunkSize개씩 나누어 테이블마다 IN 목록 DELETE 한 번으로 삭제 (책/페이지마다 문장을 실행하지 않음)
+ * - 묶음마다 트랜잭션을 나누어 커밋하므로, 책이 많아도 잠금을 오래 잡지 않음
+ *   (이미 트랜잭션 안에서 호출하면 그 트랜잭션에 참여하므로, 호출 측은 묶음 하나씩 나누어 호출)
+ * - 삭제 순서: 모르는 단어 -> 페이지 -> 퀴즈 -> 책 -> 설정 (외래 키 순서)
+ */
+@Component
+@RequiredArgsConstructor
+public class SetBasedDeleteEngine {
+
+    public static final String UNKNOWN_WORD_TABLE = "UnknownWordEntity";
+    public static final String PAGE_TABLE = "PageEntity";
+    public static final String QUIZ_TABLE = "QuizEntity";
+    public static final String BOOK_TABLE = "BookEntity";
+    public static final String SETTING_TABLE = "SettingEntity";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // 한 번에 삭제할 책 수 (IN 목록 크기)
+    @Value("${deletion.batch.chunk-size:200}")
+    private int chunkSize = 200;
+
+    /**
+     * 책과 책에 딸린 행을 묶음 단위로 삭제
+     * @param bookIds 삭제할 책 ID
+     */
+    public DeleteReport deleteBooks(List<Integer> bookIds) {
+        DeleteReport report = new DeleteReport();
+        for (int from = 0; from < bookIds.size(); from += chunkSize) {
+            List<Integer> chunk = bookIds.subList(from, Math.min(from + chunkSize, bookIds.size()));
+            report.merge(inTransaction(() -> deleteBookChunk(chunk)));
+        }
+        return report;
+    }
+
+    private DeleteReport deleteBookChunk(List<Integer> bookIds) {
+        DeleteReport report = new DeleteReport();
+        if (bookIds.isEmpty()) {
+            return report;
+        }
+        String in = placeholders(bookIds.size());
+        Object[] args = bookIds.toArray();
+
+        // 책 삭제 전에 설정 ID 조회 (설정이 없는 책은 제외)
+        List<Integer> settingIds = jdbcTemplate.queryForList("SELECT setting_id FROM BookEntity WHERE id IN (" + in + ")", Integer.class, args)
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+
+        report.add(UNKNOWN_WORD_TABLE, jdbcTemplate.update(
+                "DELETE FROM UnknownWordEntity WHERE page_id IN (SELECT id FROM PageEntity WHERE book_id IN (" + in + "))", args));
+        report.add(PAGE_TABLE, jdbcTemplate.update("DELETE FROM PageEntity WHERE book_id IN (" + in + ")", args));
+        report.add(QUIZ_TABLE, jdbcTemplate.update("DELETE FROM QuizEntity WHERE book_id IN (" + in + ")", args));
+        report.add(BOOK_TABLE, jdbcTemplate.update("DELETE FROM BookEntity WHERE id IN (" + in + ")", args));
+        report.add(SETTING_TABLE, settingIds.isEmpty() ? 0 : jdbcTemplate.update(
+                "DELETE FROM SettingEntity WHERE id IN (" + placeholders(settingIds.size()) + ")", settingIds.toArray()));
+        return report;
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
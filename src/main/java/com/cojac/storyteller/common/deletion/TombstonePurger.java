@@ -0,0 +1,79 @@
+package com.cojac.storyteller.common.deletion;
+
+import com.cojac.storyteller.book.repository.batch.BatchBookDelete;
+import com.cojac.storyteller.common.amazon.S3BulkDeleteService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 삭제 표시된 책/프로필의 실제 삭제
+ * - 엔티티의 @SQLRestriction을 거치지 않도록 JDBC로 직접 조회/삭제
+ * - 책 묶음마다 트랜잭션을 나누어 커밋하므로, 중간에 실패해도 이미 삭제된 책은 다시 처리하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class TombstonePurger {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchBookDelete batchBookDelete;
+    private final S3BulkDeleteService s3BulkDeleteService;
+
+    /**
+     * 삭제 대상 책 ID 조회 (책이 삭제 표시되었거나, 책의 프로필이 삭제 표시된 경우)
+     * @param limit 최대 개수
+     */
+    public List<Integer> findDeletedBookIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT b.id FROM BookEntity b LEFT JOIN ProfileEntity p ON p.id = b.profile_id " +
+                        "WHERE b.deletedAt IS NOT NULL OR p.deletedAt IS NOT NULL ORDER BY b.id LIMIT ?",
+                Integer.class, limit);
+    }
+
+    /**
+     * 남은 책이 없는 삭제 표시된 프로필 ID 조회
+     * @param limit 최대 개수
+     */
+    public List<Integer> findEmptyDeletedProfileIds(int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT p.id FROM ProfileEntity p WHERE p.deletedAt IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM BookEntity b WHERE b.profile_id = p.id) ORDER BY p.id LIMIT ?",
+                Integer.class, limit);
+    }
+
+    /**
+     * 책 묶음의 모르는 단어, 페이지, 퀴즈, 설정을 한 트랜잭션으로 삭제하고, 커밋 후 표지/페이지 이미지를 S3에서 삭제
+     * @param bookIds 삭제할 책 ID (한 트랜잭션으로 처리하므로 deletion.batch.chunk-size 이하로 나누어 호출)
+     * @return 테이블별 삭제된 행 수
+     */
+    @Transactional
+    public DeleteReport purgeBooks(List<Integer> bookIds) {
+        String in = SetBasedDeleteEngine.placeholders(bookIds.size());
+        Object[] args = bookIds.toArray();
+
+        List<String> imageUrls = new ArrayList<>();
+        imageUrls.addAll(jdbcTemplate.queryForList("SELECT coverImage FROM BookEntity WHERE id IN (" + in + ")", String.class, args));
+        imageUrls.addAll(jdbcTemplate.queryForList("SELECT image FROM PageEntity WHERE book_id IN (" + in + ")", String.class, args));
+
+        DeleteReport report = batchBookDelete.deleteByBookIds(bookIds);
+        s3BulkDeleteService.deleteAfterCommit(imageUrls);
+        return report;
+    }
+
+    /**
+     * 책이 모두 삭제된 프로필 삭제 (프로필 사진은 여러 프로필이 공유하므로 S3에서 삭제하지 않음)
+     * 그 사이에 책이 다시 연결되었으면 삭제하지 않음
+     * @return 삭제되었으면 true
+     */
+    @Transactional
+    public boolean purgeProfile(Integer profileId) {
+        return jdbcTemplate.update(
+                "DELETE FROM ProfileEntity WHERE id = ? AND deletedAt IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM BookEntity b WHERE b.profile_id = ?)",
+                profileId, profileId) > 0;
+    }
+}
@@ -0,0 +1,139 @@
+package com.cojac.storyteller.common.deletion;
+
+import com.cojac.storyteller.common.redis.RedisLeaseLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 삭제 표시된 책/프로필을 백그라운드에서 나누어 삭제
+ * - 한 번 실행할 때 최대 booksPerRun권만 삭제하여 DB 잠금과 S3 요청이 한꺼번에 몰리지 않도록 함
+ * - 삭제 엔진 묶음 크기(deletion.batch.chunk-size)만큼씩 테이블마다 IN 목록 DELETE로 삭제하고 묶음마다 커밋
+ * - 남은 삭제 표시 자체가 진행 상황(체크포인트)이 되어, 중단되어도 다음 실행에서 이어서 처리
+ * - 삭제 표시된 프로필의 책도 같은 방식으로 묶음 단위로 삭제한 뒤, 책이 남지 않은 프로필을 삭제
+ * - 여러 인스턴스 중 잠금을 획득한 하나만 실행
+ */
+@Slf4j
+@Component
+public class TombstoneReaper {
+
+    private static final String LOCK_KEY = "tombstone-reaper-lock";
+
+    private final TombstonePurger tombstonePurger;
+    private final RedisLeaseLock redisLeaseLock;
+    private final MeterRegistry meterRegistry;
+    private final Counter purgedBookCounter;
+    private final Counter purgedProfileCounter;
+    private final Counter failureCounter;
+
+    // 한 번 실행할 때 삭제할 최대 책 수
+    @Value("${deletion.reaper.books-per-run:1000}")
+    private int booksPerRun = 1000;
+
+    // 한 트랜잭션으로 삭제할 책 수 (SetBasedDeleteEngine의 묶음 크기와 같은 설정)
+    @Value("${deletion.batch.chunk-size:200}")
+    private int chunkSize = 200;
+
+    // 한 번 실행할 때 삭제할 최대 프로필 수
+    @Value("${deletion.reaper.profiles-per-run:50}")
+    private int profilesPerRun = 50;
+
+    @Value("${deletion.reaper.lock-lease-time:2m}")
+    private Duration lockLeaseTime = Duration.ofMinutes(2);
+
+    public TombstoneReaper(TombstonePurger tombstonePurger, RedisLeaseLock redisLeaseLock, MeterRegistry meterRegistry) {
+        this.tombstonePurger = tombstonePurger;
+        this.redisLeaseLock = redisLeaseLock;
+        this.meterRegistry = meterRegistry;
+        this.purgedBookCounter = Counter.builder("deletion.reaper.purged")
+                .description("백그라운드에서 삭제된 행 수")
+                .tag("type", "book")
+                .register(meterRegistry);
+        this.purgedProfileCounter = Counter.builder("deletion.reaper.purged")
+                .description("백그라운드에서 삭제된 행 수")
+                .tag("type", "profile")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("deletion.reaper.failures")
+                .description("백그라운드 삭제 실패 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${deletion.reaper.poll-interval-ms:10000}")
+    public void reap() {
+        Optional<RedisLeaseLock.Lease> acquired;
+        try {
+            acquired = redisLeaseLock.tryAcquire(LOCK_KEY, lockLeaseTime);
+        } catch (Exception e) {
+            log.warn("삭제 작업 잠금 획득 실패", e);
+            return;
+        }
+        if (acquired.isEmpty()) {
+            return;
+        }
+
+        try (RedisLeaseLock.Lease ignored = acquired.get()) {
+            purgeBooks();
+            purgeProfiles();
+        }
+    }
+
+    /**
+     * 삭제 표시된 책(또는 삭제 표시된 프로필의 책)을 묶음 단위로 삭제
+     * 묶음 삭제가 실패하면 한 권 때문에 나머지 책이 계속 남지 않도록 한 권씩 다시 시도하고,
+     * 그래도 실패한 책은 삭제 표시가 남아 있으므로 다음 실행에서 다시 시도
+     */
+    private void purgeBooks() {
+        List<Integer> bookIds = tombstonePurger.findDeletedBookIds(booksPerRun);
+        for (int from = 0; from < bookIds.size(); from += chunkSize) {
+            List<Integer> chunk = bookIds.subList(from, Math.min(from + chunkSize, bookIds.size()));
+            try {
+                record(tombstonePurger.purgeBooks(chunk));
+            } catch (Exception e) {
+                log.warn("책 묶음 삭제 실패, 한 권씩 다시 시도 : {}", chunk, e);
+                chunk.forEach(this::purgeBook);
+            }
+        }
+    }
+
+    private void purgeBook(Integer bookId) {
+        try {
+            record(tombstonePurger.purgeBooks(List.of(bookId)));
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("책 삭제 실패 : {}", bookId, e);
+        }
+    }
+
+    private void record(DeleteReport report) {
+        report.getRowsByTable().forEach((table, rows) -> Counter.builder("deletion.reaper.rows")
+                .description("백그라운드에서 삭제된 테이블별 행 수")
+                .tag("table", table)
+                .register(meterRegistry)
+                .increment(rows));
+        purgedBookCounter.increment(report.getRows(SetBasedDeleteEngine.BOOK_TABLE));
+    }
+
+    /**
+     * 책이 모두 삭제된 프로필 삭제
+     */
+    private void purgeProfiles() {
+        List<Integer> profileIds = tombstonePurger.findEmptyDeletedProfileIds(profilesPerRun);
+        for (Integer profileId : profileIds) {
+            try {
+                if (tombstonePurger.purgeProfile(profileId)) {
+                    purgedProfileCounter.increment();
+                }
+            } catch (Exception e) {
+                failureCounter.increment();
+                log.error("프로필 삭제 실패 : {}", profileId, e);
+            }
+        }
+    }
+}
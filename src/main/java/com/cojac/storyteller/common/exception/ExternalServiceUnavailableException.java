@@ -0,0 +1,11 @@
+package com.cojac.storyteller.common.exception;
+
+import com.cojac.storyteller.response.code.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ExternalServiceUnavailableException extends RuntimeException {
+    private final ErrorCode errorCode;
+}
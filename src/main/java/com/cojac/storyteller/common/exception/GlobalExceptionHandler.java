@@ -1,7 +1,15 @@
 package com.cojac.storyteller.common.exception;
 
+import com.cojac.storyteller.book.exception.BookCreationInProgressException;
+import com.cojac.storyteller.book.exception.BookGenerationJobNotFoundException;
+import com.cojac.storyteller.book.exception.BookGenerationJobRejectedException;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
+import com.cojac.storyteller.book.exception.ImageGenerationException;
+import com.cojac.storyteller.book.exception.QuizGenerationException;
+import com.cojac.storyteller.book.exception.InvalidCurrentPageException;
+import com.cojac.storyteller.book.exception.InvalidCursorException;
 import com.cojac.storyteller.page.exception.PageNotFoundException;
+import com.cojac.storyteller.profile.exception.ProfileAccessDeniedException;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.response.dto.ErrorResponseDTO;
@@ -110,6 +118,14 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponseDTO(e.getErrorCode()));
     }
 
+    @ExceptionHandler(ProfileAccessDeniedException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleProfileAccessDeniedException(final ProfileAccessDeniedException e) {
+        log.error("handleProfileAccessDeniedException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
     @ExceptionHandler(BookNotFoundException.class)
     protected ResponseEntity<ErrorResponseDTO> handleBookNotFoundException(final BookNotFoundException e) {
         log.error("handleBookNotFoundException : {}", e.getErrorCode().getMessage());
@@ -118,6 +134,62 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponseDTO(e.getErrorCode()));
     }
 
+    @ExceptionHandler(ImageGenerationException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleImageGenerationException(final ImageGenerationException e) {
+        log.error("handleImageGenerationException : {}", e.getErrorCode().getMessage(), e.getCause());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
+    @ExceptionHandler(QuizGenerationException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleQuizGenerationException(final QuizGenerationException e) {
+        log.error("handleQuizGenerationException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
+    @ExceptionHandler(BookGenerationJobNotFoundException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleBookGenerationJobNotFoundException(final BookGenerationJobNotFoundException e) {
+        log.error("handleBookGenerationJobNotFoundException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
+    @ExceptionHandler(BookGenerationJobRejectedException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleBookGenerationJobRejectedException(final BookGenerationJobRejectedException e) {
+        log.error("handleBookGenerationJobRejectedException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
+    @ExceptionHandler(BookCreationInProgressException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleBookCreationInProgressException(final BookCreationInProgressException e) {
+        log.error("handleBookCreationInProgressException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
+    @ExceptionHandler(InvalidCurrentPageException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleInvalidCurrentPageException(final InvalidCurrentPageException e) {
+        log.error("handleInvalidCurrentPageException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleInvalidCursorException(final InvalidCursorException e) {
+        log.error("handleInvalidCursorException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
     /**
      * Page
      */
@@ -139,4 +211,34 @@ public class GlobalExceptionHandler {
                 .status(e.getErrorCode().getStatus().value())
                 .body(new ErrorResponseDTO(e.getErrorCode()));
     }
+
+    /**
+     * Idempotency
+     */
+    @ExceptionHandler(IdempotencyException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleIdempotencyException(final IdempotencyException e) {
+        log.error("handleIdempotencyException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
+    /**
+     * 외부 서비스 (OpenAI, S3)
+     */
+    @ExceptionHandler(OpenAIRateLimitException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleOpenAIRateLimitException(final OpenAIRateLimitException e) {
+        log.error("handleOpenAIRateLimitException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
+
+    @ExceptionHandler(ExternalServiceUnavailableException.class)
+    protected ResponseEntity<ErrorResponseDTO> handleExternalServiceUnavailableException(final ExternalServiceUnavailableException e) {
+        log.error("handleExternalServiceUnavailableException : {}", e.getErrorCode().getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus().value())
+                .body(new ErrorResponseDTO(e.getErrorCode()));
+    }
 }
@@ -0,0 +1,170 @@
+package com.cojac.storyteller.common.idempotency;
+
+import com.cojac.storyteller.common.exception.IdempotencyException;
+import com.cojac.storyteller.common.redis.RedisService;
+import com.cojac.storyteller.response.code.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * {@link Idempotent} 메서드의 Idempotency-Key 처리
+ * Redis 키 하나에 진행 중/완료 상태를 저장하며, SET NX로 한 요청만 실제로 실행되도록 보장
+ * 진행 중 표시는 실행하는 동안 주기적으로 갱신하므로, 실행이 유효 기간보다 오래 걸려도 다른 요청이 중복 실행하지 않음
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+    @Qualifier("leaseRenewalScheduler")
+    private final ThreadPoolTaskScheduler leaseRenewalScheduler;
+
+    // 진행 중 표시의 유효 기간 (실행 중에는 1/3 주기로 갱신되고, 요청을 처리하던 노드가 죽으면 이 시간 후 다른 요청이 다시 실행 가능)
+    @Value("${idempotency.in-flight-ttl:5m}")
+    private Duration inFlightTtl = Duration.ofMinutes(5);
+
+    // 진행 중인 요청이 끝나기를 기다리는 최대 시간
+    @Value("${idempotency.join-timeout:3m}")
+    private Duration joinTimeout = Duration.ofMinutes(3);
+
+    // 진행 중인 요청의 상태를 확인하는 주기
+    @Value("${idempotency.poll-interval:500ms}")
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    @Around("@annotation(idempotent)")
+    public Object handle(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        HttpServletRequest request = currentRequest();
+        String idempotencyKey = request == null ? null : request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return joinPoint.proceed();
+        }
+
+        String redisKey = KEY_PREFIX + request.getMethod() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+        String fingerprint = fingerprint(joinPoint.getArgs());
+        long deadline = System.nanoTime() + joinTimeout.toNanos();
+
+        while (true) {
+            // 처음 도착한 요청만 실행
+            String inProgress = write(IdempotencyRecord.inProgress(fingerprint));
+            if (redisService.setValuesIfAbsent(redisKey, inProgress, inFlightTtl)) {
+                return execute(joinPoint, redisKey, inProgress, fingerprint, Duration.ofSeconds(idempotent.ttlSeconds()));
+            }
+
+            IdempotencyRecord record = read(redisKey);
+            if (record != null) {
+                if (!fingerprint.equals(record.getFingerprint())) {
+                    throw new IdempotencyException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+                }
+                if (record.isCompleted()) {
+                    return replay(record);
+                }
+            }
+            // 기록이 없으면 앞선 요청이 실패한 것이므로 다음 반복에서 다시 실행을 시도
+
+            if (System.nanoTime() > deadline) {
+                throw new IdempotencyException(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+    }
+
+    private Object execute(ProceedingJoinPoint joinPoint, String redisKey, String inProgress, String fingerprint, Duration ttl) throws Throwable {
+        // 실행하는 동안 진행 중 표시 갱신
+        ScheduledFuture<?> renewal = leaseRenewalScheduler.scheduleAtFixedRate(
+                () -> renew(redisKey, inProgress), inFlightTtl.dividedBy(3));
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            // 실패한 요청은 저장하지 않아 같은 키로 재시도할 수 있도록 함
+            renewal.cancel(false);
+            redisService.deleteValuesIfEquals(redisKey, inProgress);
+            throw e;
+        }
+        renewal.cancel(false);
+
+        if (result instanceof ResponseEntity<?> response && response.getStatusCode().is2xxSuccessful()) {
+            IdempotencyRecord record = IdempotencyRecord.builder()
+                    .completed(true)
+                    .fingerprint(fingerprint)
+                    .httpStatus(response.getStatusCode().value())
+                    .body(objectMapper.writeValueAsString(response.getBody()))
+                    .build();
+            redisService.setValues(redisKey, write(record), ttl);
+        } else {
+            redisService.deleteValuesIfEquals(redisKey, inProgress);
+        }
+        return result;
+    }
+
+    private void renew(String redisKey, String inProgress) {
+        try {
+            if (!redisService.expireValuesIfEquals(redisKey, inProgress, inFlightTtl)) {
+                // 실행이 끝났거나 이미 만료된 경우 (취소는 execute에서 수행)
+                log.warn("Idempotency 진행 중 표시 갱신 실패 (이미 만료됨) : {}", redisKey);
+            }
+        } catch (Exception e) {
+            // 일시적인 Redis 오류는 다음 주기에 다시 시도
+            log.warn("Idempotency 진행 중 표시 갱신 중 오류 : {}", redisKey, e);
+        }
+    }
+
+    private ResponseEntity<Object> replay(IdempotencyRecord record) throws JsonProcessingException {
+        return ResponseEntity
+                .status(record.getHttpStatus())
+                .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                .body(objectMapper.readTree(record.getBody()));
+    }
+
+    private IdempotencyRecord read(String redisKey) throws JsonProcessingException {
+        String value = redisService.getValues(redisKey);
+        if (!redisService.checkExistsValue(value)) {
+            return null;
+        }
+        return objectMapper.readValue(value, IdempotencyRecord.class);
+    }
+
+    private String write(IdempotencyRecord record) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(record);
+    }
+
+    private String fingerprint(Object[] args) throws JsonProcessingException, NoSuchAlgorithmException {
+        byte[] payload = objectMapper.writeValueAsBytes(args);
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(payload);
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.cojac.storyteller.common.idempotency;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Redis에 저장되는 Idempotency-Key 처리 상태
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    private boolean completed;
+    // 진행 중 표시를 만든 요청의 식별자 (다른 요청의 진행 중 표시를 갱신/삭제하지 않도록 구분)
+    private String owner;
+    // 요청 내용의 해시 (같은 키를 다른 요청에 재사용했는지 확인)
+    private String fingerprint;
+    private Integer httpStatus;
+    // 응답 본문 (JSON)
+    private String body;
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return IdempotencyRecord.builder()
+                .completed(false)
+                .owner(UUID.randomUUID().toString())
+                .fingerprint(fingerprint)
+                .build();
+    }
+}
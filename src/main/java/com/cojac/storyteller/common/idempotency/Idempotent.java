@@ -0,0 +1,23 @@
+package com.cojac.storyteller.common.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 지원하는 컨트롤러 메서드에 지정
+ * - 같은 키로 진행 중인 요청이 있으면 완료될 때까지 기다렸다가 같은 응답을 반환
+ * - 완료된 요청은 ttlSeconds 동안 저장된 응답을 그대로 재전송
+ * - 헤더가 없으면 일반 요청과 동일하게 처리
+ * 메서드는 ResponseEntity를 반환해야 함
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+
+    /**
+     * 완료된 응답을 보관하는 시간 (초)
+     */
+    long ttlSeconds() default 24 * 60 * 60;
+}
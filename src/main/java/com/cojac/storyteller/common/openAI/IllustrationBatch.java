@@ -0,0 +1,187 @@
+package com.cojac.storyteller.common.openAI;
+
+import com.cojac.storyteller.book.exception.ImageGenerationException;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.response.code.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 동화 한 권에 필요한 표지/페이지 삽화를 병렬로 생성하는 작업 단위
+ * - 각 삽화는 Executor에 제출되므로 동시 실행 수는 스레드 풀 크기로 제한됨
+ * - 페이지 삽화는 페이지 번호 순서대로 재조립
+ * - 하나라도 실패하면 남은 작업을 취소하고, 이미 업로드된 이미지는 S3에서 삭제 (다른 책과 공유 중인 캐시 이미지는 참조만 해제)
+ */
+@Slf4j
+public class IllustrationBatch {
+
+    private final ImageGenerationService imageGenerationService;
+    private final AmazonS3Service amazonS3Service;
+    private final IllustrationCache illustrationCache;
+    private final Executor executor;
+
+    private final Map<Integer, CompletableFuture<String>> pageFutures = new ConcurrentSkipListMap<>();
+    private final CompletableFuture<Void> firstFailure = new CompletableFuture<>();
+    private CompletableFuture<String> coverFuture;
+
+    // 페이지 삽화 진행 상황 알림
+    private final AtomicInteger illustratedPages = new AtomicInteger();
+    private IntConsumer pageIllustratedListener = illustrated -> {
+    };
+
+    // 업로드가 끝난 이미지 URL (실패 시 보상 삭제 대상)
+    private final List<String> uploadedImageUrls = new ArrayList<>();
+    private boolean discarded = false;
+
+    public IllustrationBatch(ImageGenerationService imageGenerationService, AmazonS3Service amazonS3Service,
+                             IllustrationCache illustrationCache, Executor executor) {
+        this.imageGenerationService = imageGenerationService;
+        this.amazonS3Service = amazonS3Service;
+        this.illustrationCache = illustrationCache;
+        this.executor = executor;
+    }
+
+    /**
+     * 표지 삽화 생성 작업 제출
+     * @param bookTitle 책 제목
+     */
+    public void submitCover(String bookTitle) {
+        coverFuture = submit(() -> imageGenerationService.generateAndUploadBookCoverImage(bookTitle), () -> {
+        });
+    }
+
+    /**
+     * 페이지 삽화 생성 작업 제출
+     * @param pageNumber 페이지 번호 (1부터 시작)
+     * @param pageContent 페이지 내용
+     */
+    public void submitPage(int pageNumber, String pageContent) {
+        pageFutures.put(pageNumber, submit(() -> imageGenerationService.generateAndUploadPageImage(pageContent), this::notifyPageIllustrated));
+    }
+
+    /**
+     * 페이지 삽화가 하나 완료될 때마다 호출될 리스너 등록 (submitPage 이전에 등록)
+     * @param listener 지금까지 완료된 페이지 수를 전달받는 리스너
+     */
+    public void onPageIllustrated(IntConsumer listener) {
+        this.pageIllustratedListener = listener;
+    }
+
+    /**
+     * 제출된 모든 삽화가 완료될 때까지 대기
+     * 하나라도 실패하면 즉시 나머지를 정리하고 ImageGenerationException 발생
+     */
+    public void await() {
+        List<CompletableFuture<String>> futures = new ArrayList<>(pageFutures.values());
+        if (coverFuture != null) {
+            futures.add(coverFuture);
+        }
+
+        CompletableFuture<Void> allDone = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        try {
+            CompletableFuture.anyOf(allDone, firstFailure).join();
+        } catch (CompletionException e) {
+            discard();
+            throw new ImageGenerationException(ErrorCode.IMAGE_GENERATION_FAILED, e.getCause());
+        }
+    }
+
+    /**
+     * @return 표지 삽화 URL (await 이후 호출)
+     */
+    public String getCoverImageUrl() {
+        return coverFuture == null ? null : coverFuture.join();
+    }
+
+    /**
+     * @return 페이지 번호 순서로 정렬된 페이지 삽화 URL 목록 (await 이후 호출)
+     */
+    public List<String> getPageImageUrls() {
+        return pageFutures.values().stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * 남은 작업을 취소하고 이미 업로드된 이미지를 S3에서 삭제
+     * 이후에 완료되는 작업의 이미지도 업로드 직후 삭제됨
+     */
+    public void discard() {
+        List<String> imageUrls;
+        synchronized (uploadedImageUrls) {
+            discarded = true;
+            imageUrls = new ArrayList<>(uploadedImageUrls);
+            uploadedImageUrls.clear();
+        }
+
+        pageFutures.values().forEach(future -> future.cancel(false));
+        if (coverFuture != null) {
+            coverFuture.cancel(false);
+        }
+        imageUrls.forEach(this::deleteQuietly);
+    }
+
+    /**
+     * 삽화 생성 작업 제출
+     * 완료 알림(afterUpload)까지 작업 안에서 실행하므로, await()가 반환된 뒤에 늦게 도착하는 알림이 없음
+     */
+    private CompletableFuture<String> submit(Supplier<String> task, Runnable afterUpload) {
+        CompletableFuture<String> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                String imageUrl = onUploaded(task.get());
+                afterUpload.run();
+                return imageUrl;
+            }, executor);
+        } catch (RuntimeException e) {
+            // 스레드 풀 대기열 초과 등으로 제출 자체가 거절된 경우
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((imageUrl, throwable) -> {
+            if (throwable != null) {
+                firstFailure.completeExceptionally(throwable);
+            }
+        });
+        return future;
+    }
+
+    private String onUploaded(String imageUrl) {
+        synchronized (uploadedImageUrls) {
+            if (!discarded) {
+                uploadedImageUrls.add(imageUrl);
+                return imageUrl;
+            }
+        }
+        deleteQuietly(imageUrl);
+        return imageUrl;
+    }
+
+    private void notifyPageIllustrated() {
+        try {
+            pageIllustratedListener.accept(illustratedPages.incrementAndGet());
+        } catch (RuntimeException e) {
+            // 진행 상황 알림 실패는 삽화 생성 실패로 처리하지 않음
+            log.warn("삽화 진행 상황 알림 실패", e);
+        }
+    }
+
+    private void deleteQuietly(String imageUrl) {
+        try {
+            if (illustrationCache.release(imageUrl)) {
+                amazonS3Service.deleteS3(imageUrl);
+            }
+        } catch (Exception e) {
+            log.warn("삽화 보상 삭제 실패 : {}", imageUrl, e);
+        }
+    }
+}
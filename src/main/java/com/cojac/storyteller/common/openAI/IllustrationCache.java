@@ -0,0 +1,173 @@
+package com.cojac.storyteller.common.openAI;
+
+import com.cojac.storyteller.common.redis.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 프롬프트 해시 -> S3 이미지 URL 캐시 (같은 프롬프트의 삽화를 다시 생성하지 않고 재사용)
+ * - 프롬프트는 대소문자, 공백, 문장 부호를 정규화한 뒤 해시하므로 표기만 다른 프롬프트도 같은 이미지를 사용
+ * - 이미지마다 참조 수를 관리하여, 마지막 참조가 해제될 때만 S3에서 삭제
+ *
+ * Redis 구조
+ * - illustration:prompt:{hash} -> 이미지 URL
+ * - illustration:image:{url}   -> {refs: 참조 수, prompt: 프롬프트 키}
+ * 참조 수가 유실되면 공유 이미지가 삭제될 수 있으므로 두 키 모두 만료 시간을 두지 않음
+ */
+@Slf4j
+@Component
+public class IllustrationCache {
+
+    private static final String PROMPT_KEY_PREFIX = "illustration:prompt:";
+    private static final String IMAGE_KEY_PREFIX = "illustration:image:";
+
+    // 프롬프트에 해당하는 이미지가 있으면 참조 수를 늘리고 URL 반환
+    private static final RedisScript<String> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local url = redis.call('GET', KEYS[1])
+            if not url then
+                return false
+            end
+            local imageKey = ARGV[1] .. url
+            if redis.call('EXISTS', imageKey) == 0 then
+                redis.call('DEL', KEYS[1])
+                return false
+            end
+            redis.call('HINCRBY', imageKey, 'refs', 1)
+            return url
+            """, String.class);
+
+    // 새로 업로드한 이미지를 등록 (같은 프롬프트가 먼저 등록되었으면 등록하지 않음)
+    private static final RedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX') then
+                redis.call('HSET', KEYS[2], 'refs', 1, 'prompt', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 참조 해제: 캐시에 없는 이미지이거나 마지막 참조였으면 1 (삭제 가능), 아직 참조 중이면 0
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 1
+            end
+            if redis.call('HINCRBY', KEYS[1], 'refs', -1) > 0 then
+                return 0
+            end
+            local promptKey = redis.call('HGET', KEYS[1], 'prompt')
+            redis.call('DEL', KEYS[1])
+            if promptKey and redis.call('GET', promptKey) == ARGV[1] then
+                redis.call('DEL', promptKey)
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisService redisService;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    // 삽화 재사용 여부 (기본값: 사용 안 함)
+    @Value("${illustration.cache.enabled:false}")
+    private boolean enabled;
+
+    public IllustrationCache(RedisService redisService, MeterRegistry meterRegistry) {
+        this.redisService = redisService;
+        this.hitCounter = Counter.builder("illustration.cache")
+                .description("삽화 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("illustration.cache")
+                .description("삽화 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 프롬프트로 생성된 이미지가 있으면 참조를 하나 늘리고 반환
+     * @param prompt 이미지 생성 프롬프트
+     * @return 재사용할 이미지 URL (없거나 캐시를 사용하지 않으면 empty)
+     */
+    public Optional<String> acquire(String prompt) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        try {
+            String imageUrl = redisService.executeScript(ACQUIRE_SCRIPT, List.of(promptKey(prompt)), IMAGE_KEY_PREFIX);
+            (imageUrl == null ? missCounter : hitCounter).increment();
+            return Optional.ofNullable(imageUrl);
+        } catch (Exception e) {
+            log.warn("삽화 캐시 조회 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 새로 생성한 이미지를 프롬프트와 연결하여 등록 (참조 수 1)
+     * @param prompt 이미지 생성 프롬프트
+     * @param imageUrl 업로드된 이미지 URL
+     */
+    public void register(String prompt, String imageUrl) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisService.executeScript(REGISTER_SCRIPT, List.of(promptKey(prompt), IMAGE_KEY_PREFIX + imageUrl), imageUrl);
+        } catch (Exception e) {
+            // 등록하지 못한 이미지는 공유되지 않으므로 기존처럼 삭제 시 바로 삭제됨
+            log.warn("삽화 캐시 등록 실패 : {}", imageUrl, e);
+        }
+    }
+
+    /**
+     * 이미지 참조 해제 (이미지를 S3에서 삭제하기 전에 호출)
+     * 캐시를 사용하지 않도록 바꾼 뒤에도 기존에 공유된 이미지를 보호하기 위해 항상 참조 수를 확인
+     * @param imageUrl 이미지 URL
+     * @return S3에서 삭제해도 되면 true, 다른 책에서 아직 사용 중이면 false
+     */
+    public boolean release(String imageUrl) {
+        try {
+            Long result = redisService.executeScript(RELEASE_SCRIPT, List.of(IMAGE_KEY_PREFIX + imageUrl), imageUrl);
+            return result == null || result == 1L;
+        } catch (Exception e) {
+            // 캐시를 사용 중이면 공유 이미지를 지우지 않도록 남겨 둠
+            log.warn("삽화 참조 해제 실패 : {}", imageUrl, e);
+            return !enabled;
+        }
+    }
+
+    private String promptKey(String prompt) {
+        return PROMPT_KEY_PREFIX + sha256(normalize(prompt));
+    }
+
+    /**
+     * 대소문자, 유니코드 표기, 공백, 문장 부호 차이를 제거
+     */
+    private static String normalize(String prompt) {
+        return Normalizer.normalize(prompt, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.cojac.storyteller.common.openAI;
+
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IllustrationPipeline {
+
+    private final ImageGenerationService imageGenerationService;
+    private final AmazonS3Service amazonS3Service;
+    private final IllustrationCache illustrationCache;
+
+    @Qualifier("imageGenerationExecutor")
+    private final ThreadPoolTaskExecutor imageGenerationExecutor;
+
+    /**
+     * 동화 한 권의 삽화를 병렬로 생성할 작업 단위를 생성
+     * @return 표지/페이지 삽화를 제출할 수 있는 IllustrationBatch
+     */
+    public IllustrationBatch newBatch() {
+        return new IllustrationBatch(imageGenerationService, amazonS3Service, illustrationCache, imageGenerationExecutor);
+    }
+}
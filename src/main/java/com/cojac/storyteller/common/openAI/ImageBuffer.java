@@ -0,0 +1,23 @@
+package com.cojac.storyteller.common.openAI;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+/**
+ * base64 디코딩된 이미지를 담는 버퍼
+ * 내부 배열을 복사하지 않고 그대로 InputStream으로 읽을 수 있어 업로드 시 추가 복사본이 생기지 않음
+ */
+public class ImageBuffer extends ByteArrayOutputStream {
+
+    public ImageBuffer(int initialSize) {
+        super(initialSize);
+    }
+
+    /**
+     * @return 버퍼에 기록된 바이트를 읽는 InputStream (내부 배열 공유)
+     */
+    public synchronized InputStream toInputStream() {
+        return new ByteArrayInputStream(buf, 0, count);
+    }
+}
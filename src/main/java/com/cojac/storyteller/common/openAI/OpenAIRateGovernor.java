@@ -0,0 +1,190 @@
+package com.cojac.storyteller.common.openAI;
+
+import com.cojac.storyteller.common.exception.OpenAIRateLimitException;
+import com.cojac.storyteller.common.ratelimit.AdaptiveConcurrencyLimiter;
+import com.cojac.storyteller.common.ratelimit.RedisTokenBucket;
+import com.cojac.storyteller.response.code.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 속도 제어
+ * - 클러스터 전체: Redis 토큰 버킷으로 API별(chat, image) 분당 요청 수를 제한
+ * - 인스턴스별: AIMD 동시 실행 수 제한으로 429 응답을 받으면 동시 요청 수를 줄이고 Retry-After 동안 대기
+ * 한도를 넘는 요청은 실패하지 않고 대기열에서 기다리며, 최대 대기 시간을 넘으면 OpenAIRateLimitException 발생
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAIRateGovernor {
+
+    private static final String TOKEN_BUCKET_KEY_PREFIX = "openai-rate-limit:";
+
+    private final RedisTokenBucket tokenBucket;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Api, Lane> lanes = new ConcurrentHashMap<>();
+
+    // chat completion: 순간 허용량과 분당 요청 수 (OpenAI 조직 한도보다 약간 낮게 설정)
+    @Value("${openai.rate-limit.chat.capacity:20}")
+    private int chatCapacity = 20;
+    @Value("${openai.rate-limit.chat.requests-per-minute:450}")
+    private int chatRequestsPerMinute = 450;
+    @Value("${openai.rate-limit.chat.initial-concurrency:8}")
+    private int chatInitialConcurrency = 8;
+    @Value("${openai.rate-limit.chat.max-concurrency:32}")
+    private int chatMaxConcurrency = 32;
+
+    // 이미지 생성
+    @Value("${openai.rate-limit.image.capacity:5}")
+    private int imageCapacity = 5;
+    @Value("${openai.rate-limit.image.requests-per-minute:45}")
+    private int imageRequestsPerMinute = 45;
+    @Value("${openai.rate-limit.image.initial-concurrency:4}")
+    private int imageInitialConcurrency = 4;
+    @Value("${openai.rate-limit.image.max-concurrency:16}")
+    private int imageMaxConcurrency = 16;
+
+    // 429 응답 시 동시 실행 한도를 줄이는 비율
+    @Value("${openai.rate-limit.backoff-ratio:0.5}")
+    private double backoffRatio = 0.5;
+
+    // 요청 하나가 대기열에서 기다릴 수 있는 최대 시간
+    @Value("${openai.rate-limit.max-wait:60s}")
+    private Duration maxWait = Duration.ofSeconds(60);
+
+    // 429 응답을 받은 요청을 다시 대기열에 넣는 최대 횟수
+    @Value("${openai.rate-limit.max-throttled-retries:3}")
+    private int maxThrottledRetries = 3;
+
+    // 429 응답에 Retry-After 헤더가 없을 때 대기 시간
+    @Value("${openai.rate-limit.default-retry-after:2s}")
+    private Duration defaultRetryAfter = Duration.ofSeconds(2);
+
+    public enum Api {
+        CHAT, IMAGE
+    }
+
+    /**
+     * 속도 제한을 지키며 OpenAI 호출 실행
+     * 429 응답을 받으면 한도를 줄이고 Retry-After 이후 다시 대기열에 넣음
+     * 대기 시간이 벌크헤드 자리나 서킷 브레이커의 호출 시간에 포함되지 않도록, 장애 격리는 call 안쪽에서 수행해야 함
+     * @param api 호출하는 API 종류
+     * @param call OpenAI 호출
+     * @return 호출 결과
+     */
+    public <T> T execute(Api api, Supplier<T> call) {
+        Lane lane = lanes.computeIfAbsent(api, this::createLane);
+
+        for (int attempt = 0; ; attempt++) {
+            long queuedAt = System.nanoTime();
+            acquire(lane);
+            lane.waitTimer.record(Duration.ofNanos(System.nanoTime() - queuedAt));
+
+            try {
+                T result = call.get();
+                lane.limiter.onSuccess();
+                return result;
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                Duration retryAfter = retryAfter(e.getResponseHeaders());
+                lane.limiter.onThrottled(retryAfter);
+                lane.throttledCounter.increment();
+                log.warn("OpenAI 요청 제한 (api={}, retryAfter={}, limit={})", api, retryAfter, lane.limiter.getLimit());
+                if (attempt >= maxThrottledRetries) {
+                    throw new OpenAIRateLimitException(ErrorCode.OPENAI_RATE_LIMITED);
+                }
+            } catch (RuntimeException e) {
+                lane.limiter.onFailure();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 동시 실행 자리와 토큰 버킷 토큰을 순서대로 확보 (둘 다 maxWait 안에 확보해야 함)
+     */
+    private void acquire(Lane lane) {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        try {
+            if (!lane.limiter.acquire(maxWait)) {
+                throw new OpenAIRateLimitException(ErrorCode.OPENAI_RATE_LIMITED);
+            }
+            Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+            if (!tokenBucket.acquire(lane.bucketKey, lane.capacity, lane.requestsPerMinute, remaining)) {
+                lane.limiter.onFailure();
+                throw new OpenAIRateLimitException(ErrorCode.OPENAI_RATE_LIMITED);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenAIRateLimitException(ErrorCode.OPENAI_RATE_LIMITED);
+        }
+    }
+
+    /**
+     * Retry-After 계산 (OpenAI는 retry-after-ms, 표준 retry-after(초) 헤더를 사용)
+     */
+    private Duration retryAfter(HttpHeaders headers) {
+        Duration retryAfter = defaultRetryAfter;
+        if (headers != null) {
+            try {
+                String millis = headers.getFirst("retry-after-ms");
+                String seconds = headers.getFirst(HttpHeaders.RETRY_AFTER);
+                if (millis != null) {
+                    retryAfter = Duration.ofMillis((long) Double.parseDouble(millis));
+                } else if (seconds != null) {
+                    retryAfter = Duration.ofMillis((long) (Double.parseDouble(seconds) * 1000));
+                }
+            } catch (NumberFormatException e) {
+                // HTTP-date 형식 등은 기본값 사용
+            }
+        }
+        return retryAfter.compareTo(maxWait) > 0 ? maxWait : retryAfter;
+    }
+
+    private Lane createLane(Api api) {
+        AdaptiveConcurrencyLimiter limiter = api == Api.CHAT
+                ? new AdaptiveConcurrencyLimiter(chatInitialConcurrency, 1, chatMaxConcurrency, backoffRatio)
+                : new AdaptiveConcurrencyLimiter(imageInitialConcurrency, 1, imageMaxConcurrency, backoffRatio);
+        String tag = api.name().toLowerCase();
+
+        Gauge.builder("openai.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("OpenAI 동시 요청 한도 (AIMD)")
+                .tag("api", tag)
+                .register(meterRegistry);
+        Gauge.builder("openai.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("진행 중인 OpenAI 요청 수")
+                .tag("api", tag)
+                .register(meterRegistry);
+
+        return new Lane(
+                TOKEN_BUCKET_KEY_PREFIX + tag,
+                api == Api.CHAT ? chatCapacity : imageCapacity,
+                api == Api.CHAT ? chatRequestsPerMinute : imageRequestsPerMinute,
+                limiter,
+                Timer.builder("openai.rate-limit.wait")
+                        .description("OpenAI 요청이 속도 제한 대기열에서 기다린 시간")
+                        .tag("api", tag)
+                        .register(meterRegistry),
+                Counter.builder("openai.rate-limit.throttled")
+                        .description("OpenAI 429 응답 수")
+                        .tag("api", tag)
+                        .register(meterRegistry));
+    }
+
+    private record Lane(String bucketKey, int capacity, int requestsPerMinute,
+                        AdaptiveConcurrencyLimiter limiter, Timer waitTimer, Counter throttledCounter) {
+    }
+}
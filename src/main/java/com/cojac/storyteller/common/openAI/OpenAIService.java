@@ -1,16 +1,26 @@
 package com.cojac.storyteller.common.openAI;
 
+import com.cojac.storyteller.book.dto.openai.CompletionChunkDto;
 import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
 import com.cojac.storyteller.book.dto.openai.CompletionResponseDto;
+import com.cojac.storyteller.common.exception.ExternalServiceUnavailableException;
+import com.cojac.storyteller.common.exception.OpenAIRateLimitException;
+import com.cojac.storyteller.common.resilience.ExternalDependency;
+import com.cojac.storyteller.common.resilience.ResilienceGuard;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Base64;
-import java.util.Collections;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -18,68 +28,143 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class OpenAIService {
 
+    @Qualifier("openAIRestTemplate")
     private final RestTemplate restTemplate;
     private final HttpHeaders httpHeaders;
+    private final ObjectMapper objectMapper;
+    private final PromptBuilder promptBuilder;
+    private final OpenAITokenMetrics tokenMetrics;
+    private final OpenAIRateGovernor rateGovernor;
+    private final ResilienceGuard resilienceGuard;
+
+    // 1024x1024 PNG 한 장을 재할당 없이 담을 수 있는 초기 버퍼 크기
+    private static final int IMAGE_BUFFER_INITIAL_SIZE = 2 * 1024 * 1024;
+    // 응답이 max_tokens에서 잘렸을 때의 finish_reason
+    private static final String FINISH_REASON_LENGTH = "length";
+    private static final String PARAGRAPH_DELIMITER = "\n\n";
 
     @Value("${openai.secret-key}")
     private String apiKey;
-    @Value("${openai.model}")
-    private String model;
 
     public String generateStory(String prompt, Integer age) {
+        CompletionRequestDto requestDto = promptBuilder.storyRequest(prompt, age, false);
+        return complete("story", requestDto);
+    }
+
+    /**
+     * 동화를 스트리밍으로 생성
+     * 토큰이 도착하는 대로 제목과 문단을 분리하여 listener에 전달하므로, 생성이 끝나기 전에 삽화 생성을 시작할 수 있음
+     * @param listener 제목/문단 완성 시 호출될 리스너 (스트림을 읽는 스레드에서 호출)
+     * @return 전체 동화 텍스트
+     */
+    public String streamStory(String prompt, Integer age, StoryStreamListener listener) {
         String url = "https://api.openai.com/v1/chat/completions";
-        CompletionRequestDto.Message message = CompletionRequestDto.Message.builder()
-                .role("user")
-                // 제목과 내용을 Title: 과 Content: 로 구분하여 요청
-                .content("Generate a story with the following theme: " + prompt + ". Provide the response in the following format:\n\nTitle: [Your Title]\n\nContent: [Your Content]. " +
-                        "Please generate an English fairy tale suitable for the difficulty level appropriate for " + age + " years old." +
-                        "Please write at least 10 paragraphs"
-                )
-                .build();
-        CompletionRequestDto requestDto = CompletionRequestDto.builder()
-                .model(model)
-                .messages(Collections.singletonList(message))
-                .temperature(0.8f)
-                .build();
+        CompletionRequestDto requestDto = promptBuilder.storyRequest(prompt, age, true);
+        StoryStreamParser parser = new StoryStreamParser(listener);
+
+        // 이미 전달한 문단이 중복되지 않도록 스트리밍은 재시도하지 않음
+        return rateGovernor.execute(OpenAIRateGovernor.Api.CHAT, () -> resilienceGuard.callOnce(ExternalDependency.OPENAI_CHAT, () -> restTemplate.execute(url, HttpMethod.POST,
+                request -> {
+                    request.getHeaders().putAll(httpHeaders);
+                    request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    objectMapper.writeValue(request.getBody(), requestDto);
+                },
+                response -> {
+                    CompletionResponseDto.Usage usage = null;
+                    String finishReason = null;
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            // SSE 형식: "data: {chunk}" 줄만 처리하고, "data: [DONE]"이면 종료
+                            if (!line.startsWith("data:")) {
+                                continue;
+                            }
+                            String data = line.substring("data:".length()).trim();
+                            if (data.equals("[DONE]")) {
+                                break;
+                            }
+                            CompletionChunkDto chunk = objectMapper.readValue(data, CompletionChunkDto.class);
+                            if (chunk.getChoices() != null && !chunk.getChoices().isEmpty()) {
+                                CompletionChunkDto.Choice choice = chunk.getChoices().get(0);
+                                if (choice.getDelta() != null) {
+                                    parser.append(choice.getDelta().getContent());
+                                }
+                                if (choice.getFinish_reason() != null) {
+                                    finishReason = choice.getFinish_reason();
+                                }
+                            }
+                            if (chunk.getUsage() != null) {
+                                usage = chunk.getUsage();
+                            }
+                        }
+                    }
+                    // max_tokens에서 잘렸으면 끝나지 않은 마지막 문단은 페이지로 만들지 않음
+                    boolean truncated = FINISH_REASON_LENGTH.equals(finishReason);
+                    String story = truncated ? parser.completeTruncated() : parser.complete();
+                    recordUsage("story", requestDto, usage, story);
+                    if (truncated) {
+                        tokenMetrics.recordTruncated("story");
+                    }
+                    return story;
+                })));
+    }
 
+    public String generateQuiz(String story, Integer age) {
+        CompletionRequestDto requestDto = promptBuilder.quizRequest(story, age);
+        return complete("quiz", requestDto);
+    }
+
+    private String complete(String call, CompletionRequestDto requestDto) {
+        String url = "https://api.openai.com/v1/chat/completions";
         HttpEntity<CompletionRequestDto> requestEntity = new HttpEntity<>(requestDto, httpHeaders);
-        ResponseEntity<CompletionResponseDto> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, CompletionResponseDto.class);
+        ResponseEntity<CompletionResponseDto> response = rateGovernor.execute(OpenAIRateGovernor.Api.CHAT,
+                () -> resilienceGuard.call(ExternalDependency.OPENAI_CHAT,
+                        () -> restTemplate.exchange(url, HttpMethod.POST, requestEntity, CompletionResponseDto.class)));
 
         if (response.getBody() != null && !response.getBody().getChoices().isEmpty()) {
-            return response.getBody().getChoices().get(0).getMessage().getContent();
+            CompletionResponseDto.Choice choice = response.getBody().getChoices().get(0);
+            String content = choice.getMessage().getContent();
+            recordUsage(call, requestDto, response.getBody().getUsage(), content);
+            if (FINISH_REASON_LENGTH.equals(choice.getFinish_reason())) {
+                tokenMetrics.recordTruncated(call);
+                return dropPartialParagraph(content);
+            }
+            return content;
         }
         return null;
     }
 
-    public String generateQuiz(String story, Integer age) {
-        String url = "https://api.openai.com/v1/chat/completions";
-        CompletionRequestDto.Message message = CompletionRequestDto.Message.builder()
-                .role("user")
-                // 퀴즈 3개를 \n으로 구분하여 요청
-                .content(story + "라는 동화 내용이 있어. 이 내용에 대해 창의력을 향상시킬 수 있는 질문 1개를 한국어 존댓말로 알려줘. "
-                )
-                .build();
-        CompletionRequestDto requestDto = CompletionRequestDto.builder()
-                .model(model)
-                .messages(Collections.singletonList(message))
-                .temperature(0.8f)
-                .build();
-
-        HttpEntity<CompletionRequestDto> requestEntity = new HttpEntity<>(requestDto, httpHeaders);
-        ResponseEntity<CompletionResponseDto> response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, CompletionResponseDto.class);
+    /**
+     * max_tokens에서 잘린 응답의 끝나지 않은 마지막 문단을 버림
+     * @return 완성된 문단까지의 텍스트 (완성된 문단이 없으면 null)
+     */
+    private String dropPartialParagraph(String content) {
+        int end = content == null ? -1 : content.trim().lastIndexOf(PARAGRAPH_DELIMITER);
+        return end < 0 ? null : content.trim().substring(0, end).trim();
+    }
 
-        if (response.getBody() != null && !response.getBody().getChoices().isEmpty()) {
-            return response.getBody().getChoices().get(0).getMessage().getContent();
+    /**
+     * 토큰 사용량 기록 (응답에 사용량이 없으면 로컬 토크나이저로 계산)
+     */
+    private void recordUsage(String call, CompletionRequestDto requestDto, CompletionResponseDto.Usage usage, String completion) {
+        if (usage != null) {
+            tokenMetrics.record(call, usage.getPrompt_tokens(), usage.getCompletion_tokens());
+            return;
         }
-        return null;
+        int promptTokens = requestDto.getMessages().stream()
+                .mapToInt(message -> promptBuilder.countTokens(message.getContent()))
+                .sum();
+        int completionTokens = completion == null ? 0 : promptBuilder.countTokens(completion);
+        tokenMetrics.record(call, promptTokens, completionTokens);
     }
 
     /**
-     * DALL-E API를 호출하여 이미지를 생성하고, base64로 인코딩된 이미지를 바이트 배열로 반환
+     * DALL-E API를 호출하여 이미지를 생성하고, base64로 인코딩된 이미지를 디코딩하여 반환
+     * 응답 JSON을 스트리밍으로 파싱하면서 b64_json 값을 바로 디코딩하므로, base64 문자열 전체를 메모리에 올리지 않음
      * @param prompt 이미지 생성에 사용할 프롬프트
-     * @return base64로 인코딩된 이미지의 바이트 배열
+     * @return 디코딩된 이미지 버퍼
      */
-    public byte[] generateImage(String prompt) {
+    public ImageBuffer generateImage(String prompt) {
         String url = "https://api.openai.com/v1/images/generations";
 
         Map<String, Object> requestDto = Map.of(
@@ -93,11 +178,31 @@ public class OpenAIService {
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setBearerAuth(apiKey);
 
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(requestDto, headers);
-        ResponseEntity<Map> response;
         try {
-            // DALL-E API 호출
-            response = restTemplate.exchange(url, HttpMethod.POST, requestEntity, Map.class);
+            // DALL-E API 호출 (속도 제한 대기열에서 자리를 얻은 뒤 장애 격리를 거쳐 실행)
+            return rateGovernor.execute(OpenAIRateGovernor.Api.IMAGE, () -> resilienceGuard.call(ExternalDependency.OPENAI_IMAGE, () -> restTemplate.execute(url, HttpMethod.POST,
+                    request -> {
+                        request.getHeaders().putAll(headers);
+                        objectMapper.writeValue(request.getBody(), requestDto);
+                    },
+                    response -> {
+                        // 응답 데이터에서 첫 번째 b64_json 값을 찾아 디코딩
+                        try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                            JsonToken token;
+                            while ((token = parser.nextToken()) != null) {
+                                if (token == JsonToken.FIELD_NAME && "b64_json".equals(parser.currentName())) {
+                                    parser.nextToken();
+                                    ImageBuffer image = new ImageBuffer(IMAGE_BUFFER_INITIAL_SIZE);
+                                    parser.readBinaryValue(image);
+                                    return image;
+                                }
+                            }
+                        }
+                        return null;
+                    })));
+        } catch (OpenAIRateLimitException | ExternalServiceUnavailableException e) {
+            // 대기열에서 기다리다 포기했거나 서킷이 열린 경우는 null 대신 그대로 전달
+            throw e;
         } catch (HttpClientErrorException e) {
             // HTTP 클라이언트 오류 처리
             System.out.println("OpenAI API 호출 오류 (HTTP 상태 코드): " + e.getStatusCode());
@@ -107,17 +212,5 @@ public class OpenAIService {
             System.out.println("OpenAI API 호출 오류: " + e.getMessage());
             return null;
         }
-
-        // API 응답 처리
-        if (response.getBody() != null) {
-            // 응답 데이터에서 base64 인코딩된 이미지 추출
-            Map<String, String> data = (Map<String, String>) ((List<?>) response.getBody().get("data")).get(0);
-            if (data != null) {
-                String base64Image = data.get("b64_json");
-                // base64 문자열을 디코딩하여 바이트 배열로 변환
-                return Base64.getDecoder().decode(base64Image);
-            }
-        }
-        return null;
     }
-}
\ No newline at end of file
+}
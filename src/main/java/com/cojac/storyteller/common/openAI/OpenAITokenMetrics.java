@@ -0,0 +1,50 @@
+package com.cojac.storyteller.common.openAI;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * OpenAI 호출별 토큰 사용량 메트릭
+ * openai.tokens{call=story|quiz, type=prompt|completion}
+ * openai.completion.truncated{call=story|quiz}: max_tokens에 걸려 잘린 응답 수
+ */
+@Component
+@RequiredArgsConstructor
+public class OpenAITokenMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param call 호출 종류 (story, quiz)
+     * @param promptTokens 입력 토큰 수
+     * @param completionTokens 응답 토큰 수
+     */
+    public void record(String call, int promptTokens, int completionTokens) {
+        summary(call, "prompt").record(promptTokens);
+        summary(call, "completion").record(completionTokens);
+    }
+
+    /**
+     * 응답이 max_tokens에서 잘림 (finish_reason=length)
+     * @param call 호출 종류 (story, quiz)
+     */
+    public void recordTruncated(String call) {
+        Counter.builder("openai.completion.truncated")
+                .description("max_tokens에 걸려 잘린 OpenAI 응답 수")
+                .tag("call", call)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private DistributionSummary summary(String call, String type) {
+        return DistributionSummary.builder("openai.tokens")
+                .description("OpenAI 호출당 토큰 수")
+                .baseUnit("tokens")
+                .tag("call", call)
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,152 @@
+package com.cojac.storyteller.common.openAI;
+
+import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * OpenAI chat completion 요청 생성
+ * - 모델의 토크나이저로 토큰 수를 로컬에서 계산하여 입력 동화를 예산 안으로 줄임
+ * - 호출 종류마다 max_tokens를 지정하여 응답 길이(지연 시간, 비용)를 제한
+ */
+@Component
+public class PromptBuilder {
+
+    private static final String PARAGRAPH_DELIMITER = "\n\n";
+    private static final String OMITTED_MARKER = "...";
+
+    private final String model;
+    private final Encoding encoding;
+    private final Counter trimmedPromptCounter;
+
+    // 동화 생성 응답의 최대 토큰 수 (10문단 내외, 넘어서 잘리면 OpenAIService가 끝나지 않은 마지막 문단을 버림)
+    @Value("${openai.story.max-tokens:2500}")
+    private int storyMaxTokens = 2500;
+
+    // 퀴즈 생성 시 입력으로 넣을 동화의 최대 토큰 수
+    @Value("${openai.quiz.max-input-tokens:3000}")
+    private int quizMaxInputTokens = 3000;
+
+    // 퀴즈 생성 응답의 최대 토큰 수 (질문 1개)
+    @Value("${openai.quiz.max-tokens:300}")
+    private int quizMaxTokens = 300;
+
+    public PromptBuilder(@Value("${openai.model}") String model, MeterRegistry meterRegistry) {
+        this.model = model;
+        EncodingRegistry registry = Encodings.newLazyEncodingRegistry();
+        // 토크나이저를 알 수 없는 모델은 cl100k_base로 근사
+        this.encoding = registry.getEncodingForModel(model)
+                .orElseGet(() -> registry.getEncoding(EncodingType.CL100K_BASE));
+        this.trimmedPromptCounter = Counter.builder("openai.prompt.trimmed")
+                .description("토큰 예산을 넘어 입력을 줄인 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 동화 생성 요청
+     * @param stream true이면 스트리밍 요청 (마지막 chunk에 토큰 사용량 포함)
+     */
+    public CompletionRequestDto storyRequest(String prompt, Integer age, boolean stream) {
+        // 제목과 내용을 Title: 과 Content: 로 구분하여 요청
+        String content = "Generate a story with the following theme: " + prompt + ". Provide the response in the following format:\n\nTitle: [Your Title]\n\nContent: [Your Content]. " +
+                "Please generate an English fairy tale suitable for the difficulty level appropriate for " + age + " years old." +
+                "Please write at least 10 paragraphs";
+
+        return CompletionRequestDto.builder()
+                .model(model)
+                .messages(Collections.singletonList(userMessage(content)))
+                .temperature(0.8f)
+                .max_tokens(storyMaxTokens)
+                .stream(stream ? true : null)
+                .stream_options(stream ? new CompletionRequestDto.StreamOptions(true) : null)
+                .build();
+    }
+
+    /**
+     * 퀴즈 생성 요청 (동화가 예산보다 길면 앞뒤 문단을 남기고 중간을 생략)
+     */
+    public CompletionRequestDto quizRequest(String story, Integer age) {
+        String content = fitToBudget(story, quizMaxInputTokens) + "라는 동화 내용이 있어. 이 내용에 대해 창의력을 향상시킬 수 있는 질문 1개를 한국어 존댓말로 알려줘. ";
+
+        return CompletionRequestDto.builder()
+                .model(model)
+                .messages(Collections.singletonList(userMessage(content)))
+                .temperature(0.8f)
+                .max_tokens(quizMaxTokens)
+                .build();
+    }
+
+    /**
+     * @return 모델 토크나이저 기준 토큰 수
+     */
+    public int countTokens(String text) {
+        return encoding.countTokens(text);
+    }
+
+    /**
+     * 텍스트를 토큰 예산 안으로 줄임
+     * 동화의 도입과 결말이 질문에 중요하므로 앞뒤 문단부터 번갈아 채우고, 빠진 중간은 "..."으로 표시
+     * @param text 문단이 빈 줄로 구분된 텍스트
+     * @param maxTokens 최대 토큰 수
+     */
+    public String fitToBudget(String text, int maxTokens) {
+        if (countTokens(text) <= maxTokens) {
+            return text;
+        }
+        trimmedPromptCounter.increment();
+
+        LinkedList<String> remaining = new LinkedList<>();
+        for (String paragraph : text.split(PARAGRAPH_DELIMITER)) {
+            if (!paragraph.isBlank()) {
+                remaining.add(paragraph.trim());
+            }
+        }
+
+        List<String> head = new ArrayList<>();
+        LinkedList<String> tail = new LinkedList<>();
+        int budget = maxTokens - countTokens(PARAGRAPH_DELIMITER + OMITTED_MARKER + PARAGRAPH_DELIMITER);
+        boolean fromHead = true;
+        while (!remaining.isEmpty()) {
+            String paragraph = fromHead ? remaining.peekFirst() : remaining.peekLast();
+            int tokens = countTokens(paragraph) + countTokens(PARAGRAPH_DELIMITER);
+            if (tokens > budget) {
+                break;
+            }
+            budget -= tokens;
+            if (fromHead) {
+                head.add(remaining.removeFirst());
+            } else {
+                tail.addFirst(remaining.removeLast());
+            }
+            fromHead = !fromHead;
+        }
+
+        // 첫 문단조차 예산을 넘으면 토큰 단위로 자름
+        if (head.isEmpty()) {
+            return encoding.decode(encoding.encode(text, maxTokens).getTokens());
+        }
+
+        List<String> parts = new ArrayList<>(head);
+        parts.add(OMITTED_MARKER);
+        parts.addAll(tail);
+        return String.join(PARAGRAPH_DELIMITER, parts);
+    }
+
+    private CompletionRequestDto.Message userMessage(String content) {
+        return CompletionRequestDto.Message.builder()
+                .role("user")
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.cojac.storyteller.common.openAI;
+
+/**
+ * 스트리밍으로 생성되는 동화에서 제목과 문단이 완성될 때마다 호출되는 리스너
+ */
+public interface StoryStreamListener {
+
+    /**
+     * 제목 완성 (Content: 가 나타난 시점)
+     * @param title 동화 제목
+     */
+    void onTitle(String title);
+
+    /**
+     * 문단 하나 완성 (빈 줄이 나타나거나 스트림이 끝난 시점)
+     * @param paragraph 문단 내용
+     */
+    void onParagraph(String paragraph);
+}
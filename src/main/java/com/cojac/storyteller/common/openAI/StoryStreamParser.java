@@ -0,0 +1,88 @@
+package com.cojac.storyteller.common.openAI;
+
+/**
+ * 토큰 단위로 도착하는 동화 텍스트를 누적하면서 제목과 문단을 분리
+ * - "Title: [제목]\n\nContent: [내용]" 형식을 기준으로 Content: 이전을 제목으로 판단
+ * - 내용은 빈 줄(\n\n) 기준으로 문단을 나누며, 마지막 문단은 스트림이 끝날 때 전달
+ * - 응답이 max_tokens에서 잘렸으면 끝나지 않은 마지막 문단은 전달하지 않음
+ */
+public class StoryStreamParser {
+
+    private static final String TITLE_PREFIX = "Title:";
+    private static final String CONTENT_PREFIX = "Content:";
+    private static final String PARAGRAPH_DELIMITER = "\n\n";
+
+    private final StoryStreamListener listener;
+    private final StringBuilder story = new StringBuilder();
+    private final StringBuilder buffer = new StringBuilder();
+    private boolean titleParsed = false;
+    private int paragraphCount = 0;
+
+    public StoryStreamParser(StoryStreamListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 새로 도착한 토큰 추가
+     * @param token 스트림 chunk의 delta content
+     */
+    public void append(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        story.append(token);
+        buffer.append(token);
+
+        if (!titleParsed) {
+            int contentIndex = buffer.indexOf(CONTENT_PREFIX);
+            if (contentIndex < 0) {
+                return;
+            }
+            String title = buffer.substring(0, contentIndex).replace(TITLE_PREFIX, "").trim();
+            buffer.delete(0, contentIndex + CONTENT_PREFIX.length());
+            titleParsed = true;
+            listener.onTitle(title);
+        }
+
+        int delimiterIndex;
+        while ((delimiterIndex = buffer.indexOf(PARAGRAPH_DELIMITER)) >= 0) {
+            String paragraph = buffer.substring(0, delimiterIndex);
+            buffer.delete(0, delimiterIndex + PARAGRAPH_DELIMITER.length());
+            emitParagraph(paragraph);
+        }
+    }
+
+    /**
+     * 스트림 종료 처리 (남은 내용을 마지막 문단으로 전달)
+     * @return 전체 동화 텍스트
+     */
+    public String complete() {
+        if (!titleParsed) {
+            throw new IllegalStateException("동화 응답에서 제목과 내용을 구분할 수 없습니다.");
+        }
+        emitParagraph(buffer.toString());
+        buffer.setLength(0);
+        return story.toString();
+    }
+
+    /**
+     * max_tokens에서 잘린 스트림의 종료 처리 (끝나지 않은 마지막 문단은 버림)
+     * @return 완성된 문단까지의 동화 텍스트
+     */
+    public String completeTruncated() {
+        if (!titleParsed || paragraphCount == 0) {
+            throw new IllegalStateException("동화 응답이 첫 문단을 완성하기 전에 잘렸습니다.");
+        }
+        int partialLength = buffer.length();
+        buffer.setLength(0);
+        return story.substring(0, story.length() - partialLength).trim();
+    }
+
+    private void emitParagraph(String paragraph) {
+        String trimmed = paragraph.trim();
+        if (!trimmed.isEmpty()) {
+            paragraphCount++;
+            listener.onParagraph(trimmed);
+        }
+    }
+}
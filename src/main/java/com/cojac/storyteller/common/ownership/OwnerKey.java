@@ -0,0 +1,30 @@
+package com.cojac.storyteller.common.ownership;
+
+/**
+ * 프로필 소유자를 나타내는 키 ("로그인 방식:사용자 키")
+ * 자체 로그인 username과 소셜 로그인 accountId가 같은 문자열이어도 서로 다른 소유자로 구분되도록 로그인 방식을 붙임
+ */
+public final class OwnerKey {
+
+    public static final String LOCAL = "local";
+    public static final String SOCIAL = "social";
+
+    private OwnerKey() {
+    }
+
+    public static String local(String username) {
+        return of(LOCAL, username);
+    }
+
+    public static String social(String accountId) {
+        return of(SOCIAL, accountId);
+    }
+
+    /**
+     * @param authenticationMethod 토큰의 로그인 방식 (local, social)
+     * @param userKey 토큰의 userKey
+     */
+    public static String of(String authenticationMethod, String userKey) {
+        return authenticationMethod + ":" + userKey;
+    }
+}
@@ -0,0 +1,52 @@
+package com.cojac.storyteller.common.ownership;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link VerifyOwnership} 메서드의 소유 확인
+ * 다른 사용자의 요청이 Idempotency-Key를 선점하지 않도록 IdempotencyAspect(순서 미지정)보다 먼저 실행
+ */
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class OwnershipAspect {
+
+    private final OwnershipResolver ownershipResolver;
+
+    private final ExpressionParser expressionParser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Before("@annotation(verifyOwnership)")
+    public void verify(JoinPoint joinPoint, VerifyOwnership verifyOwnership) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        EvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), parameterNameDiscoverer);
+
+        Integer profileId = evaluate(verifyOwnership.profileId(), context);
+        Integer bookId = verifyOwnership.bookId().isEmpty() ? null : evaluate(verifyOwnership.bookId(), context);
+        ownershipResolver.verify(profileId, bookId);
+    }
+
+    private Integer evaluate(String expression, EvaluationContext context) {
+        return expressions.computeIfAbsent(expression, expressionParser::parseExpression)
+                .getValue(context, Integer.class);
+    }
+}
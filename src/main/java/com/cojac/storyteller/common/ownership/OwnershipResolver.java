@@ -0,0 +1,190 @@
+package com.cojac.storyteller.common.ownership;
+
+import com.cojac.storyteller.book.exception.BookNotFoundException;
+import com.cojac.storyteller.common.redis.RedisService;
+import com.cojac.storyteller.profile.dto.ProfileOwnershipDTO;
+import com.cojac.storyteller.profile.exception.ProfileAccessDeniedException;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.response.code.ErrorCode;
+import com.cojac.storyteller.user.exception.UserNotFoundException;
+import com.cojac.storyteller.user.jwt.JWTAuthenticationDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자 → 프로필 → 책 소유 확인
+ * - 확인 결과를 요청 범위에 저장하여, 같은 요청 안에서는 다시 확인하지 않음
+ * - 프로필 소유자와 책의 프로필을 Redis에 짧게 저장하고, 없으면 기본 키 조인 쿼리 한 번으로 함께 확인
+ * - 프로필/책이 삭제 표시되면 Redis 값을 지워 삭제된 리소스가 확인을 통과하지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OwnershipResolver {
+
+    // 값: 프로필 소유자 (OwnerKey)
+    private static final String PROFILE_OWNER_KEY_PREFIX = "ownership:profile-owner:";
+    // 값: 책이 속한 프로필 ID
+    private static final String BOOK_PROFILE_KEY_PREFIX = "ownership:book:";
+    private static final String REQUEST_ATTRIBUTE_PREFIX = OwnershipResolver.class.getName() + ":";
+
+    private final ProfileRepository profileRepository;
+    private final RedisService redisService;
+
+    @Value("${ownership.cache-ttl:30s}")
+    private Duration cacheTtl = Duration.ofSeconds(30);
+
+    /**
+     * 현재 사용자가 프로필(과 책)의 소유자인지 확인
+     * 인증 정보가 없으면 거절 (요청 밖에서 실행할 작업은 이 메서드를 호출하지 않고, 요청 안에서 {@link VerifyOwnership}으로 확인)
+     * @param profileId 프로필 ID
+     * @param bookId 책 ID (null이면 프로필만 확인)
+     */
+    public void verify(Integer profileId, Integer bookId) {
+        if (profileId == null) {
+            throw new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND);
+        }
+        String userKey = currentUserKey();
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String requestAttribute = REQUEST_ATTRIBUTE_PREFIX + profileId + ":" + bookId;
+        if (requestAttributes != null && requestAttributes.getAttribute(requestAttribute, RequestAttributes.SCOPE_REQUEST) != null) {
+            return;
+        }
+
+        ProfileOwnershipDTO ownership = findCached(profileId, bookId);
+        if (ownership == null) {
+            ownership = profileRepository.findOwnership(profileId, bookId)
+                    .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
+            cache(ownership);
+        }
+
+        if (!userKey.equals(ownership.getOwnerKey())) {
+            throw new ProfileAccessDeniedException(ErrorCode.PROFILE_ACCESS_DENIED);
+        }
+        if (bookId != null && ownership.getBookId() == null) {
+            throw new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND);
+        }
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(requestAttribute, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 현재 사용자가 userId의 사용자 본인인지 확인 (프로필 목록 조회, 프로필 생성)
+     * @param userId 사용자 ID
+     */
+    public void verifyUser(Integer userId) {
+        String userKey = currentUserKey();
+        String ownerKey = Optional.ofNullable(userId)
+                .flatMap(profileRepository::findUserOwnerKey)
+                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
+        if (!userKey.equals(ownerKey)) {
+            throw new ProfileAccessDeniedException(ErrorCode.PROFILE_ACCESS_DENIED);
+        }
+    }
+
+    /**
+     * 삭제 표시된 프로필의 소유 정보 제거 (프로필의 책도 프로필 확인에서 함께 거절됨)
+     * 트랜잭션 안에서 호출되면 커밋 후에 제거
+     */
+    public void evictProfile(Integer profileId) {
+        evict(PROFILE_OWNER_KEY_PREFIX + profileId);
+    }
+
+    /**
+     * 삭제 표시된 책의 소유 정보 제거
+     * 트랜잭션 안에서 호출되면 커밋 후에 제거
+     */
+    public void evictBook(Integer bookId) {
+        evict(BOOK_PROFILE_KEY_PREFIX + bookId);
+    }
+
+    /**
+     * Redis에 저장된 소유 정보 조회 (하나라도 없으면 null을 반환하여 DB에서 다시 확인)
+     */
+    private ProfileOwnershipDTO findCached(Integer profileId, Integer bookId) {
+        try {
+            List<String> keys = bookId == null
+                    ? List.of(PROFILE_OWNER_KEY_PREFIX + profileId)
+                    : List.of(PROFILE_OWNER_KEY_PREFIX + profileId, BOOK_PROFILE_KEY_PREFIX + bookId);
+            List<String> values = redisService.multiGetValues(keys);
+            if (values.stream().anyMatch(value -> !redisService.checkExistsValue(value))) {
+                return null;
+            }
+
+            return ProfileOwnershipDTO.builder()
+                    .profileId(profileId)
+                    .ownerKey(values.get(0))
+                    .bookId(bookId != null && values.get(1).equals(String.valueOf(profileId)) ? bookId : null)
+                    .build();
+        } catch (RuntimeException e) {
+            // Redis 장애 시 DB에서 확인
+            log.warn("소유 정보 캐시 조회 실패 : profileId={}, bookId={}", profileId, bookId, e);
+            return null;
+        }
+    }
+
+    private void cache(ProfileOwnershipDTO ownership) {
+        try {
+            if (ownership.getOwnerKey() != null) {
+                redisService.setValues(PROFILE_OWNER_KEY_PREFIX + ownership.getProfileId(), ownership.getOwnerKey(), cacheTtl);
+            }
+            if (ownership.getBookId() != null) {
+                redisService.setValues(BOOK_PROFILE_KEY_PREFIX + ownership.getBookId(), String.valueOf(ownership.getProfileId()), cacheTtl);
+            }
+        } catch (RuntimeException e) {
+            log.warn("소유 정보 캐시 저장 실패 : profileId={}", ownership.getProfileId(), e);
+        }
+    }
+
+    // 커밋 전에 지우면, 커밋 전의 다른 요청이 아직 삭제되지 않은 소유 정보를 다시 저장할 수 있음
+    private void evict(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteCached(key);
+                }
+            });
+        } else {
+            deleteCached(key);
+        }
+    }
+
+    private void deleteCached(String key) {
+        try {
+            redisService.deleteValues(key);
+        } catch (RuntimeException e) {
+            // 삭제하지 못해도 cache-ttl 이후 만료됨
+            log.warn("소유 정보 캐시 삭제 실패 : {}", key, e);
+        }
+    }
+
+    /**
+     * 현재 사용자의 OwnerKey (토큰의 로그인 방식과 userKey로 만듦, 인증 정보가 없거나 익명 사용자면 거절)
+     */
+    private String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()
+                || !(authentication.getDetails() instanceof JWTAuthenticationDetails details)) {
+            throw new ProfileAccessDeniedException(ErrorCode.PROFILE_ACCESS_DENIED);
+        }
+        return OwnerKey.of(details.authenticationMethod(), details.userKey());
+    }
+}
@@ -0,0 +1,27 @@
+package com.cojac.storyteller.common.ownership;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그인한 사용자가 프로필(과 책)의 소유자인지 확인한 뒤 컨트롤러 메서드를 실행
+ * - 소유자가 아니면 403, 프로필이나 책이 없으면 404
+ * - 확인 결과는 요청 범위에 저장되므로, 서비스에서 같은 프로필/책을 다시 확인해도 쿼리가 실행되지 않음
+ * profileId, bookId는 메서드 인자에 대한 SpEL 식 (예: "#unknownWordRequestDTO.profileId")
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface VerifyOwnership {
+
+    /**
+     * 프로필 ID 식
+     */
+    String profileId() default "#profileId";
+
+    /**
+     * 책 ID 식 (비어 있으면 프로필만 확인)
+     */
+    String bookId() default "";
+}
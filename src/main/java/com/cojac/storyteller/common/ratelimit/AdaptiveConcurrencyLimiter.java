@@ -0,0 +1,127 @@
+package com.cojac.storyteller.common.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AIMD(Additive Increase, Multiplicative Decrease) 방식의 동시 실행 수 제한
+ * - 성공할 때마다 한도를 1/limit 씩 늘려, 한도만큼 성공하면 1 증가
+ * - 제한(429) 응답을 받으면 한도를 비율만큼 줄이고 Retry-After 동안 새 요청을 멈춤
+ * - 한도를 넘는 요청은 자리가 날 때까지 대기 (최대 대기 시간을 넘으면 거절)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long pausedUntilNanos = System.nanoTime();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 실행 자리 확보
+     * @param maxWait 최대 대기 시간
+     * @return 확보했으면 true (이후 onSuccess, onThrottled, onFailure 중 하나를 반드시 호출)
+     */
+    public boolean acquire(Duration maxWait) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long pausedNanos = pausedUntilNanos - now;
+                if (pausedNanos <= 0 && inFlight < (int) limit) {
+                    inFlight++;
+                    return true;
+                }
+
+                long remainingNanos = deadline - now;
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                long waitNanos = pausedNanos > 0 ? Math.min(pausedNanos, remainingNanos) : remainingNanos;
+                changed.awaitNanos(waitNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 성공: 한도를 조금 늘림
+     */
+    public void onSuccess() {
+        release(() -> limit = Math.min(maxLimit, limit + 1.0 / limit));
+    }
+
+    /**
+     * 제한 응답: 한도를 줄이고 retryAfter 동안 새 요청을 멈춤
+     */
+    public void onThrottled(Duration retryAfter) {
+        release(() -> {
+            limit = Math.max(minLimit, limit * backoffRatio);
+            pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + retryAfter.toNanos());
+        });
+    }
+
+    /**
+     * 그 밖의 실패: 한도는 그대로 두고 자리만 반환
+     */
+    public void onFailure() {
+        release(() -> {
+        });
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return 남은 일시 정지 시간 (정지 중이 아니면 0)
+     */
+    public Duration getPausedFor() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(Math.max(0, pausedUntilNanos - System.nanoTime()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Runnable adjust) {
+        lock.lock();
+        try {
+            inFlight--;
+            adjust.run();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
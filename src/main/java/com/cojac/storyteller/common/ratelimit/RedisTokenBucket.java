@@ -0,0 +1,84 @@
+package com.cojac.storyteller.common.ratelimit;
+
+import com.cojac.storyteller.common.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 기반 토큰 버킷 (여러 인스턴스가 하나의 버킷을 공유)
+ * 토큰 계산은 Lua 스크립트로 원자적으로 수행하고, 시간은 Redis 서버 시간(TIME)을 사용하여 노드 간 시계 차이를 없앰
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisTokenBucket {
+
+    // 토큰을 가져오면 0, 부족하면 토큰이 찰 때까지 기다려야 하는 시간(ms)을 반환
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            redis.replicate_commands()
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+            local wait = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                wait = math.ceil((1 - tokens) / refill_per_ms)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+            return wait
+            """, Long.class);
+
+    private final RedisService redisService;
+
+    /**
+     * 토큰 하나를 가져올 때까지 대기
+     * @param key 버킷 키
+     * @param capacity 버킷 크기 (순간적으로 허용하는 최대 요청 수)
+     * @param refillPerMinute 분당 채워지는 토큰 수 (지속적으로 허용하는 요청 수)
+     * @param maxWait 최대 대기 시간
+     * @return 토큰을 가져왔으면 true, 최대 대기 시간 안에 가져오지 못하면 false
+     */
+    public boolean acquire(String key, int capacity, int refillPerMinute, Duration maxWait) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        String refillPerMs = String.valueOf(refillPerMinute / 60_000.0);
+
+        while (true) {
+            Long waitMillis;
+            try {
+                waitMillis = redisService.executeScript(ACQUIRE_SCRIPT, List.of(key), String.valueOf(capacity), refillPerMs);
+            } catch (Exception e) {
+                // Redis 장애 시에는 제한 없이 진행 (동시 실행 수 제한은 노드별로 계속 적용됨)
+                log.warn("토큰 버킷 조회 실패, 제한 없이 진행 : {}", key, e);
+                return true;
+            }
+            if (waitMillis == null || waitMillis <= 0) {
+                return true;
+            }
+
+            long remainingMillis = Duration.ofNanos(deadline - System.nanoTime()).toMillis();
+            if (waitMillis > remainingMillis) {
+                return false;
+            }
+            // 여러 노드가 같은 시점에 다시 시도하지 않도록 약간의 지터를 더함
+            Thread.sleep(waitMillis + ThreadLocalRandom.current().nextLong(Math.max(1, waitMillis / 10 + 1)));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.cojac.storyteller.common.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Redis 기반 분산 임대(lease) 잠금
+ * - SET NX PX로 원자적으로 획득하고, 값으로 INCR 기반 펜싱 토큰을 저장
+ * - 보유 중에는 임대 시간의 1/3 주기로 갱신하며, 노드가 죽으면 임대 시간이 지나 자동으로 만료
+ * - 해제와 갱신은 토큰이 일치할 때만 수행하여 다른 소유자의 잠금을 건드리지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+
+    private static final String FENCING_TOKEN_SUFFIX = ":fencing-token";
+
+    private final RedisService redisService;
+    @Qualifier("leaseRenewalScheduler")
+    private final ThreadPoolTaskScheduler leaseRenewalScheduler;
+
+    /**
+     * 잠금 획득 시도 (대기하지 않음)
+     * @param key 잠금 키
+     * @param leaseTime 임대 시간 (갱신되지 않으면 이 시간 후 만료)
+     * @return 획득한 임대, 이미 다른 소유자가 있으면 빈 값
+     */
+    public Optional<Lease> tryAcquire(String key, Duration leaseTime) {
+        long fencingToken = redisService.incrementValues(key + FENCING_TOKEN_SUFFIX);
+        String token = String.valueOf(fencingToken);
+        if (!redisService.setValuesIfAbsent(key, token, leaseTime)) {
+            return Optional.empty();
+        }
+
+        Lease lease = new Lease(key, token, fencingToken);
+        Duration renewInterval = leaseTime.dividedBy(3);
+        // 방금 획득했으므로 첫 갱신은 한 주기 뒤에 실행
+        lease.renewal = leaseRenewalScheduler.scheduleAtFixedRate(
+                () -> renew(lease, leaseTime), Instant.now().plus(renewInterval), renewInterval);
+        return Optional.of(lease);
+    }
+
+    private void renew(Lease lease, Duration leaseTime) {
+        if (lease.cancelled) {
+            // renewal이 할당되기 전에 중단된 경우에도 다음 실행에서 작업을 멈춤
+            lease.cancelRenewal();
+            return;
+        }
+        try {
+            if (!redisService.expireValuesIfEquals(lease.key, lease.token, leaseTime)) {
+                // 만료되었거나 다른 소유자가 가져간 경우 더 이상 갱신하지 않음
+                log.warn("잠금 임대 갱신 실패 (이미 만료됨) : {}", lease.key);
+                lease.cancelRenewal();
+            }
+        } catch (Exception e) {
+            // 일시적인 Redis 오류는 다음 주기에 다시 시도
+            log.warn("잠금 임대 갱신 중 오류 : {}", lease.key, e);
+        }
+    }
+
+    /**
+     * 획득한 임대
+     * try-with-resources로 사용하면 작업이 끝날 때 갱신을 멈추고 잠금을 해제
+     */
+    public class Lease implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+        private final long fencingToken;
+        private volatile ScheduledFuture<?> renewal;
+        private volatile boolean cancelled;
+
+        private Lease(String key, String token, long fencingToken) {
+            this.key = key;
+            this.token = token;
+            this.fencingToken = fencingToken;
+        }
+
+        /**
+         * 임대는 만료될 수 있으므로, 보호하는 저장소에서 이 값을 확인해야 만료 후의 쓰기를 막을 수 있음
+         * @return 획득할 때마다 증가하는 펜싱 토큰 (나중에 획득한 임대일수록 큰 값)
+         */
+        public long getFencingToken() {
+            return fencingToken;
+        }
+
+        @Override
+        public void close() {
+            cancelRenewal();
+            try {
+                redisService.deleteValuesIfEquals(key, token);
+            } catch (Exception e) {
+                // 해제에 실패해도 임대 시간이 지나면 만료됨
+                log.warn("잠금 해제 실패 : {}", key, e);
+            }
+        }
+
+        private void cancelRenewal() {
+            cancelled = true;
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+        }
+    }
+}
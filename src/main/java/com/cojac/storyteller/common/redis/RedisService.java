@@ -5,11 +5,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -19,6 +24,16 @@ public class RedisService {
 
     private final RedisTemplate<String, Object> redisTemplate;
 
+    // 값이 일치할 때만 삭제 (다른 소유자의 잠금을 지우지 않도록 비교와 삭제를 원자적으로 수행)
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    // 값이 일치할 때만 유효 기간 갱신
+    private static final RedisScript<Long> EXPIRE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
     /**
      * 키-값 쌍을 Redis에 저장
      * @param key 저장할 키
@@ -40,6 +55,62 @@ public class RedisService {
         values.set(key, data, duration);
     }
 
+    /**
+     * 키가 없을 때만 지정된 기간 동안 키-값 쌍을 저장 (SET NX PX)
+     * @param key 저장할 키
+     * @param data 저장할 값
+     * @param duration 유효 기간
+     * @return 저장했으면 true, 이미 키가 있으면 false
+     */
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        ValueOperations<String, Object> values = redisTemplate.opsForValue();
+        return Boolean.TRUE.equals(values.setIfAbsent(key, data, duration));
+    }
+
+    /**
+     * 키의 값을 1 증가시키고 증가된 값을 반환 (INCR)
+     * @param key 증가시킬 키
+     * @return 증가된 값
+     */
+    public Long incrementValues(String key) {
+        ValueOperations<String, Object> values = redisTemplate.opsForValue();
+        return values.increment(key);
+    }
+
+    /**
+     * 키의 값이 기대값과 같을 때만 삭제
+     * @param key 삭제할 키
+     * @param expected 기대값
+     * @return 삭제했으면 true
+     */
+    public boolean deleteValuesIfEquals(String key, String expected) {
+        Long deleted = redisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(key), expected);
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 키의 값이 기대값과 같을 때만 유효 기간을 갱신
+     * @param key 갱신할 키
+     * @param expected 기대값
+     * @param duration 새 유효 기간
+     * @return 갱신했으면 true
+     */
+    public boolean expireValuesIfEquals(String key, String expected, Duration duration) {
+        Long expired = redisTemplate.execute(EXPIRE_IF_EQUALS_SCRIPT, List.of(key), expected, String.valueOf(duration.toMillis()));
+        return expired != null && expired > 0;
+    }
+
+    /**
+     * Lua 스크립트를 원자적으로 실행
+     * @param script 실행할 스크립트
+     * @param keys 스크립트의 KEYS
+     * @param args 스크립트의 ARGV
+     * @return 스크립트 결과
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, keys, args);
+    }
+
     /**
      * Redis에서 키에 해당하는 값을 가져옴
      * @param key 가져올 키
@@ -54,6 +125,21 @@ public class RedisService {
         return (String) values.get(key);
     }
 
+    /**
+     * 여러 키의 값을 한 번에 가져옴 (MGET)
+     * @param keys 가져올 키 목록
+     * @return 키 순서대로 값, 없는 키는 "false"
+     */
+    public List<String> multiGetValues(List<String> keys) {
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return keys.stream().map(key -> "false").toList();
+        }
+        return values.stream()
+                .map(value -> value == null ? "false" : (String) value)
+                .toList();
+    }
+
     /**
      * Redis에서 키-값 쌍을 삭제
      * @param key 삭제할 키
@@ -94,6 +180,20 @@ public class RedisService {
         return Boolean.TRUE.equals(values.hasKey(key, hashKey)) ? (String) redisTemplate.opsForHash().get(key, hashKey) : "";
     }
 
+    /**
+     * Redis에서 해시 키에 해당하는 모든 필드를 가져옵니다.
+     *
+     * @param key 해시 키
+     * @return 필드-값 맵, 키가 없으면 빈 맵 반환
+     */
+    @Transactional(readOnly = true)
+    public Map<String, String> getHashEntries(String key) {
+        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+        Map<String, String> entries = new HashMap<>();
+        values.entries(key).forEach((hashKey, value) -> entries.put((String) hashKey, (String) value));
+        return entries;
+    }
+
     /**
      * Redis에서 해시 키-값 쌍을 삭제합니다.
      *
@@ -105,6 +205,67 @@ public class RedisService {
         values.delete(key, hashKey);
     }
 
+    /**
+     * 해시 필드 값을 1 증가시킵니다. (필드가 없으면 1로 생성)
+     *
+     * @param key     해시 키
+     * @param hashKey 증가시킬 해시 필드 키
+     * @return 증가된 값
+     */
+    public long incrementHashOps(String key, String hashKey) {
+        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+        return values.increment(key, hashKey, 1);
+    }
+
+    /**
+     * 정렬 집합에 값을 추가합니다. (이미 있으면 점수만 갱신)
+     *
+     * @param key   정렬 집합 키
+     * @param value 추가할 값
+     * @param score 정렬 점수
+     */
+    public void addSortedSetOps(String key, String value, double score) {
+        redisTemplate.opsForZSet().add(key, value, score);
+    }
+
+    /**
+     * 정렬 집합에서 점수가 maxScore 이하인 값을 점수 순으로 가져옵니다.
+     *
+     * @param key      정렬 집합 키
+     * @param maxScore 최대 점수
+     * @param count    가져올 최대 개수
+     * @return 값 목록, 없으면 빈 목록 반환
+     */
+    @Transactional(readOnly = true)
+    public List<String> getSortedSetRangeByScore(String key, double maxScore, long count) {
+        Set<Object> values = redisTemplate.opsForZSet().rangeByScore(key, Double.NEGATIVE_INFINITY, maxScore, 0, count);
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(String.class::cast).toList();
+    }
+
+    /**
+     * 정렬 집합에서 값을 삭제합니다.
+     *
+     * @param key   정렬 집합 키
+     * @param value 삭제할 값
+     * @return 삭제했으면 true (여러 인스턴스 중 하나만 처리하도록 선점할 때 사용)
+     */
+    public boolean removeSortedSetOps(String key, String value) {
+        Long removed = redisTemplate.opsForZSet().remove(key, value);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 채널에 메시지 발행 (PUBLISH)
+     * @param channel 채널 이름
+     * @param message 메시지
+     */
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
     /**
      * 값이 존재하는지 확인합니다.
      *
@@ -0,0 +1,19 @@
+package com.cojac.storyteller.common.resilience;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장애를 격리할 외부 의존성 (서킷 브레이커, 재시도, 벌크헤드 인스턴스 이름)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExternalDependency {
+
+    OPENAI_CHAT("openai-chat"),
+    OPENAI_IMAGE("openai-image"),
+    S3("s3"),
+    ;
+
+    private final String instanceName;
+}
@@ -0,0 +1,82 @@
+package com.cojac.storyteller.common.resilience;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+import com.cojac.storyteller.common.exception.ExternalServiceUnavailableException;
+import com.cojac.storyteller.response.code.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.function.Supplier;
+
+/**
+ * 외부 호출 장애 격리
+ * 벌크헤드(동시 호출 수) -> 서킷 브레이커 -> 재시도(지수 백오프 + 지터) 순서로 감싸서 실행
+ * - 서킷이 열려 있거나 벌크헤드가 가득 차면 기다리지 않고 ExternalServiceUnavailableException 발생
+ * - 재시도는 일시적인 오류(네트워크 오류, 5xx)에만 수행하고, 서킷 브레이커도 이 오류만 실패로 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResilienceGuard {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    /**
+     * 재시도를 포함하여 실행
+     * @param dependency 호출하는 외부 의존성
+     * @param call 외부 호출 (여러 번 실행될 수 있으므로 멱등해야 함)
+     * @return 호출 결과
+     */
+    public <T> T call(ExternalDependency dependency, Supplier<T> call) {
+        Retry retry = retryRegistry.retry(dependency.getInstanceName());
+        return execute(dependency, Retry.decorateSupplier(retry, call));
+    }
+
+    /**
+     * 재시도 없이 실행 (스트리밍처럼 다시 실행하면 부수 효과가 중복되는 호출)
+     */
+    public <T> T callOnce(ExternalDependency dependency, Supplier<T> call) {
+        return execute(dependency, call);
+    }
+
+    private <T> T execute(ExternalDependency dependency, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(dependency.getInstanceName());
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(dependency.getInstanceName());
+
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call)).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("외부 호출 차단 ({}) : {}", dependency.getInstanceName(), e.getMessage());
+            throw new ExternalServiceUnavailableException(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 일시적인 오류인지 판단
+     * - OpenAI: 연결/응답 시간 초과 등 I/O 오류, 5xx 응답
+     * - S3: 네트워크 오류, 5xx 응답 (4xx는 요청 자체의 문제이므로 제외)
+     */
+    public static boolean isTransientFailure(Throwable throwable) {
+        if (throwable instanceof ResourceAccessException || throwable instanceof HttpServerErrorException) {
+            return true;
+        }
+        if (throwable instanceof AmazonServiceException amazonServiceException) {
+            return amazonServiceException.getStatusCode() >= 500;
+        }
+        return throwable instanceof SdkClientException;
+    }
+}
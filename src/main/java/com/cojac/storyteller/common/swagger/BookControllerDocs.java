@@ -2,7 +2,9 @@ package com.cojac.storyteller.common.swagger;
 
 import com.cojac.storyteller.book.dto.BookDTO;
 import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
-import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookGenerationJobDTO;
+import com.cojac.storyteller.book.dto.BookListSliceDTO;
+import com.cojac.storyteller.book.dto.BookProgressDTO;
 import com.cojac.storyteller.book.dto.CreateBookRequest;
 import com.cojac.storyteller.response.dto.ResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +15,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
 
 @Tag(name = "Book Controller", description = "동화 관련 API")
 public interface BookControllerDocs {
@@ -26,7 +28,8 @@ public interface BookControllerDocs {
             summary = "동화 내용 생성",
             description = "동화 내용 생성 API",
             parameters = {
-                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true)
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
+                    @Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, description = "재시도 시 같은 값을 보내면 동화를 다시 생성하지 않고 이전 응답을 반환", required = false)
             },
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "동화 생성에 필요한 정보",
@@ -39,11 +42,71 @@ public interface BookControllerDocs {
                     @ApiResponse(responseCode = "200", description = "동화가 성공적으로 생성되었습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "409", description = "이미 동화가 생성 중이거나 같은 Idempotency-Key의 요청이 처리 중입니다.", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "422", description = "이미 다른 요청에 사용된 Idempotency-Key입니다.", content = @Content(mediaType = "application/json")),
 
             }
     )
     ResponseEntity<ResponseDTO> createBook(@PathVariable Integer profileId, @RequestBody CreateBookRequest request);
 
+    /**
+     * 동화 생성 작업 등록 (비동기)
+     */
+    @Operation(
+            summary = "동화 생성 작업 등록",
+            description = "동화 생성을 비동기 작업으로 등록하고 작업 ID를 바로 반환하는 API",
+            parameters = {
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true)
+            },
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "동화 생성에 필요한 정보",
+                    content = @io.swagger.v3.oas.annotations.media.Content(
+                            mediaType = "application/json",
+                            schema = @io.swagger.v3.oas.annotations.media.Schema(implementation = CreateBookRequest.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "동화 생성 작업이 등록되었습니다.", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "503", description = "동화 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.", content = @Content(mediaType = "application/json")),
+            }
+    )
+    ResponseEntity<ResponseDTO<BookGenerationJobDTO>> submitBookGeneration(@PathVariable Integer profileId, @RequestBody CreateBookRequest request);
+
+    /**
+     * 동화 생성 작업 상태 조회
+     */
+    @Operation(
+            summary = "동화 생성 작업 상태 조회",
+            description = "동화 생성 작업의 진행 단계와 삽화 진행 상황을 조회하는 API",
+            parameters = {
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
+                    @Parameter(name = "jobId", in = ParameterIn.PATH, description = "동화 생성 작업 ID", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "동화 생성 작업 상태를 성공적으로 조회했습니다.", content = @Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "404", description = "동화 생성 작업을 찾을 수 없습니다.", content = @Content(mediaType = "application/json")),
+            }
+    )
+    ResponseEntity<ResponseDTO<BookGenerationJobDTO>> getBookGeneration(@PathVariable Integer profileId, @PathVariable String jobId);
+
+    /**
+     * 동화 생성 작업 진행 상황 구독 (SSE)
+     */
+    @Operation(
+            summary = "동화 생성 작업 진행 상황 구독",
+            description = "동화 생성 작업의 진행 상황을 Server-Sent Events(progress 이벤트)로 전달받는 API",
+            parameters = {
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
+                    @Parameter(name = "jobId", in = ParameterIn.PATH, description = "동화 생성 작업 ID", required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "진행 상황 이벤트 스트림", content = @Content(mediaType = "text/event-stream")),
+                    @ApiResponse(responseCode = "404", description = "동화 생성 작업을 찾을 수 없습니다.", content = @Content(mediaType = "application/json")),
+            }
+    )
+    SseEmitter subscribeBookGeneration(@PathVariable Integer profileId, @PathVariable String jobId);
+
     /**
      * 동화 목록 조회
      */
@@ -51,17 +114,19 @@ public interface BookControllerDocs {
             summary = "동화 목록 조회",
             description = "사용자의 모든 동화 목록을 조회 API",
             parameters = {
-                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true)
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
+                    @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "이전 응답의 nextCursor (첫 목록은 생략)"),
+                    @Parameter(name = "size", in = ParameterIn.QUERY, description = "조회할 동화 수 (기본 12, 최대 50)")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "동화 목록을 성공적으로 조회했습니다.", content = @Content(mediaType = "application/json")),
-                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "잘못된 목록 커서입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO>  getBookList(
+    ResponseEntity<ResponseDTO<BookListSliceDTO>> getBookList(
             @PathVariable Integer profileId,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "12") int size);
 
     /**
@@ -134,12 +199,12 @@ public interface BookControllerDocs {
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "현재 읽고 있는 페이지를 성공적으로 변경했습니다.", content = @Content(mediaType = "application/json")),
-                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "잘못된 페이지 번호입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "책을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO<BookDTO>> updateCurrentPage(@PathVariable Integer profileId, @PathVariable Integer bookId, @RequestParam Integer currentPage);
+    ResponseEntity<ResponseDTO<BookProgressDTO>> updateCurrentPage(@PathVariable Integer profileId, @PathVariable Integer bookId, @RequestParam Integer currentPage);
 
     /**
      * 즐겨찾기 동화 필터링
@@ -148,19 +213,20 @@ public interface BookControllerDocs {
             summary = "즐겨찾기 동화 조회",
             description = "즐겨찾기 목록에 있는 동화 조회 API",
             parameters = {
-                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true)
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
+                    @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "이전 응답의 nextCursor (첫 목록은 생략)"),
+                    @Parameter(name = "size", in = ParameterIn.QUERY, description = "조회할 동화 수 (기본 12, 최대 50)")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "즐겨찾기 목록을 성공적으로 조회했습니다.", content = @Content(mediaType = "application/json")),
-                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "잘못된 목록 커서입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO<List<BookListResponseDTO>>> getFavoriteBooks(
+    ResponseEntity<ResponseDTO<BookListSliceDTO>> getFavoriteBooks(
             @PathVariable Integer profileId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String[] sort);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size);
 
     /**
      * 읽고 있는 동화 필터링
@@ -169,19 +235,20 @@ public interface BookControllerDocs {
             summary = "읽고 있는 동화 필터링",
             description = "읽고 있는 동화 목록을 조회 API",
             parameters = {
-                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true)
+                    @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
+                    @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "이전 응답의 nextCursor (첫 목록은 생략)"),
+                    @Parameter(name = "size", in = ParameterIn.QUERY, description = "조회할 동화 수 (기본 12, 최대 50)")
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "읽고 있는 동화 목록을 성공적으로 조회했습니다.", content = @Content(mediaType = "application/json")),
-                    @ApiResponse(responseCode = "400", description = "잘못된 요청입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
+                    @ApiResponse(responseCode = "400", description = "잘못된 목록 커서입니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
                     @ApiResponse(responseCode = "404", description = "프로필을 찾을 수 없습니다.", content = @io.swagger.v3.oas.annotations.media.Content(mediaType = "application/json")),
             }
     )
-    ResponseEntity<ResponseDTO<List<BookListResponseDTO>>> getReadingBooks(
+    ResponseEntity<ResponseDTO<BookListSliceDTO>> getReadingBooks(
             @PathVariable Integer profileId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "12") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String[] sort);
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size);
 
     /**
      * 동화 퀴즈 생성
@@ -191,7 +258,8 @@ public interface BookControllerDocs {
             description = "동화 퀴즈를 생성 API",
             parameters = {
                     @Parameter(name = "profileId", in = ParameterIn.PATH, description = "프로필 ID", required = true),
-                    @Parameter(name = "bookId", in = ParameterIn.PATH, description = "동화 ID", required = true)
+                    @Parameter(name = "bookId", in = ParameterIn.PATH, description = "동화 ID", required = true),
+                    @Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, description = "재시도 시 같은 값을 보내면 퀴즈를 다시 생성하지 않고 이전 응답을 반환", required = false)
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = "퀴즈가 성공적으로 생성되었습니다.", content = @Content(mediaType = "application/json")),
@@ -1,5 +1,6 @@
 package com.cojac.storyteller.page.controller;
 
+import com.cojac.storyteller.common.ownership.VerifyOwnership;
 import com.cojac.storyteller.page.service.PageService;
 import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.common.swagger.PageControllerDocs;
@@ -15,6 +16,7 @@ public class PageController implements PageControllerDocs {
     private final PageService pageService;
 
     @GetMapping("/profiles/{profileId}/books/{bookId}/pages/{pageNum}")
+    @VerifyOwnership(bookId = "#bookId")
     public ResponseEntity<ResponseDTO<PageDetailResponseDTO>> getPageDetail(
             @PathVariable Integer profileId,
             @PathVariable Integer bookId,
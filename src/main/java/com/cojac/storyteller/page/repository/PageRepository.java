@@ -1,6 +1,5 @@
 package com.cojac.storyteller.page.repository;
 
-import com.cojac.storyteller.book.entity.BookEntity;
 import com.cojac.storyteller.page.entity.PageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,8 +10,8 @@ import java.util.Optional;
 
 @Repository
 public interface PageRepository extends JpaRepository<PageEntity, Integer> {
-    Optional<PageEntity> findByBookAndPageNumber(BookEntity book, Integer pageNumber);
+    Optional<PageEntity> findByBook_IdAndPageNumber(Integer bookId, Integer pageNumber);
 
-    @Query("SELECT p FROM PageEntity p LEFT JOIN FETCH p.unknownWords WHERE p.book = :book AND p.pageNumber = :pageNumber")
-    Optional<PageEntity> findPageWithUnknownWords(@Param("book") BookEntity book, @Param("pageNumber") Integer pageNumber);
+    @Query("SELECT p FROM PageEntity p LEFT JOIN FETCH p.unknownWords WHERE p.book.id = :bookId AND p.pageNumber = :pageNumber")
+    Optional<PageEntity> findPageWithUnknownWords(@Param("bookId") Integer bookId, @Param("pageNumber") Integer pageNumber);
 }
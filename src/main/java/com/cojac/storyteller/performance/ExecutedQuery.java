@@ -0,0 +1,9 @@
+package com.cojac.storyteller.performance;
+
+import java.util.List;
+
+/**
+ * 요청 중 실행된 SQL과 바인딩된 파라미터 (파라미터 순서대로)
+ */
+public record ExecutedQuery(String sql, List<Object> parameters) {
+}
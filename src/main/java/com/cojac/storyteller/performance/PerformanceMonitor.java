@@ -6,6 +6,9 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.RequestScope;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @RequestScope
 @Getter
@@ -21,6 +24,7 @@ public class PerformanceMonitor {
     private double requestTime;
     private int queryCount;
     private double queryTime;
+    private final List<ExecutedQuery> executedQueries = new ArrayList<>();
     private boolean activate = false;
 
     public void start(HttpServletRequest request) {
@@ -42,6 +46,12 @@ public class PerformanceMonitor {
         }
     }
 
+    public void addExecutedQuery(ExecutedQuery executedQuery) {
+        if (activate) {
+            executedQueries.add(executedQuery);
+        }
+    }
+
     public void end() {
         requestTime = System.nanoTime() - requestTime;
         activate = false;
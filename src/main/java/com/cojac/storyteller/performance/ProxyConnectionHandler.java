@@ -20,7 +20,7 @@ public class ProxyConnectionHandler implements InvocationHandler {
             return Proxy.newProxyInstance(
                     returnValue.getClass().getClassLoader(),
                     returnValue.getClass().getInterfaces(),
-                    new ProxyPreparedStatementHandler(returnValue, performanceMonitor)
+                    new ProxyPreparedStatementHandler(returnValue, (String) args[0], performanceMonitor)
             );
         }
         return returnValue;
@@ -2,6 +2,9 @@ package com.cojac.storyteller.performance;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 
@@ -10,13 +13,22 @@ import org.springframework.context.annotation.Profile;
 public class ProxyPreparedStatementHandler implements InvocationHandler {
 
     private final Object preparedStatement;
+    private final String sql;
     private final PerformanceMonitor performanceMonitor;
 
+    // 파라미터 위치 -> 바인딩된 값 (setNull은 null)
+    private final Map<Integer, Object> parameters = new TreeMap<>();
+
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         if (isExecute(method)) {
             return measureQueryPerformance(method, args);
         }
+        if (isSetParameter(method, args)) {
+            parameters.put((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+        } else if (method.getName().equals("clearParameters")) {
+            parameters.clear();
+        }
         return method.invoke(preparedStatement, args);
     }
 
@@ -24,11 +36,16 @@ public class ProxyPreparedStatementHandler implements InvocationHandler {
         return method.getName().contains("execute");
     }
 
+    private boolean isSetParameter(Method method, Object[] args) {
+        return method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer;
+    }
+
     private Object measureQueryPerformance(Method method, Object[] args) throws Throwable {
         long startTime = System.nanoTime();
         Object returnValue = method.invoke(preparedStatement, args);
         performanceMonitor.addQueryTime(System.nanoTime() - startTime);
         performanceMonitor.increaseQueryCount();
+        performanceMonitor.addExecutedQuery(new ExecutedQuery(sql, new ArrayList<>(parameters.values())));
         return returnValue;
     }
-}
\ No newline at end of file
+}
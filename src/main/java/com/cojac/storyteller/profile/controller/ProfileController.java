@@ -1,5 +1,6 @@
 package com.cojac.storyteller.profile.controller;
 
+import com.cojac.storyteller.common.ownership.VerifyOwnership;
 import com.cojac.storyteller.profile.service.ProfileService;
 import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.common.swagger.ProfileControllerDocs;
@@ -50,6 +51,7 @@ public class ProfileController implements ProfileControllerDocs {
      * 프로필 비밀번호 검증하기
      */
     @PostMapping("/profiles/{profileId}/pin-number/verifications")
+    @VerifyOwnership
     public ResponseEntity<ResponseDTO> verificationPinNumber(@PathVariable Integer profileId,
                                                              @Valid @RequestBody PinNumberDTO pinNumberDTO) {
         PinCheckResultDTO res = profileService.verificationPinNumber(profileId, pinNumberDTO);
@@ -62,6 +64,7 @@ public class ProfileController implements ProfileControllerDocs {
      * 프로필 수정하기
      */
     @PutMapping("/profiles/{profileId}")
+    @VerifyOwnership
     public ResponseEntity<ResponseDTO> updateProfile(@PathVariable Integer profileId,
                                                      @Valid @RequestBody ProfileDTO profileDTO) {
         ProfileDTO result = profileService.updateProfile(profileId, profileDTO);
@@ -74,6 +77,7 @@ public class ProfileController implements ProfileControllerDocs {
      * 프로필 정보 불러오기
      */
     @GetMapping("/profiles/{profileId}")
+    @VerifyOwnership
     public ResponseEntity<ResponseDTO> getProfile(@PathVariable Integer profileId) {
         ProfileDTO result = profileService.getProfile(profileId);
         return ResponseEntity
@@ -96,6 +100,7 @@ public class ProfileController implements ProfileControllerDocs {
      * 프로필 삭제하기
      */
     @DeleteMapping("/profiles/{profileId}")
+    @VerifyOwnership
     public ResponseEntity<ResponseDTO> deleteProfile(@PathVariable Integer profileId) throws Exception {
         profileService.deleteProfile(profileId);
         return ResponseEntity
@@ -0,0 +1,22 @@
+package com.cojac.storyteller.profile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 프로필 소유 확인 결과
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProfileOwnershipDTO {
+
+    private Integer profileId;
+
+    // 프로필을 소유한 사용자 (OwnerKey 형식 - "local:username" 또는 "social:accountId")
+    private String ownerKey;
+
+    // 확인을 요청한 책이 이 프로필의 책이면 책 ID, 아니면 null
+    private Integer bookId;
+}
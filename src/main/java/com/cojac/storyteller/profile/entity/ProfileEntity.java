@@ -7,14 +7,17 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@SQLRestriction("deletedAt IS NULL") // 삭제 표시된 프로필은 조회되지 않음 (실제 삭제는 TombstoneReaper가 수행)
 public class ProfileEntity {
 
     @Id
@@ -37,6 +40,10 @@ public class ProfileEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
 
+    private LocalDateTime deletedAt; // 삭제 표시 시각
+
+    private Long bookCreationToken; // 마지막으로 동화 생성을 시작한 요청의 펜싱 토큰 (이 요청만 책을 저장할 수 있음)
+
     // 책 목록 추가
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL)
     private List<BookEntity> books = new ArrayList<>();
@@ -56,6 +63,11 @@ public class ProfileEntity {
         book.updateProfile(this);
     }
 
+    // 동화 생성을 마지막으로 시작한 요청의 펜싱 토큰인지 확인
+    public boolean holdsBookCreation(long fencingToken) {
+        return bookCreationToken != null && bookCreationToken == fencingToken;
+    }
+
     public void updateProfile(ProfileDTO profileDTO) {
         this.name = profileDTO.getName();
         this.birthDate = profileDTO.getBirthDate();
@@ -2,11 +2,32 @@ package com.cojac.storyteller.profile.repository;
 
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.user.entity.UserEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface ProfileRepository extends JpaRepository<ProfileEntity, Integer> {
+public interface ProfileRepository extends JpaRepository<ProfileEntity, Integer>, ProfileRepositoryCustom {
 
     List<ProfileEntity> findByUser(UserEntity user);
+
+    // 프로필 삭제 표시 (이후 조회에서 제외되고, 책과 함께 실제 삭제는 TombstoneReaper가 수행)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProfileEntity p SET p.deletedAt = :deletedAt WHERE p.id = :profileId AND p.deletedAt IS NULL")
+    int markDeleted(Integer profileId, LocalDateTime deletedAt);
+
+    // 동화 생성 시작 기록 (이전에 시작한 요청의 펜싱 토큰을 덮어쓰므로, 이후 그 요청은 책을 저장할 수 없음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProfileEntity p SET p.bookCreationToken = :fencingToken WHERE p.id = :profileId AND p.deletedAt IS NULL")
+    int claimBookCreation(Integer profileId, long fencingToken);
+
+    // 프로필 행을 잠그고 조회 (책 저장과 동화 생성 시작 기록이 동시에 실행되지 않도록 트랜잭션 끝까지 잠금 유지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM ProfileEntity p WHERE p.id = :profileId")
+    Optional<ProfileEntity> findByIdForUpdate(Integer profileId);
 }
@@ -0,0 +1,23 @@
+package com.cojac.storyteller.profile.repository;
+
+import com.cojac.storyteller.profile.dto.ProfileOwnershipDTO;
+
+import java.util.Optional;
+
+public interface ProfileRepositoryCustom {
+
+    /**
+     * 프로필 소유자와 책의 소속을 쿼리 한 번으로 조회 (모두 기본 키 조인)
+     * @param profileId 프로필 ID
+     * @param bookId 책 ID (null이면 프로필만 확인)
+     * @return 소유 확인 결과 (프로필이 없거나 삭제 표시되었으면 empty)
+     */
+    Optional<ProfileOwnershipDTO> findOwnership(Integer profileId, Integer bookId);
+
+    /**
+     * 사용자의 OwnerKey 조회 (자체 로그인/소셜 로그인 중 가입한 쪽으로 만듦)
+     * @param userId 사용자 ID
+     * @return OwnerKey (사용자가 없으면 empty)
+     */
+    Optional<String> findUserOwnerKey(Integer userId);
+}
@@ -0,0 +1,76 @@
+package com.cojac.storyteller.profile.repository;
+
+import com.cojac.storyteller.common.ownership.OwnerKey;
+import com.cojac.storyteller.profile.dto.ProfileOwnershipDTO;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+import static com.cojac.storyteller.book.entity.QBookEntity.bookEntity;
+import static com.cojac.storyteller.profile.entity.QProfileEntity.profileEntity;
+import static com.cojac.storyteller.user.entity.QLocalUserEntity.localUserEntity;
+import static com.cojac.storyteller.user.entity.QSocialUserEntity.socialUserEntity;
+import static com.cojac.storyteller.user.entity.QUserEntity.userEntity;
+
+/**
+ * 프로필 조회 전용 쿼리 (소유 확인)
+ */
+@RequiredArgsConstructor
+public class ProfileRepositoryImpl implements ProfileRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Optional<ProfileOwnershipDTO> findOwnership(Integer profileId, Integer bookId) {
+        // 사용자는 자체 로그인/소셜 로그인 중 한쪽에만 있으므로 둘 다 외부 조인
+        JPAQuery<Tuple> query = bookId == null
+                ? queryFactory.select(profileEntity.id, localUserEntity.username, socialUserEntity.accountId)
+                : queryFactory.select(profileEntity.id, localUserEntity.username, socialUserEntity.accountId, bookEntity.id);
+        query.from(profileEntity)
+                .leftJoin(localUserEntity).on(localUserEntity.id.eq(profileEntity.user.id))
+                .leftJoin(socialUserEntity).on(socialUserEntity.id.eq(profileEntity.user.id));
+
+        // 책은 이 프로필의 삭제되지 않은 책일 때만 조인됨
+        if (bookId != null) {
+            query.leftJoin(bookEntity).on(bookEntity.id.eq(bookId),
+                    bookEntity.profile.id.eq(profileEntity.id),
+                    bookEntity.deletedAt.isNull());
+        }
+
+        Tuple row = query
+                .where(profileEntity.id.eq(profileId),
+                        profileEntity.deletedAt.isNull())
+                .fetchFirst();
+
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        String username = row.get(localUserEntity.username);
+        return Optional.of(ProfileOwnershipDTO.builder()
+                .profileId(row.get(profileEntity.id))
+                .ownerKey(username != null ? OwnerKey.local(username) : OwnerKey.social(row.get(socialUserEntity.accountId)))
+                .bookId(bookId == null ? null : row.get(bookEntity.id))
+                .build());
+    }
+
+    @Override
+    public Optional<String> findUserOwnerKey(Integer userId) {
+        Tuple row = queryFactory.select(localUserEntity.username, socialUserEntity.accountId)
+                .from(userEntity)
+                .leftJoin(localUserEntity).on(localUserEntity.id.eq(userEntity.id))
+                .leftJoin(socialUserEntity).on(socialUserEntity.id.eq(userEntity.id))
+                .where(userEntity.id.eq(userId))
+                .fetchFirst();
+
+        if (row == null) {
+            return Optional.empty();
+        }
+
+        String username = row.get(localUserEntity.username);
+        return Optional.of(username != null ? OwnerKey.local(username) : OwnerKey.social(row.get(socialUserEntity.accountId)));
+    }
+}
@@ -3,19 +3,16 @@ package com.cojac.storyteller.profile.service;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
-import com.cojac.storyteller.profile.repository.batch.BatchProfileDelete;
 import com.cojac.storyteller.response.code.ErrorCode;
-import com.cojac.storyteller.book.entity.BookEntity;
-import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.profile.dto.PinCheckResultDTO;
 import com.cojac.storyteller.profile.dto.PinNumberDTO;
 import com.cojac.storyteller.profile.dto.ProfileDTO;
 import com.cojac.storyteller.profile.dto.ProfilePhotoDTO;
 import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
 import com.cojac.storyteller.user.entity.UserEntity;
 import com.cojac.storyteller.user.exception.InvalidPinNumberException;
 import com.cojac.storyteller.user.exception.UserNotFoundException;
-import com.cojac.storyteller.book.repository.BookRepository;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -24,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -35,8 +33,7 @@ public class ProfileService {
     private final AmazonS3Service amazonS3Service;
     private final LocalUserRepository userRepository;
     private final ProfileRepository profileRepository;
-    private final BatchProfileDelete batchProfileDelete;
-    private final BookRepository bookRepository;
+    private final OwnershipResolver ownershipResolver;
 
     /**
      * S3에서 /profile/photos 경로에 있는 사진 목록 가져오기
@@ -54,6 +51,9 @@ public class ProfileService {
     @Transactional
     public ProfileDTO createProfile(ProfileDTO profileDTO) {
 
+        // 본인 확인
+        ownershipResolver.verifyUser(profileDTO.getUserId());
+
         // 사용자 아이디로 조회 및 예외 처리
         UserEntity user = userRepository.findById(profileDTO.getUserId())
                 .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
@@ -149,6 +149,9 @@ public class ProfileService {
      */
     public List<ProfileDTO> getProfileList(Integer userId) {
 
+        // 본인 확인
+        ownershipResolver.verifyUser(userId);
+
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
 
@@ -160,39 +163,15 @@ public class ProfileService {
     }
 
     /**
-     * 프로필 삭제하기
+     * 프로필 삭제하기 (삭제 표시 후 백그라운드에서 실제 삭제)
      */
     @Transactional
     public void deleteProfile(Integer profileId) throws Exception {
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
-
-        // 프로필에 연관된 책들 조회
-        List<BookEntity> books = bookRepository.findByProfile(profile);
-
-        // 각 책과 페이지의 이미지 삭제
-        deleteBookAndPageImages(books);
-
-        // 프로필 삭제
-        batchProfileDelete.deleteByProfileId(profileId);
-    }
-
-    private void deleteBookAndPageImages(List<BookEntity> books) throws Exception {
-        for (BookEntity book : books) {
-            deleteImageIfNotNull(book.getCoverImage());
-
-            for (PageEntity page : book.getPages()) {
-                if (page.getImage() != null) {
-                    amazonS3Service.deleteS3(page.getImage());
-                }
-            }
-        }
-    }
-
-    private void deleteImageIfNotNull(String imageUrl) throws Exception {
-        if (imageUrl != null) {
-            amazonS3Service.deleteS3(imageUrl);
+        // 삭제 표시만 하고 바로 반환 (책, 이미지 등은 TombstoneReaper가 나누어 삭제)
+        if (profileRepository.markDeleted(profileId, LocalDateTime.now()) == 0) {
+            throw new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND);
         }
+        ownershipResolver.evictProfile(profileId);
     }
 
     /**
@@ -14,6 +14,8 @@ public enum ErrorCode {
     BAD_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     INVALID_PIN_NUMBER(HttpStatus.BAD_REQUEST, "잘못된 핀 번호입니다."),
     INVALID_ID_TOKEN(HttpStatus.BAD_REQUEST, "잘못된 구글의 IdToken입니다."),
+    INVALID_CURRENT_PAGE(HttpStatus.BAD_REQUEST, "잘못된 페이지 번호입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 목록 커서입니다."),
 
     /**
      * 401 UNAUTHORIZED: 토큰 만료
@@ -24,6 +26,11 @@ public enum ErrorCode {
     TOKEN_MISSING(HttpStatus.UNAUTHORIZED, "요청 헤더에 토큰이 없습니다."),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "로그인에 실패했습니다."),
 
+    /**
+     * 403 FORBIDDEN: 다른 사용자의 리소스에 접근
+     */
+    PROFILE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "해당 프로필에 접근할 권한이 없습니다."),
+
     /**
      * 404 NOT_FOUND: 리소스를 찾을 수 없음
      */
@@ -33,6 +40,7 @@ public enum ErrorCode {
     BOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "책을 찾을 수 없습니다."),
     PAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "페이지를 찾을 수 없습니다."),
     UNKNOWN_NOT_FOUND(HttpStatus.NOT_FOUND, "단어를 찾을 수 없습니다."),
+    BOOK_GENERATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "동화 생성 작업을 찾을 수 없습니다."),
 
 
     /**
@@ -41,16 +49,34 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "허용되지 않은 메서드입니다."),
 
     /**
-     * 409 CONFLICT: 중복된 이메일
+     * 409 CONFLICT: 중복된 이메일, 이미 진행 중인 작업
      */
     DUPLICATE_USERNAME(HttpStatus.CONFLICT, "중복된 유저 아이디입니다."),
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "이미 가입된 이메일입니다."),
+    BOOK_CREATION_IN_PROGRESS(HttpStatus.CONFLICT, "이미 동화가 생성 중입니다. 나중에 다시 시도해주세요."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 아직 처리 중입니다."),
+    BOOK_CREATION_LOCK_LOST(HttpStatus.CONFLICT, "동화 생성 잠금이 만료되어 저장하지 않았습니다. 다시 시도해주세요."),
+
+    /**
+     * 422 UNPROCESSABLE_ENTITY: 같은 Idempotency-Key를 다른 요청에 사용
+     */
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key입니다."),
+
     /**
      * 500 INTERNAL_SERVER_ERROR: 내부 서버 오류
      */
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류입니다."),
     UNABLE_TO_SEND_EMAIL(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류입니다."),
     NO_SUCH_ALGORITHM(HttpStatus.INTERNAL_SERVER_ERROR, "내부 서버 오류입니다."),
+    IMAGE_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "동화 삽화 생성에 실패했습니다."),
+    QUIZ_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "동화 퀴즈 생성에 실패했습니다."),
+
+    /**
+     * 503 SERVICE_UNAVAILABLE: 일시적으로 요청을 처리할 수 없음
+     */
+    BOOK_GENERATION_JOB_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "동화 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    EXTERNAL_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스에 일시적으로 연결할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    OPENAI_RATE_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "AI 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final HttpStatus status;
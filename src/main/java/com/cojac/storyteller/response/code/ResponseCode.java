@@ -45,6 +45,8 @@ public enum ResponseCode {
     SUCCESS_RETRIEVE_READING_BOOKS(HttpStatus.OK, "읽고 있는 동화 목록을 성공적으로 조회했습니다."),
     SUCCESS_UPDATE_CURRENT_PAGE(HttpStatus.OK, "현재 읽고 있는 페이지를 성공적으로 변경했습니다."),
     SUCCESS_CREATE_QUIZ(HttpStatus.CREATED, "퀴즈가 성공적으로 생성되었습니다."),
+    SUCCESS_SUBMIT_BOOK_GENERATION(HttpStatus.ACCEPTED, "동화 생성 작업이 등록되었습니다."),
+    SUCCESS_RETRIEVE_BOOK_GENERATION(HttpStatus.OK, "동화 생성 작업 상태를 성공적으로 조회했습니다."),
 
     /**
      * Page
@@ -1,5 +1,6 @@
 package com.cojac.storyteller.setting.controller;
 
+import com.cojac.storyteller.common.ownership.VerifyOwnership;
 import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.common.swagger.SettingControllerDocs;
 import com.cojac.storyteller.response.dto.ResponseDTO;
@@ -19,6 +20,7 @@ public class SettingController implements SettingControllerDocs {
      * 책 설정 업데이트
      */
     @PutMapping
+    @VerifyOwnership(bookId = "#bookId")
     public ResponseEntity<ResponseDTO<SettingDTO>> updateSettings(
             @PathVariable Integer profileId,
             @PathVariable Integer bookId,
@@ -33,6 +35,7 @@ public class SettingController implements SettingControllerDocs {
      * 책 설정 조회하기
      */
     @GetMapping
+    @VerifyOwnership(bookId = "#bookId")
     public ResponseEntity<ResponseDTO<SettingDTO>> getDetailSettings(
             @PathVariable Integer profileId,
             @PathVariable Integer bookId) {
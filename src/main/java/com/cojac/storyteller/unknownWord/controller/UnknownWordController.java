@@ -1,5 +1,6 @@
 package com.cojac.storyteller.unknownWord.controller;
 
+import com.cojac.storyteller.common.ownership.VerifyOwnership;
 import com.cojac.storyteller.response.code.ResponseCode;
 import com.cojac.storyteller.common.swagger.UnknownWordControllerDocs;
 import com.cojac.storyteller.response.dto.ResponseDTO;
@@ -25,6 +26,7 @@ public class UnknownWordController implements UnknownWordControllerDocs {
      * 모르는 단어 저장하기
      */
     @PostMapping
+    @VerifyOwnership(profileId = "#unknownWordRequestDTO.profileId", bookId = "#unknownWordRequestDTO.bookId")
     public ResponseEntity<ResponseDTO<UnknownWordDetailDTO>> createUnknownWord(@RequestBody UnknownWordRequestDTO unknownWordRequestDTO) {
         UnknownWordDetailDTO response = unknownWordService.saveUnknownWord(unknownWordRequestDTO);
         return ResponseEntity
@@ -3,10 +3,16 @@ package com.cojac.storyteller.unknownWord.repository;
 import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.unknownWord.entity.UnknownWordEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface UnknownWordRepository extends JpaRepository<UnknownWordEntity, Integer> {
     Optional<List<UnknownWordEntity>> getByPage(PageEntity page);
+
+    // 소유 확인을 위해 단어 → 페이지 → 책을 함께 조회
+    @Query("SELECT w FROM UnknownWordEntity w JOIN FETCH w.page p JOIN FETCH p.book WHERE w.id = :unknownWordId")
+    Optional<UnknownWordEntity> findWithBookById(@Param("unknownWordId") Integer unknownWordId);
 }
@@ -1,17 +1,13 @@
 package com.cojac.storyteller.unknownWord.service;
 
-import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
+import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.page.entity.PageEntity;
-import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.unknownWord.dto.UnknownWordDetailDTO;
 import com.cojac.storyteller.unknownWord.dto.UnknownWordRequestDTO;
-import com.cojac.storyteller.book.exception.BookNotFoundException;
 import com.cojac.storyteller.page.exception.PageNotFoundException;
-import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
-import com.cojac.storyteller.book.repository.BookRepository;
 import com.cojac.storyteller.page.repository.PageRepository;
-import com.cojac.storyteller.profile.repository.ProfileRepository;
 import com.cojac.storyteller.unknownWord.entity.UnknownWordEntity;
 import com.cojac.storyteller.unknownWord.exception.UnknownWordNotFoundException;
 import com.cojac.storyteller.unknownWord.repository.UnknownWordRepository;
@@ -22,8 +18,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class UnknownWordService {
     private final PageRepository pageRepository;
-    private final BookRepository bookRepository;
-    private final ProfileRepository profileRepository;
+    private final OwnershipResolver ownershipResolver;
     private final UnknownWordRepository unknownWordRepository;
 
     /**
@@ -34,16 +29,11 @@ public class UnknownWordService {
         Integer bookId = unknownWordRequestDTO.getBookId();
         Integer pageNum = unknownWordRequestDTO.getPageNum();
 
-        // 해당 프로필 가져오기
-        ProfileEntity profile = profileRepository.findById(profileId)
-                .orElseThrow(() -> new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND));
-
-        // 해당 프로필에 해당하는 책 가져오기
-        BookEntity book = bookRepository.findByIdAndProfile(bookId, profile)
-                .orElseThrow(() -> new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND));
+        // 프로필과 책의 소유 확인 (컨트롤러에서 확인했으면 쿼리 없음)
+        ownershipResolver.verify(profileId, bookId);
 
         // 해당 책에 해당하는 페이지 가져오기
-        PageEntity page = pageRepository.findByBookAndPageNumber(book, pageNum)
+        PageEntity page = pageRepository.findByBook_IdAndPageNumber(bookId, pageNum)
                 .orElseThrow(() -> new PageNotFoundException(ErrorCode.PAGE_NOT_FOUND));
 
         // UnknownWord 저장
@@ -63,10 +53,14 @@ public class UnknownWordService {
      * 단어 삭제
      */
     public void deleteUnknownWord(Integer unknownWordId) {
-        // unknownword 가져오기
-        UnknownWordEntity unknownWordEntity = unknownWordRepository.findById(unknownWordId)
+        // unknownword 가져오기 (페이지, 책 포함)
+        UnknownWordEntity unknownWordEntity = unknownWordRepository.findWithBookById(unknownWordId)
                 .orElseThrow(() -> new UnknownWordNotFoundException(ErrorCode.UNKNOWN_NOT_FOUND));
 
+        // 단어가 속한 책과 프로필의 소유 확인
+        BookEntity book = unknownWordEntity.getPage().getBook();
+        ownershipResolver.verify(book.getProfile().getId(), book.getId());
+
         unknownWordRepository.delete(unknownWordEntity);
     }
 }
@@ -0,0 +1,9 @@
+package com.cojac.storyteller.user.jwt;
+
+/**
+ * 액세스 토큰으로 인증한 요청의 인증 정보 (Authentication의 details에 저장)
+ * @param authenticationMethod 토큰의 로그인 방식 (local, social)
+ * @param userKey 토큰의 userKey (자체 로그인은 username, 소셜 로그인은 accountId)
+ */
+public record JWTAuthenticationDetails(String authenticationMethod, String userKey) {
+}
@@ -11,7 +11,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -99,23 +99,21 @@ public class JWTFilter extends OncePerRequestFilter {
                 .role(role)
                 .build();
         CustomUserDetails customUserDetails = new CustomUserDetails(localUserEntity);
-        Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
+        // 소유 확인에서 로그인 방식을 구분할 수 있도록 토큰의 로그인 방식을 함께 저장
+        authToken.setDetails(new JWTAuthenticationDetails("local", username));
         SecurityContextHolder.getContext().setAuthentication(authToken);
         filterChain.doFilter(request, response);
     }
 
     private void authenticateSocialUser(String accessToken, HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws IOException, ServletException {
-//        String accountId = jwtUtil.getUserKey(accessToken);
-//        String role = jwtUtil.getRole(accessToken);
-//
-//        SocialUserDTO socialUserDTO = new SocialUserDTO(role, "", username);
-//        //UserDetails에 회원 정보 객체 담기
-//        CustomOAuth2User customOAuth2User = new CustomOAuth2User(socialUserDTO);
-//
-//        //스프링 시큐리티 인증 토큰 생성
-//        Authentication authToken = new UsernamePasswordAuthenticationToken(customOAuth2User, null, customOAuth2User.getAuthorities());
-//        //세션에 사용자 등록
-//        SecurityContextHolder.getContext().setAuthentication(authToken);
+        String accountId = jwtUtil.getUserKey(accessToken);
+        String role = jwtUtil.getRole(accessToken);
+
+        // 소셜 로그인 사용자는 accountId를 이름으로 사용
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(accountId, null, AuthorityUtils.createAuthorityList(role));
+        authToken.setDetails(new JWTAuthenticationDetails("social", accountId));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
         filterChain.doFilter(request, response);
     }
 }
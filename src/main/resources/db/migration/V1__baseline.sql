@@ -0,0 +1,82 @@
+-- 기준 스키마 (Hibernate가 자동 생성하던 기존 스키마와 동일)
+-- 이미 Hibernate가 만든 스키마가 있는 DB는 baseline-on-migrate로 이 버전을 건너뛰므로,
+-- 이후 추가된 테이블/컬럼은 이 파일이 아니라 V2부터의 마이그레이션에 추가
+
+CREATE TABLE UserEntity (
+    id   INT         NOT NULL AUTO_INCREMENT,
+    DTYPE VARCHAR(31) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE LocalUserEntity (
+    id       INT          NOT NULL,
+    username VARCHAR(255),
+    password VARCHAR(255),
+    email    VARCHAR(255),
+    role     VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_local_user_user FOREIGN KEY (id) REFERENCES UserEntity (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE SocialUserEntity (
+    id        INT          NOT NULL,
+    accountId VARCHAR(255),
+    nickname  VARCHAR(255),
+    email     VARCHAR(255),
+    role      VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_social_user_user FOREIGN KEY (id) REFERENCES UserEntity (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE ProfileEntity (
+    id        INT          NOT NULL AUTO_INCREMENT,
+    name      VARCHAR(255) NOT NULL,
+    birthDate DATE,
+    imageUrl  VARCHAR(255),
+    pinNumber VARCHAR(255) NOT NULL,
+    user_id   INT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_profile_user FOREIGN KEY (user_id) REFERENCES UserEntity (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE SettingEntity (
+    id           INT NOT NULL AUTO_INCREMENT,
+    fontSize     ENUM ('SMALL', 'MEDIUM', 'LARGE'),
+    readingSpeed ENUM ('SLOW', 'SLIGHTLY_SLOW', 'NORMAL', 'SLIGHTLY_FAST', 'FAST'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE BookEntity (
+    id             INT          NOT NULL AUTO_INCREMENT,
+    title          VARCHAR(255) NOT NULL,
+    coverImage     VARCHAR(255) NOT NULL,
+    currentPage    INT          NOT NULL,
+    profile_id     INT,
+    isReading      BIT          NOT NULL,
+    isFavorite     BIT          NOT NULL,
+    setting_id     INT,
+    createdAt      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_book_setting UNIQUE (setting_id),
+    CONSTRAINT fk_book_profile FOREIGN KEY (profile_id) REFERENCES ProfileEntity (id),
+    CONSTRAINT fk_book_setting FOREIGN KEY (setting_id) REFERENCES SettingEntity (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE PageEntity (
+    id         INT           NOT NULL AUTO_INCREMENT,
+    pageNumber INT           NOT NULL,
+    image      VARCHAR(255)  NOT NULL,
+    content    VARCHAR(4000) NOT NULL,
+    book_id    INT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_page_book FOREIGN KEY (book_id) REFERENCES BookEntity (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE UnknownWordEntity (
+    id          INT          NOT NULL AUTO_INCREMENT,
+    unknownWord VARCHAR(255) NOT NULL,
+    position    INT          NOT NULL,
+    page_id     INT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_unknown_word_page FOREIGN KEY (page_id) REFERENCES PageEntity (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,12 @@
+-- 책별 퀴즈 저장 테이블
+-- Flyway 도입 전 Hibernate 자동 생성(ddl-auto)으로 이미 만들어진 DB도 있으므로 없을 때만 생성
+
+CREATE TABLE IF NOT EXISTS QuizEntity (
+    id        INT           NOT NULL AUTO_INCREMENT,
+    book_id   INT           NOT NULL,
+    question  VARCHAR(2000) NOT NULL,
+    createdAt DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_quiz_book UNIQUE (book_id),
+    CONSTRAINT fk_quiz_book FOREIGN KEY (book_id) REFERENCES BookEntity (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,16 @@
+-- 책/프로필 삭제 표시 시각 컬럼
+-- MySQL은 ADD COLUMN IF NOT EXISTS를 지원하지 않으므로, Hibernate 자동 생성으로 이미 추가된 DB는 information_schema로 확인하여 건너뜀
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE ProfileEntity ADD COLUMN deletedAt DATETIME(6)', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'ProfileEntity' AND column_name = 'deletedAt');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE BookEntity ADD COLUMN deletedAt DATETIME(6)', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'BookEntity' AND column_name = 'deletedAt');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
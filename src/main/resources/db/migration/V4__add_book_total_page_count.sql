@@ -0,0 +1,12 @@
+-- 책 전체 페이지 수 컬럼 (이미 추가된 DB는 건너뜀)
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE BookEntity ADD COLUMN totalPageCount INT NOT NULL DEFAULT 0', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'BookEntity' AND column_name = 'totalPageCount');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- totalPageCount 컬럼 추가 이전에 생성된 책의 페이지 수 채우기 (책은 항상 한 페이지 이상이므로 0인 책만 대상)
+UPDATE BookEntity b
+SET b.totalPageCount = (SELECT COUNT(*) FROM PageEntity p WHERE p.book_id = b.id)
+WHERE b.totalPageCount = 0;
@@ -0,0 +1,37 @@
+-- 자주 실행되는 조회 경로 인덱스
+-- 외래 키만을 위해 자동으로 만들어진 단일 컬럼 인덱스는, 같은 컬럼으로 시작하는 복합 인덱스가 생기면 MySQL이 제거함
+
+-- 페이지 조회 (book_id, pageNumber), 책 상세의 페이지 정렬
+CREATE INDEX idx_page_book_page_number ON PageEntity (book_id, pageNumber);
+
+-- 책 목록 커서 페이지네이션 (프로필별, 목록 종류별 최신순)
+-- Flyway 도입 전에는 BookEntity의 @Table(indexes)로 같은 정의의 인덱스를 Hibernate가 만들었으므로, 없을 때만 생성
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_book_profile_created ON BookEntity (profile_id, createdAt, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'BookEntity' AND index_name = 'idx_book_profile_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_book_profile_favorite_created ON BookEntity (profile_id, isFavorite, createdAt, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'BookEntity' AND index_name = 'idx_book_profile_favorite_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'CREATE INDEX idx_book_profile_reading_created ON BookEntity (profile_id, isReading, createdAt, id)', 'DO 0')
+            FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = 'BookEntity' AND index_name = 'idx_book_profile_reading_created');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 페이지별 모르는 단어 (위치 순)
+CREATE INDEX idx_unknown_word_page_position ON UnknownWordEntity (page_id, position);
+
+-- 로그인/회원가입 중복 확인 (exists 조회는 보조 인덱스만 읽음)
+CREATE INDEX idx_local_user_username ON LocalUserEntity (username);
+CREATE INDEX idx_local_user_email ON LocalUserEntity (email);
+CREATE INDEX idx_social_user_account_id ON SocialUserEntity (accountId);
+CREATE INDEX idx_social_user_email ON SocialUserEntity (email);
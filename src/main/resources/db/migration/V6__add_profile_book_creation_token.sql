@@ -0,0 +1,2 @@
+-- 프로필별 동화 생성 펜싱 토큰 (마지막으로 생성을 시작한 요청만 책을 저장할 수 있도록 저장 시 확인)
+ALTER TABLE ProfileEntity ADD COLUMN bookCreationToken BIGINT;
@@ -0,0 +1,144 @@
+package com.cojac.storyteller.book.service;
+
+import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.page.repository.PageRepository;
+import com.cojac.storyteller.performance.PerformanceMonitor;
+import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.user.entity.LocalUserEntity;
+import com.cojac.storyteller.user.repository.LocalUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 통합 테스트 클래스
+ *
+ * 이 클래스는 여러 구성 요소(서비스, 데이터베이스 등) 간의 상호작용을 검증하기 위한 통합 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 실제 데이터베이스와 리포지토리를 사용하여 테스트를 수행합니다.
+ * - 외부 서비스와의 의존성을 최소화하기 위해 모의 객체를 활용합니다.
+ *
+ * 통합 테스트는 여러 구성 요소 간의 상호작용을 검증하므로, 일반적으로 단위 테스트보다 느릴 수 있습니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ */
+
+// PerformanceMonitor는 요청 범위 안에서 얻은 커넥션의 쿼리만 집계하므로, 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@ActiveProfiles({"local", "performance"})
+public class BookDetailQueryCountTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private LocalUserRepository localUserRepository;
+
+    @Autowired
+    private PerformanceMonitor performanceMonitor;
+
+    private LocalUserEntity localUserEntity;
+    private ProfileEntity profileEntity;
+    private BookEntity bookEntity;
+
+    @BeforeEach
+    public void setup() {
+        localUserEntity = localUserRepository.save(LocalUserEntity.builder()
+                .username("query-count-user")
+                .encryptedPassword("password")
+                .email("email.com")
+                .role("ROLE_USER")
+                .build());
+
+        profileEntity = profileRepository.save(ProfileEntity.builder()
+                .name("Test name")
+                .pinNumber("1234")
+                .birthDate(LocalDate.of(2010, 1, 1))
+                .user(localUserEntity)
+                .build());
+
+        bookEntity = bookRepository.save(BookEntity.builder()
+                .title("Detail Book")
+                .coverImage("coverImage")
+                .currentPage(1)
+                .totalPageCount(3)
+                .isReading(true)
+                .isFavorite(false)
+                .profile(profileEntity)
+                .build());
+
+        // 페이지 순서가 조회 결과에서 정렬되는지 확인하기 위해 역순으로 저장
+        for (int pageNumber = 3; pageNumber >= 1; pageNumber--) {
+            pageRepository.save(PageEntity.builder()
+                    .pageNumber(pageNumber)
+                    .image("image" + pageNumber)
+                    .content("content" + pageNumber)
+                    .book(bookEntity)
+                    .build());
+        }
+    }
+
+    @AfterEach
+    public void cleanup() {
+        pageRepository.deleteAll(pageRepository.findAll().stream()
+                .filter(page -> page.getBook().getId().equals(bookEntity.getId()))
+                .toList());
+        bookRepository.deleteById(bookEntity.getId());
+        profileRepository.deleteById(profileEntity.getId());
+        localUserRepository.deleteById(localUserEntity.getId());
+    }
+
+    @Test
+    @DisplayName("책 상세 조회하기 통합 테스트 - 페이지 수와 관계없이 쿼리 한 번")
+    public void testGetBookDetail_SingleQuery() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/books/detail");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        try {
+            performanceMonitor.start(request);
+
+            // when
+            BookDetailResponseDTO bookDetail = bookService.getBookDetail(profileEntity.getId(), bookEntity.getId());
+            performanceMonitor.end();
+
+            // then
+            assertEquals(1, performanceMonitor.getQueryCount());
+            assertEquals("Detail Book", bookDetail.getTitle());
+            assertEquals(3, bookDetail.getTotalPageCount());
+            assertEquals(List.of(1, 2, 3), bookDetail.getPages().stream().map(page -> page.getPageNumber()).toList());
+            assertTrue(bookDetail.getPages().stream().allMatch(page -> page.getBookId().equals(bookEntity.getId())));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
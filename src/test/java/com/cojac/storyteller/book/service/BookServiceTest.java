@@ -2,7 +2,8 @@ package com.cojac.storyteller.book.service;
 
 import com.cojac.storyteller.book.dto.BookDTO;
 import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
-import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookListSliceDTO;
+import com.cojac.storyteller.book.dto.BookProgressDTO;
 import com.cojac.storyteller.book.dto.QuizResponseDTO;
 import com.cojac.storyteller.book.entity.BookEntity;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
@@ -14,20 +15,23 @@ import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
 import com.cojac.storyteller.user.entity.LocalUserEntity;
+import com.cojac.storyteller.user.jwt.JWTAuthenticationDetails;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -85,6 +89,12 @@ public class BookServiceTest {
                 .build();
         localUserEntity = localUserRepository.save(localUserEntity);
 
+        // 서비스의 소유 확인을 통과하도록 로그인
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                localUserEntity.getUsername(), null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        authentication.setDetails(new JWTAuthenticationDetails("local", localUserEntity.getUsername()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
         profileEntity = ProfileEntity.builder()
                 .name("Test name")
                 .pinNumber("1234")
@@ -107,11 +117,21 @@ public class BookServiceTest {
                 .thenReturn("http://example.com/test-page-image.jpg");
     }
 
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
     private BookEntity createBook(String title, boolean isReading, boolean isFavorite) {
+        return createBook(title, isReading, isFavorite, 0);
+    }
+
+    private BookEntity createBook(String title, boolean isReading, boolean isFavorite, int totalPageCount) {
         BookEntity book = BookEntity.builder()
                 .title(title)
                 .coverImage("coverImage")
                 .currentPage(1)
+                .totalPageCount(totalPageCount)
                 .isReading(isReading)
                 .isFavorite(isFavorite)
                 .profile(profileEntity)
@@ -165,14 +185,34 @@ public class BookServiceTest {
         createBook("Book 1", true, false);
         createBook("Book 2", true, false);
 
-        Pageable pageable = PageRequest.of(0, 10);
-
         // When
-        List<BookListResponseDTO> books = bookService.getBooksPage(profileEntity.getId(), pageable);
+        BookListSliceDTO books = bookService.getBooksPage(profileEntity.getId(), null, 10);
 
         // Then
         assertNotNull(books);
-        assertEquals(2, books.size());
+        assertEquals(2, books.getBooks().size());
+        assertFalse(books.getHasNext());
+    }
+
+    @Test
+    @DisplayName("책 목록 페이지 조회하기 통합 테스트 - 커서로 다음 목록을 중복 없이 조회")
+    public void testGetBooksPage_NextCursor() {
+        // Given
+        createBook("Book 1", true, false);
+        createBook("Book 2", true, false);
+        createBook("Book 3", true, false);
+
+        // When
+        BookListSliceDTO first = bookService.getBooksPage(profileEntity.getId(), null, 2);
+        BookListSliceDTO second = bookService.getBooksPage(profileEntity.getId(), first.getNextCursor(), 2);
+
+        // Then
+        assertTrue(first.getHasNext());
+        assertEquals(2, first.getBooks().size());
+        assertFalse(second.getHasNext());
+        assertEquals(1, second.getBooks().size());
+        assertNull(second.getNextCursor());
+        assertFalse(first.getBooks().stream().anyMatch(book -> book.getBookId().equals(second.getBooks().get(0).getBookId())));
     }
 
     @Test
@@ -180,11 +220,10 @@ public class BookServiceTest {
     void testGetBooksPage_ProfileNotFound() {
         // given
         createBook("Book 1", true, false);
-        Pageable pageable = PageRequest.of(0, 10);
 
         // when & then
         Integer invalidProfileId = -1;
-        assertThrows(ProfileNotFoundException.class, () -> bookService.getBooksPage(invalidProfileId, pageable));
+        assertThrows(ProfileNotFoundException.class, () -> bookService.getBooksPage(invalidProfileId, null, 10));
     }
 
     /**
@@ -196,15 +235,13 @@ public class BookServiceTest {
         // Given
         createBook("Favorite Book", true, true);
 
-        Pageable pageable = PageRequest.of(0, 10);
-
         // When
-        List<BookListResponseDTO> favoriteBooks = bookService.getFavoriteBooks(profileEntity.getId(), pageable);
+        BookListSliceDTO favoriteBooks = bookService.getFavoriteBooks(profileEntity.getId(), null, 10);
 
         // Then
         assertNotNull(favoriteBooks);
-        assertEquals(1, favoriteBooks.size());
-        assertEquals("Favorite Book", favoriteBooks.get(0).getTitle());
+        assertEquals(1, favoriteBooks.getBooks().size());
+        assertEquals("Favorite Book", favoriteBooks.getBooks().get(0).getTitle());
     }
 
     @Test
@@ -212,11 +249,9 @@ public class BookServiceTest {
     void testGetFavoriteBooks_ProfileNotFound() {
         // given
         createBook("Book 1", true, true);
-        Pageable pageable = PageRequest.of(0, 10);
-
         // when & then
         Integer invalidProfileId = -1;
-        assertThrows(ProfileNotFoundException.class, () -> bookService.getFavoriteBooks(invalidProfileId, pageable));
+        assertThrows(ProfileNotFoundException.class, () -> bookService.getFavoriteBooks(invalidProfileId, null, 10));
     }
 
     /**
@@ -228,15 +263,13 @@ public class BookServiceTest {
         // Given
         createBook("Reading Book", true, true);
 
-        Pageable pageable = PageRequest.of(0, 10);
-
         // When
-        List<BookListResponseDTO> readingBooks = bookService.getReadingBooks(profileEntity.getId(), pageable);
+        BookListSliceDTO readingBooks = bookService.getReadingBooks(profileEntity.getId(), null, 10);
 
         // Then
         assertNotNull(readingBooks);
-        assertEquals(1, readingBooks.size());
-        assertEquals("Reading Book", readingBooks.get(0).getTitle());
+        assertEquals(1, readingBooks.getBooks().size());
+        assertEquals("Reading Book", readingBooks.getBooks().get(0).getTitle());
     }
 
     @Test
@@ -244,11 +277,9 @@ public class BookServiceTest {
     void testGetReadingBook_ProfileNotFound() {
         // given
         createBook("Book 1", true, true);
-        Pageable pageable = PageRequest.of(0, 10);
-
         // when & then
         Integer invalidProfileId = -1;
-        assertThrows(ProfileNotFoundException.class, () -> bookService.getReadingBooks(invalidProfileId, pageable));
+        assertThrows(ProfileNotFoundException.class, () -> bookService.getReadingBooks(invalidProfileId, null, 10));
     }
 
     /**
@@ -352,7 +383,7 @@ public class BookServiceTest {
     @DisplayName("현재 페이지 업데이트하기 통합 테스트 - 성공")
     public void testUpdateCurrentPage_Success() {
         // Given
-        BookEntity book = createBook("Update Current Page Book", true, true);
+        BookEntity book = createBook("Update Current Page Book", true, true, 2);
 
         PageEntity page1 = PageEntity.builder()
                 .pageNumber(1)
@@ -371,18 +402,19 @@ public class BookServiceTest {
         bookRepository.save(book);
 
         // When
-        BookDTO updatedBook = bookService.updateCurrentPage(profileEntity.getId(), book.getId(), 2);
+        BookProgressDTO updatedBook = bookService.updateCurrentPage(profileEntity.getId(), book.getId(), 2);
 
         // Then
         assertNotNull(updatedBook);
         assertEquals(2, updatedBook.getCurrentPage());
+        assertFalse(updatedBook.getIsReading());
     }
 
     @Test
     @DisplayName("현재 페이지 업데이트하기 단위 테스트 - 프로필 없음 예외")
     void testUpdateCurrentPage_ProfileNotFound() {
         // Given
-        BookEntity book = createBook("Update Current Page Book", true, true);
+        BookEntity book = createBook("Update Current Page Book", true, true, 2);
 
         PageEntity page1 = PageEntity.builder()
                 .pageNumber(1)
@@ -405,11 +437,23 @@ public class BookServiceTest {
         assertThrows(ProfileNotFoundException.class, () -> bookService.updateCurrentPage(invalidProfileId, book.getId(), 2));
     }
 
+    @Test
+    @DisplayName("현재 페이지 업데이트하기 통합 테스트 - 삭제 표시된 프로필의 책은 변경하지 않음")
+    void testUpdateCurrentPage_DeletedProfile() {
+        // Given
+        BookEntity book = createBook("Update Current Page Book", true, true, 2);
+        profileRepository.markDeleted(profileEntity.getId(), LocalDateTime.now());
+
+        // when & then
+        assertThrows(ProfileNotFoundException.class, () -> bookService.updateCurrentPage(profileEntity.getId(), book.getId(), 2));
+        assertEquals(1, bookRepository.findProgressById(book.getId()).orElseThrow().getCurrentPage());
+    }
+
     @Test
     @DisplayName("현재 페이지 업데이트하기 단위 테스트 - 책 없음 예외")
     void testUpdateCurrentPage_BookNotFound() {
         // Given
-        BookEntity book = createBook("Update Current Page Book", true, true);
+        BookEntity book = createBook("Update Current Page Book", true, true, 2);
 
         PageEntity page1 = PageEntity.builder()
                 .pageNumber(1)
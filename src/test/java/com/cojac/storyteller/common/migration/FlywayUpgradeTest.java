@@ -0,0 +1,172 @@
+package com.cojac.storyteller.common.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 통합 테스트 클래스
+ *
+ * 이 클래스는 여러 구성 요소(서비스, 데이터베이스 등) 간의 상호작용을 검증하기 위한 통합 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 실제 데이터베이스와 리포지토리를 사용하여 테스트를 수행합니다.
+ * - 외부 서비스와의 의존성을 최소화하기 위해 모의 객체를 활용합니다.
+ *
+ * 통합 테스트는 여러 구성 요소 간의 상호작용을 검증하므로, 일반적으로 단위 테스트보다 느릴 수 있습니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ */
+
+// 새 DB뿐 아니라 Flyway 도입 전 Hibernate가 만든 기존 DB도 마이그레이션으로 최신 스키마가 되는지 확인
+// 애플리케이션 스키마와 섞이지 않도록 별도 스키마에서 실행하고, 테스트마다 스키마를 지움
+@SpringBootTest
+@ActiveProfiles("local")
+public class FlywayUpgradeTest {
+
+    private static final String SCHEMA = "storyteller_flyway_upgrade_test";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+        jdbcTemplate.execute("CREATE DATABASE " + SCHEMA);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + SCHEMA);
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - 빈 DB는 V1부터 모두 적용")
+    public void testMigrate_EmptySchema() {
+        // when
+        MigrateResult result = flyway().load().migrate();
+
+        // then
+        assertTrue(result.success);
+        assertEquals("6", result.targetSchemaVersion);
+        assertLatestSchema();
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - Flyway 도입 전 기존 스키마는 V1을 건너뛰고 이후 추가된 테이블/컬럼을 추가하며 페이지 수를 채움")
+    public void testMigrate_PreFlywaySchema() {
+        // given - 기존 Hibernate 스키마(V1과 동일)와 페이지 수 컬럼이 없던 때 만든 책
+        createPreFlywaySchema();
+        Integer bookId = insertBookWithPages(3);
+
+        // when
+        MigrateResult result = flyway().load().migrate();
+
+        // then
+        assertTrue(result.success);
+        assertEquals(List.of("2", "3", "4", "5", "6"), result.migrations.stream().map(m -> m.version).toList());
+        assertLatestSchema();
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT totalPageCount FROM " + SCHEMA + ".BookEntity WHERE id = ?", Integer.class, bookId));
+    }
+
+    @Test
+    @DisplayName("마이그레이션 - Hibernate 자동 생성으로 퀴즈 테이블, 삭제 표시/페이지 수 컬럼, 목록 인덱스가 이미 있는 스키마도 중복 없이 적용")
+    public void testMigrate_HibernateUpdatedSchema() {
+        // given - 기존 스키마에 ddl-auto(update)가 추가한 테이블/컬럼/인덱스
+        createPreFlywaySchema();
+        Integer bookId = insertBookWithPages(2);
+        jdbcTemplate.execute("CREATE TABLE " + SCHEMA + ".QuizEntity (id INT NOT NULL AUTO_INCREMENT, book_id INT NOT NULL, " +
+                "question VARCHAR(2000) NOT NULL, createdAt DATETIME(6), PRIMARY KEY (id), CONSTRAINT uk_quiz_book UNIQUE (book_id), " +
+                "FOREIGN KEY (book_id) REFERENCES " + SCHEMA + ".BookEntity (id))");
+        jdbcTemplate.execute("ALTER TABLE " + SCHEMA + ".ProfileEntity ADD COLUMN deletedAt DATETIME(6)");
+        jdbcTemplate.execute("ALTER TABLE " + SCHEMA + ".BookEntity ADD COLUMN deletedAt DATETIME(6)");
+        jdbcTemplate.execute("ALTER TABLE " + SCHEMA + ".BookEntity ADD COLUMN totalPageCount INT NOT NULL");
+        jdbcTemplate.execute("CREATE INDEX idx_book_profile_created ON " + SCHEMA + ".BookEntity (profile_id, createdAt, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_book_profile_favorite_created ON " + SCHEMA + ".BookEntity (profile_id, isFavorite, createdAt, id)");
+        jdbcTemplate.execute("CREATE INDEX idx_book_profile_reading_created ON " + SCHEMA + ".BookEntity (profile_id, isReading, createdAt, id)");
+
+        // when
+        MigrateResult result = flyway().load().migrate();
+
+        // then
+        assertTrue(result.success);
+        assertLatestSchema();
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT totalPageCount FROM " + SCHEMA + ".BookEntity WHERE id = ?", Integer.class, bookId));
+    }
+
+    // application.yml의 spring.flyway 설정과 같은 설정
+    private FluentConfiguration flyway() {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1");
+    }
+
+    // Flyway 도입 전 Hibernate가 만든 스키마 (V1만 적용한 뒤 이력 테이블을 지움)
+    private void createPreFlywaySchema() {
+        flyway().target("1").load().migrate();
+        jdbcTemplate.execute("DROP TABLE " + SCHEMA + ".flyway_schema_history");
+    }
+
+    private void assertLatestSchema() {
+        assertEquals(1, countColumns("ProfileEntity", "deletedAt"));
+        assertEquals(1, countColumns("ProfileEntity", "bookCreationToken"));
+        assertEquals(1, countColumns("BookEntity", "deletedAt"));
+        assertEquals(1, countColumns("BookEntity", "totalPageCount"));
+        assertEquals(4, countColumns("QuizEntity", null));
+
+        for (String index : List.of("idx_page_book_page_number", "idx_book_profile_created",
+                "idx_book_profile_favorite_created", "idx_book_profile_reading_created",
+                "idx_unknown_word_page_position", "idx_local_user_username", "idx_local_user_email",
+                "idx_social_user_account_id", "idx_social_user_email")) {
+            assertEquals(1, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(DISTINCT table_name, index_name) FROM information_schema.statistics " +
+                            "WHERE table_schema = ? AND index_name = ?", Integer.class, SCHEMA, index), index);
+        }
+    }
+
+    private int countColumns(String table, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = ? AND table_name = ? " +
+                        "AND (? IS NULL OR column_name = ?)", Integer.class, SCHEMA, table, column, column);
+    }
+
+    private Integer insertBookWithPages(int pageCount) {
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".UserEntity (DTYPE) VALUES ('L')");
+        Integer userId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + SCHEMA + ".UserEntity", Integer.class);
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".LocalUserEntity (id, username) VALUES (?, 'upgrade-user')", userId);
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".ProfileEntity (name, pinNumber, user_id) VALUES ('name', '1234', ?)", userId);
+        Integer profileId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + SCHEMA + ".ProfileEntity", Integer.class);
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".BookEntity (title, coverImage, currentPage, profile_id, isReading, isFavorite, createdAt) " +
+                "VALUES ('title', 'cover', 0, ?, false, false, NOW(6))", profileId);
+        Integer bookId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + SCHEMA + ".BookEntity", Integer.class);
+        for (int pageNumber = 1; pageNumber <= pageCount; pageNumber++) {
+            jdbcTemplate.update("INSERT INTO " + SCHEMA + ".PageEntity (pageNumber, image, content, book_id) VALUES (?, 'image', 'content', ?)",
+                    pageNumber, bookId);
+        }
+        return bookId;
+    }
+}
@@ -0,0 +1,243 @@
+package com.cojac.storyteller.common.migration;
+
+import com.cojac.storyteller.book.dto.BookListCursor;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.repository.BookListFilter;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.page.repository.PageRepository;
+import com.cojac.storyteller.performance.ExecutedQuery;
+import com.cojac.storyteller.performance.PerformanceMonitor;
+import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.unknownWord.entity.UnknownWordEntity;
+import com.cojac.storyteller.unknownWord.repository.UnknownWordRepository;
+import com.cojac.storyteller.user.entity.LocalUserEntity;
+import com.cojac.storyteller.user.entity.SocialUserEntity;
+import com.cojac.storyteller.user.repository.LocalUserRepository;
+import com.cojac.storyteller.user.repository.SocialUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 통합 테스트 클래스
+ *
+ * 이 클래스는 여러 구성 요소(서비스, 데이터베이스 등) 간의 상호작용을 검증하기 위한 통합 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 실제 데이터베이스와 리포지토리를 사용하여 테스트를 수행합니다.
+ * - 외부 서비스와의 의존성을 최소화하기 위해 모의 객체를 활용합니다.
+ *
+ * 통합 테스트는 여러 구성 요소 간의 상호작용을 검증하므로, 일반적으로 단위 테스트보다 느릴 수 있습니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ */
+
+// 자주 실행되는 조회가 마이그레이션에서 만든 인덱스를 사용하는지 EXPLAIN으로 확인
+// 손으로 옮긴 SQL이 아니라 PerformanceMonitor로 잡은, Hibernate가 실제로 생성한 SQL을 확인
+// 옵티마이저 통계(ANALYZE TABLE)는 트랜잭션을 커밋하므로, 테스트 트랜잭션 없이 실행하고 직접 정리
+@SpringBootTest
+@ActiveProfiles({"local", "performance"})
+public class HotQueryIndexTest {
+
+    private static final int PROFILE_COUNT = 10;
+    private static final int BOOKS_PER_PROFILE = 30;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LocalUserRepository localUserRepository;
+
+    @Autowired
+    private SocialUserRepository socialUserRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private UnknownWordRepository unknownWordRepository;
+
+    @Autowired
+    private PerformanceMonitor performanceMonitor;
+
+    private List<LocalUserEntity> localUsers;
+    private List<SocialUserEntity> socialUsers;
+    private List<ProfileEntity> profiles;
+    private List<BookEntity> books;
+    private List<PageEntity> pages;
+    private List<UnknownWordEntity> unknownWords;
+
+    @BeforeEach
+    public void setup() {
+        localUsers = localUserRepository.saveAll(IntStream.range(0, 30)
+                .mapToObj(i -> LocalUserEntity.builder()
+                        .username("index-user-" + i)
+                        .encryptedPassword("password")
+                        .email("index-user-" + i + "@email.com")
+                        .role("ROLE_USER")
+                        .build())
+                .toList());
+
+        socialUsers = socialUserRepository.saveAll(IntStream.range(0, 30)
+                .mapToObj(i -> SocialUserEntity.builder()
+                        .accountId("kakao index-" + i)
+                        .nickname("nickname" + i)
+                        .email("index-social-" + i + "@email.com")
+                        .role("ROLE_USER")
+                        .build())
+                .toList());
+
+        profiles = profileRepository.saveAll(IntStream.range(0, PROFILE_COUNT)
+                .mapToObj(i -> ProfileEntity.builder()
+                        .name("Index profile " + i)
+                        .pinNumber("1234")
+                        .birthDate(LocalDate.of(2010, 1, 1))
+                        .user(localUsers.get(0))
+                        .build())
+                .toList());
+
+        books = bookRepository.saveAll(profiles.stream()
+                .flatMap(profile -> IntStream.range(0, BOOKS_PER_PROFILE)
+                        .mapToObj(i -> BookEntity.builder()
+                                .title("Index Book " + i)
+                                .coverImage("coverImage")
+                                .currentPage(0)
+                                .totalPageCount(10)
+                                .isReading(i % 3 == 0)
+                                .isFavorite(i % 4 == 0)
+                                .profile(profile)
+                                .build()))
+                .toList());
+
+        pages = pageRepository.saveAll(books.subList(0, 5).stream()
+                .flatMap(book -> IntStream.rangeClosed(1, 10)
+                        .mapToObj(pageNumber -> PageEntity.builder()
+                                .pageNumber(pageNumber)
+                                .image("image" + pageNumber)
+                                .content("content" + pageNumber)
+                                .book(book)
+                                .build()))
+                .toList());
+
+        unknownWords = unknownWordRepository.saveAll(pages.stream()
+                .flatMap(page -> IntStream.range(0, 2)
+                        .mapToObj(position -> new UnknownWordEntity("word" + position, position, page)))
+                .toList());
+
+        jdbcTemplate.execute("ANALYZE TABLE LocalUserEntity, SocialUserEntity, BookEntity, PageEntity, UnknownWordEntity");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        unknownWordRepository.deleteAll(unknownWords);
+        pageRepository.deleteAll(pages);
+        bookRepository.deleteAll(books);
+        profileRepository.deleteAll(profiles);
+        socialUserRepository.deleteAll(socialUsers);
+        localUserRepository.deleteAll(localUsers);
+    }
+
+    @Test
+    @DisplayName("인덱스 사용 확인 - 페이지 조회는 (book_id, pageNumber) 인덱스 사용")
+    public void testPageLookup_UsesBookPageNumberIndex() {
+        ExecutedQuery query = captureQuery(() -> pageRepository.findPageWithUnknownWords(books.get(0).getId(), 3));
+
+        assertUsesIndex("idx_page_book_page_number", query);
+    }
+
+    @Test
+    @DisplayName("인덱스 사용 확인 - 전체/즐겨찾기/읽는 중 책 목록은 목록 종류별 최신순 인덱스 사용")
+    public void testBookList_UsesProfileCreatedIndexes() {
+        Integer profileId = profiles.get(0).getId();
+
+        assertUsesIndex("idx_book_profile_created",
+                captureQuery(() -> bookRepository.findBookSlice(profileId, BookListFilter.ALL, null, 12)));
+        assertUsesIndex("idx_book_profile_favorite_created",
+                captureQuery(() -> bookRepository.findBookSlice(profileId, BookListFilter.FAVORITE, null, 12)));
+        assertUsesIndex("idx_book_profile_reading_created",
+                captureQuery(() -> bookRepository.findBookSlice(profileId, BookListFilter.READING, null, 12)));
+    }
+
+    @Test
+    @DisplayName("인덱스 사용 확인 - 커서 이후 책 목록도 같은 인덱스 사용")
+    public void testBookListAfterCursor_UsesProfileCreatedIndex() {
+        BookListCursor cursor = new BookListCursor(LocalDateTime.now().plusDays(1), Integer.MAX_VALUE);
+
+        assertUsesIndex("idx_book_profile_favorite_created",
+                captureQuery(() -> bookRepository.findBookSlice(profiles.get(0).getId(), BookListFilter.FAVORITE, cursor, 12)));
+    }
+
+    @Test
+    @DisplayName("인덱스 사용 확인 - 페이지별 모르는 단어 조회는 (page_id, position) 인덱스 사용")
+    public void testUnknownWords_UsesPageIndex() {
+        ExecutedQuery query = captureQuery(() -> pageRepository.findPageWithUnknownWords(books.get(0).getId(), 1));
+
+        assertUsesIndex("idx_unknown_word_page_position", query);
+    }
+
+    @Test
+    @DisplayName("인덱스 사용 확인 - 아이디/이메일/소셜 계정 조회는 각 컬럼 인덱스 사용")
+    public void testUserLookups_UseColumnIndexes() {
+        assertUsesIndex("idx_local_user_username",
+                captureQuery(() -> localUserRepository.findByUsername("index-user-7")));
+        assertUsesIndex("idx_local_user_email",
+                captureQuery(() -> localUserRepository.existsByEmail("index-user-7@email.com")));
+        assertUsesIndex("idx_social_user_account_id",
+                captureQuery(() -> socialUserRepository.findByAccountId("kakao index-7")));
+        assertUsesIndex("idx_social_user_email",
+                captureQuery(() -> socialUserRepository.existsByEmail("index-social-7@email.com")));
+    }
+
+    // 리포지토리 메서드를 요청 범위에서 실행하고, Hibernate가 실제로 실행한 SQL과 파라미터를 가져옴
+    private ExecutedQuery captureQuery(Runnable call) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/explain");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            performanceMonitor.start(request);
+            call.run();
+            performanceMonitor.end();
+            List<ExecutedQuery> executedQueries = performanceMonitor.getExecutedQueries();
+            assertEquals(1, executedQueries.size(), "실행된 쿼리 : " + executedQueries);
+            return executedQueries.get(0);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void assertUsesIndex(String expectedIndex, ExecutedQuery query) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.parameters().toArray());
+        Map<String, Object> row = plan.stream()
+                .filter(r -> expectedIndex.equals(r.get("key")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("인덱스를 사용하지 않음 : " + expectedIndex + " " + query.sql() + " " + plan));
+
+        assertNotEquals("ALL", row.get("type"), "실행 계획 : " + plan);
+    }
+}
@@ -0,0 +1,173 @@
+package com.cojac.storyteller.page.service;
+
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
+import com.cojac.storyteller.page.dto.PageDetailResponseDTO;
+import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.page.repository.PageRepository;
+import com.cojac.storyteller.performance.PerformanceMonitor;
+import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.user.entity.LocalUserEntity;
+import com.cojac.storyteller.user.jwt.JWTAuthenticationDetails;
+import com.cojac.storyteller.user.repository.LocalUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 통합 테스트 클래스
+ *
+ * 이 클래스는 여러 구성 요소(서비스, 데이터베이스 등) 간의 상호작용을 검증하기 위한 통합 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 실제 데이터베이스와 리포지토리를 사용하여 테스트를 수행합니다.
+ * - 외부 서비스와의 의존성을 최소화하기 위해 모의 객체를 활용합니다.
+ *
+ * 통합 테스트는 여러 구성 요소 간의 상호작용을 검증하므로, 일반적으로 단위 테스트보다 느릴 수 있습니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ */
+
+// PerformanceMonitor는 요청 범위 안에서 얻은 커넥션의 쿼리만 집계하므로, 테스트 트랜잭션 없이 실행
+@SpringBootTest
+@ActiveProfiles({"local", "performance"})
+public class PageDetailQueryCountTest {
+
+    @Autowired
+    private PageService pageService;
+
+    @Autowired
+    private OwnershipResolver ownershipResolver;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private PageRepository pageRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private LocalUserRepository localUserRepository;
+
+    @Autowired
+    private PerformanceMonitor performanceMonitor;
+
+    private LocalUserEntity localUserEntity;
+    private ProfileEntity profileEntity;
+    private BookEntity bookEntity;
+    private PageEntity pageEntity;
+
+    @BeforeEach
+    public void setup() {
+        localUserEntity = localUserRepository.save(LocalUserEntity.builder()
+                .username("page-query-count-user")
+                .encryptedPassword("password")
+                .email("email.com")
+                .role("ROLE_USER")
+                .build());
+
+        profileEntity = profileRepository.save(ProfileEntity.builder()
+                .name("Test name")
+                .pinNumber("1234")
+                .birthDate(LocalDate.of(2010, 1, 1))
+                .user(localUserEntity)
+                .build());
+
+        bookEntity = bookRepository.save(BookEntity.builder()
+                .title("Page Book")
+                .coverImage("coverImage")
+                .currentPage(0)
+                .totalPageCount(1)
+                .isReading(false)
+                .isFavorite(false)
+                .profile(profileEntity)
+                .build());
+
+        pageEntity = pageRepository.save(PageEntity.builder()
+                .pageNumber(1)
+                .image("image1")
+                .content("content1")
+                .book(bookEntity)
+                .build());
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                localUserEntity.getUsername(), null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        authentication.setDetails(new JWTAuthenticationDetails("local", localUserEntity.getUsername()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+        ownershipResolver.evictProfile(profileEntity.getId());
+        ownershipResolver.evictBook(bookEntity.getId());
+        pageRepository.deleteById(pageEntity.getId());
+        bookRepository.deleteById(bookEntity.getId());
+        profileRepository.deleteById(profileEntity.getId());
+        localUserRepository.deleteById(localUserEntity.getId());
+    }
+
+    @Test
+    @DisplayName("페이지 세부 조회하기 통합 테스트 - 소유 확인이 캐시된 뒤에는 페이지 조회 쿼리 한 번 (이전: 프로필, 책, 페이지 3번)")
+    public void testGetPageDetail_OwnershipCached() {
+        // given - 첫 요청에서 소유 정보가 Redis에 저장됨
+        runInRequest(() -> pageService.getPageDetail(profileEntity.getId(), bookEntity.getId(), 1));
+
+        // when
+        PageDetailResponseDTO pageDetail = runInRequest(() -> pageService.getPageDetail(profileEntity.getId(), bookEntity.getId(), 1));
+
+        // then
+        assertEquals(1, performanceMonitor.getQueryCount());
+        assertEquals(pageEntity.getId(), pageDetail.getPageId());
+        assertEquals("content1", pageDetail.getContent());
+    }
+
+    @Test
+    @DisplayName("페이지 세부 조회하기 통합 테스트 - 소유 정보가 캐시되지 않은 첫 요청도 쿼리 두 번")
+    public void testGetPageDetail_OwnershipNotCached() {
+        // when
+        runInRequest(() -> {
+            // 컨트롤러의 @VerifyOwnership 확인 후 서비스에서 다시 확인하는 경우
+            ownershipResolver.verify(profileEntity.getId(), bookEntity.getId());
+            return pageService.getPageDetail(profileEntity.getId(), bookEntity.getId(), 1);
+        });
+
+        // then
+        assertEquals(2, performanceMonitor.getQueryCount());
+    }
+
+    private PageDetailResponseDTO runInRequest(Supplier<PageDetailResponseDTO> call) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/profiles/books/pages");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            performanceMonitor.start(request);
+            PageDetailResponseDTO result = call.get();
+            performanceMonitor.end();
+            return result;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
@@ -11,12 +11,17 @@ import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
 import com.cojac.storyteller.user.entity.LocalUserEntity;
+import com.cojac.storyteller.user.jwt.JWTAuthenticationDetails;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -72,6 +77,12 @@ public class PageServiceTest {
                 .build();
         localUserEntity = localUserRepository.save(localUserEntity);
 
+        // 서비스의 소유 확인을 통과하도록 로그인
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                localUserEntity.getUsername(), null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        authentication.setDetails(new JWTAuthenticationDetails("local", localUserEntity.getUsername()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
         profileEntity = ProfileEntity.builder()
                 .name("Test name")
                 .pinNumber("1234")
@@ -101,6 +112,11 @@ public class PageServiceTest {
         }
     }
 
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
     /**
      * 페이지 세부 정보 가져오기
      */
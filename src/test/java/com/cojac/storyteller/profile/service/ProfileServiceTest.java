@@ -14,7 +14,9 @@ import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.user.entity.LocalUserEntity;
 import com.cojac.storyteller.user.exception.InvalidPinNumberException;
 import com.cojac.storyteller.user.exception.UserNotFoundException;
+import com.cojac.storyteller.user.jwt.JWTAuthenticationDetails;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -84,6 +89,17 @@ public class ProfileServiceTest {
                 .role("ROLE_USER")
                 .build();
         localUserEntity = localUserRepository.save(localUserEntity);
+
+        // 서비스의 소유 확인을 통과하도록 로그인
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                localUserEntity.getUsername(), null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        authentication.setDetails(new JWTAuthenticationDetails("local", localUserEntity.getUsername()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
     }
 
     private static Stream<String> provideInvalidPinNumbers() {
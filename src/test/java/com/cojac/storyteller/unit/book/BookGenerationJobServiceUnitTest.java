@@ -0,0 +1,288 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.dto.BookDTO;
+import com.cojac.storyteller.book.dto.BookGenerationJobDTO;
+import com.cojac.storyteller.book.dto.BookGenerationStatus;
+import com.cojac.storyteller.book.exception.BookGenerationJobNotFoundException;
+import com.cojac.storyteller.book.exception.BookGenerationJobRejectedException;
+import com.cojac.storyteller.book.service.BookGenerationJobService;
+import com.cojac.storyteller.book.service.BookGenerationListener;
+import com.cojac.storyteller.book.service.BookService;
+import com.cojac.storyteller.common.redis.RedisService;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookGenerationJobServiceUnitTest {
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ThreadPoolTaskExecutor bookGenerationExecutor;
+
+    private BookGenerationJobService bookGenerationJobService;
+
+    private final Integer profileId = 1;
+
+    @BeforeEach
+    void setUp() {
+        bookGenerationJobService = new BookGenerationJobService(bookService, profileRepository, redisService, bookGenerationExecutor);
+    }
+
+    /**
+     * 동화 생성 작업 등록
+     */
+    @Test
+    @DisplayName("동화 생성 작업 등록하기 단위 테스트 - 성공")
+    void testSubmit_Success() {
+        // given
+        when(profileRepository.existsById(profileId)).thenReturn(true);
+        BookDTO book = BookDTO.builder().id(10).build();
+        when(bookService.createBook(eq("prompt"), eq(profileId), any())).thenReturn(book);
+
+        // when
+        BookGenerationJobDTO job = bookGenerationJobService.submit("prompt", profileId);
+
+        // then
+        assertNotNull(job.getJobId());
+        assertEquals(BookGenerationStatus.QUEUED, job.getStatus());
+
+        // 워커에서 실행될 작업을 직접 실행
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(bookGenerationExecutor).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+
+        ArgumentCaptor<Map<String, String>> hashCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(redisService, atLeast(3)).setHashOps(eq("book-generation-job:" + job.getJobId()), hashCaptor.capture());
+        List<Map<String, String>> savedStates = hashCaptor.getAllValues();
+        Map<String, String> lastState = savedStates.get(savedStates.size() - 1);
+        assertEquals(BookGenerationStatus.COMPLETED.name(), lastState.get("status"));
+        assertEquals("10", lastState.get("bookId"));
+
+        // 상태가 바뀔 때마다 모든 노드에 작업 ID 발행 (GENERATING_STORY, COMPLETED)
+        verify(redisService, times(2)).publish("book-generation-job:progress", job.getJobId());
+    }
+
+    @Test
+    @DisplayName("동화 생성 작업 등록하기 단위 테스트 - 생성 실패 시 FAILED 상태 저장")
+    void testSubmit_GenerationFailed() {
+        // given
+        when(profileRepository.existsById(profileId)).thenReturn(true);
+        when(bookService.createBook(eq("prompt"), eq(profileId), any())).thenThrow(new RuntimeException("OpenAI error"));
+
+        // when
+        BookGenerationJobDTO job = bookGenerationJobService.submit("prompt", profileId);
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(bookGenerationExecutor).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+
+        // then
+        ArgumentCaptor<Map<String, String>> hashCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(redisService, atLeast(2)).setHashOps(eq("book-generation-job:" + job.getJobId()), hashCaptor.capture());
+        List<Map<String, String>> savedStates = hashCaptor.getAllValues();
+        Map<String, String> lastState = savedStates.get(savedStates.size() - 1);
+        assertEquals(BookGenerationStatus.FAILED.name(), lastState.get("status"));
+        assertEquals("INTERNAL_SERVER_ERROR", lastState.get("errorCode"));
+    }
+
+    @Test
+    @DisplayName("동화 생성 작업 등록하기 단위 테스트 - 여러 삽화 스레드의 진행 알림이 동시에 와도 상태와 완료 페이지 수가 되돌아가지 않음")
+    void testSubmit_ProgressNeverGoesBackwards() {
+        // given
+        int totalPages = 20;
+        when(profileRepository.existsById(profileId)).thenReturn(true);
+        // 진행 상황 저장이 느린 경우
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return null;
+        }).when(redisService).setHashOps(anyString(), anyMap());
+
+        AtomicReference<BookGenerationListener> listenerRef = new AtomicReference<>();
+        when(bookService.createBook(eq("prompt"), eq(profileId), any())).thenAnswer(invocation -> {
+            BookGenerationListener listener = invocation.getArgument(2);
+            listenerRef.set(listener);
+            listener.onStoryGenerated("title", totalPages);
+
+            ExecutorService illustrationThreads = Executors.newFixedThreadPool(8);
+            IntStream.rangeClosed(1, totalPages)
+                    .forEach(illustrated -> illustrationThreads.execute(() -> listener.onPageIllustrated(illustrated, totalPages)));
+            illustrationThreads.shutdown();
+            assertTrue(illustrationThreads.awaitTermination(10, TimeUnit.SECONDS));
+
+            listener.onPersisting();
+            // 먼저 완료된 삽화 스레드의 알림이 늦게 도착
+            listener.onPageIllustrated(totalPages - 1, totalPages);
+            return BookDTO.builder().id(10).build();
+        });
+
+        // when
+        BookGenerationJobDTO job = bookGenerationJobService.submit("prompt", profileId);
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(bookGenerationExecutor).execute(taskCaptor.capture());
+        taskCaptor.getValue().run();
+        // 작업이 끝난 뒤에 도착한 알림
+        listenerRef.get().onPageIllustrated(totalPages - 2, totalPages);
+
+        // then
+        ArgumentCaptor<Map<String, String>> hashCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(redisService, atLeast(1)).setHashOps(eq("book-generation-job:" + job.getJobId()), hashCaptor.capture());
+        List<Map<String, String>> savedStates = hashCaptor.getAllValues();
+
+        int previousStatus = -1;
+        int previousIllustrated = 0;
+        for (Map<String, String> state : savedStates) {
+            int status = BookGenerationStatus.valueOf(state.get("status")).ordinal();
+            int illustrated = state.get("illustratedPages") == null ? 0 : Integer.parseInt(state.get("illustratedPages"));
+            assertTrue(status >= previousStatus, "상태가 되돌아감 : " + savedStates);
+            assertTrue(illustrated >= previousIllustrated, "완료 페이지 수가 줄어듦 : " + savedStates);
+            previousStatus = status;
+            previousIllustrated = illustrated;
+        }
+
+        Map<String, String> lastState = savedStates.get(savedStates.size() - 1);
+        assertEquals(BookGenerationStatus.COMPLETED.name(), lastState.get("status"));
+        assertEquals(String.valueOf(totalPages), lastState.get("illustratedPages"));
+    }
+
+    @Test
+    @DisplayName("동화 생성 작업 등록하기 단위 테스트 - 프로필 없음 예외")
+    void testSubmit_ProfileNotFound() {
+        // given
+        when(profileRepository.existsById(profileId)).thenReturn(false);
+
+        // when & then
+        assertThrows(ProfileNotFoundException.class, () -> bookGenerationJobService.submit("prompt", profileId));
+        verify(bookGenerationExecutor, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("동화 생성 작업 등록하기 단위 테스트 - 워커 대기열 초과 예외")
+    void testSubmit_Rejected() {
+        // given
+        when(profileRepository.existsById(profileId)).thenReturn(true);
+        doThrow(new TaskRejectedException("full")).when(bookGenerationExecutor).execute(any());
+
+        // when & then
+        assertThrows(BookGenerationJobRejectedException.class, () -> bookGenerationJobService.submit("prompt", profileId));
+        verify(redisService, times(1)).deleteValues(any());
+    }
+
+    /**
+     * 동화 생성 작업 상태 조회
+     */
+    @Test
+    @DisplayName("동화 생성 작업 상태 조회하기 단위 테스트 - 성공")
+    void testGetJob_Success() {
+        // given
+        when(redisService.getHashEntries("book-generation-job:job-1")).thenReturn(Map.of(
+                "jobId", "job-1",
+                "profileId", "1",
+                "status", "ILLUSTRATING",
+                "totalPages", "10",
+                "illustratedPages", "3"));
+
+        // when
+        BookGenerationJobDTO job = bookGenerationJobService.getJob(profileId, "job-1");
+
+        // then
+        assertEquals(BookGenerationStatus.ILLUSTRATING, job.getStatus());
+        assertEquals(10, job.getTotalPages());
+        assertEquals(3, job.getIllustratedPages());
+    }
+
+    @Test
+    @DisplayName("동화 생성 작업 상태 조회하기 단위 테스트 - 다른 프로필의 작업 예외")
+    void testGetJob_OtherProfile() {
+        // given
+        when(redisService.getHashEntries("book-generation-job:job-1")).thenReturn(Map.of(
+                "jobId", "job-1",
+                "profileId", "2",
+                "status", "QUEUED"));
+
+        // when & then
+        assertThrows(BookGenerationJobNotFoundException.class, () -> bookGenerationJobService.getJob(profileId, "job-1"));
+    }
+
+    /**
+     * 동화 생성 작업 진행 상황 구독
+     */
+    @Test
+    @DisplayName("동화 생성 작업 진행 상황 구독 단위 테스트 - 다른 노드에서 발행한 진행 상황을 이 노드의 연결에 전달하고, 끝나면 연결 종료")
+    void testOnMessage_ForwardsToLocalEmitters() {
+        // given
+        Map<String, String> generating = Map.of("jobId", "job-1", "profileId", "1", "status", "GENERATING_STORY");
+        Map<String, String> completed = Map.of("jobId", "job-1", "profileId", "1", "status", "COMPLETED", "bookId", "10");
+        when(redisService.getHashEntries("book-generation-job:job-1")).thenReturn(generating, generating, completed);
+        bookGenerationJobService.subscribe(profileId, "job-1");
+
+        // when
+        bookGenerationJobService.onMessage(progressMessage("job-1"), null);
+        bookGenerationJobService.onMessage(progressMessage("job-1"), null);
+
+        // then - 끝난 작업의 연결은 제거되므로 두 번째 메시지에서는 상태를 읽지 않음
+        verify(redisService, times(3)).getHashEntries("book-generation-job:job-1");
+        verify(redisService, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("동화 생성 작업 진행 상황 구독 단위 테스트 - 이 노드에 구독 중인 연결이 없으면 무시")
+    void testOnMessage_NoLocalEmitters() {
+        // when
+        bookGenerationJobService.onMessage(progressMessage("job-1"), null);
+
+        // then
+        verifyNoInteractions(redisService);
+    }
+
+    private static Message progressMessage(String jobId) {
+        return new DefaultMessage(BookGenerationJobService.PROGRESS_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                jobId.getBytes(StandardCharsets.UTF_8));
+    }
+}
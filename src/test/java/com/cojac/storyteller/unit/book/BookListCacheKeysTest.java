@@ -0,0 +1,201 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.service.BookListCacheKeys;
+import com.cojac.storyteller.common.cache.TwoLevelCacheManager;
+import com.cojac.storyteller.common.redis.RedisService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookListCacheKeysTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private TwoLevelCacheManager cacheManager;
+
+    private BookListCacheKeys bookListCacheKeys;
+
+    @BeforeEach
+    void setUp() {
+        bookListCacheKeys = new BookListCacheKeys(redisService, cacheManager, Duration.ofMinutes(1));
+        lenient().when(redisService.checkExistsValue(anyString())).thenAnswer(invocation -> !"false".equals(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 키 - 커서, 크기, 목록 종류마다 다른 키")
+    void testKey_IncludesCursorSizeAndFilter() {
+        // given
+        when(redisService.getValues("book-list:version:1")).thenReturn("false");
+
+        // when
+        String firstPage = bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 10);
+        String nextPage = bookListCacheKeys.key(1, BookListCacheKeys.ALL, "MjAyNC0wNS0wMVQxMjowMHw0Mg", 10);
+        String biggerPage = bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 20);
+        String favorite = bookListCacheKeys.key(1, BookListCacheKeys.FAVORITE, null, 10);
+
+        // then
+        assertEquals("1:v0:all:first:10", firstPage);
+        assertEquals("1:v0:all:MjAyNC0wNS0wMVQxMjowMHw0Mg:10", nextPage);
+        assertEquals(4, Set.of(firstPage, nextPage, biggerPage, favorite).size());
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 키 - 빈 커서는 첫 목록과 같은 키")
+    void testKey_BlankCursorIsFirstPage() {
+        // given
+        when(redisService.getValues("book-list:version:1")).thenReturn("3");
+
+        // when & then
+        assertEquals("1:v3:reading:first:12", bookListCacheKeys.key(1, BookListCacheKeys.READING, "", 12));
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 무효화 - 버전을 올리면 같은 페이지도 새 키를 사용")
+    void testInvalidate_BumpsVersion() {
+        // given
+        when(redisService.getValues("book-list:version:1")).thenReturn("false", "1");
+
+        // when
+        String before = bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 10);
+        bookListCacheKeys.invalidate(1);
+        String after = bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 10);
+
+        // then
+        verify(redisService, times(1)).incrementValues("book-list:version:1");
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 키 - 조회 크기는 1 ~ 50으로 맞춰 같은 결과는 같은 키를 사용")
+    void testKey_ClampsSize() {
+        // given
+        when(redisService.getValues("book-list:version:1")).thenReturn("2");
+
+        // when & then
+        assertEquals("1:v2:all:first:50", bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 51));
+        assertEquals("1:v2:all:first:50", bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 1000));
+        assertEquals("1:v2:all:first:1", bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 0));
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 키 - 버전은 인스턴스 안에 보관하여 매번 Redis에서 읽지 않음")
+    void testKey_CachesVersionLocally() {
+        // given
+        when(redisService.getValues("book-list:version:1")).thenReturn("3");
+
+        // when
+        bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 10);
+        bookListCacheKeys.key(1, BookListCacheKeys.FAVORITE, null, 10);
+
+        // then
+        verify(redisService, times(1)).getValues("book-list:version:1");
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 키 - Redis 장애 시 요청마다 다른 키를 만들어 캐시를 건너뜀")
+    void testKey_RedisFailureBypassesCache() {
+        // given
+        when(redisService.getValues("book-list:version:1")).thenThrow(new RuntimeException("Redis 연결 실패"));
+
+        // when
+        String first = assertDoesNotThrow(() -> bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 10));
+        String second = bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 10);
+
+        // then
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 무효화 - 다른 인스턴스의 무효화 메시지를 받으면 보관한 버전을 삭제")
+    void testOnInvalidation_FromOtherInstance() {
+        // given
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(cacheManager).addInvalidationListener(eq("bookListCache"), listener.capture());
+        when(redisService.getValues("book-list:version:1")).thenReturn("3", "4");
+        String before = bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 10);
+
+        // when
+        listener.getValue().accept("version:1");
+        String after = bookListCacheKeys.key(1, BookListCacheKeys.ALL, null, 10);
+
+        // then
+        assertEquals("1:v3:all:first:10", before);
+        assertEquals("1:v4:all:first:10", after);
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 무효화 - 버전을 올리면 다른 인스턴스에 무효화 메시지 발행")
+    void testInvalidate_PublishesInvalidation() {
+        // when
+        bookListCacheKeys.invalidate(1);
+
+        // then
+        verify(cacheManager, times(1)).publishInvalidation("bookListCache", "version:1");
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 무효화 - 트랜잭션 안에서는 커밋 후에 버전을 올림")
+    void testInvalidate_AfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        bookListCacheKeys.invalidate(1);
+
+        // then
+        verify(redisService, never()).incrementValues(anyString());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisService, times(1)).incrementValues("book-list:version:1");
+    }
+
+    @Test
+    @DisplayName("책 목록 캐시 무효화 - Redis 장애가 호출한 쪽으로 전파되지 않음")
+    void testInvalidate_RedisFailure() {
+        // given
+        when(redisService.incrementValues(anyString())).thenThrow(new RuntimeException("Redis 연결 실패"));
+
+        // when & then
+        assertDoesNotThrow(() -> bookListCacheKeys.invalidate(1));
+    }
+}
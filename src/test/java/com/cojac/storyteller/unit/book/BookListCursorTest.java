@@ -0,0 +1,79 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.dto.BookListCursor;
+import com.cojac.storyteller.book.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+class BookListCursorTest {
+
+    @Test
+    @DisplayName("목록 커서 - 토큰으로 변환한 뒤 같은 커서로 복원 (마이크로초 포함)")
+    void testEncodeDecode_RoundTrip() {
+        // given
+        BookListCursor cursor = new BookListCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000), 42);
+
+        // when
+        BookListCursor decoded = BookListCursor.decode(cursor.encode());
+
+        // then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("목록 커서 - 토큰이 없으면 첫 목록 (null)")
+    void testDecode_EmptyToken() {
+        // when & then
+        assertNull(BookListCursor.decode(null));
+        assertNull(BookListCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("목록 커서 - 토큰은 URL에 그대로 사용할 수 있는 문자만 포함")
+    void testEncode_UrlSafe() {
+        // given
+        BookListCursor cursor = new BookListCursor(LocalDateTime.of(2024, 5, 1, 12, 0), Integer.MAX_VALUE);
+
+        // when
+        String token = cursor.encode();
+
+        // then
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+    }
+
+    @Test
+    @DisplayName("목록 커서 - 잘못된 토큰은 InvalidCursorException")
+    void testDecode_InvalidToken() {
+        // given
+        String notBase64 = "not a cursor!";
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2024-05-01T12:00".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2024-05-01T12:00|abc".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThrows(InvalidCursorException.class, () -> BookListCursor.decode(notBase64));
+        assertThrows(InvalidCursorException.class, () -> BookListCursor.decode(noSeparator));
+        assertThrows(InvalidCursorException.class, () -> BookListCursor.decode(badId));
+    }
+}
@@ -0,0 +1,115 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.dto.BookDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.exception.BookCreationInProgressException;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.book.service.BookListCacheKeys;
+import com.cojac.storyteller.book.service.BookPersistService;
+import com.cojac.storyteller.page.repository.batch.BatchPageInsert;
+import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.response.code.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class BookPersistServiceUnitTest {
+
+    @InjectMocks
+    private BookPersistService bookPersistService;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private BatchPageInsert batchPageInsert;
+
+    @Mock
+    private BookListCacheKeys bookListCacheKeys;
+
+    private ProfileEntity profile;
+
+    @BeforeEach
+    void setUp() {
+        profile = ProfileEntity.builder().id(1).build();
+    }
+
+    @Test
+    @DisplayName("동화 생성 시작 기록 단위 테스트 - 프로필이 없거나 삭제되었으면 예외")
+    void testClaimCreation_ProfileNotFound() {
+        // given
+        when(profileRepository.claimBookCreation(profile.getId(), 7L)).thenReturn(0);
+
+        // when & then
+        assertThrows(ProfileNotFoundException.class, () -> bookPersistService.claimCreation(profile.getId(), 7L));
+    }
+
+    @Test
+    @DisplayName("생성한 동화 저장 단위 테스트 - 마지막으로 생성을 시작한 요청이면 저장")
+    void testSaveGeneratedBook_Success() {
+        // given
+        ReflectionTestUtils.setField(profile, "bookCreationToken", 7L);
+        when(profileRepository.findByIdForUpdate(profile.getId())).thenReturn(Optional.of(profile));
+        when(bookRepository.save(any(BookEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        BookDTO result = bookPersistService.saveGeneratedBook(profile.getId(), 7L, "Test Book", "coverImageUrl",
+                List.of("First.", "Second."), List.of("image1", "image2"));
+
+        // then
+        assertEquals("Test Book", result.getTitle());
+        verify(batchPageInsert, times(1)).batchInsertPages(argThat(pages -> pages.size() == 2));
+        verify(bookListCacheKeys, times(1)).invalidate(profile.getId());
+    }
+
+    @Test
+    @DisplayName("생성한 동화 저장 단위 테스트 - 잠금 만료 후 다른 요청이 생성을 시작했으면 저장하지 않음")
+    void testSaveGeneratedBook_StaleFencingToken() {
+        // given
+        ReflectionTestUtils.setField(profile, "bookCreationToken", 8L);
+        when(profileRepository.findByIdForUpdate(profile.getId())).thenReturn(Optional.of(profile));
+
+        // when & then
+        BookCreationInProgressException exception = assertThrows(BookCreationInProgressException.class,
+                () -> bookPersistService.saveGeneratedBook(profile.getId(), 7L, "Test Book", "coverImageUrl",
+                        List.of("First."), List.of("image1")));
+        assertEquals(ErrorCode.BOOK_CREATION_LOCK_LOST, exception.getErrorCode());
+        verify(bookRepository, never()).save(any());
+        verify(batchPageInsert, never()).batchInsertPages(anyList());
+    }
+}
@@ -2,36 +2,54 @@ package com.cojac.storyteller.unit.book;
 
 import com.cojac.storyteller.book.dto.BookDTO;
 import com.cojac.storyteller.book.dto.BookDetailResponseDTO;
-import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.BookListCursor;
+import com.cojac.storyteller.book.dto.BookListSliceDTO;
+import com.cojac.storyteller.book.dto.BookProgressDTO;
 import com.cojac.storyteller.book.dto.QuizResponseDTO;
 import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.exception.BookCreationInProgressException;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
+import com.cojac.storyteller.book.exception.InvalidCurrentPageException;
+import com.cojac.storyteller.book.exception.ImageGenerationException;
+import com.cojac.storyteller.book.exception.InvalidCursorException;
+import com.cojac.storyteller.book.mapper.BookMapper;
+import com.cojac.storyteller.book.repository.BookListFilter;
 import com.cojac.storyteller.book.repository.BookRepository;
-import com.cojac.storyteller.book.repository.batch.BatchBookDelete;
+import com.cojac.storyteller.book.service.BookListCacheKeys;
+import com.cojac.storyteller.book.service.BookPersistService;
 import com.cojac.storyteller.book.service.BookService;
-import com.cojac.storyteller.common.openAI.ImageGenerationService;
+import com.cojac.storyteller.book.service.QuizService;
+import com.cojac.storyteller.common.openAI.IllustrationBatch;
+import com.cojac.storyteller.common.openAI.IllustrationPipeline;
 import com.cojac.storyteller.common.openAI.OpenAIService;
-import com.cojac.storyteller.page.repository.batch.BatchPageInsert;
+import com.cojac.storyteller.common.openAI.StoryStreamListener;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
+import com.cojac.storyteller.common.redis.RedisLeaseLock;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.response.code.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
 
 import java.time.LocalDate;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.time.Period;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -66,13 +84,28 @@ class BookServiceUnitTest {
     private OpenAIService openAIService;
 
     @Mock
-    private ImageGenerationService imageGenerationService;
+    private IllustrationPipeline illustrationPipeline;
 
     @Mock
-    private BatchPageInsert batchPageInsert;
+    private IllustrationBatch illustrationBatch;
 
     @Mock
-    private BatchBookDelete batchBookDelete;
+    private BookPersistService bookPersistService;
+
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+
+    @Mock
+    private RedisLeaseLock.Lease lease;
+
+    @Mock
+    private QuizService quizService;
+
+    @Mock
+    private BookListCacheKeys bookListCacheKeys;
+
+    @Mock
+    private OwnershipResolver ownershipResolver;
 
     private ProfileEntity profile;
     private BookEntity book;
@@ -83,6 +116,11 @@ class BookServiceUnitTest {
         book = BookEntity.builder().id(1).profile(profile).title("Test Book").build();
     }
 
+    private void givenCreationLockAcquired() {
+        lenient().when(redisLeaseLock.tryAcquire(eq("book-creation-lock:" + profile.getId()), any())).thenReturn(Optional.of(lease));
+        lenient().when(lease.getFencingToken()).thenReturn(7L);
+    }
+
     /**
      * 동화 생성
      */
@@ -90,12 +128,15 @@ class BookServiceUnitTest {
     @DisplayName("동화 생성하기 단위 테스트 - 성공")
     void testCreateBook_Success() {
         // given
+        givenCreationLockAcquired();
         String prompt = "Create a story";
         when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
         when(openAIService.generateStory(any(), any())).thenReturn("Title: Test Book\nContent: This is a test story.");
-        when(imageGenerationService.generateAndUploadBookCoverImage(any())).thenReturn("coverImageUrl");
-        when(bookRepository.save(any())).thenReturn(book);
-        doNothing().when(batchPageInsert).batchInsertPages(any());
+        when(illustrationPipeline.newBatch()).thenReturn(illustrationBatch);
+        when(illustrationBatch.getCoverImageUrl()).thenReturn("coverImageUrl");
+        when(illustrationBatch.getPageImageUrls()).thenReturn(List.of("pageImageUrl"));
+        when(bookPersistService.saveGeneratedBook(profile.getId(), 7L, "Test Book", "coverImageUrl", List.of("This is a test story."), List.of("pageImageUrl")))
+                .thenReturn(BookDTO.builder().id(book.getId()).title("Test Book").build());
 
         // when
         BookDTO result = bookService.createBook(prompt, profile.getId());
@@ -105,14 +146,151 @@ class BookServiceUnitTest {
         assertEquals("Test Book", result.getTitle());
         verify(profileRepository, times(1)).findById(profile.getId());
         verify(openAIService, times(1)).generateStory(any(), any());
-        verify(imageGenerationService, times(1)).generateAndUploadBookCoverImage(any());
-        verify(bookRepository, times(1)).save(any());
+        verify(illustrationBatch, times(1)).submitCover("Test Book");
+        verify(illustrationBatch, times(1)).submitPage(1, "This is a test story.");
+        verify(illustrationBatch, times(1)).await();
+        verify(bookPersistService, times(1)).saveGeneratedBook(any(), anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 저장 후 퀴즈 사전 생성 요청")
+    void testCreateBook_PrecomputeQuiz() {
+        // given
+        String prompt = "Create a story";
+        givenCreationLockAcquired();
+        ReflectionTestUtils.setField(bookService, "quizPrecompute", true);
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(openAIService.generateStory(any(), any())).thenReturn("Title: Test Book\nContent: This is a test story.");
+        when(illustrationPipeline.newBatch()).thenReturn(illustrationBatch);
+        when(bookPersistService.saveGeneratedBook(any(), anyLong(), any(), any(), any(), any()))
+                .thenReturn(BookDTO.builder().id(book.getId()).title("Test Book").build());
+
+        // when
+        bookService.createBook(prompt, profile.getId());
+
+        // then
+        int age = Period.between(profile.getBirthDate(), LocalDate.now()).getYears();
+        verify(quizService, times(1)).precomputeQuizAsync(book.getId(), List.of("This is a test story."), age);
+    }
+
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 스트리밍 생성 시 문단이 완성되는 대로 삽화 제출")
+    void testCreateBook_Streaming() {
+        // given
+        givenCreationLockAcquired();
+        String prompt = "Create a story";
+        ReflectionTestUtils.setField(bookService, "storyStreaming", true);
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(illustrationPipeline.newBatch()).thenReturn(illustrationBatch);
+        when(openAIService.streamStory(any(), any(), any())).thenAnswer(invocation -> {
+            StoryStreamListener listener = invocation.getArgument(2);
+            listener.onTitle("Test Book");
+            listener.onParagraph("First paragraph.");
+            listener.onParagraph("Second paragraph.");
+            return "Title: Test Book\n\nContent: First paragraph.\n\nSecond paragraph.";
+        });
+        when(illustrationBatch.getCoverImageUrl()).thenReturn("coverImageUrl");
+        when(illustrationBatch.getPageImageUrls()).thenReturn(List.of("pageImageUrl1", "pageImageUrl2"));
+        when(bookPersistService.saveGeneratedBook(profile.getId(), 7L, "Test Book", "coverImageUrl",
+                List.of("First paragraph.", "Second paragraph."), List.of("pageImageUrl1", "pageImageUrl2")))
+                .thenReturn(BookDTO.builder().id(book.getId()).title("Test Book").build());
+
+        // when
+        BookDTO result = bookService.createBook(prompt, profile.getId());
+
+        // then
+        assertEquals("Test Book", result.getTitle());
+        verify(openAIService, never()).generateStory(any(), any());
+        InOrder inOrder = inOrder(illustrationBatch);
+        inOrder.verify(illustrationBatch).submitCover("Test Book");
+        inOrder.verify(illustrationBatch).submitPage(1, "First paragraph.");
+        inOrder.verify(illustrationBatch).submitPage(2, "Second paragraph.");
+        inOrder.verify(illustrationBatch).await();
+    }
+
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 스트리밍이 중간에 실패하면 제출한 삽화 삭제")
+    void testCreateBook_StreamingFailed() {
+        // given
+        givenCreationLockAcquired();
+        String prompt = "Create a story";
+        ReflectionTestUtils.setField(bookService, "storyStreaming", true);
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(illustrationPipeline.newBatch()).thenReturn(illustrationBatch);
+        when(openAIService.streamStory(any(), any(), any())).thenAnswer(invocation -> {
+            StoryStreamListener listener = invocation.getArgument(2);
+            listener.onTitle("Test Book");
+            listener.onParagraph("First paragraph.");
+            throw new ResourceAccessException("stream closed");
+        });
+
+        // when & then
+        assertThrows(ResourceAccessException.class, () -> bookService.createBook(prompt, profile.getId()));
+        verify(illustrationBatch, times(1)).discard();
+        verify(illustrationBatch, never()).await();
+        verify(bookPersistService, never()).saveGeneratedBook(any(), anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 같은 프로필의 동화가 이미 생성 중이면 거절")
+    void testCreateBook_AlreadyInProgress() {
+        // given
+        String prompt = "Create a story";
+        when(redisLeaseLock.tryAcquire(eq("book-creation-lock:" + profile.getId()), any())).thenReturn(Optional.empty());
+
+        // when & then
+        BookCreationInProgressException exception = assertThrows(BookCreationInProgressException.class,
+                () -> bookService.createBook(prompt, profile.getId()));
+        assertEquals(ErrorCode.BOOK_CREATION_IN_PROGRESS, exception.getErrorCode());
+        verify(openAIService, never()).generateStory(any(), any());
+        verify(illustrationPipeline, never()).newBatch();
+    }
+
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 잠금 만료 후 다른 요청이 생성을 시작했으면 저장하지 않고 삽화 삭제")
+    void testCreateBook_LockLost() {
+        // given
+        String prompt = "Create a story";
+        givenCreationLockAcquired();
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(openAIService.generateStory(any(), any())).thenReturn("Title: Test Book\nContent: This is a test story.");
+        when(illustrationPipeline.newBatch()).thenReturn(illustrationBatch);
+        when(bookPersistService.saveGeneratedBook(eq(profile.getId()), eq(7L), any(), any(), any(), any()))
+                .thenThrow(new BookCreationInProgressException(ErrorCode.BOOK_CREATION_LOCK_LOST));
+
+        // when & then
+        BookCreationInProgressException exception = assertThrows(BookCreationInProgressException.class,
+                () -> bookService.createBook(prompt, profile.getId()));
+        assertEquals(ErrorCode.BOOK_CREATION_LOCK_LOST, exception.getErrorCode());
+        InOrder inOrder = inOrder(bookPersistService, illustrationBatch);
+        inOrder.verify(bookPersistService).claimCreation(profile.getId(), 7L);
+        inOrder.verify(illustrationBatch).await();
+        inOrder.verify(illustrationBatch).discard();
+        verify(lease, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 저장 실패 시 업로드한 삽화 삭제")
+    void testCreateBook_PersistFailed() {
+        // given
+        givenCreationLockAcquired();
+        String prompt = "Create a story";
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(openAIService.generateStory(any(), any())).thenReturn("Title: Test Book\nContent: This is a test story.");
+        when(illustrationPipeline.newBatch()).thenReturn(illustrationBatch);
+        when(bookPersistService.saveGeneratedBook(any(), anyLong(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("DB error"));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> bookService.createBook(prompt, profile.getId()));
+        verify(illustrationBatch, times(1)).discard();
     }
 
     @Test
     @DisplayName("동화 생성하기 단위 테스트 - 프로필 없음 예외")
     void testCreateBook_ProfileNotFound() {
         // given
+        givenCreationLockAcquired();
         String prompt = "Create a story";
         when(profileRepository.findById(profile.getId())).thenReturn(Optional.empty());
 
@@ -120,6 +298,23 @@ class BookServiceUnitTest {
         assertThrows(ProfileNotFoundException.class, () -> bookService.createBook(prompt, profile.getId()));
     }
 
+    @Test
+    @DisplayName("동화 생성하기 단위 테스트 - 삽화 생성 실패 시 책 저장 안 함")
+    void testCreateBook_ImageGenerationFailed() {
+        // given
+        givenCreationLockAcquired();
+        String prompt = "Create a story";
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(openAIService.generateStory(any(), any())).thenReturn("Title: Test Book\nContent: This is a test story.");
+        when(illustrationPipeline.newBatch()).thenReturn(illustrationBatch);
+        doThrow(new ImageGenerationException(ErrorCode.IMAGE_GENERATION_FAILED, new RuntimeException()))
+                .when(illustrationBatch).await();
+
+        // when & then
+        assertThrows(ImageGenerationException.class, () -> bookService.createBook(prompt, profile.getId()));
+        verify(bookPersistService, never()).saveGeneratedBook(any(), anyLong(), any(), any(), any(), any());
+    }
+
     /**
      * 책 목록 조회
      */
@@ -127,27 +322,50 @@ class BookServiceUnitTest {
     @DisplayName("책 목록 페이지 조회하기 단위 테스트 - 성공")
     void testGetBooksPage_Success() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByProfile(eq(profile), any(Pageable.class))).thenReturn(new PageImpl<>(Collections.singletonList(book)));
+        when(bookRepository.findBookSlice(profile.getId(), BookListFilter.ALL, null, 12)).thenReturn(slice(book));
 
         // when
-        List<BookListResponseDTO> result = bookService.getBooksPage(profile.getId(), Pageable.unpaged());
+        BookListSliceDTO result = bookService.getBooksPage(profile.getId(), null, 12);
 
         // then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(profileRepository, times(1)).findById(profile.getId());
-        verify(bookRepository, times(1)).findByProfile(eq(profile), any(Pageable.class));
+        assertEquals(1, result.getBooks().size());
+        verify(bookRepository, times(1)).findBookSlice(profile.getId(), BookListFilter.ALL, null, 12);
+        verifyNoInteractions(profileRepository);
+    }
+
+    @Test
+    @DisplayName("책 목록 페이지 조회하기 단위 테스트 - 커서 이후부터 조회하고, 크기는 최대값으로 제한")
+    void testGetBooksPage_WithCursor() {
+        // given
+        BookListCursor cursor = new BookListCursor(LocalDateTime.of(2024, 5, 1, 12, 0), 42);
+        when(bookRepository.findBookSlice(profile.getId(), BookListFilter.ALL, cursor, 50)).thenReturn(slice(book));
+
+        // when
+        BookListSliceDTO result = bookService.getBooksPage(profile.getId(), cursor.encode(), 1000);
+
+        // then
+        assertEquals(1, result.getBooks().size());
+        verify(bookRepository, times(1)).findBookSlice(profile.getId(), BookListFilter.ALL, cursor, 50);
+    }
+
+    @Test
+    @DisplayName("책 목록 페이지 조회하기 단위 테스트 - 잘못된 커서 예외")
+    void testGetBooksPage_InvalidCursor() {
+        // when & then
+        assertThrows(InvalidCursorException.class, () -> bookService.getBooksPage(profile.getId(), "not-a-cursor", 12));
+        verifyNoInteractions(bookRepository);
     }
 
     @Test
     @DisplayName("책 목록 페이지 조회하기 단위 테스트 - 프로필 없음 예외")
     void testGetBooksPage_ProfileNotFound() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.empty());
+        when(bookRepository.findBookSlice(profile.getId(), BookListFilter.ALL, null, 12)).thenReturn(slice());
+        when(profileRepository.existsById(profile.getId())).thenReturn(false);
 
         // when & then
-        assertThrows(ProfileNotFoundException.class, () -> bookService.getBooksPage(profile.getId(), any()));
+        assertThrows(ProfileNotFoundException.class, () -> bookService.getBooksPage(profile.getId(), null, 12));
     }
 
     /**
@@ -157,29 +375,27 @@ class BookServiceUnitTest {
     @DisplayName("즐겨찾기 책 조회하기 단위 테스트 - 성공")
     void testGetFavoriteBooks_Success() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByProfileAndIsFavoriteTrue(profile, Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(Collections.singletonList(book)));
+        when(bookRepository.findBookSlice(profile.getId(), BookListFilter.FAVORITE, null, 12)).thenReturn(slice(book));
 
         // when
-        List<BookListResponseDTO> result = bookService.getFavoriteBooks(profile.getId(), Pageable.unpaged());
+        BookListSliceDTO result = bookService.getFavoriteBooks(profile.getId(), null, 12);
 
         // then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(book.getTitle(), result.get(0).getTitle());
-        verify(profileRepository, times(1)).findById(profile.getId());
-        verify(bookRepository, times(1)).findByProfileAndIsFavoriteTrue(profile, Pageable.unpaged());
+        assertEquals(1, result.getBooks().size());
+        assertEquals(book.getTitle(), result.getBooks().get(0).getTitle());
+        verify(bookRepository, times(1)).findBookSlice(profile.getId(), BookListFilter.FAVORITE, null, 12);
     }
 
     @Test
     @DisplayName("즐겨찾기 책 조회하기 단위 테스트 - 프로필 없음 예외")
     void testGetFavoriteBooks_ProfileNotFound() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.empty());
+        when(bookRepository.findBookSlice(profile.getId(), BookListFilter.FAVORITE, null, 12)).thenReturn(slice());
+        when(profileRepository.existsById(profile.getId())).thenReturn(false);
 
         // when & then
-        assertThrows(ProfileNotFoundException.class, () -> bookService.getFavoriteBooks(profile.getId(), any()));
+        assertThrows(ProfileNotFoundException.class, () -> bookService.getFavoriteBooks(profile.getId(), null, 12));
     }
 
     /**
@@ -189,29 +405,42 @@ class BookServiceUnitTest {
     @DisplayName("읽고 있는 책 조회하기 단위 테스트 - 성공")
     void testGetReadingBooks_Success() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByProfileAndIsReadingTrue(profile, Pageable.unpaged()))
-                .thenReturn(new PageImpl<>(Collections.singletonList(book)));
+        when(bookRepository.findBookSlice(profile.getId(), BookListFilter.READING, null, 12)).thenReturn(slice(book));
 
         // when
-        List<BookListResponseDTO> result = bookService.getReadingBooks(profile.getId(), Pageable.unpaged());
+        BookListSliceDTO result = bookService.getReadingBooks(profile.getId(), null, 12);
 
         // then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(book.getTitle(), result.get(0).getTitle());
-        verify(profileRepository, times(1)).findById(profile.getId());
-        verify(bookRepository, times(1)).findByProfileAndIsReadingTrue(profile, Pageable.unpaged());
+        assertEquals(1, result.getBooks().size());
+        assertEquals(book.getTitle(), result.getBooks().get(0).getTitle());
+        verify(bookRepository, times(1)).findBookSlice(profile.getId(), BookListFilter.READING, null, 12);
+    }
+
+    @Test
+    @DisplayName("읽고 있는 책 조회하기 단위 테스트 - 빈 목록이어도 프로필이 있으면 성공")
+    void testGetReadingBooks_Empty() {
+        // given
+        when(bookRepository.findBookSlice(profile.getId(), BookListFilter.READING, null, 12)).thenReturn(slice());
+        when(profileRepository.existsById(profile.getId())).thenReturn(true);
+
+        // when
+        BookListSliceDTO result = bookService.getReadingBooks(profile.getId(), null, 12);
+
+        // then
+        assertTrue(result.getBooks().isEmpty());
+        assertFalse(result.getHasNext());
     }
 
     @Test
     @DisplayName("읽고 있는 책 조회하기 단위 테스트 - 프로필 없음 예외")
     void testGetReadingBook_ProfileNotFound() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.empty());
+        when(bookRepository.findBookSlice(profile.getId(), BookListFilter.READING, null, 12)).thenReturn(slice());
+        when(profileRepository.existsById(profile.getId())).thenReturn(false);
 
         // when & then
-        assertThrows(ProfileNotFoundException.class, () -> bookService.getReadingBooks(profile.getId(), any()));
+        assertThrows(ProfileNotFoundException.class, () -> bookService.getReadingBooks(profile.getId(), null, 12));
     }
 
     /**
@@ -221,8 +450,13 @@ class BookServiceUnitTest {
     @DisplayName("책 상세 조회하기 단위 테스트 - 성공")
     void testGetBookDetail_Success() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        BookDetailResponseDTO detail = BookDetailResponseDTO.builder()
+                .bookId(book.getId())
+                .title(book.getTitle())
+                .totalPageCount(0)
+                .pages(List.of())
+                .build();
+        when(bookRepository.findBookDetail(profile.getId(), book.getId())).thenReturn(Optional.of(detail));
 
         // when
         BookDetailResponseDTO result = bookService.getBookDetail(profile.getId(), book.getId());
@@ -230,21 +464,32 @@ class BookServiceUnitTest {
         // then
         assertNotNull(result);
         assertEquals(book.getId(), result.getBookId());
-        verify(profileRepository, times(1)).findById(profile.getId());
-        verify(bookRepository, times(1)).findByIdAndProfile(book.getId(), profile);
+        verify(bookRepository, times(1)).findBookDetail(profile.getId(), book.getId());
+        verifyNoInteractions(profileRepository);
     }
 
     @Test
     @DisplayName("책 상세 조회하기 단위 테스트 - 책 없음 예외")
     void testGetBookDetail_BookNotFound() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.empty());
+        when(bookRepository.findBookDetail(profile.getId(), book.getId())).thenReturn(Optional.empty());
+        when(profileRepository.existsById(profile.getId())).thenReturn(true);
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> bookService.getBookDetail(profile.getId(), book.getId()));
     }
 
+    @Test
+    @DisplayName("책 상세 조회하기 단위 테스트 - 프로필 없음 예외")
+    void testGetBookDetail_ProfileNotFound() {
+        // given
+        when(bookRepository.findBookDetail(profile.getId(), book.getId())).thenReturn(Optional.empty());
+        when(profileRepository.existsById(profile.getId())).thenReturn(false);
+
+        // when & then
+        assertThrows(ProfileNotFoundException.class, () -> bookService.getBookDetail(profile.getId(), book.getId()));
+    }
+
     /**
      * 즐겨찾기 토글 기능 추가
      */
@@ -252,26 +497,27 @@ class BookServiceUnitTest {
     @DisplayName("즐겨찾기 상태 토글하기 단위 테스트 - 성공")
     void testToggleFavorite_Success() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        when(bookRepository.findById(book.getId())).thenReturn(Optional.of(book));
 
         // when
         Boolean result = bookService.toggleFavorite(profile.getId(), book.getId());
 
         // then
         assertNotNull(result);
+        verify(ownershipResolver, times(1)).verify(profile.getId(), book.getId());
         verify(bookRepository, times(1)).save(any());
+        verify(bookListCacheKeys, times(1)).invalidate(profile.getId());
     }
 
     @Test
     @DisplayName("즐겨찾기 상태 토글하기 단위 테스트 - 책 없음 예외")
     void testToggleFavorite_BookNotFound() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.empty());
+        doThrow(new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND)).when(ownershipResolver).verify(profile.getId(), book.getId());
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> bookService.toggleFavorite(profile.getId(), book.getId()));
+        verify(bookRepository, never()).save(any());
     }
 
     /**
@@ -282,13 +528,30 @@ class BookServiceUnitTest {
     void testDeleteBook_Success() throws Exception {
         // given
         when(profileRepository.existsById(profile.getId())).thenReturn(true);
-        when(bookRepository.findById(book.getId())).thenReturn(Optional.of(book));
+        when(bookRepository.markDeleted(eq(profile.getId()), eq(book.getId()), any(LocalDateTime.class))).thenReturn(1);
+
+        // when
+        bookService.deleteBook(profile.getId(), book.getId());
+
+        // then
+        verify(bookRepository, times(1)).markDeleted(eq(profile.getId()), eq(book.getId()), any(LocalDateTime.class));
+        verify(bookListCacheKeys, times(1)).invalidate(profile.getId());
+        verify(ownershipResolver, times(1)).evictBook(book.getId());
+    }
+
+    @Test
+    @DisplayName("책 삭제하기 단위 테스트 - 삭제 표시만 하고 페이지와 이미지는 바로 삭제하지 않음")
+    void testDeleteBook_OnlyMarksDeleted() throws Exception {
+        // given
+        when(profileRepository.existsById(profile.getId())).thenReturn(true);
+        when(bookRepository.markDeleted(eq(profile.getId()), eq(book.getId()), any(LocalDateTime.class))).thenReturn(1);
 
         // when
         bookService.deleteBook(profile.getId(), book.getId());
 
         // then
-        verify(batchBookDelete, times(1)).deleteByBookId(book.getId());
+        verify(bookRepository, never()).findById(any());
+        verify(bookRepository, never()).delete(any());
     }
 
     @Test
@@ -302,14 +565,15 @@ class BookServiceUnitTest {
     }
 
     @Test
-    @DisplayName("책 삭제하기 단위 테스트 - 책 없음 예외")
+    @DisplayName("책 삭제하기 단위 테스트 - 책 없음 예외 (이미 삭제 표시된 책 포함)")
     void testDeleteBook_BookNotFound() {
         // given
         when(profileRepository.existsById(profile.getId())).thenReturn(true);
-        when(bookRepository.findById(book.getId())).thenReturn(Optional.empty());
+        when(bookRepository.markDeleted(eq(profile.getId()), eq(book.getId()), any(LocalDateTime.class))).thenReturn(0);
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> bookService.deleteBook(profile.getId(), book.getId()));
+        verify(bookListCacheKeys, never()).invalidate(any());
     }
 
     /**
@@ -319,27 +583,27 @@ class BookServiceUnitTest {
     @DisplayName("현재 페이지 업데이트하기 단위 테스트 - 성공")
     void testUpdateCurrentPage_Success() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-
-        BookEntity book = mock(BookEntity.class);
-        when(book.getTotalPageCount()).thenReturn(5);
-        when(book.getProfile()).thenReturn(profile);
-
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        when(bookRepository.updateCurrentPage(profile.getId(), book.getId(), 1)).thenReturn(1);
+        when(bookRepository.findProgressById(book.getId())).thenReturn(Optional.of(new BookProgressDTO(book.getId(), 1, 5, true)));
 
         // when
-        BookDTO result = bookService.updateCurrentPage(profile.getId(), book.getId(), 1);
+        BookProgressDTO result = bookService.updateCurrentPage(profile.getId(), book.getId(), 1);
 
         // then
-        assertNotNull(result);
-        verify(bookRepository, times(1)).save(any());
+        assertEquals(1, result.getCurrentPage());
+        assertEquals(5, result.getTotalPageCount());
+        assertTrue(result.getIsReading());
+        verify(bookRepository, never()).findByIdAndProfile(any(), any());
+        verify(bookRepository, never()).save(any());
+        verify(bookListCacheKeys, times(1)).invalidate(profile.getId());
     }
 
     @Test
     @DisplayName("현재 페이지 업데이트하기 단위 테스트 - 프로필 없음 예외")
     void testUpdateCurrentPage_ProfileNotFound() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.empty());
+        when(bookRepository.updateCurrentPage(profile.getId(), book.getId(), 1)).thenReturn(0);
+        when(profileRepository.existsById(profile.getId())).thenReturn(false);
 
         // when & then
         assertThrows(ProfileNotFoundException.class, () -> bookService.updateCurrentPage(profile.getId(), book.getId(), 1));
@@ -349,23 +613,43 @@ class BookServiceUnitTest {
     @DisplayName("현재 페이지 업데이트하기 단위 테스트 - 책 없음 예외")
     void testUpdateCurrentPage_BookNotFound() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.empty());
+        when(bookRepository.updateCurrentPage(profile.getId(), book.getId(), 1)).thenReturn(0);
+        when(profileRepository.existsById(profile.getId())).thenReturn(true);
+        when(bookRepository.existsByIdAndProfile_Id(book.getId(), profile.getId())).thenReturn(false);
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> bookService.updateCurrentPage(profile.getId(), book.getId(), 1));
+        verify(bookListCacheKeys, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("현재 페이지 업데이트하기 단위 테스트 - 전체 페이지 수를 넘는 페이지 예외")
+    void testUpdateCurrentPage_PageOutOfRange() {
+        // given
+        when(bookRepository.updateCurrentPage(profile.getId(), book.getId(), 6)).thenReturn(0);
+        when(profileRepository.existsById(profile.getId())).thenReturn(true);
+        when(bookRepository.existsByIdAndProfile_Id(book.getId(), profile.getId())).thenReturn(true);
+
+        // when & then
+        assertThrows(InvalidCurrentPageException.class, () -> bookService.updateCurrentPage(profile.getId(), book.getId(), 6));
+    }
+
+    @Test
+    @DisplayName("현재 페이지 업데이트하기 단위 테스트 - 음수 페이지는 조회 없이 예외")
+    void testUpdateCurrentPage_NegativePage() {
+        // when & then
+        assertThrows(InvalidCurrentPageException.class, () -> bookService.updateCurrentPage(profile.getId(), book.getId(), -1));
+        verifyNoInteractions(bookRepository);
     }
 
     /**
      * 퀴즈만 생성
      */
     @Test
-    @DisplayName("퀴즈 생성하기 단위 테스트 - 성공")
+    @DisplayName("퀴즈 생성하기 단위 테스트 - QuizService에 위임")
     void testCreateQuiz_Success() {
         // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
-        when(openAIService.generateQuiz(any(), any())).thenReturn("Quiz Question");
+        when(quizService.getQuiz(profile.getId(), book.getId())).thenReturn(new QuizResponseDTO("Quiz Question"));
 
         // when
         QuizResponseDTO result = bookService.createQuiz(profile.getId(), book.getId());
@@ -375,25 +659,8 @@ class BookServiceUnitTest {
         assertEquals("Quiz Question", result.getQuestion());
     }
 
-    @Test
-    @DisplayName("퀴즈 생성하기 단위 테스트 - 프로필 없음 예외")
-    void testCreateQuiz_ProfileNotFound() {
-        // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.empty());
-
-        // when & then
-        assertThrows(ProfileNotFoundException.class, () -> bookService.createQuiz(profile.getId(), book.getId()));
-    }
-
-    @Test
-    @DisplayName("퀴즈 생성하기 단위 테스트 - 책 없음 예외")
-    void testCreateQuiz_BookNotFound() {
-        // given
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.empty());
 
-        // when & then
-        assertThrows(BookNotFoundException.class, () -> bookService.createQuiz(profile.getId(), book.getId()));
+    private static BookListSliceDTO slice(BookEntity... books) {
+        return new BookListSliceDTO(BookMapper.mapToBookListResponseDTOs(List.of(books)), null, false);
     }
-
-}
\ No newline at end of file
+}
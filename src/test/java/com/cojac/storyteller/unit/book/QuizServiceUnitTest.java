@@ -0,0 +1,225 @@
+package com.cojac.storyteller.unit.book;
+
+import com.cojac.storyteller.book.dto.QuizResponseDTO;
+import com.cojac.storyteller.book.entity.BookEntity;
+import com.cojac.storyteller.book.entity.QuizEntity;
+import com.cojac.storyteller.book.exception.BookNotFoundException;
+import com.cojac.storyteller.book.exception.QuizGenerationException;
+import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.book.repository.QuizRepository;
+import com.cojac.storyteller.book.service.QuizService;
+import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class QuizServiceUnitTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private OpenAIService openAIService;
+
+    @Mock
+    private ThreadPoolTaskExecutor quizGenerationExecutor;
+
+    private QuizService quizService;
+
+    private ProfileEntity profile;
+    private BookEntity book;
+
+    @BeforeEach
+    void setUp() {
+        quizService = new QuizService(quizRepository, bookRepository, profileRepository, openAIService, quizGenerationExecutor);
+        profile = ProfileEntity.builder().id(1).birthDate(LocalDate.of(2015, 1, 1)).build();
+        book = BookEntity.builder().id(1).profile(profile).title("Test Book").build();
+        book.getPages().add(PageEntity.builder().pageNumber(1).content("First page.").book(book).build());
+        book.getPages().add(PageEntity.builder().pageNumber(2).content("Second page.").book(book).build());
+    }
+
+    @Test
+    @DisplayName("퀴즈 조회 단위 테스트 - 저장된 퀴즈가 있으면 OpenAI를 호출하지 않음")
+    void testGetQuiz_Saved() {
+        // given
+        when(quizRepository.findQuestionByBookIdAndProfileId(book.getId(), profile.getId())).thenReturn(Optional.of("Saved Question"));
+
+        // when
+        QuizResponseDTO result = quizService.getQuiz(profile.getId(), book.getId());
+
+        // then
+        assertEquals("Saved Question", result.getQuestion());
+        verifyNoInteractions(openAIService, profileRepository, bookRepository);
+    }
+
+    @Test
+    @DisplayName("퀴즈 조회 단위 테스트 - 저장된 퀴즈가 없으면 생성 후 저장")
+    void testGetQuiz_Generate() {
+        // given
+        when(quizRepository.findQuestionByBookIdAndProfileId(book.getId(), profile.getId())).thenReturn(Optional.empty());
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        when(openAIService.generateQuiz(eq("First page.\n\nSecond page.\n\n"), anyInt())).thenReturn("Quiz Question");
+
+        // when
+        QuizResponseDTO result = quizService.getQuiz(profile.getId(), book.getId());
+
+        // then
+        assertEquals("Quiz Question", result.getQuestion());
+        ArgumentCaptor<QuizEntity> saved = ArgumentCaptor.forClass(QuizEntity.class);
+        verify(quizRepository).save(saved.capture());
+        assertEquals("Quiz Question", saved.getValue().getQuestion());
+        assertSame(book, saved.getValue().getBook());
+    }
+
+    @Test
+    @DisplayName("퀴즈 조회 단위 테스트 - 동시에 저장된 퀴즈가 있으면 먼저 저장된 퀴즈 반환")
+    void testGetQuiz_ConcurrentSave() {
+        // given
+        when(quizRepository.findQuestionByBookIdAndProfileId(book.getId(), profile.getId())).thenReturn(Optional.empty());
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        when(openAIService.generateQuiz(any(), any())).thenReturn("New Question");
+        when(quizRepository.save(any())).thenThrow(integrityViolation("QuizEntity.uk_quiz_book"));
+        when(quizRepository.findQuestionByBookId(book.getId())).thenReturn(Optional.of("First Question"));
+
+        // when
+        QuizResponseDTO result = quizService.getQuiz(profile.getId(), book.getId());
+
+        // then
+        assertEquals("First Question", result.getQuestion());
+    }
+
+    @Test
+    @DisplayName("퀴즈 조회 단위 테스트 - 책 중복 외의 무결성 오류는 그대로 던짐")
+    void testGetQuiz_OtherIntegrityViolation() {
+        // given
+        when(quizRepository.findQuestionByBookIdAndProfileId(book.getId(), profile.getId())).thenReturn(Optional.empty());
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        when(openAIService.generateQuiz(any(), any())).thenReturn("New Question");
+        when(quizRepository.save(any())).thenThrow(integrityViolation("fk_quiz_book"));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> quizService.getQuiz(profile.getId(), book.getId()));
+        verify(quizRepository, never()).findQuestionByBookId(any());
+    }
+
+    @Test
+    @DisplayName("퀴즈 조회 단위 테스트 - 생성 결과가 비어 있으면 저장하지 않고 예외")
+    void testGetQuiz_EmptyQuestion() {
+        // given
+        when(quizRepository.findQuestionByBookIdAndProfileId(book.getId(), profile.getId())).thenReturn(Optional.empty());
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
+        when(openAIService.generateQuiz(any(), any())).thenReturn(null, " ");
+
+        // when & then
+        assertThrows(QuizGenerationException.class, () -> quizService.getQuiz(profile.getId(), book.getId()));
+        assertThrows(QuizGenerationException.class, () -> quizService.getQuiz(profile.getId(), book.getId()));
+        verify(quizRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("퀴즈 조회 단위 테스트 - 프로필 없음 예외")
+    void testGetQuiz_ProfileNotFound() {
+        // given
+        when(quizRepository.findQuestionByBookIdAndProfileId(book.getId(), profile.getId())).thenReturn(Optional.empty());
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(ProfileNotFoundException.class, () -> quizService.getQuiz(profile.getId(), book.getId()));
+    }
+
+    @Test
+    @DisplayName("퀴즈 조회 단위 테스트 - 책 없음 예외")
+    void testGetQuiz_BookNotFound() {
+        // given
+        when(quizRepository.findQuestionByBookIdAndProfileId(book.getId(), profile.getId())).thenReturn(Optional.empty());
+        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
+        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(BookNotFoundException.class, () -> quizService.getQuiz(profile.getId(), book.getId()));
+        verify(openAIService, never()).generateQuiz(any(), any());
+    }
+
+    @Test
+    @DisplayName("퀴즈 사전 생성 단위 테스트 - 전달받은 내용으로 생성 후 저장")
+    void testPrecomputeQuiz() {
+        // given
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        doNothing().when(quizGenerationExecutor).execute(task.capture());
+        when(quizRepository.existsByBookId(book.getId())).thenReturn(false);
+        when(openAIService.generateQuiz("First page.\n\nSecond page.\n\n", 9)).thenReturn("Quiz Question");
+        when(bookRepository.getReferenceById(book.getId())).thenReturn(book);
+
+        // when
+        quizService.precomputeQuizAsync(book.getId(), List.of("First page.", "Second page."), 9);
+        task.getValue().run();
+
+        // then
+        verify(quizRepository).save(any(QuizEntity.class));
+    }
+
+    @Test
+    @DisplayName("퀴즈 사전 생성 단위 테스트 - 대기열이 가득 차면 건너뜀")
+    void testPrecomputeQuiz_Rejected() {
+        // given
+        doThrow(new TaskRejectedException("full")).when(quizGenerationExecutor).execute(any(Runnable.class));
+
+        // when & then
+        assertDoesNotThrow(() -> quizService.precomputeQuizAsync(book.getId(), List.of("First page."), 9));
+        verifyNoInteractions(openAIService);
+    }
+
+    private static DataIntegrityViolationException integrityViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLIntegrityConstraintViolationException(), constraintName));
+    }
+}
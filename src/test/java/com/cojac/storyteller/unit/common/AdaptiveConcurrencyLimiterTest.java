@@ -0,0 +1,105 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.ratelimit.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("동시 실행 제한 단위 테스트 - 성공할 때마다 1/한도 만큼 증가")
+    void testOnSuccess_AdditiveIncrease() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5);
+
+        // when
+        // 2 -> 2.5 -> 2.9 -> 3.24
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.acquire(Duration.ZERO));
+            limiter.onSuccess();
+        }
+
+        // then
+        assertEquals(3, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한 단위 테스트 - 429 응답 시 한도를 절반으로 줄이고 Retry-After 동안 대기")
+    void testOnThrottled_MultiplicativeDecrease() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, 0.5);
+        assertTrue(limiter.acquire(Duration.ZERO));
+
+        // when
+        limiter.onThrottled(Duration.ofMillis(200));
+
+        // then
+        assertEquals(4, limiter.getLimit());
+        assertFalse(limiter.acquire(Duration.ofMillis(20)));
+        assertTrue(limiter.acquire(Duration.ofSeconds(2)));
+        assertTrue(limiter.getPausedFor().isZero());
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한 단위 테스트 - 최소 한도 아래로는 줄이지 않음")
+    void testOnThrottled_MinLimit() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5);
+        assertTrue(limiter.acquire(Duration.ZERO));
+
+        // when
+        limiter.onThrottled(Duration.ZERO);
+
+        // then
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한 단위 테스트 - 한도를 넘는 요청은 자리가 날 때까지 대기")
+    void testAcquire_WaitsForRelease() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0.5);
+        assertTrue(limiter.acquire(Duration.ZERO));
+
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire(Duration.ofSeconds(5));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertFalse(waiting.isDone());
+
+        // when
+        limiter.onFailure();
+
+        // then
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(1, limiter.getInFlight());
+        assertEquals(1, limiter.getLimit());
+    }
+}
@@ -0,0 +1,97 @@
+package com.cojac.storyteller.unit.common;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.resilience.ResilienceGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class AmazonS3ServiceUnitTest {
+
+    private static final String BUCKET_URL = "https://s3.ap-northeast-2.amazonaws.com/storyteller/";
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    private AmazonS3Service amazonS3Service;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceGuard resilienceGuard = new ResilienceGuard(CircuitBreakerRegistry.ofDefaults(),
+                RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()), BulkheadRegistry.ofDefaults());
+        amazonS3Service = new AmazonS3Service(amazonS3Client, resilienceGuard);
+        ReflectionTestUtils.setField(amazonS3Service, "bucket", "storyteller");
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 1000개씩 나누어 DeleteObjects 요청")
+    void testDeleteS3Objects_Chunks() {
+        // given
+        List<String> urls = IntStream.range(0, 2500)
+                .mapToObj(i -> BUCKET_URL + "books/photos/" + i + ".png")
+                .toList();
+        ArgumentCaptor<DeleteObjectsRequest> requests = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+
+        // when
+        List<String> failed = amazonS3Service.deleteS3Objects(urls);
+
+        // then
+        assertTrue(failed.isEmpty());
+        verify(amazonS3Client, times(3)).deleteObjects(requests.capture());
+        assertEquals(List.of(1000, 1000, 500), requests.getAllValues().stream().map(request -> request.getKeys().size()).toList());
+        assertEquals("books/photos/0.png", requests.getAllValues().get(0).getKeys().get(0).getKey());
+        assertTrue(requests.getValue().getQuiet());
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 일부 키 삭제 실패 시 실패한 URL 반환")
+    void testDeleteS3Objects_PartialFailure() {
+        // given
+        MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+        error.setKey("books/photos/b.png");
+        error.setCode("InternalError");
+        when(amazonS3Client.deleteObjects(any())).thenThrow(new MultiObjectDeleteException(List.of(error), List.of()));
+
+        // when
+        List<String> failed = amazonS3Service.deleteS3Objects(List.of(BUCKET_URL + "books/photos/a.png", BUCKET_URL + "books/photos/b.png"));
+
+        // then
+        assertEquals(List.of(BUCKET_URL + "books/photos/b.png"), failed);
+    }
+}
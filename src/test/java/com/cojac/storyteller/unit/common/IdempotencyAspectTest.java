@@ -0,0 +1,260 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.exception.IdempotencyException;
+import com.cojac.storyteller.common.idempotency.Idempotent;
+import com.cojac.storyteller.common.idempotency.IdempotencyAspect;
+import com.cojac.storyteller.common.idempotency.IdempotencyRecord;
+import com.cojac.storyteller.common.redis.RedisService;
+import com.cojac.storyteller.response.code.ErrorCode;
+import com.cojac.storyteller.response.code.ResponseCode;
+import com.cojac.storyteller.response.dto.ResponseDTO;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyAspectTest {
+
+    private static final String REDIS_KEY = "idempotency:POST:/profiles/1/books:key-1";
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private ThreadPoolTaskScheduler leaseRenewalScheduler;
+
+    @Mock
+    private ScheduledFuture<Object> renewal;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IdempotencyAspect idempotencyAspect;
+    private MockHttpServletRequest request;
+
+    @Idempotent
+    private static void annotated() {
+    }
+
+    private final Idempotent idempotent = idempotent();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyAspect = new IdempotencyAspect(redisService, objectMapper, leaseRenewalScheduler);
+        ReflectionTestUtils.setField(idempotencyAspect, "pollInterval", Duration.ofMillis(1));
+        ReflectionTestUtils.setField(idempotencyAspect, "joinTimeout", Duration.ofMillis(200));
+
+        request = new MockHttpServletRequest("POST", "/profiles/1/books");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        lenient().when(joinPoint.getArgs()).thenReturn(new Object[]{1, "prompt"});
+        lenient().doReturn(renewal).when(leaseRenewalScheduler).scheduleAtFixedRate(any(Runnable.class), any(Duration.class));
+        lenient().when(redisService.checkExistsValue(anyString())).thenAnswer(invocation -> !"false".equals(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key가 없으면 그대로 실행")
+    void testHandle_NoHeader() throws Throwable {
+        // given
+        when(joinPoint.proceed()).thenReturn(ResponseEntity.ok("result"));
+
+        // when
+        Object result = idempotencyAspect.handle(joinPoint, idempotent);
+
+        // then
+        assertEquals(ResponseEntity.ok("result"), result);
+        verifyNoInteractions(redisService);
+    }
+
+    @Test
+    @DisplayName("처음 도착한 요청은 실행 후 응답을 저장")
+    void testHandle_FirstRequest() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        when(redisService.setValuesIfAbsent(eq(REDIS_KEY), anyString(), any())).thenReturn(true);
+        ResponseEntity<ResponseDTO<String>> response = ResponseEntity.status(201).body(new ResponseDTO<>(ResponseCode.SUCCESS_CREATE_BOOK, "book"));
+        when(joinPoint.proceed()).thenReturn(response);
+
+        // when
+        Object result = idempotencyAspect.handle(joinPoint, idempotent);
+
+        // then
+        assertSame(response, result);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(redisService).setValues(eq(REDIS_KEY), stored.capture(), eq(Duration.ofDays(1)));
+        IdempotencyRecord record = objectMapper.readValue(stored.getValue(), IdempotencyRecord.class);
+        assertTrue(record.isCompleted());
+        assertEquals(201, record.getHttpStatus());
+        verify(renewal).cancel(false);
+    }
+
+    @Test
+    @DisplayName("실행하는 동안 진행 중 표시를 유효 기간의 1/3 주기로 갱신")
+    void testHandle_RenewsInFlightMarker() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        ArgumentCaptor<String> inProgress = ArgumentCaptor.forClass(String.class);
+        when(redisService.setValuesIfAbsent(eq(REDIS_KEY), inProgress.capture(), eq(Duration.ofMinutes(5)))).thenReturn(true);
+        ArgumentCaptor<Runnable> renewTask = ArgumentCaptor.forClass(Runnable.class);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            // 실행 중에 갱신 주기가 돌아온 경우
+            verify(leaseRenewalScheduler).scheduleAtFixedRate(renewTask.capture(), eq(Duration.ofSeconds(100)));
+            renewTask.getValue().run();
+            return ResponseEntity.ok("result");
+        });
+
+        // when
+        idempotencyAspect.handle(joinPoint, idempotent);
+
+        // then
+        verify(redisService).expireValuesIfEquals(REDIS_KEY, inProgress.getValue(), Duration.ofMinutes(5));
+        verify(renewal).cancel(false);
+    }
+
+    @Test
+    @DisplayName("완료된 요청과 같은 키로 다시 요청하면 저장된 응답을 재전송")
+    void testHandle_Replay() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        String record = completedRecord(fingerprintOfCurrentArgs());
+        when(redisService.setValuesIfAbsent(eq(REDIS_KEY), anyString(), any())).thenReturn(false);
+        when(redisService.getValues(REDIS_KEY)).thenReturn(record);
+
+        // when
+        ResponseEntity<?> result = (ResponseEntity<?>) idempotencyAspect.handle(joinPoint, idempotent);
+
+        // then
+        assertEquals(201, result.getStatusCode().value());
+        assertEquals("true", result.getHeaders().getFirst(IdempotencyAspect.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals("book", ((JsonNode) result.getBody()).get("data").asText());
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청이 있으면 완료될 때까지 기다렸다가 같은 응답 반환")
+    void testHandle_JoinInFlight() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        String fingerprint = fingerprintOfCurrentArgs();
+        when(redisService.setValuesIfAbsent(eq(REDIS_KEY), anyString(), any())).thenReturn(false);
+        when(redisService.getValues(REDIS_KEY)).thenReturn(
+                objectMapper.writeValueAsString(IdempotencyRecord.inProgress(fingerprint)),
+                completedRecord(fingerprint));
+
+        // when
+        ResponseEntity<?> result = (ResponseEntity<?>) idempotencyAspect.handle(joinPoint, idempotent);
+
+        // then
+        assertEquals(201, result.getStatusCode().value());
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청이 제한 시간 안에 끝나지 않으면 409")
+    void testHandle_JoinTimeout() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        String record = objectMapper.writeValueAsString(IdempotencyRecord.inProgress(fingerprintOfCurrentArgs()));
+        when(redisService.setValuesIfAbsent(eq(REDIS_KEY), anyString(), any())).thenReturn(false);
+        when(redisService.getValues(REDIS_KEY)).thenReturn(record);
+
+        // when & then
+        IdempotencyException exception = assertThrows(IdempotencyException.class, () -> idempotencyAspect.handle(joinPoint, idempotent));
+        assertEquals(ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 요청 내용에 사용하면 422")
+    void testHandle_KeyReused() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        when(redisService.setValuesIfAbsent(eq(REDIS_KEY), anyString(), any())).thenReturn(false);
+        when(redisService.getValues(REDIS_KEY)).thenReturn(completedRecord("other-fingerprint"));
+
+        // when & then
+        IdempotencyException exception = assertThrows(IdempotencyException.class, () -> idempotencyAspect.handle(joinPoint, idempotent));
+        assertEquals(ErrorCode.IDEMPOTENCY_KEY_REUSED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("실행이 실패하면 기록을 지워 같은 키로 재시도 가능")
+    void testHandle_Failure() throws Throwable {
+        // given
+        request.addHeader(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, "key-1");
+        when(redisService.setValuesIfAbsent(eq(REDIS_KEY), anyString(), any())).thenReturn(true);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("fail"));
+
+        // when & then
+        ArgumentCaptor<String> inProgress = ArgumentCaptor.forClass(String.class);
+        assertThrows(IllegalStateException.class, () -> idempotencyAspect.handle(joinPoint, idempotent));
+        verify(redisService).setValuesIfAbsent(eq(REDIS_KEY), inProgress.capture(), any());
+        verify(redisService).deleteValuesIfEquals(REDIS_KEY, inProgress.getValue());
+        verify(renewal).cancel(false);
+        verify(redisService, never()).setValues(anyString(), anyString(), any(Duration.class));
+    }
+
+    private String completedRecord(String fingerprint) throws Exception {
+        String body = objectMapper.writeValueAsString(new ResponseDTO<>(ResponseCode.SUCCESS_CREATE_BOOK, "book"));
+        return objectMapper.writeValueAsString(IdempotencyRecord.builder()
+                .completed(true)
+                .fingerprint(fingerprint)
+                .httpStatus(201)
+                .body(body)
+                .build());
+    }
+
+    private String fingerprintOfCurrentArgs() {
+        return ReflectionTestUtils.invokeMethod(idempotencyAspect, "fingerprint", (Object) joinPoint.getArgs());
+    }
+
+    private static Idempotent idempotent() {
+        try {
+            return IdempotencyAspectTest.class.getDeclaredMethod("annotated").getAnnotation(Idempotent.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.book.exception.ImageGenerationException;
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.openAI.IllustrationBatch;
+import com.cojac.storyteller.common.openAI.IllustrationCache;
+import com.cojac.storyteller.common.openAI.ImageGenerationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class IllustrationBatchTest {
+
+    @Mock
+    private ImageGenerationService imageGenerationService;
+
+    @Mock
+    private AmazonS3Service amazonS3Service;
+
+    @Mock
+    private IllustrationCache illustrationCache;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("삽화 병렬 생성 - 완료 순서와 관계없이 페이지 순서대로 재조립")
+    void testAwait_OrderedResult() throws Exception {
+        // given
+        CountDownLatch firstPageLatch = new CountDownLatch(1);
+        when(imageGenerationService.generateAndUploadBookCoverImage("title")).thenReturn("cover");
+        when(imageGenerationService.generateAndUploadPageImage("page1")).thenAnswer(invocation -> {
+            // 2페이지가 먼저 끝난 후에 1페이지가 끝나도록 대기
+            firstPageLatch.await(5, TimeUnit.SECONDS);
+            return "image1";
+        });
+        when(imageGenerationService.generateAndUploadPageImage("page2")).thenAnswer(invocation -> {
+            firstPageLatch.countDown();
+            return "image2";
+        });
+
+        IllustrationBatch batch = new IllustrationBatch(imageGenerationService, amazonS3Service, illustrationCache, executor);
+
+        // when
+        batch.submitCover("title");
+        batch.submitPage(1, "page1");
+        batch.submitPage(2, "page2");
+        batch.await();
+
+        // then
+        assertEquals("cover", batch.getCoverImageUrl());
+        assertEquals(List.of("image1", "image2"), batch.getPageImageUrls());
+        verify(amazonS3Service, never()).deleteS3(any());
+    }
+
+    @Test
+    @DisplayName("삽화 병렬 생성 - await가 반환되기 전에 모든 페이지 진행 알림이 끝남")
+    void testAwait_WaitsForProgressNotifications() {
+        // given
+        when(imageGenerationService.generateAndUploadPageImage(anyString())).thenReturn("image");
+        List<Integer> notified = new CopyOnWriteArrayList<>();
+
+        IllustrationBatch batch = new IllustrationBatch(imageGenerationService, amazonS3Service, illustrationCache, executor);
+        batch.onPageIllustrated(illustrated -> {
+            // 진행 상황 저장(Redis, SSE 전송)이 느린 경우
+            sleep(200);
+            notified.add(illustrated);
+        });
+
+        // when
+        batch.submitPage(1, "page1");
+        batch.submitPage(2, "page2");
+        batch.submitPage(3, "page3");
+        batch.await();
+
+        // then
+        assertEquals(3, notified.size());
+        assertEquals(3, notified.stream().mapToInt(Integer::intValue).max().orElse(0));
+    }
+
+    @Test
+    @DisplayName("삽화 병렬 생성 - 일부 실패 시 업로드된 이미지 보상 삭제")
+    void testAwait_PartialFailure() throws Exception {
+        // given
+        when(imageGenerationService.generateAndUploadBookCoverImage("title")).thenReturn("cover");
+        when(imageGenerationService.generateAndUploadPageImage("page1")).thenThrow(new RuntimeException("DALL-E error"));
+        when(illustrationCache.release("cover")).thenReturn(true);
+
+        IllustrationBatch batch = new IllustrationBatch(imageGenerationService, amazonS3Service, illustrationCache, Runnable::run);
+
+        // when
+        batch.submitCover("title");
+        batch.submitPage(1, "page1");
+
+        // then
+        assertThrows(ImageGenerationException.class, batch::await);
+        verify(amazonS3Service, times(1)).deleteS3("cover");
+    }
+
+    @Test
+    @DisplayName("삽화 병렬 생성 - 다른 책과 공유 중인 캐시 이미지는 실패 시 참조만 해제")
+    void testAwait_PartialFailure_SharedImageKept() throws Exception {
+        // given
+        when(imageGenerationService.generateAndUploadBookCoverImage("title")).thenReturn("shared-cover");
+        when(imageGenerationService.generateAndUploadPageImage("page1")).thenThrow(new RuntimeException("DALL-E error"));
+        when(illustrationCache.release("shared-cover")).thenReturn(false);
+
+        IllustrationBatch batch = new IllustrationBatch(imageGenerationService, amazonS3Service, illustrationCache, Runnable::run);
+
+        // when
+        batch.submitCover("title");
+        batch.submitPage(1, "page1");
+
+        // then
+        assertThrows(ImageGenerationException.class, batch::await);
+        verify(illustrationCache, times(1)).release("shared-cover");
+        verify(amazonS3Service, never()).deleteS3(any());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
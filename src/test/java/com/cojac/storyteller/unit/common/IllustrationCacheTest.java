@@ -0,0 +1,130 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.openAI.IllustrationCache;
+import com.cojac.storyteller.common.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class IllustrationCacheTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private IllustrationCache illustrationCache;
+
+    @BeforeEach
+    void setUp() {
+        illustrationCache = new IllustrationCache(redisService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(illustrationCache, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("삽화 캐시 단위 테스트 - 캐시를 사용하지 않으면 Redis를 조회하지 않음")
+    void testAcquire_Disabled() {
+        // given
+        ReflectionTestUtils.setField(illustrationCache, "enabled", false);
+
+        // when
+        Optional<String> imageUrl = illustrationCache.acquire("prompt");
+
+        // then
+        assertTrue(imageUrl.isEmpty());
+        verifyNoInteractions(redisService);
+    }
+
+    @Test
+    @DisplayName("삽화 캐시 단위 테스트 - 표기만 다른 프롬프트는 같은 키로 조회")
+    @SuppressWarnings("unchecked")
+    void testAcquire_NormalizedPrompt() {
+        // given
+        when(redisService.executeScript(any(), anyList(), any())).thenReturn("https://bucket/books/photos/a.png");
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+
+        // when
+        Optional<String> first = illustrationCache.acquire("A  brave Little Rabbit!");
+        Optional<String> second = illustrationCache.acquire("a brave little rabbit");
+
+        // then
+        assertEquals(Optional.of("https://bucket/books/photos/a.png"), first);
+        assertEquals(first, second);
+        verify(redisService, times(2)).executeScript(any(), keys.capture(), any());
+        assertEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+        assertTrue(keys.getValue().get(0).startsWith("illustration:prompt:"));
+    }
+
+    @Test
+    @DisplayName("삽화 캐시 단위 테스트 - 새 이미지 등록")
+    void testRegister() {
+        // when
+        illustrationCache.register("prompt", "https://bucket/books/photos/a.png");
+
+        // then
+        verify(redisService).executeScript(any(),
+                argThat(keys -> keys.size() == 2 && keys.get(1).equals("illustration:image:https://bucket/books/photos/a.png")),
+                eq("https://bucket/books/photos/a.png"));
+    }
+
+    @Test
+    @DisplayName("삽화 캐시 단위 테스트 - 다른 책이 아직 참조 중이면 삭제하지 않음")
+    void testRelease_StillReferenced() {
+        // given
+        when(redisService.executeScript(any(), anyList(), any())).thenReturn(0L);
+
+        // when & then
+        assertFalse(illustrationCache.release("https://bucket/books/photos/a.png"));
+    }
+
+    @Test
+    @DisplayName("삽화 캐시 단위 테스트 - 마지막 참조이거나 캐시에 없는 이미지는 삭제")
+    void testRelease_LastReference() {
+        // given
+        when(redisService.executeScript(any(), anyList(), any())).thenReturn(1L);
+
+        // when & then
+        assertTrue(illustrationCache.release("https://bucket/books/photos/a.png"));
+    }
+
+    @Test
+    @DisplayName("삽화 캐시 단위 테스트 - Redis 장애 시 캐시를 사용 중이면 공유 이미지를 보호하기 위해 삭제하지 않음")
+    void testRelease_RedisFailure() {
+        // given
+        when(redisService.executeScript(any(), anyList(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertFalse(illustrationCache.release("https://bucket/books/photos/a.png"));
+        ReflectionTestUtils.setField(illustrationCache, "enabled", false);
+        assertTrue(illustrationCache.release("https://bucket/books/photos/a.png"));
+    }
+}
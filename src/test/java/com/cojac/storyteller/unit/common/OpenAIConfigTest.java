@@ -0,0 +1,108 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.config.OpenAIConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+class OpenAIConfigTest {
+
+    private HttpServer server;
+    private OpenAIConfig openAIConfig;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Keep-Alive 응답을 돌려주는 로컬 서버
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, 2);
+            exchange.getResponseBody().write("ok".getBytes());
+            exchange.close();
+        });
+        server.start();
+
+        openAIConfig = new OpenAIConfig();
+        ReflectionTestUtils.setField(openAIConfig, "maxConnections", 5);
+        ReflectionTestUtils.setField(openAIConfig, "maxConnectionsPerRoute", 5);
+        ReflectionTestUtils.setField(openAIConfig, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(openAIConfig, "connectionRequestTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(openAIConfig, "chatResponseTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(openAIConfig, "imageResponseTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(openAIConfig, "idleTimeout", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(openAIConfig, "timeToLive", Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("OpenAI HTTP 클라이언트 - 유휴 시간이 지난 Keep-Alive 커넥션을 풀에서 정리")
+    void testEvictIdleConnections() throws Exception {
+        // given
+        PoolingHttpClientConnectionManager connectionManager = openAIConfig.openAIConnectionManager(new SimpleMeterRegistry());
+        try (CloseableHttpClient httpClient = openAIConfig.openAIHttpClient(connectionManager)) {
+            httpClient.execute(new HttpGet("http://localhost:" + server.getAddress().getPort() + "/"),
+                    response -> EntityUtils.toString(response.getEntity()));
+            assertEquals(1, connectionManager.getTotalStats().getAvailable());
+
+            // when - 정리 스레드는 유휴 시간 주기로 실행
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (connectionManager.getTotalStats().getAvailable() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+
+            // then
+            assertEquals(0, connectionManager.getTotalStats().getAvailable());
+        }
+    }
+
+    @Test
+    @DisplayName("OpenAI HTTP 클라이언트 - 클라이언트를 닫으면 커넥션 풀도 함께 닫힘")
+    void testCloseClientClosesConnectionManager() throws Exception {
+        // given
+        PoolingHttpClientConnectionManager connectionManager = openAIConfig.openAIConnectionManager(new SimpleMeterRegistry());
+        CloseableHttpClient httpClient = openAIConfig.openAIHttpClient(connectionManager);
+
+        // when
+        httpClient.close();
+
+        // then
+        HttpRoute route = new HttpRoute(new HttpHost("localhost", server.getAddress().getPort()));
+        assertThrows(IllegalStateException.class,
+                () -> connectionManager.lease("id", route, null).get(Timeout.ofSeconds(1)));
+    }
+}
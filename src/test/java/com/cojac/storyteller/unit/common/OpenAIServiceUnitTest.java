@@ -0,0 +1,296 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.openAI.ImageBuffer;
+import com.cojac.storyteller.common.openAI.OpenAIRateGovernor;
+import com.cojac.storyteller.common.openAI.OpenAIService;
+import com.cojac.storyteller.common.openAI.OpenAITokenMetrics;
+import com.cojac.storyteller.common.openAI.PromptBuilder;
+import com.cojac.storyteller.common.openAI.StoryStreamListener;
+import com.cojac.storyteller.common.ratelimit.RedisTokenBucket;
+import com.cojac.storyteller.common.resilience.ExternalDependency;
+import com.cojac.storyteller.common.resilience.ResilienceGuard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+class OpenAIServiceUnitTest {
+
+    private MockRestServiceServer server;
+    private OpenAIService openAIService;
+    private SimpleMeterRegistry meterRegistry;
+    private RedisTokenBucket tokenBucket;
+    private BulkheadRegistry bulkheadRegistry;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+        meterRegistry = new SimpleMeterRegistry();
+        PromptBuilder promptBuilder = new PromptBuilder("gpt-4o-mini", meterRegistry);
+        tokenBucket = mock(RedisTokenBucket.class);
+        try {
+            when(tokenBucket.acquire(anyString(), anyInt(), anyInt(), any())).thenReturn(true);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        OpenAIRateGovernor rateGovernor = new OpenAIRateGovernor(tokenBucket, meterRegistry);
+        ReflectionTestUtils.setField(rateGovernor, "defaultRetryAfter", Duration.ofMillis(10));
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build());
+        ResilienceGuard resilienceGuard = new ResilienceGuard(CircuitBreakerRegistry.ofDefaults(),
+                RetryRegistry.of(RetryConfig.custom().maxAttempts(1).build()), bulkheadRegistry);
+        openAIService = new OpenAIService(restTemplate, httpHeaders, new ObjectMapper(), promptBuilder,
+                new OpenAITokenMetrics(meterRegistry), rateGovernor, resilienceGuard);
+        ReflectionTestUtils.setField(openAIService, "apiKey", "test-key");
+    }
+
+    @Test
+    @DisplayName("이미지 생성 단위 테스트 - b64_json을 스트리밍으로 디코딩")
+    void testGenerateImage_Success() {
+        // given
+        byte[] imageBytes = new byte[100_000];
+        for (int i = 0; i < imageBytes.length; i++) {
+            imageBytes[i] = (byte) i;
+        }
+        String body = "{\"created\":1,\"data\":[{\"revised_prompt\":\"p\",\"b64_json\":\""
+                + Base64.getEncoder().encodeToString(imageBytes) + "\"}]}";
+        server.expect(requestTo("https://api.openai.com/v1/images/generations"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, "Bearer test-key"))
+                .andExpect(jsonPath("$.response_format").value("b64_json"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        // when
+        ImageBuffer image = openAIService.generateImage("prompt");
+
+        // then
+        assertNotNull(image);
+        assertEquals(imageBytes.length, image.size());
+        assertArrayEquals(imageBytes, image.toByteArray());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("이미지 생성 단위 테스트 - API 오류 시 null 반환")
+    void testGenerateImage_ApiError() {
+        // given
+        server.expect(requestTo("https://api.openai.com/v1/images/generations"))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST));
+
+        // when
+        ImageBuffer image = openAIService.generateImage("prompt");
+
+        // then
+        assertNull(image);
+    }
+
+    @Test
+    @DisplayName("이미지 생성 단위 테스트 - 429 응답 시 Retry-After 이후 다시 요청")
+    void testGenerateImage_RetriesAfterTooManyRequests() {
+        // given
+        HttpHeaders retryHeaders = new HttpHeaders();
+        retryHeaders.add("retry-after-ms", "20");
+        server.expect(requestTo("https://api.openai.com/v1/images/generations"))
+                .andRespond(withStatus(HttpStatus.TOO_MANY_REQUESTS).headers(retryHeaders));
+        server.expect(requestTo("https://api.openai.com/v1/images/generations"))
+                .andRespond(withSuccess("{\"data\":[{\"b64_json\":\"AQID\"}]}", MediaType.APPLICATION_JSON));
+
+        // when
+        ImageBuffer image = openAIService.generateImage("prompt");
+
+        // then
+        assertNotNull(image);
+        assertArrayEquals(new byte[]{1, 2, 3}, image.toByteArray());
+        assertEquals(1, meterRegistry.get("openai.rate-limit.throttled").tag("api", "image").counter().count());
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("이미지 생성 단위 테스트 - 속도 제한 대기열에서 기다리는 동안 벌크헤드 자리를 차지하지 않음")
+    void testGenerateImage_WaitsForRateLimitOutsideBulkhead() throws InterruptedException {
+        // given - 토큰을 기다리는 시점의 벌크헤드 여유 자리 기록
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(ExternalDependency.OPENAI_IMAGE.getInstanceName());
+        List<Integer> availableWhileQueued = new ArrayList<>();
+        when(tokenBucket.acquire(anyString(), anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+            availableWhileQueued.add(bulkhead.getMetrics().getAvailableConcurrentCalls());
+            return true;
+        });
+        server.expect(requestTo("https://api.openai.com/v1/images/generations"))
+                .andRespond(withSuccess("{\"data\":[{\"b64_json\":\"AQID\"}]}", MediaType.APPLICATION_JSON));
+
+        // when
+        ImageBuffer image = openAIService.generateImage("prompt");
+
+        // then
+        assertNotNull(image);
+        assertEquals(List.of(1), availableWhileQueued);
+        assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    @DisplayName("동화 스트리밍 생성 단위 테스트 - chunk를 이어붙여 제목과 문단 전달")
+    void testStreamStory_Success() {
+        // given
+        String body = chunk("Title: Moon") + chunk("\\n\\nContent: First") + chunk(" part.\\n\\nSecond.")
+                + "data: [DONE]\n\n";
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andExpect(jsonPath("$.stream").value(true))
+                .andExpect(jsonPath("$.stream_options.include_usage").value(true))
+                .andExpect(jsonPath("$.max_tokens").value(2500))
+                .andRespond(withSuccess(body, MediaType.TEXT_EVENT_STREAM));
+
+        List<String> events = new ArrayList<>();
+
+        // when
+        String story = openAIService.streamStory("prompt", 7, new StoryStreamListener() {
+            @Override
+            public void onTitle(String title) {
+                events.add("title:" + title);
+            }
+
+            @Override
+            public void onParagraph(String paragraph) {
+                events.add("paragraph:" + paragraph);
+            }
+        });
+
+        // then
+        assertEquals("Title: Moon\n\nContent: First part.\n\nSecond.", story);
+        assertEquals(List.of("title:Moon", "paragraph:First part.", "paragraph:Second."), events);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("퀴즈 생성 단위 테스트 - max_tokens를 지정하고 토큰 사용량을 메트릭으로 기록")
+    void testGenerateQuiz_RecordsTokenUsage() {
+        // given
+        String body = "{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"질문\"}}],"
+                + "\"usage\":{\"prompt_tokens\":120,\"completion_tokens\":15,\"total_tokens\":135}}";
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andExpect(jsonPath("$.max_tokens").value(300))
+                .andExpect(jsonPath("$.stream").doesNotExist())
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        // when
+        String quiz = openAIService.generateQuiz("Once upon a time.", 7);
+
+        // then
+        assertEquals("질문", quiz);
+        assertEquals(120, meterRegistry.get("openai.tokens").tag("call", "quiz").tag("type", "prompt").summary().totalAmount());
+        assertEquals(15, meterRegistry.get("openai.tokens").tag("call", "quiz").tag("type", "completion").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("동화 스트리밍 생성 단위 테스트 - max_tokens에서 잘리면 마지막 문단을 버리고 메트릭 기록")
+    void testStreamStory_Truncated() {
+        // given
+        String body = chunk("Title: Moon\\n\\nContent: First.") + chunk("\\n\\nSecond.\\n\\nThe rab")
+                + "data: {\"choices\":[{\"index\":0,\"delta\":{},\"finish_reason\":\"length\"}]}\n\n"
+                + "data: [DONE]\n\n";
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andRespond(withSuccess(body, MediaType.TEXT_EVENT_STREAM));
+
+        List<String> paragraphs = new ArrayList<>();
+
+        // when
+        String story = openAIService.streamStory("prompt", 7, new StoryStreamListener() {
+            @Override
+            public void onTitle(String title) {
+            }
+
+            @Override
+            public void onParagraph(String paragraph) {
+                paragraphs.add(paragraph);
+            }
+        });
+
+        // then
+        assertEquals("Title: Moon\n\nContent: First.\n\nSecond.", story);
+        assertEquals(List.of("First.", "Second."), paragraphs);
+        assertEquals(1, meterRegistry.get("openai.completion.truncated").tag("call", "story").counter().count());
+    }
+
+    @Test
+    @DisplayName("동화 생성 단위 테스트 - max_tokens에서 잘리면 마지막 문단을 버리고 메트릭 기록")
+    void testGenerateStory_Truncated() {
+        // given
+        String body = "{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\","
+                + "\"content\":\"Title: Moon\\n\\nContent: First.\\n\\nSecond.\\n\\nThe rab\"},\"finish_reason\":\"length\"}]}";
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        // when
+        String story = openAIService.generateStory("prompt", 7);
+
+        // then
+        assertEquals("Title: Moon\n\nContent: First.\n\nSecond.", story);
+        assertEquals(1, meterRegistry.get("openai.completion.truncated").tag("call", "story").counter().count());
+    }
+
+    @Test
+    @DisplayName("퀴즈 생성 단위 테스트 - 질문이 끝나기 전에 잘리면 null 반환")
+    void testGenerateQuiz_Truncated() {
+        // given
+        String body = "{\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"토끼는 왜\"},"
+                + "\"finish_reason\":\"length\"}]}";
+        server.expect(requestTo("https://api.openai.com/v1/chat/completions"))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        // when
+        String quiz = openAIService.generateQuiz("Once upon a time.", 7);
+
+        // then
+        assertNull(quiz);
+        assertEquals(1, meterRegistry.get("openai.completion.truncated").tag("call", "quiz").counter().count());
+    }
+
+    private String chunk(String content) {
+        return "data: {\"choices\":[{\"index\":0,\"delta\":{\"content\":\"" + content + "\"}}]}\n\n";
+    }
+}
@@ -0,0 +1,111 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.ownership.OwnershipAspect;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
+import com.cojac.storyteller.common.ownership.VerifyOwnership;
+import com.cojac.storyteller.profile.exception.ProfileAccessDeniedException;
+import com.cojac.storyteller.response.code.ErrorCode;
+import com.cojac.storyteller.unknownWord.dto.UnknownWordRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class OwnershipAspectTest {
+
+    @Mock
+    private OwnershipResolver ownershipResolver;
+
+    private SampleController controller;
+
+    @BeforeEach
+    void setUp() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new OwnershipAspect(ownershipResolver));
+        controller = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("소유 확인 Aspect - 경로 변수의 프로필 ID와 책 ID로 확인한 뒤 메서드 실행")
+    void testVerify_PathVariables() {
+        // when
+        String result = controller.getBook(1, 10);
+
+        // then
+        assertEquals("book", result);
+        verify(ownershipResolver, times(1)).verify(1, 10);
+    }
+
+    @Test
+    @DisplayName("소유 확인 Aspect - 요청 본문의 필드를 SpEL 식으로 읽고, 책 ID가 없으면 프로필만 확인")
+    void testVerify_RequestBodyExpression() {
+        // given
+        UnknownWordRequestDTO request = new UnknownWordRequestDTO();
+        request.setProfileId(3);
+        request.setBookId(30);
+
+        // when
+        controller.saveWord(request);
+        controller.getProfile(3);
+
+        // then
+        verify(ownershipResolver, times(1)).verify(3, 30);
+        verify(ownershipResolver, times(1)).verify(3, null);
+    }
+
+    @Test
+    @DisplayName("소유 확인 Aspect - 확인에 실패하면 메서드를 실행하지 않음")
+    void testVerify_DeniedSkipsMethod() {
+        // given
+        doThrow(new ProfileAccessDeniedException(ErrorCode.PROFILE_ACCESS_DENIED)).when(ownershipResolver).verify(1, 10);
+
+        // when & then
+        assertThrows(ProfileAccessDeniedException.class, () -> controller.getBook(1, 10));
+        assertFalse(controller.called);
+    }
+
+    static class SampleController {
+
+        boolean called;
+
+        @VerifyOwnership(bookId = "#bookId")
+        public String getBook(Integer profileId, Integer bookId) {
+            called = true;
+            return "book";
+        }
+
+        @VerifyOwnership(profileId = "#request.profileId", bookId = "#request.bookId")
+        public void saveWord(UnknownWordRequestDTO request) {
+            called = true;
+        }
+
+        @VerifyOwnership
+        public void getProfile(Integer profileId) {
+            called = true;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.book.exception.BookNotFoundException;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
+import com.cojac.storyteller.common.redis.RedisService;
+import com.cojac.storyteller.profile.dto.ProfileOwnershipDTO;
+import com.cojac.storyteller.profile.exception.ProfileAccessDeniedException;
+import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
+import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.user.exception.UserNotFoundException;
+import com.cojac.storyteller.user.jwt.JWTAuthenticationDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class OwnershipResolverTest {
+
+    private static final String PROFILE_KEY = "ownership:profile-owner:1";
+    private static final String BOOK_KEY = "ownership:book:10";
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    private OwnershipResolver ownershipResolver;
+
+    @BeforeEach
+    void setUp() {
+        ownershipResolver = new OwnershipResolver(profileRepository, redisService);
+        lenient().when(redisService.checkExistsValue(any())).thenAnswer(invocation -> !"false".equals(invocation.getArgument(0)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        login("owner");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 캐시에 없으면 쿼리 한 번으로 확인하고 프로필 소유자와 책의 프로필을 저장")
+    void testVerify_MissQueriesOnceAndCaches() {
+        // given
+        when(redisService.multiGetValues(List.of(PROFILE_KEY, BOOK_KEY))).thenReturn(List.of("false", "false"));
+        when(profileRepository.findOwnership(1, 10)).thenReturn(Optional.of(ownership("local:owner", 10)));
+
+        // when
+        ownershipResolver.verify(1, 10);
+
+        // then
+        verify(profileRepository, times(1)).findOwnership(1, 10);
+        verify(redisService).setValues(PROFILE_KEY, "local:owner", Duration.ofSeconds(30));
+        verify(redisService).setValues(BOOK_KEY, "1", Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 캐시에 있으면 DB 조회 없음")
+    void testVerify_CacheHitSkipsQuery() {
+        // given
+        when(redisService.multiGetValues(List.of(PROFILE_KEY, BOOK_KEY))).thenReturn(List.of("local:owner", "1"));
+
+        // when
+        ownershipResolver.verify(1, 10);
+
+        // then
+        verifyNoInteractions(profileRepository);
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 같은 요청 안에서 다시 확인하면 Redis와 DB 모두 조회하지 않음")
+    void testVerify_SameRequestIsCached() {
+        // given
+        when(redisService.multiGetValues(List.of(PROFILE_KEY, BOOK_KEY))).thenReturn(List.of("false", "false"));
+        when(profileRepository.findOwnership(1, 10)).thenReturn(Optional.of(ownership("local:owner", 10)));
+
+        // when
+        ownershipResolver.verify(1, 10);
+        ownershipResolver.verify(1, 10);
+
+        // then
+        verify(redisService, times(1)).multiGetValues(anyList());
+        verify(profileRepository, times(1)).findOwnership(1, 10);
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 다른 사용자의 프로필이면 ProfileAccessDeniedException")
+    void testVerify_OtherUser() {
+        // given
+        login("intruder");
+        when(redisService.multiGetValues(List.of(PROFILE_KEY))).thenReturn(List.of("local:owner"));
+
+        // when & then
+        assertThrows(ProfileAccessDeniedException.class, () -> ownershipResolver.verify(1, null));
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 소셜 사용자의 accountId와 같은 username으로 가입한 자체 로그인 사용자는 ProfileAccessDeniedException")
+    void testVerify_LocalUsernameCollidesWithSocialAccountId() {
+        // given - 소셜 사용자의 프로필
+        login("local", "kakao_12345");
+        when(redisService.multiGetValues(List.of(PROFILE_KEY))).thenReturn(List.of("false"));
+        when(profileRepository.findOwnership(1, null)).thenReturn(Optional.of(ownership("social:kakao_12345", null)));
+
+        // when & then
+        assertThrows(ProfileAccessDeniedException.class, () -> ownershipResolver.verify(1, null));
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 소셜 로그인 사용자는 accountId로 확인")
+    void testVerify_SocialUser() {
+        // given
+        login("social", "kakao_12345");
+        when(redisService.multiGetValues(List.of(PROFILE_KEY))).thenReturn(List.of("social:kakao_12345"));
+
+        // when & then
+        assertDoesNotThrow(() -> ownershipResolver.verify(1, null));
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 익명 사용자는 ProfileAccessDeniedException")
+    void testVerify_Anonymous() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        // when & then
+        assertThrows(ProfileAccessDeniedException.class, () -> ownershipResolver.verify(1, null));
+        verifyNoInteractions(profileRepository);
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 다른 프로필의 책이면 BookNotFoundException")
+    void testVerify_BookOfOtherProfile() {
+        // given
+        when(redisService.multiGetValues(List.of(PROFILE_KEY, BOOK_KEY))).thenReturn(List.of("local:owner", "2"));
+
+        // when & then
+        assertThrows(BookNotFoundException.class, () -> ownershipResolver.verify(1, 10));
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 프로필이 없으면 ProfileNotFoundException")
+    void testVerify_ProfileNotFound() {
+        // given
+        when(redisService.multiGetValues(List.of(PROFILE_KEY))).thenReturn(List.of("false"));
+        when(profileRepository.findOwnership(1, null)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(ProfileNotFoundException.class, () -> ownershipResolver.verify(1, null));
+    }
+
+    @Test
+    @DisplayName("소유 확인 - Redis 장애 시 DB에서 확인")
+    void testVerify_RedisFailureFallsBackToQuery() {
+        // given
+        when(redisService.multiGetValues(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        when(profileRepository.findOwnership(1, 10)).thenReturn(Optional.of(ownership("local:owner", 10)));
+
+        // when
+        ownershipResolver.verify(1, 10);
+
+        // then
+        verify(profileRepository, times(1)).findOwnership(1, 10);
+    }
+
+    @Test
+    @DisplayName("소유 확인 - 인증 정보가 없는 호출은 ProfileAccessDeniedException")
+    void testVerify_NoAuthentication() {
+        // given
+        SecurityContextHolder.clearContext();
+
+        // when & then
+        assertThrows(ProfileAccessDeniedException.class, () -> ownershipResolver.verify(1, 10));
+        verifyNoInteractions(redisService, profileRepository);
+    }
+
+    @Test
+    @DisplayName("본인 확인 - 성공")
+    void testVerifyUser_Success() {
+        // given
+        when(profileRepository.findUserOwnerKey(5)).thenReturn(Optional.of("local:owner"));
+
+        // when & then
+        assertDoesNotThrow(() -> ownershipResolver.verifyUser(5));
+    }
+
+    @Test
+    @DisplayName("본인 확인 - 다른 사용자면 ProfileAccessDeniedException")
+    void testVerifyUser_NotOwner() {
+        // given
+        when(profileRepository.findUserOwnerKey(5)).thenReturn(Optional.of("local:other"));
+
+        // when & then
+        assertThrows(ProfileAccessDeniedException.class, () -> ownershipResolver.verifyUser(5));
+    }
+
+    @Test
+    @DisplayName("본인 확인 - 사용자가 없으면 UserNotFoundException")
+    void testVerifyUser_UserNotFound() {
+        // given
+        when(profileRepository.findUserOwnerKey(5)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(UserNotFoundException.class, () -> ownershipResolver.verifyUser(5));
+    }
+
+    @Test
+    @DisplayName("소유 정보 제거 - 트랜잭션 밖에서는 바로 제거")
+    void testEvictProfile_WithoutTransaction() {
+        // when
+        ownershipResolver.evictProfile(1);
+
+        // then
+        verify(redisService, times(1)).deleteValues("ownership:profile-owner:1");
+    }
+
+    @Test
+    @DisplayName("소유 정보 제거 - 트랜잭션 안에서는 커밋 후에 제거")
+    void testEvictBook_AfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        ownershipResolver.evictBook(10);
+
+        // then
+        verify(redisService, never()).deleteValues(any());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisService, times(1)).deleteValues("ownership:book:10");
+    }
+
+    private static void login(String username) {
+        login("local", username);
+    }
+
+    private static void login(String authenticationMethod, String userKey) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                userKey, null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        authentication.setDetails(new JWTAuthenticationDetails(authenticationMethod, userKey));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private static ProfileOwnershipDTO ownership(String ownerKey, Integer bookId) {
+        return ProfileOwnershipDTO.builder()
+                .profileId(1)
+                .ownerKey(ownerKey)
+                .bookId(bookId)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.book.dto.openai.CompletionRequestDto;
+import com.cojac.storyteller.common.openAI.PromptBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+class PromptBuilderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PromptBuilder promptBuilder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        promptBuilder = new PromptBuilder("gpt-4o-mini", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("토큰 예산 단위 테스트 - 예산 안의 텍스트는 그대로 반환")
+    void testFitToBudget_WithinBudget() {
+        // given
+        String story = "Once upon a time.\n\nThe end.";
+
+        // when
+        String result = promptBuilder.fitToBudget(story, 100);
+
+        // then
+        assertEquals(story, result);
+        assertEquals(0, meterRegistry.get("openai.prompt.trimmed").counter().count());
+    }
+
+    @Test
+    @DisplayName("토큰 예산 단위 테스트 - 예산을 넘으면 앞뒤 문단을 남기고 중간 생략")
+    void testFitToBudget_KeepsHeadAndTail() {
+        // given
+        List<String> paragraphs = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            paragraphs.add("Paragraph " + i + " tells what the little fox did next in the forest.");
+        }
+        String story = String.join("\n\n", paragraphs);
+        int budget = promptBuilder.countTokens(story) / 3;
+
+        // when
+        String result = promptBuilder.fitToBudget(story, budget);
+
+        // then
+        assertTrue(promptBuilder.countTokens(result) <= budget);
+        assertTrue(result.startsWith("Paragraph 1 "));
+        assertTrue(result.endsWith(paragraphs.get(19)));
+        assertTrue(result.contains("\n\n...\n\n"));
+        assertEquals(1, meterRegistry.get("openai.prompt.trimmed").counter().count());
+    }
+
+    @Test
+    @DisplayName("토큰 예산 단위 테스트 - 한 문단이 예산보다 길면 토큰 단위로 자름")
+    void testFitToBudget_SingleLongParagraph() {
+        // given
+        String story = "word ".repeat(500);
+
+        // when
+        String result = promptBuilder.fitToBudget(story, 50);
+
+        // then
+        assertTrue(promptBuilder.countTokens(result) <= 50);
+        assertTrue(story.startsWith(result));
+    }
+
+    @Test
+    @DisplayName("요청 생성 단위 테스트 - 호출 종류별 max_tokens 지정")
+    void testRequests_MaxTokens() {
+        // when
+        CompletionRequestDto storyRequest = promptBuilder.storyRequest("fox", 7, false);
+        CompletionRequestDto quizRequest = promptBuilder.quizRequest("Once upon a time.", 7);
+
+        // then
+        assertEquals(2500, storyRequest.getMax_tokens());
+        assertNull(storyRequest.getStream());
+        assertEquals(300, quizRequest.getMax_tokens());
+        assertTrue(quizRequest.getMessages().get(0).getContent().startsWith("Once upon a time."));
+    }
+}
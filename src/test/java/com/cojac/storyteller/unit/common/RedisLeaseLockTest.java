@@ -0,0 +1,166 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.redis.RedisLeaseLock;
+import com.cojac.storyteller.common.redis.RedisService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisLeaseLockTest {
+
+    private static final String KEY = "book-creation-lock:1";
+    private static final Duration LEASE_TIME = Duration.ofSeconds(30);
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ThreadPoolTaskScheduler leaseRenewalScheduler;
+
+    @Mock
+    private ScheduledFuture<Object> renewal;
+
+    @InjectMocks
+    private RedisLeaseLock redisLeaseLock;
+
+    @Test
+    @DisplayName("잠금 획득 - 성공 시 펜싱 토큰을 값으로 저장하고 갱신 예약")
+    void testTryAcquire_Success() {
+        // given
+        when(redisService.incrementValues(KEY + ":fencing-token")).thenReturn(7L);
+        when(redisService.setValuesIfAbsent(KEY, "7", LEASE_TIME)).thenReturn(true);
+        doReturn(renewal).when(leaseRenewalScheduler).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), eq(Duration.ofSeconds(10)));
+
+        // when
+        Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(KEY, LEASE_TIME);
+
+        // then
+        assertTrue(lease.isPresent());
+        assertEquals(7L, lease.get().getFencingToken());
+    }
+
+    @Test
+    @DisplayName("잠금 획득 - 다른 소유자가 있으면 빈 값 반환")
+    void testTryAcquire_AlreadyLocked() {
+        // given
+        when(redisService.incrementValues(KEY + ":fencing-token")).thenReturn(8L);
+        when(redisService.setValuesIfAbsent(KEY, "8", LEASE_TIME)).thenReturn(false);
+
+        // when
+        Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(KEY, LEASE_TIME);
+
+        // then
+        assertTrue(lease.isEmpty());
+        verify(leaseRenewalScheduler, never()).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("잠금 갱신 - 토큰이 일치하면 유효 기간을 갱신하고, 만료되었으면 갱신 중단")
+    void testRenew() {
+        // given
+        when(redisService.incrementValues(KEY + ":fencing-token")).thenReturn(7L);
+        when(redisService.setValuesIfAbsent(KEY, "7", LEASE_TIME)).thenReturn(true);
+        ArgumentCaptor<Runnable> renewTask = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(renewal).when(leaseRenewalScheduler).scheduleAtFixedRate(renewTask.capture(), any(Instant.class), any(Duration.class));
+        when(redisService.expireValuesIfEquals(KEY, "7", LEASE_TIME)).thenReturn(true, false);
+        redisLeaseLock.tryAcquire(KEY, LEASE_TIME);
+
+        // when
+        renewTask.getValue().run();
+        renewTask.getValue().run();
+
+        // then
+        verify(redisService, times(2)).expireValuesIfEquals(KEY, "7", LEASE_TIME);
+        verify(renewal, times(1)).cancel(false);
+    }
+
+    @Test
+    @DisplayName("잠금 획득 - 첫 갱신은 즉시가 아니라 한 주기 뒤에 실행")
+    void testTryAcquire_FirstRenewalDelayed() {
+        // given
+        when(redisService.incrementValues(KEY + ":fencing-token")).thenReturn(7L);
+        when(redisService.setValuesIfAbsent(KEY, "7", LEASE_TIME)).thenReturn(true);
+        ArgumentCaptor<Instant> startTime = ArgumentCaptor.forClass(Instant.class);
+        doReturn(renewal).when(leaseRenewalScheduler).scheduleAtFixedRate(any(Runnable.class), startTime.capture(), any(Duration.class));
+        Instant before = Instant.now();
+
+        // when
+        redisLeaseLock.tryAcquire(KEY, LEASE_TIME);
+
+        // then
+        assertFalse(startTime.getValue().isBefore(before.plus(Duration.ofSeconds(10))));
+    }
+
+    @Test
+    @DisplayName("잠금 갱신 - 예약 결과가 할당되기 전에 갱신이 실패해도 다음 실행에서 갱신 중단")
+    void testRenew_FailedBeforeRenewalAssigned() {
+        // given
+        when(redisService.incrementValues(KEY + ":fencing-token")).thenReturn(7L);
+        when(redisService.setValuesIfAbsent(KEY, "7", LEASE_TIME)).thenReturn(true);
+        when(redisService.expireValuesIfEquals(KEY, "7", LEASE_TIME)).thenReturn(false);
+        ArgumentCaptor<Runnable> renewTask = ArgumentCaptor.forClass(Runnable.class);
+        doAnswer(invocation -> {
+            // 스케줄러가 반환하기 전에 첫 갱신이 실행된 경우
+            Runnable task = invocation.getArgument(0);
+            task.run();
+            return renewal;
+        }).when(leaseRenewalScheduler).scheduleAtFixedRate(renewTask.capture(), any(Instant.class), any(Duration.class));
+        redisLeaseLock.tryAcquire(KEY, LEASE_TIME);
+
+        // when
+        renewTask.getValue().run();
+
+        // then
+        verify(redisService, times(1)).expireValuesIfEquals(KEY, "7", LEASE_TIME);
+        verify(renewal, times(1)).cancel(false);
+    }
+
+    @Test
+    @DisplayName("잠금 해제 - 갱신을 멈추고 토큰이 일치할 때만 삭제")
+    void testClose() {
+        // given
+        when(redisService.incrementValues(KEY + ":fencing-token")).thenReturn(7L);
+        when(redisService.setValuesIfAbsent(KEY, "7", LEASE_TIME)).thenReturn(true);
+        doReturn(renewal).when(leaseRenewalScheduler).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+        RedisLeaseLock.Lease lease = redisLeaseLock.tryAcquire(KEY, LEASE_TIME).orElseThrow();
+
+        // when
+        lease.close();
+
+        // then
+        verify(renewal).cancel(false);
+        verify(redisService).deleteValuesIfEquals(KEY, "7");
+    }
+}
@@ -0,0 +1,99 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.ratelimit.RedisTokenBucket;
+import com.cojac.storyteller.common.redis.RedisService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisTokenBucketTest {
+
+    @Mock
+    private RedisService redisService;
+
+    @InjectMocks
+    private RedisTokenBucket redisTokenBucket;
+
+    @Test
+    @DisplayName("토큰 버킷 단위 테스트 - 토큰이 있으면 바로 획득")
+    void testAcquire_Immediate() throws InterruptedException {
+        // given
+        when(redisService.executeScript(any(), eq(List.of("bucket")), any(), any())).thenReturn(0L);
+
+        // when
+        boolean acquired = redisTokenBucket.acquire("bucket", 10, 600, Duration.ofSeconds(1));
+
+        // then
+        assertTrue(acquired);
+        verify(redisService).executeScript(any(), eq(List.of("bucket")), eq("10"), eq("0.01"));
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 단위 테스트 - 토큰이 부족하면 안내받은 시간만큼 기다린 뒤 다시 시도")
+    void testAcquire_WaitsAndRetries() throws InterruptedException {
+        // given
+        when(redisService.executeScript(any(), anyList(), any(), any())).thenReturn(20L, 0L);
+
+        // when
+        boolean acquired = redisTokenBucket.acquire("bucket", 10, 600, Duration.ofSeconds(1));
+
+        // then
+        assertTrue(acquired);
+        verify(redisService, times(2)).executeScript(any(), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 단위 테스트 - 최대 대기 시간 안에 토큰이 차지 않으면 실패")
+    void testAcquire_Timeout() throws InterruptedException {
+        // given
+        when(redisService.executeScript(any(), anyList(), any(), any())).thenReturn(5_000L);
+
+        // when
+        boolean acquired = redisTokenBucket.acquire("bucket", 10, 600, Duration.ofMillis(100));
+
+        // then
+        assertFalse(acquired);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷 단위 테스트 - Redis 장애 시 제한 없이 진행")
+    void testAcquire_FailOpen() throws InterruptedException {
+        // given
+        when(redisService.executeScript(any(), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        boolean acquired = redisTokenBucket.acquire("bucket", 10, 600, Duration.ofSeconds(1));
+
+        // then
+        assertTrue(acquired);
+    }
+}
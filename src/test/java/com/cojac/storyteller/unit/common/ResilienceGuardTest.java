@@ -0,0 +1,164 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.exception.ExternalServiceUnavailableException;
+import com.cojac.storyteller.common.resilience.ExternalDependency;
+import com.cojac.storyteller.common.resilience.ResilienceGuard;
+import com.cojac.storyteller.response.code.ErrorCode;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+class ResilienceGuardTest {
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ResilienceGuard resilienceGuard;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordException(ResilienceGuard::isTransientFailure)
+                .build());
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryOnException(ResilienceGuard::isTransientFailure)
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        resilienceGuard = new ResilienceGuard(circuitBreakerRegistry, retryRegistry, bulkheadRegistry);
+    }
+
+    @Test
+    @DisplayName("외부 호출 단위 테스트 - 일시적인 오류는 재시도 후 성공")
+    void testCall_RetriesTransientFailure() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = resilienceGuard.call(ExternalDependency.OPENAI_CHAT, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ResourceAccessException("timeout");
+            }
+            return "ok";
+        });
+
+        // then
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("외부 호출 단위 테스트 - 4xx 오류는 재시도하지 않음")
+    void testCall_DoesNotRetryClientError() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThrows(HttpClientErrorException.class, () -> resilienceGuard.call(ExternalDependency.OPENAI_CHAT, () -> {
+            attempts.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("외부 호출 단위 테스트 - 재시도 없이 실행")
+    void testCallOnce_DoesNotRetry() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThrows(HttpServerErrorException.class, () -> resilienceGuard.callOnce(ExternalDependency.OPENAI_CHAT, () -> {
+            attempts.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("외부 호출 단위 테스트 - 실패가 누적되어 서킷이 열리면 호출하지 않고 바로 실패")
+    void testCall_CircuitOpen() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpServerErrorException.class, () -> resilienceGuard.callOnce(ExternalDependency.OPENAI_IMAGE, () -> {
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker("openai-image").getState());
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        ExternalServiceUnavailableException exception = assertThrows(ExternalServiceUnavailableException.class,
+                () -> resilienceGuard.call(ExternalDependency.OPENAI_IMAGE, attempts::incrementAndGet));
+
+        // then
+        assertEquals(ErrorCode.EXTERNAL_SERVICE_UNAVAILABLE, exception.getErrorCode());
+        assertEquals(0, attempts.get());
+        // 다른 의존성의 서킷에는 영향 없음
+        assertEquals("ok", resilienceGuard.call(ExternalDependency.S3, () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("외부 호출 단위 테스트 - 동시 호출 수를 넘으면 기다리지 않고 실패")
+    void testCall_BulkheadFull() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> resilienceGuard.call(ExternalDependency.S3, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "first";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // when & then
+        assertThrows(ExternalServiceUnavailableException.class, () -> resilienceGuard.call(ExternalDependency.S3, () -> "second"));
+        release.countDown();
+        assertEquals("first", running.get(5, TimeUnit.SECONDS));
+    }
+}
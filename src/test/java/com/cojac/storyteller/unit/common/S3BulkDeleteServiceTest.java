@@ -0,0 +1,207 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.amazon.AmazonS3Service;
+import com.cojac.storyteller.common.amazon.S3BulkDeleteService;
+import com.cojac.storyteller.common.openAI.IllustrationCache;
+import com.cojac.storyteller.common.redis.RedisService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class S3BulkDeleteServiceTest {
+
+    @Mock
+    private AmazonS3Service amazonS3Service;
+
+    @Mock
+    private IllustrationCache illustrationCache;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private ThreadPoolTaskExecutor s3DeleteExecutor;
+
+    private S3BulkDeleteService s3BulkDeleteService;
+
+    @BeforeEach
+    void setUp() {
+        s3BulkDeleteService = new S3BulkDeleteService(amazonS3Service, illustrationCache, redisService, s3DeleteExecutor);
+        // 스레드 풀에 제출된 작업을 바로 실행
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(s3DeleteExecutor).execute(any(Runnable.class));
+        lenient().when(illustrationCache.release(anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 트랜잭션 커밋 이후에 삭제")
+    void testDeleteAfterCommit_WaitsForCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        s3BulkDeleteService.deleteAfterCommit(Arrays.asList("cover", null, "page", "cover"));
+
+        // then
+        verifyNoInteractions(amazonS3Service);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.get(0).afterCommit();
+        verify(amazonS3Service, times(1)).deleteS3Objects(List.of("cover", "page"));
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 묶음 크기만큼 나누어 스레드 풀에 제출")
+    void testDeleteAfterCommit_Chunks() {
+        // given
+        ReflectionTestUtils.setField(s3BulkDeleteService, "batchSize", 2);
+        List<String> urls = IntStream.range(0, 5).mapToObj(i -> "image" + i).toList();
+
+        // when
+        s3BulkDeleteService.deleteAfterCommit(urls);
+
+        // then
+        verify(s3DeleteExecutor, times(3)).execute(any(Runnable.class));
+        verify(amazonS3Service).deleteS3Objects(List.of("image0", "image1"));
+        verify(amazonS3Service).deleteS3Objects(List.of("image2", "image3"));
+        verify(amazonS3Service).deleteS3Objects(List.of("image4"));
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 다른 책과 공유 중인 삽화는 삭제하지 않음")
+    void testDeleteAfterCommit_SkipsSharedImages() {
+        // given
+        when(illustrationCache.release("shared")).thenReturn(false);
+
+        // when
+        s3BulkDeleteService.deleteAfterCommit(List.of("shared", "own"));
+
+        // then
+        verify(amazonS3Service, times(1)).deleteS3Objects(List.of("own"));
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 같은 삽화를 여러 번 사용했으면 참조 수만큼 해제하고 S3에는 한 번만 삭제 요청")
+    void testDeleteAfterCommit_ReleasesEveryReference() {
+        // given - 두 페이지가 같은 삽화를 사용하여 참조 수가 2
+        when(illustrationCache.release("shared")).thenReturn(false, true);
+
+        // when
+        s3BulkDeleteService.deleteAfterCommit(List.of("shared", "own", "shared"));
+
+        // then
+        verify(illustrationCache, times(2)).release("shared");
+        verify(amazonS3Service, times(1)).deleteS3Objects(List.of("own", "shared"));
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 스레드 풀이 가득 차면 호출한 스레드에서 삭제")
+    void testDeleteAfterCommit_Rejected() {
+        // given
+        doThrow(new TaskRejectedException("full")).when(s3DeleteExecutor).execute(any(Runnable.class));
+
+        // when
+        s3BulkDeleteService.deleteAfterCommit(List.of("cover"));
+
+        // then
+        verify(amazonS3Service, times(1)).deleteS3Objects(List.of("cover"));
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 삭제에 실패한 이미지는 재시도 대기열에 추가")
+    void testDeleteAfterCommit_FailedKeysQueued() {
+        // given
+        when(amazonS3Service.deleteS3Objects(anyList())).thenReturn(List.of("page"));
+        when(redisService.incrementHashOps("s3-delete:attempts", "page")).thenReturn(1L);
+
+        // when
+        s3BulkDeleteService.deleteAfterCommit(List.of("cover", "page"));
+
+        // then
+        verify(redisService, times(1)).addSortedSetOps(eq("s3-delete:retry"), eq("page"), anyDouble());
+        verify(redisService, never()).addSortedSetOps(anyString(), eq("cover"), anyDouble());
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 재시도 횟수를 넘으면 대기열에 다시 넣지 않음")
+    void testDeleteAfterCommit_GivesUpAfterMaxAttempts() {
+        // given
+        when(amazonS3Service.deleteS3Objects(anyList())).thenReturn(List.of("page"));
+        when(redisService.incrementHashOps("s3-delete:attempts", "page")).thenReturn(11L);
+
+        // when
+        s3BulkDeleteService.deleteAfterCommit(List.of("page"));
+
+        // then
+        verify(redisService, never()).addSortedSetOps(anyString(), anyString(), anyDouble());
+        verify(redisService, times(1)).deleteHashOps("s3-delete:attempts", "page");
+    }
+
+    @Test
+    @DisplayName("S3 일괄 삭제 단위 테스트 - 재시도 시각이 된 이미지를 선점하여 다시 삭제")
+    void testRetryFailedDeletes() {
+        // given
+        when(redisService.getSortedSetRangeByScore(eq("s3-delete:retry"), anyDouble(), anyLong()))
+                .thenReturn(List.of("a", "b", "c"));
+        // b는 다른 인스턴스가 먼저 가져감
+        when(redisService.removeSortedSetOps("s3-delete:retry", "a")).thenReturn(true);
+        when(redisService.removeSortedSetOps("s3-delete:retry", "b")).thenReturn(false);
+        when(redisService.removeSortedSetOps("s3-delete:retry", "c")).thenReturn(true);
+        when(amazonS3Service.deleteS3Objects(List.of("a", "c"))).thenReturn(new ArrayList<>(List.of("c")));
+        when(redisService.incrementHashOps("s3-delete:attempts", "c")).thenReturn(2L);
+
+        // when
+        s3BulkDeleteService.retryFailedDeletes();
+
+        // then
+        verify(redisService, times(1)).deleteHashOps("s3-delete:attempts", "a");
+        verify(redisService, times(1)).addSortedSetOps(eq("s3-delete:retry"), eq("c"), anyDouble());
+        // 재시도 시에는 참조 수를 다시 해제하지 않음
+        verifyNoInteractions(illustrationCache);
+    }
+}
@@ -0,0 +1,77 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.deletion.DeleteReport;
+import com.cojac.storyteller.common.deletion.SetBasedDeleteEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class SetBasedDeleteEngineTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SetBasedDeleteEngine deleteEngine;
+
+    @BeforeEach
+    void setUp() {
+        deleteEngine = new SetBasedDeleteEngine(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(deleteEngine, "chunkSize", 2);
+        // 바인딩한 ID 수만큼 삭제되었다고 응답
+        lenient().when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> invocation.getArguments().length - 1);
+    }
+
+    @Test
+    @DisplayName("책 일괄 삭제 - IN 목록을 묶음 크기로 나누고 묶음마다 트랜잭션을 커밋")
+    void testDeleteBooks_ChunksInList() {
+        // given
+        when(jdbcTemplate.queryForList(startsWith("SELECT setting_id"), eq(Integer.class), any(Object[].class)))
+                .thenReturn(List.of(11, 12), Arrays.asList(13, null));
+
+        // when
+        DeleteReport report = deleteEngine.deleteBooks(List.of(1, 2, 3));
+
+        // then
+        verify(jdbcTemplate).update("DELETE FROM BookEntity WHERE id IN (?, ?)", 1, 2);
+        verify(jdbcTemplate).update("DELETE FROM BookEntity WHERE id IN (?)", 3);
+        verify(jdbcTemplate).update("DELETE FROM SettingEntity WHERE id IN (?)", 13);
+        verify(jdbcTemplate).update("DELETE FROM UnknownWordEntity WHERE page_id IN (SELECT id FROM PageEntity WHERE book_id IN (?, ?))", 1, 2);
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3, report.getRows(SetBasedDeleteEngine.BOOK_TABLE));
+        assertEquals(3, report.getRows(SetBasedDeleteEngine.SETTING_TABLE));
+    }
+}
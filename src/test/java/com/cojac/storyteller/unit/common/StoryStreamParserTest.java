@@ -0,0 +1,131 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.openAI.StoryStreamListener;
+import com.cojac.storyteller.common.openAI.StoryStreamParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+class StoryStreamParserTest {
+
+    private final List<String> events = new ArrayList<>();
+    private StoryStreamParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new StoryStreamParser(new StoryStreamListener() {
+            @Override
+            public void onTitle(String title) {
+                events.add("title:" + title);
+            }
+
+            @Override
+            public void onParagraph(String paragraph) {
+                events.add("paragraph:" + paragraph);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("스트리밍 파서 단위 테스트 - 토큰이 나뉘어 도착해도 제목과 문단을 순서대로 분리")
+    void testParse_SplitTokens() {
+        // given
+        String story = "Title: The Brave Fox\n\nContent: Once upon a time.\n\nThe fox ran.\n\nThe end.";
+
+        // when
+        for (int i = 0; i < story.length(); i += 3) {
+            parser.append(story.substring(i, Math.min(i + 3, story.length())));
+            // 문단 구분자가 도착하기 전에는 마지막 문단을 전달하지 않음
+            assertFalse(events.contains("paragraph:The end."));
+        }
+        String result = parser.complete();
+
+        // then
+        assertEquals(story, result);
+        assertEquals(List.of(
+                "title:The Brave Fox",
+                "paragraph:Once upon a time.",
+                "paragraph:The fox ran.",
+                "paragraph:The end."
+        ), events);
+    }
+
+    @Test
+    @DisplayName("스트리밍 파서 단위 테스트 - 문단이 완성되면 스트림 종료 전에 전달")
+    void testParse_EmitsParagraphBeforeComplete() {
+        // when
+        parser.append("Title: Moon\nContent: First.");
+        parser.append("\n\nSec");
+
+        // then
+        assertEquals(List.of("title:Moon", "paragraph:First."), events);
+    }
+
+    @Test
+    @DisplayName("스트리밍 파서 단위 테스트 - 빈 문단은 무시")
+    void testParse_IgnoresBlankParagraphs() {
+        // when
+        parser.append("Title: Moon\n\nContent: First.\n\n\n\nSecond.\n\n");
+        parser.complete();
+
+        // then
+        assertEquals(List.of("title:Moon", "paragraph:First.", "paragraph:Second."), events);
+    }
+
+    @Test
+    @DisplayName("스트리밍 파서 단위 테스트 - Content 구분자가 없으면 예외 발생")
+    void testParse_NoContent() {
+        // when
+        parser.append("Just some text without format");
+
+        // then
+        assertThrows(IllegalStateException.class, () -> parser.complete());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    @DisplayName("스트리밍 파서 단위 테스트 - 잘린 스트림은 끝나지 않은 마지막 문단을 버림")
+    void testParse_TruncatedDropsPartialParagraph() {
+        // given
+        parser.append("Title: Moon\n\nContent: First.\n\nSecond.\n\nThe rabbit jum");
+
+        // when
+        String result = parser.completeTruncated();
+
+        // then
+        assertEquals("Title: Moon\n\nContent: First.\n\nSecond.", result);
+        assertEquals(List.of("title:Moon", "paragraph:First.", "paragraph:Second."), events);
+    }
+
+    @Test
+    @DisplayName("스트리밍 파서 단위 테스트 - 첫 문단이 끝나기 전에 잘리면 예외 발생")
+    void testParse_TruncatedBeforeFirstParagraph() {
+        // when
+        parser.append("Title: Moon\n\nContent: Once upon a ti");
+
+        // then
+        assertThrows(IllegalStateException.class, () -> parser.completeTruncated());
+        assertEquals(List.of("title:Moon"), events);
+    }
+}
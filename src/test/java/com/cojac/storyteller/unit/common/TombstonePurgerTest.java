@@ -0,0 +1,75 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.book.repository.batch.BatchBookDelete;
+import com.cojac.storyteller.common.amazon.S3BulkDeleteService;
+import com.cojac.storyteller.common.deletion.DeleteReport;
+import com.cojac.storyteller.common.deletion.SetBasedDeleteEngine;
+import com.cojac.storyteller.common.deletion.TombstonePurger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TombstonePurgerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private BatchBookDelete batchBookDelete;
+
+    @Mock
+    private S3BulkDeleteService s3BulkDeleteService;
+
+    private TombstonePurger tombstonePurger;
+
+    @BeforeEach
+    void setUp() {
+        tombstonePurger = new TombstonePurger(jdbcTemplate, batchBookDelete, s3BulkDeleteService);
+    }
+
+    @Test
+    @DisplayName("책 묶음 삭제 - 묶음의 이미지를 IN 목록으로 한 번에 조회하고, 책을 일괄 삭제한 뒤 커밋 후 이미지 삭제 등록")
+    void testPurgeBooks() {
+        // given
+        when(jdbcTemplate.queryForList("SELECT coverImage FROM BookEntity WHERE id IN (?, ?)", String.class, 1, 2))
+                .thenReturn(List.of("cover1", "cover2"));
+        when(jdbcTemplate.queryForList("SELECT image FROM PageEntity WHERE book_id IN (?, ?)", String.class, 1, 2))
+                .thenReturn(List.of("page1", "page2", "page3"));
+        DeleteReport report = new DeleteReport();
+        report.add(SetBasedDeleteEngine.BOOK_TABLE, 2);
+        when(batchBookDelete.deleteByBookIds(List.of(1, 2))).thenReturn(report);
+
+        // when
+        DeleteReport result = tombstonePurger.purgeBooks(List.of(1, 2));
+
+        // then
+        assertEquals(2, result.getRows(SetBasedDeleteEngine.BOOK_TABLE));
+        verify(s3BulkDeleteService).deleteAfterCommit(List.of("cover1", "cover2", "page1", "page2", "page3"));
+    }
+}
@@ -0,0 +1,136 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.deletion.DeleteReport;
+import com.cojac.storyteller.common.deletion.SetBasedDeleteEngine;
+import com.cojac.storyteller.common.deletion.TombstonePurger;
+import com.cojac.storyteller.common.deletion.TombstoneReaper;
+import com.cojac.storyteller.common.redis.RedisLeaseLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TombstoneReaperTest {
+
+    @Mock
+    private TombstonePurger tombstonePurger;
+
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+
+    @Mock
+    private RedisLeaseLock.Lease lease;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TombstoneReaper tombstoneReaper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tombstoneReaper = new TombstoneReaper(tombstonePurger, redisLeaseLock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("삭제 작업 - 삭제 표시된 책을 삭제 엔진 묶음 크기로 나누어 삭제한 뒤 빈 프로필 삭제")
+    void testReap_PurgesBooksInChunksThenProfiles() {
+        // given
+        ReflectionTestUtils.setField(tombstoneReaper, "chunkSize", 2);
+        when(redisLeaseLock.tryAcquire(eq("tombstone-reaper-lock"), any(Duration.class))).thenReturn(Optional.of(lease));
+        when(tombstonePurger.findDeletedBookIds(1000)).thenReturn(List.of(1, 2, 3));
+        when(tombstonePurger.findEmptyDeletedProfileIds(50)).thenReturn(List.of(10));
+        when(tombstonePurger.purgeProfile(10)).thenReturn(true);
+        when(tombstonePurger.purgeBooks(anyList())).thenAnswer(invocation -> {
+            List<Integer> bookIds = invocation.getArgument(0);
+            DeleteReport report = new DeleteReport();
+            report.add(SetBasedDeleteEngine.BOOK_TABLE, bookIds.size());
+            report.add("PageEntity", bookIds.size() * 3);
+            return report;
+        });
+
+        // when
+        tombstoneReaper.reap();
+
+        // then
+        verify(tombstonePurger).purgeBooks(List.of(1, 2));
+        verify(tombstonePurger).purgeBooks(List.of(3));
+        verify(tombstonePurger).purgeProfile(10);
+        verify(lease).close();
+        assertEquals(3.0, meterRegistry.get("deletion.reaper.purged").tag("type", "book").counter().count());
+        assertEquals(1.0, meterRegistry.get("deletion.reaper.purged").tag("type", "profile").counter().count());
+        assertEquals(9.0, meterRegistry.get("deletion.reaper.rows").tag("table", "PageEntity").counter().count());
+    }
+
+    @Test
+    @DisplayName("삭제 작업 - 묶음 삭제가 실패하면 한 권씩 다시 시도하여, 한 권이 실패해도 나머지 책은 삭제")
+    void testReap_RetriesFailedChunkOneByOne() {
+        // given
+        when(redisLeaseLock.tryAcquire(anyString(), any(Duration.class))).thenReturn(Optional.of(lease));
+        when(tombstonePurger.findDeletedBookIds(anyInt())).thenReturn(List.of(1, 2));
+        doThrow(new RuntimeException("DB 오류")).when(tombstonePurger).purgeBooks(List.of(1, 2));
+        doThrow(new RuntimeException("DB 오류")).when(tombstonePurger).purgeBooks(List.of(1));
+        DeleteReport report = new DeleteReport();
+        report.add(SetBasedDeleteEngine.BOOK_TABLE, 1);
+        doReturn(report).when(tombstonePurger).purgeBooks(List.of(2));
+
+        // when
+        tombstoneReaper.reap();
+
+        // then
+        verify(tombstonePurger).purgeBooks(List.of(2));
+        assertEquals(1.0, meterRegistry.get("deletion.reaper.failures").counter().count());
+        assertEquals(1.0, meterRegistry.get("deletion.reaper.purged").tag("type", "book").counter().count());
+    }
+
+    @Test
+    @DisplayName("삭제 작업 - 다른 인스턴스가 실행 중이면 건너뜀")
+    void testReap_SkipsWhenLockHeld() {
+        // given
+        when(redisLeaseLock.tryAcquire(anyString(), any(Duration.class))).thenReturn(Optional.empty());
+
+        // when
+        tombstoneReaper.reap();
+
+        // then
+        verifyNoInteractions(tombstonePurger);
+    }
+
+    @Test
+    @DisplayName("삭제 작업 - Redis 장애 시 건너뛰고 다음 주기에 다시 시도")
+    void testReap_SkipsWhenRedisUnavailable() {
+        // given
+        when(redisLeaseLock.tryAcquire(anyString(), any(Duration.class))).thenThrow(new RuntimeException("Redis 연결 실패"));
+
+        // when & then
+        assertDoesNotThrow(() -> tombstoneReaper.reap());
+        verifyNoInteractions(tombstonePurger);
+    }
+}
@@ -0,0 +1,377 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.common.cache.CacheEnvelope;
+import com.cojac.storyteller.common.cache.CacheRefreshPolicy;
+import com.cojac.storyteller.common.cache.TwoLevelCacheManager;
+import com.cojac.storyteller.common.redis.RedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private ConcurrentMapCacheManager l2CacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        l2CacheManager = new ConcurrentMapCacheManager();
+        meterRegistry = new SimpleMeterRegistry();
+        CacheRefreshPolicy refreshPolicy = new CacheRefreshPolicy(Duration.ofMinutes(10), Duration.ofMinutes(2), 1.0,
+                Duration.ofSeconds(10), Duration.ofMillis(500));
+        // 백그라운드 갱신은 호출한 스레드에서 바로 실행
+        cacheManager = new TwoLevelCacheManager(l2CacheManager, redisService, meterRegistry, 100, Duration.ofMinutes(1),
+                refreshPolicy, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 - L2에서 찾은 값은 L1에 저장되어 다음 조회는 L2를 거치지 않음")
+    void testGet_PromotesL2HitToL1() {
+        // given
+        l2CacheManager.getCache("bookListCache").put("1:v0:all", fresh(List.of("book")));
+        Cache cache = cacheManager.getCache("bookListCache");
+
+        // when
+        cache.get("1:v0:all");
+        l2CacheManager.getCache("bookListCache").evict("1:v0:all");
+        Cache.ValueWrapper second = cache.get("1:v0:all");
+
+        // then
+        assertNotNull(second);
+        assertEquals(List.of("book"), second.get());
+        assertEquals(1.0, counter("l1", "hit"));
+        assertEquals(1.0, counter("l1", "miss"));
+        assertEquals(1.0, counter("l2", "hit"));
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 - 두 계층 모두 없으면 L2 miss")
+    void testGet_MissOnBothTiers() {
+        // when
+        Cache.ValueWrapper value = cacheManager.getCache("bookListCache").get("missing");
+
+        // then
+        assertNull(value);
+        assertEquals(1.0, counter("l2", "miss"));
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 - 삭제하면 두 계층에서 삭제하고 무효화 메시지 발행")
+    void testEvict_PublishesInvalidation() {
+        // given
+        Cache cache = cacheManager.getCache("quizCache");
+        cache.put("1:2", "quiz");
+
+        // when
+        cache.evict("1:2");
+
+        // then
+        assertNull(cache.get("1:2"));
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisService).publish(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), message.capture());
+        assertTrue(message.getValue().endsWith("|quizCache|1:2"));
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 - 다른 인스턴스의 무효화 메시지를 받으면 L1만 삭제")
+    void testOnMessage_EvictsL1FromOtherInstance() {
+        // given
+        Cache cache = cacheManager.getCache("bookListCache");
+        cache.put("1:v0:all", List.of("old"));
+        l2CacheManager.getCache("bookListCache").put("1:v0:all", fresh(List.of("new")));
+
+        // when
+        cacheManager.onMessage(message("other-instance|bookListCache|1:v0:all"), null);
+
+        // then
+        assertEquals(List.of("new"), cache.get("1:v0:all").get());
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 - 자신이 발행한 메시지는 무시")
+    void testOnMessage_IgnoresOwnMessage() {
+        // given
+        Cache cache = cacheManager.getCache("bookListCache");
+        cache.put("1:v0:all", List.of("book"));
+        cache.evict("other-key");
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisService).publish(anyString(), published.capture());
+        String ownInstanceId = published.getValue().split("\\|")[0];
+        l2CacheManager.getCache("bookListCache").evict("1:v0:all");
+
+        // when
+        cacheManager.onMessage(message(ownInstanceId + "|bookListCache|1:v0:all"), null);
+
+        // then
+        assertNotNull(cache.get("1:v0:all"));
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 - 전체 삭제 메시지를 받으면 L1 전체 삭제")
+    void testOnMessage_ClearAll() {
+        // given
+        Cache cache = cacheManager.getCache("bookListCache");
+        cache.put("a", "1");
+        cache.put("b", "2");
+        l2CacheManager.getCache("bookListCache").clear();
+
+        // when
+        cacheManager.onMessage(message("other-instance|bookListCache|*"), null);
+
+        // then
+        assertNull(cache.get("a"));
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    @DisplayName("재계산 - 같은 키의 동시 캐시 미스는 한 번만 계산하고 결과를 공유")
+    void testGetWithLoader_CoalescesConcurrentMisses() throws Exception {
+        // given
+        when(redisService.setValuesIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        Cache cache = cacheManager.getCache("bookListCache");
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<List<String>> loader = () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return List.of("book");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<List<String>> first = executor.submit(() -> cache.get("1:v0:all", loader));
+            loading.await();
+            Future<List<String>> second = executor.submit(() -> cache.get("1:v0:all", loader));
+            while (meterRegistry.get("cache.load.coalesced").counter().count() < 1) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            // then
+            assertEquals(List.of("book"), first.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of("book"), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+            verify(redisService, times(1)).setValuesIfAbsent(anyString(), anyString(), any(Duration.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("재계산 - 논리적으로 만료된 값은 그대로 반환하고 백그라운드에서 갱신")
+    void testGetWithLoader_ServesStaleAndRefreshes() {
+        // given
+        when(redisService.setValuesIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        l2CacheManager.getCache("bookListCache").put("1:v0:all",
+                new CacheEnvelope<>(List.of("old"), System.currentTimeMillis() - 1000, 10));
+        Cache cache = cacheManager.getCache("bookListCache");
+
+        // when
+        List<String> served = cache.get("1:v0:all", () -> List.of("new"));
+
+        // then
+        assertEquals(List.of("old"), served);
+        CacheEnvelope<?> refreshed = (CacheEnvelope<?>) l2CacheManager.getCache("bookListCache").get("1:v0:all").get();
+        assertEquals(List.of("new"), refreshed.value());
+        assertFalse(refreshed.isStale(System.currentTimeMillis()));
+        assertEquals(1.0, meterRegistry.get("cache.refresh").tag("trigger", "stale").counter().count());
+        verify(redisService).deleteValuesIfEquals(startsWith("cache-lock:bookListCache::"), anyString());
+    }
+
+    @Test
+    @DisplayName("재계산 - 값 없이 조회하면 논리적으로 만료된 값은 캐시 미스")
+    void testGet_StaleIsMissWithoutLoader() {
+        // given
+        l2CacheManager.getCache("bookListCache").put("1:v0:all",
+                new CacheEnvelope<>(List.of("old"), System.currentTimeMillis() - 1000, 10));
+
+        // when
+        Cache.ValueWrapper value = cacheManager.getCache("bookListCache").get("1:v0:all");
+
+        // then
+        assertNull(value);
+    }
+
+    @Test
+    @DisplayName("재계산 - 계산이 오래 걸리는 값은 만료 전에 미리 갱신 (XFetch)")
+    void testGetWithLoader_RefreshesEarly() {
+        // given
+        when(redisService.setValuesIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        l2CacheManager.getCache("bookListCache").put("1:v0:all",
+                new CacheEnvelope<>(List.of("old"), System.currentTimeMillis() + 1000, Duration.ofHours(1).toMillis()));
+        Cache cache = cacheManager.getCache("bookListCache");
+
+        // when
+        List<String> served = cache.get("1:v0:all", () -> List.of("new"));
+
+        // then
+        assertEquals(List.of("old"), served);
+        assertEquals(List.of("new"), cache.get("1:v0:all").get());
+        assertEquals(1.0, meterRegistry.get("cache.refresh").tag("trigger", "early").counter().count());
+    }
+
+    @Test
+    @DisplayName("재계산 - 다른 인스턴스가 잠금을 가지고 있으면 계산하지 않고 그 결과를 기다림")
+    void testGetWithLoader_WaitsForOtherInstance() throws Exception {
+        // given
+        when(redisService.setValuesIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        Cache cache = cacheManager.getCache("bookListCache");
+        AtomicInteger calls = new AtomicInteger();
+        ScheduledExecutorService otherInstance = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            otherInstance.schedule(() -> l2CacheManager.getCache("bookListCache").put("1:v0:all", fresh(List.of("computed"))),
+                    100, TimeUnit.MILLISECONDS);
+
+            // when
+            List<String> value = cache.get("1:v0:all", () -> {
+                calls.incrementAndGet();
+                return List.of("mine");
+            });
+
+            // then
+            assertEquals(List.of("computed"), value);
+            assertEquals(0, calls.get());
+            assertEquals(1.0, meterRegistry.get("cache.lock.contended").counter().count());
+            verify(redisService, never()).deleteValuesIfEquals(anyString(), anyString());
+        } finally {
+            otherInstance.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("재계산 - 잠금을 기다려도 값이 없으면 직접 계산")
+    void testGetWithLoader_ComputesAfterLockWait() {
+        // given
+        when(redisService.setValuesIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        Cache cache = cacheManager.getCache("bookListCache");
+
+        // when
+        List<String> value = cache.get("1:v0:all", () -> List.of("mine"));
+
+        // then
+        assertEquals(List.of("mine"), value);
+        assertNotNull(l2CacheManager.getCache("bookListCache").get("1:v0:all"));
+    }
+
+    @Test
+    @DisplayName("재계산 - 계산 중 발생한 예외는 그대로 전달하고 캐시하지 않음")
+    void testGetWithLoader_PropagatesLoaderException() {
+        // given
+        when(redisService.setValuesIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        Cache cache = cacheManager.getCache("bookListCache");
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        // when
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, () -> cache.get("1:v0:all", () -> {
+            throw failure;
+        }));
+
+        // then
+        assertSame(failure, thrown);
+        assertNull(l2CacheManager.getCache("bookListCache").get("1:v0:all"));
+        verify(redisService).deleteValuesIfEquals(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 - Redis 장애 시 L2를 건너뛰고 계산한 값을 반환")
+    void testGet_RedisFailureFallsBackToLoader() {
+        // given
+        Cache failingL2 = mock(Cache.class);
+        when(failingL2.get(any())).thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+        doThrow(new RedisConnectionFailureException("Redis 연결 실패")).when(failingL2).put(any(), any());
+        CacheManager failingL2Manager = mock(CacheManager.class);
+        when(failingL2Manager.getCache("bookListCache")).thenReturn(failingL2);
+        when(redisService.setValuesIfAbsent(anyString(), anyString(), any())).thenThrow(new RedisConnectionFailureException("Redis 연결 실패"));
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(failingL2Manager, redisService, meterRegistry, 100, Duration.ofMinutes(1),
+                new CacheRefreshPolicy(Duration.ofMinutes(10), Duration.ofMinutes(2), 1.0, Duration.ofSeconds(10), Duration.ofMillis(500)),
+                Runnable::run);
+
+        // when
+        Object value = manager.getCache("bookListCache").get("1:v0:all", () -> List.of("book"));
+
+        // then
+        assertEquals(List.of("book"), value);
+        assertEquals(1.0, counter("l2", "miss"));
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 - 다른 인스턴스의 무효화 메시지를 캐시 이름별 리스너에도 전달")
+    void testOnMessage_NotifiesInvalidationListeners() {
+        // given
+        List<String> received = new ArrayList<>();
+        cacheManager.addInvalidationListener("bookListCache", received::add);
+
+        // when
+        cacheManager.onMessage(message("other-instance|bookListCache|version:1"), null);
+        cacheManager.onMessage(message("other-instance|bookListCache|*"), null);
+        cacheManager.onMessage(message("other-instance|quizCache|1:2"), null);
+
+        // then
+        assertEquals(Arrays.asList("version:1", null), received);
+    }
+
+    private double counter(String tier, String result) {
+        return meterRegistry.get("cache.tier.requests").tag("tier", tier).tag("result", result).counter().count();
+    }
+
+    private static CacheEnvelope<Object> fresh(Object value) {
+        return new CacheEnvelope<>(value, System.currentTimeMillis() + Duration.ofMinutes(10).toMillis(), 0);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
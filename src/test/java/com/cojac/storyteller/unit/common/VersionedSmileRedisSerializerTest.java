@@ -0,0 +1,148 @@
+package com.cojac.storyteller.unit.common;
+
+import com.cojac.storyteller.book.dto.BookListResponseDTO;
+import com.cojac.storyteller.book.dto.QuizResponseDTO;
+import com.cojac.storyteller.common.cache.CacheEnvelope;
+import com.cojac.storyteller.common.cache.VersionedSmileRedisSerializer;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 단위 테스트 클래스
+ *
+ * 이 클래스는 개별 단위(주로 서비스 또는 비즈니스 로직) 기능을 검증하기 위한 단위 테스트를 포함합니다.
+ *
+ * 주요 특징:
+ * - 모의 객체(mock objects)를 사용하여 외부 의존성을 제거하고,테스트 대상 객체의 로직에만 집중합니다.
+ * - 테스트의 독립성을 보장하여, 각 테스트가 서로에게 영향을 미치지 않도록 합니다.
+ *
+ * 테스트 전략:
+ * - 간단한 기능이나 로직에 대한 테스트는 단위 테스트를 사용하십시오.
+ * - 시스템의 전체적인 동작 및 상호작용을 검증하기 위해 통합 테스트를 활용하십시오.
+ *
+ * 참고: 단위 테스트는 실행 속도가 빠르며,
+ *       전체 시스템의 동작보다는 개별 단위의 동작을 검증하는 데 중점을 둡니다.
+ */
+class VersionedSmileRedisSerializerTest {
+
+    private ObjectMapper smileMapper;
+    private VersionedSmileRedisSerializer<List<BookListResponseDTO>> bookListSerializer;
+
+    @BeforeEach
+    void setUp() {
+        smileMapper = VersionedSmileRedisSerializer.createSmileMapper();
+        JavaType bookListType = smileMapper.getTypeFactory().constructCollectionType(List.class, BookListResponseDTO.class);
+        bookListSerializer = new VersionedSmileRedisSerializer<>(smileMapper, bookListType);
+    }
+
+    @Test
+    @DisplayName("Smile 직렬화 - 책 목록을 직렬화한 뒤 같은 값으로 복원")
+    void testRoundTrip() {
+        // given
+        List<BookListResponseDTO> books = books(3);
+
+        // when
+        List<BookListResponseDTO> restored = bookListSerializer.deserialize(bookListSerializer.serialize(books));
+
+        // then
+        assertEquals(3, restored.size());
+        assertEquals(books.get(1).getBookId(), restored.get(1).getBookId());
+        assertEquals(books.get(1).getTitle(), restored.get(1).getTitle());
+        assertEquals(books.get(1).getIsFavorite(), restored.get(1).getIsFavorite());
+    }
+
+    @Test
+    @DisplayName("Smile 직렬화 - 갱신 정보(CacheEnvelope)로 감싼 책 목록을 복원하고, 감싸지 않은 값과 지문이 다름")
+    void testEnvelopeRoundTrip() {
+        // given
+        JavaType envelopeType = smileMapper.getTypeFactory().constructParametricType(CacheEnvelope.class,
+                smileMapper.getTypeFactory().constructCollectionType(List.class, BookListResponseDTO.class));
+        VersionedSmileRedisSerializer<CacheEnvelope<List<BookListResponseDTO>>> envelopeSerializer =
+                new VersionedSmileRedisSerializer<>(smileMapper, envelopeType);
+        CacheEnvelope<List<BookListResponseDTO>> envelope = new CacheEnvelope<>(books(2), 1_700_000_000_000L, 35);
+
+        // when
+        CacheEnvelope<List<BookListResponseDTO>> restored = envelopeSerializer.deserialize(envelopeSerializer.serialize(envelope));
+
+        // then
+        assertEquals(envelope.softExpiresAt(), restored.softExpiresAt());
+        assertEquals(envelope.computeMillis(), restored.computeMillis());
+        assertEquals(2, restored.value().size());
+        assertEquals(envelope.value().get(1).getTitle(), restored.value().get(1).getTitle());
+        assertNotEquals(bookListSerializer.getSchemaFingerprint(), envelopeSerializer.getSchemaFingerprint());
+    }
+
+    @Test
+    @DisplayName("Smile 직렬화 - JDK 직렬화보다 작은 값")
+    void testSmallerThanJdkSerialization() {
+        // given
+        List<BookListResponseDTO> books = books(20);
+
+        // when
+        int smileSize = bookListSerializer.serialize(books).length;
+        int jdkSize = new JdkSerializationRedisSerializer().serialize(new ArrayList<>(books)).length;
+
+        // then
+        assertTrue(smileSize < jdkSize, "smile=" + smileSize + ", jdk=" + jdkSize);
+    }
+
+    @Test
+    @DisplayName("Smile 직렬화 - 이전 배포의 JDK 직렬화 값은 캐시 미스로 처리")
+    void testJdkPayloadIsMiss() {
+        // given
+        byte[] jdkPayload = new JdkSerializationRedisSerializer().serialize(new ArrayList<>(books(2)));
+
+        // when & then
+        assertNull(bookListSerializer.deserialize(jdkPayload));
+    }
+
+    @Test
+    @DisplayName("Smile 직렬화 - 스키마 지문이 다른 값은 캐시 미스로 처리")
+    void testDifferentSchemaIsMiss() {
+        // given
+        VersionedSmileRedisSerializer<QuizResponseDTO> quizSerializer =
+                new VersionedSmileRedisSerializer<>(smileMapper, smileMapper.constructType(QuizResponseDTO.class));
+        byte[] quizPayload = quizSerializer.serialize(new QuizResponseDTO("질문"));
+
+        // when & then
+        assertNotEquals(quizSerializer.getSchemaFingerprint(), bookListSerializer.getSchemaFingerprint());
+        assertNull(bookListSerializer.deserialize(quizPayload));
+        assertEquals("질문", quizSerializer.deserialize(quizPayload).getQuestion());
+    }
+
+    @Test
+    @DisplayName("Smile 직렬화 - 손상된 값은 예외 없이 캐시 미스로 처리")
+    void testCorruptedPayloadIsMiss() {
+        // given
+        byte[] payload = bookListSerializer.serialize(books(2));
+        byte[] truncated = Arrays.copyOf(payload, payload.length / 2);
+
+        // when & then
+        assertNull(bookListSerializer.deserialize(truncated));
+        assertNull(bookListSerializer.deserialize(new byte[0]));
+    }
+
+    private static List<BookListResponseDTO> books(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> BookListResponseDTO.builder()
+                        .bookId(i)
+                        .title("동화 제목 " + i)
+                        .coverImage("https://s3.ap-northeast-2.amazonaws.com/storyteller/cover/" + i + ".png")
+                        .currentPage(i % 5)
+                        .isReading(i % 2 == 0)
+                        .isFavorite(i % 3 == 0)
+                        .build())
+                .toList();
+    }
+}
@@ -1,16 +1,14 @@
 package com.cojac.storyteller.unit.page;
 
-import com.cojac.storyteller.book.entity.BookEntity;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
-import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
 import com.cojac.storyteller.page.dto.PageDetailResponseDTO;
 import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.page.exception.PageNotFoundException;
 import com.cojac.storyteller.page.repository.PageRepository;
 import com.cojac.storyteller.page.service.PageService;
-import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
-import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.response.code.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,22 +45,15 @@ class PageServiceUnitTest {
     private PageRepository pageRepository;
 
     @Mock
-    private BookRepository bookRepository;
-
-    @Mock
-    private ProfileRepository profileRepository;
+    private OwnershipResolver ownershipResolver;
 
     @InjectMocks
     private PageService pageService;
 
-    private ProfileEntity profile;
-    private BookEntity book;
     private PageEntity page;
 
     @BeforeEach
     void setUp() {
-        profile = ProfileEntity.builder().id(1).build();
-        book = BookEntity.builder().id(1).profile(profile).title("Test Book").build();
         page = PageEntity.builder().id(1).pageNumber(1).image("imageUrl").content("Page content").build();
     }
 
@@ -77,9 +68,7 @@ class PageServiceUnitTest {
         Integer bookId = 1;
         Integer pageNum = 1;
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(bookId, profile)).thenReturn(Optional.of(book));
-        when(pageRepository.findPageWithUnknownWords(book, pageNum)).thenReturn(Optional.of(page));
+        when(pageRepository.findPageWithUnknownWords(bookId, pageNum)).thenReturn(Optional.of(page));
 
         // when
         PageDetailResponseDTO result = pageService.getPageDetail(profileId, bookId, pageNum);
@@ -91,9 +80,8 @@ class PageServiceUnitTest {
         assertEquals(page.getImage(), result.getImage());
         assertEquals(page.getContent(), result.getContent());
 
-        verify(profileRepository, times(1)).findById(profileId);
-        verify(bookRepository, times(1)).findByIdAndProfile(bookId, profile);
-        verify(pageRepository, times(1)).findPageWithUnknownWords(book, pageNum);
+        verify(ownershipResolver, times(1)).verify(profileId, bookId);
+        verify(pageRepository, times(1)).findPageWithUnknownWords(bookId, pageNum);
     }
 
     @Test
@@ -104,10 +92,11 @@ class PageServiceUnitTest {
         Integer bookId = 1;
         Integer pageNum = 1;
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.empty());
+        doThrow(new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND)).when(ownershipResolver).verify(profileId, bookId);
 
         // when & then
         assertThrows(ProfileNotFoundException.class, () -> pageService.getPageDetail(profileId, bookId, pageNum));
+        verify(pageRepository, never()).findPageWithUnknownWords(any(), any());
     }
 
     @Test
@@ -118,8 +107,7 @@ class PageServiceUnitTest {
         Integer bookId = 1;
         Integer pageNum = 1;
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(bookId, profile)).thenReturn(Optional.empty());
+        doThrow(new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND)).when(ownershipResolver).verify(profileId, bookId);
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> pageService.getPageDetail(profileId, bookId, pageNum));
@@ -133,9 +121,7 @@ class PageServiceUnitTest {
         Integer bookId = 1;
         Integer pageNum = 1;
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(bookId, profile)).thenReturn(Optional.of(book));
-        when(pageRepository.findPageWithUnknownWords(book, pageNum)).thenReturn(Optional.empty());
+        when(pageRepository.findPageWithUnknownWords(bookId, pageNum)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(PageNotFoundException.class, () -> pageService.getPageDetail(profileId, bookId, pageNum));
@@ -1,19 +1,19 @@
 package com.cojac.storyteller.unit.profile;
 
-import com.cojac.storyteller.book.entity.BookEntity;
 import com.cojac.storyteller.book.repository.BookRepository;
 import com.cojac.storyteller.common.amazon.AmazonS3Service;
-import com.cojac.storyteller.page.entity.PageEntity;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
 import com.cojac.storyteller.page.repository.PageRepository;
 import com.cojac.storyteller.profile.dto.PinCheckResultDTO;
 import com.cojac.storyteller.profile.dto.PinNumberDTO;
 import com.cojac.storyteller.profile.dto.ProfileDTO;
 import com.cojac.storyteller.profile.dto.ProfilePhotoDTO;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.exception.ProfileAccessDeniedException;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
 import com.cojac.storyteller.profile.repository.ProfileRepository;
-import com.cojac.storyteller.profile.repository.batch.BatchProfileDelete;
 import com.cojac.storyteller.profile.service.ProfileService;
+import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.unknownWord.repository.UnknownWordRepository;
 import com.cojac.storyteller.user.entity.LocalUserEntity;
 import com.cojac.storyteller.user.exception.InvalidPinNumberException;
@@ -31,8 +31,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -67,6 +67,9 @@ class ProfileServiceUnitTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private OwnershipResolver ownershipResolver;
+
     @Mock
     private BookRepository bookRepository;
 
@@ -76,9 +79,6 @@ class ProfileServiceUnitTest {
     @Mock
     private UnknownWordRepository unknownWordRepository;
 
-    @Mock
-    private BatchProfileDelete batchProfileDelete;
-
     @InjectMocks
     private ProfileService profileService;
 
@@ -380,104 +380,57 @@ class ProfileServiceUnitTest {
         assertThrows(UserNotFoundException.class, () -> profileService.getProfileList(userId));
     }
 
+    @Test
+    @DisplayName("프로필 목록 조회 단위 테스트 - 다른 사용자의 목록을 조회할 때 예외")
+    void testGetProfileList_AccessDenied() {
+        // given
+        Integer userId = 1;
+        doThrow(new ProfileAccessDeniedException(ErrorCode.PROFILE_ACCESS_DENIED)).when(ownershipResolver).verifyUser(userId);
+
+        // when & then
+        assertThrows(ProfileAccessDeniedException.class, () -> profileService.getProfileList(userId));
+        verify(profileRepository, never()).findByUser(any());
+    }
+
     /**
      * 프로필 삭제하기
      */
     @Test
-    @DisplayName("프로필 삭제하기 단위 테스트 - 책만 존재하는 경우 - 성공")
+    @DisplayName("프로필 삭제하기 단위 테스트 - 성공")
     void testDeleteProfile_Success() throws Exception {
         // given
         Integer profileId = 1;
-
-        ProfileEntity profile = ProfileEntity.builder()
-                .build();
-
-        BookEntity book = BookEntity.builder()
-                .profile(profile)
-                .coverImage("coverImageUrl")
-                .build();
-
-        profile.addBook(book);
-
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByProfile(profile)).thenReturn(Collections.singletonList(book));
+        when(profileRepository.markDeleted(eq(profileId), any(LocalDateTime.class))).thenReturn(1);
 
         // when
         profileService.deleteProfile(profileId);
 
         // then
-        verify(bookRepository, times(1)).findByProfile(profile);
-        verify(amazonS3Service, times(1)).deleteS3("coverImageUrl");
-        verify(profileRepository, times(1)).findById(profileId);
-        verify(batchProfileDelete, times(1)).deleteByProfileId(profileId);
+        verify(profileRepository, times(1)).markDeleted(eq(profileId), any(LocalDateTime.class));
+        verify(ownershipResolver, times(1)).evictProfile(profileId);
     }
 
     @Test
-    @DisplayName("프로필 삭제하기 단위 테스트 - 책과 페이지가 존재하는 경우 - 성공")
-    void testDeleteProfile_withBooksAndPage_Success() throws Exception {
+    @DisplayName("프로필 삭제하기 단위 테스트 - 책과 이미지는 바로 삭제하지 않음")
+    void testDeleteProfile_OnlyMarksDeleted() throws Exception {
         // given
         Integer profileId = 1;
-
-        ProfileEntity profile = ProfileEntity.builder()
-                .build();
-
-        BookEntity book = BookEntity.builder()
-                .profile(profile)
-                .coverImage("coverImageUrl")
-                .build();
-
-        PageEntity page1 = PageEntity.builder()
-                .pageNumber(1)
-                .book(book)
-                .build();
-
-        PageEntity page2 = PageEntity.builder()
-                .pageNumber(2)
-                .book(book)
-                .build();
-
-        profile.addBook(book); // Adding book to profile
-
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByProfile(profile)).thenReturn(Collections.singletonList(book));
-
-        // When
-        profileService.deleteProfile(profileId);
-
-        // Then
-        verify(profileRepository, times(1)).findById(profileId);
-        verify(bookRepository, times(1)).findByProfile(profile);
-        verify(batchProfileDelete, times(1)).deleteByProfileId(profileId);
-    }
-
-
-    @Test
-    @DisplayName("프로필 삭제하기 단위 테스트 - 책과 페이지가 없는 경우 - 성공")
-    void testDeleteProfile_NoBooksOrPages_Success() throws Exception {
-        // given
-        Integer profileId = 1;
-        ProfileEntity profile = new ProfileEntity();
-
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByProfile(profile)).thenReturn(Collections.emptyList());
+        when(profileRepository.markDeleted(eq(profileId), any(LocalDateTime.class))).thenReturn(1);
 
         // when
         profileService.deleteProfile(profileId);
 
         // then
-        verify(bookRepository, times(1)).findByProfile(profile);
-        verify(amazonS3Service, times(0)).deleteS3(anyString());
-        verify(profileRepository, times(1)).findById(profileId);
-        verify(batchProfileDelete, times(1)).deleteByProfileId(profileId);
+        verify(profileRepository, never()).findById(any());
+        verifyNoInteractions(amazonS3Service);
     }
 
-
     @Test
-    @DisplayName("프로필 삭제하기 단위 테스트 - 프로필을 찾을 수 없을 때 예외")
+    @DisplayName("프로필 삭제하기 단위 테스트 - 프로필을 찾을 수 없을 때 예외 (이미 삭제 표시된 프로필 포함)")
     void testDeleteProfile_ProfileNotFound() {
         // given
         Integer profileId = 1;
-        when(profileRepository.findById(profileId)).thenReturn(Optional.empty());
+        when(profileRepository.markDeleted(eq(profileId), any(LocalDateTime.class))).thenReturn(0);
 
         // when & then
         assertThrows(ProfileNotFoundException.class, () -> profileService.deleteProfile(profileId));
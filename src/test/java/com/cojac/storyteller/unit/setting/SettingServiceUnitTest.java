@@ -5,7 +5,8 @@ import com.cojac.storyteller.book.exception.BookNotFoundException;
 import com.cojac.storyteller.book.repository.BookRepository;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
-import com.cojac.storyteller.profile.repository.ProfileRepository;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
+import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.setting.dto.SettingDTO;
 import com.cojac.storyteller.setting.entity.SettingEntity;
 import com.cojac.storyteller.setting.service.SettingService;
@@ -47,7 +48,7 @@ class SettingServiceUnitTest {
     private BookRepository bookRepository;
 
     @Mock
-    private ProfileRepository profileRepository;
+    private OwnershipResolver ownershipResolver;
 
     @InjectMocks
     private SettingService settingService;
@@ -74,16 +75,15 @@ class SettingServiceUnitTest {
         Integer bookId = 1;
         SettingDTO settingDTO = new SettingDTO();
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfileWithSetting(bookId, profile)).thenReturn(Optional.of(book));
+        when(bookRepository.findByIdWithSetting(bookId)).thenReturn(Optional.of(book));
 
         // when
         SettingDTO result = settingService.updateSetting(profileId, bookId, settingDTO);
 
         // then
         assertNotNull(result);
-        verify(profileRepository, times(1)).findById(profileId);
-        verify(bookRepository, times(1)).findByIdAndProfileWithSetting(bookId, profile);
+        verify(ownershipResolver, times(1)).verify(profileId, bookId);
+        verify(bookRepository, times(1)).findByIdWithSetting(bookId);
     }
 
     @Test
@@ -94,10 +94,11 @@ class SettingServiceUnitTest {
         Integer bookId = 1;
         SettingDTO settingDTO = new SettingDTO();
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.empty());
+        doThrow(new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND)).when(ownershipResolver).verify(profileId, bookId);
 
         // when & then
         assertThrows(ProfileNotFoundException.class, () -> settingService.updateSetting(profileId, bookId, settingDTO));
+        verify(bookRepository, never()).findByIdWithSetting(any());
     }
 
     @Test
@@ -108,8 +109,7 @@ class SettingServiceUnitTest {
         Integer bookId = 1;
         SettingDTO settingDTO = new SettingDTO();
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfileWithSetting(bookId, profile)).thenReturn(Optional.empty());
+        when(bookRepository.findByIdWithSetting(bookId)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> settingService.updateSetting(profileId, bookId, settingDTO));
@@ -125,16 +125,15 @@ class SettingServiceUnitTest {
         Integer profileId = 1;
         Integer bookId = 1;
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfileWithSetting(bookId, profile)).thenReturn(Optional.of(book));
+        when(bookRepository.findByIdWithSetting(bookId)).thenReturn(Optional.of(book));
 
         // when
         SettingDTO result = settingService.getDetailSettings(profileId, bookId);
 
         // then
         assertNotNull(result);
-        verify(bookRepository, times(1)).findByIdAndProfileWithSetting(bookId, profile);
-        verify(profileRepository, times(1)).findById(profileId);
+        verify(ownershipResolver, times(1)).verify(profileId, bookId);
+        verify(bookRepository, times(1)).findByIdWithSetting(bookId);
     }
 
     @Test
@@ -144,7 +143,7 @@ class SettingServiceUnitTest {
         Integer profileId = 1;
         Integer bookId = 1;
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.empty());
+        doThrow(new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND)).when(ownershipResolver).verify(profileId, bookId);
 
         // when & then
         assertThrows(ProfileNotFoundException.class, () -> settingService.getDetailSettings(profileId, bookId));
@@ -157,8 +156,7 @@ class SettingServiceUnitTest {
         Integer profileId = 1;
         Integer bookId = 1;
 
-        when(profileRepository.findById(profileId)).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfileWithSetting(bookId, profile)).thenReturn(Optional.empty());
+        when(bookRepository.findByIdWithSetting(bookId)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> settingService.getDetailSettings(profileId, bookId));
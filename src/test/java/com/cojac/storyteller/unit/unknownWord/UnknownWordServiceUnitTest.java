@@ -2,13 +2,14 @@ package com.cojac.storyteller.unit.unknownWord;
 
 import com.cojac.storyteller.book.entity.BookEntity;
 import com.cojac.storyteller.book.exception.BookNotFoundException;
-import com.cojac.storyteller.book.repository.BookRepository;
+import com.cojac.storyteller.common.ownership.OwnershipResolver;
+import com.cojac.storyteller.response.code.ErrorCode;
 import com.cojac.storyteller.page.entity.PageEntity;
 import com.cojac.storyteller.page.exception.PageNotFoundException;
 import com.cojac.storyteller.page.repository.PageRepository;
 import com.cojac.storyteller.profile.entity.ProfileEntity;
+import com.cojac.storyteller.profile.exception.ProfileAccessDeniedException;
 import com.cojac.storyteller.profile.exception.ProfileNotFoundException;
-import com.cojac.storyteller.profile.repository.ProfileRepository;
 import com.cojac.storyteller.unknownWord.dto.UnknownWordDetailDTO;
 import com.cojac.storyteller.unknownWord.dto.UnknownWordRequestDTO;
 import com.cojac.storyteller.unknownWord.entity.UnknownWordEntity;
@@ -51,10 +52,7 @@ class UnknownWordServiceUnitTest {
     private PageRepository pageRepository;
 
     @Mock
-    private BookRepository bookRepository;
-
-    @Mock
-    private ProfileRepository profileRepository;
+    private OwnershipResolver ownershipResolver;
 
     @Mock
     private UnknownWordRepository unknownWordRepository;
@@ -71,7 +69,7 @@ class UnknownWordServiceUnitTest {
     void setUp() {
         profile = ProfileEntity.builder().id(1).build();
         book = BookEntity.builder().id(1).profile(profile).title("Test Book").build();
-        page = PageEntity.builder().id(1).pageNumber(1).build();
+        page = PageEntity.builder().id(1).pageNumber(1).book(book).build();
         unknownWord = new UnknownWordEntity("testWord", 1, page);
     }
 
@@ -89,9 +87,7 @@ class UnknownWordServiceUnitTest {
         unknownWordRequestDTO.setUnknownWord("testWord");
         unknownWordRequestDTO.setPosition(1);
 
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
-        when(pageRepository.findByBookAndPageNumber(book, page.getPageNumber())).thenReturn(Optional.of(page));
+        when(pageRepository.findByBook_IdAndPageNumber(book.getId(), page.getPageNumber())).thenReturn(Optional.of(page));
         when(unknownWordRepository.save(any(UnknownWordEntity.class))).thenReturn(unknownWord);
 
         // when
@@ -105,9 +101,8 @@ class UnknownWordServiceUnitTest {
         assertEquals(unknownWordRequestDTO.getUnknownWord(), result.getUnknownWord());
         assertEquals(unknownWordRequestDTO.getPosition(), result.getPosition());
 
-        verify(profileRepository, times(1)).findById(profile.getId());
-        verify(bookRepository, times(1)).findByIdAndProfile(book.getId(), profile);
-        verify(pageRepository, times(1)).findByBookAndPageNumber(book, page.getPageNumber());
+        verify(ownershipResolver, times(1)).verify(profile.getId(), book.getId());
+        verify(pageRepository, times(1)).findByBook_IdAndPageNumber(book.getId(), page.getPageNumber());
         verify(unknownWordRepository, times(1)).save(any(UnknownWordEntity.class));
     }
 
@@ -120,10 +115,12 @@ class UnknownWordServiceUnitTest {
         unknownWordRequestDTO.setBookId(book.getId());
         unknownWordRequestDTO.setPageNum(page.getPageNumber());
 
-        when(profileRepository.findById(unknownWordRequestDTO.getProfileId())).thenReturn(Optional.empty());
+        doThrow(new ProfileNotFoundException(ErrorCode.PROFILE_NOT_FOUND))
+                .when(ownershipResolver).verify(unknownWordRequestDTO.getProfileId(), unknownWordRequestDTO.getBookId());
 
         // when & then
         assertThrows(ProfileNotFoundException.class, () -> unknownWordService.saveUnknownWord(unknownWordRequestDTO));
+        verify(unknownWordRepository, never()).save(any());
     }
 
     @Test
@@ -135,8 +132,8 @@ class UnknownWordServiceUnitTest {
         unknownWordRequestDTO.setBookId(999); // 존재하지 않는 책 ID
         unknownWordRequestDTO.setPageNum(page.getPageNumber());
 
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(unknownWordRequestDTO.getBookId(), profile)).thenReturn(Optional.empty());
+        doThrow(new BookNotFoundException(ErrorCode.BOOK_NOT_FOUND))
+                .when(ownershipResolver).verify(unknownWordRequestDTO.getProfileId(), unknownWordRequestDTO.getBookId());
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> unknownWordService.saveUnknownWord(unknownWordRequestDTO));
@@ -151,9 +148,7 @@ class UnknownWordServiceUnitTest {
         unknownWordRequestDTO.setBookId(book.getId());
         unknownWordRequestDTO.setPageNum(999); // 존재하지 않는 페이지 번호
 
-        when(profileRepository.findById(profile.getId())).thenReturn(Optional.of(profile));
-        when(bookRepository.findByIdAndProfile(book.getId(), profile)).thenReturn(Optional.of(book));
-        when(pageRepository.findByBookAndPageNumber(book, unknownWordRequestDTO.getPageNum())).thenReturn(Optional.empty());
+        when(pageRepository.findByBook_IdAndPageNumber(book.getId(), unknownWordRequestDTO.getPageNum())).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(PageNotFoundException.class, () -> unknownWordService.saveUnknownWord(unknownWordRequestDTO));
@@ -168,23 +163,38 @@ class UnknownWordServiceUnitTest {
         // given
         Integer unknownWordId = 1;
 
-        when(unknownWordRepository.findById(unknownWordId)).thenReturn(Optional.of(unknownWord));
+        when(unknownWordRepository.findWithBookById(unknownWordId)).thenReturn(Optional.of(unknownWord));
 
         // when
         unknownWordService.deleteUnknownWord(unknownWordId);
 
         // then
-        verify(unknownWordRepository, times(1)).findById(unknownWordId);
+        verify(ownershipResolver, times(1)).verify(profile.getId(), book.getId());
         verify(unknownWordRepository, times(1)).delete(unknownWord);
     }
 
+    @Test
+    @DisplayName("Unknown Word 삭제 단위 테스트 - 다른 사용자의 책에 속한 단어일 때 예외 처리")
+    void testDeleteUnknownWord_AccessDenied() {
+        // given
+        Integer unknownWordId = 1;
+
+        when(unknownWordRepository.findWithBookById(unknownWordId)).thenReturn(Optional.of(unknownWord));
+        doThrow(new ProfileAccessDeniedException(ErrorCode.PROFILE_ACCESS_DENIED))
+                .when(ownershipResolver).verify(profile.getId(), book.getId());
+
+        // when & then
+        assertThrows(ProfileAccessDeniedException.class, () -> unknownWordService.deleteUnknownWord(unknownWordId));
+        verify(unknownWordRepository, never()).delete(any());
+    }
+
     @Test
     @DisplayName("Unknown Word 삭제 단위 테스트 - Unknown Word가 존재하지 않을 때 예외 처리")
     void testDeleteUnknownWord_NotFound() {
         // given
         Integer unknownWordId = 1;
 
-        when(unknownWordRepository.findById(unknownWordId)).thenReturn(Optional.empty());
+        when(unknownWordRepository.findWithBookById(unknownWordId)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(UnknownWordNotFoundException.class, () -> unknownWordService.deleteUnknownWord(unknownWordId));
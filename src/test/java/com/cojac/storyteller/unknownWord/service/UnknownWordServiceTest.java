@@ -16,12 +16,17 @@ import com.cojac.storyteller.unknownWord.entity.UnknownWordEntity;
 import com.cojac.storyteller.unknownWord.exception.UnknownWordNotFoundException;
 import com.cojac.storyteller.unknownWord.repository.UnknownWordRepository;
 import com.cojac.storyteller.user.entity.LocalUserEntity;
+import com.cojac.storyteller.user.jwt.JWTAuthenticationDetails;
 import com.cojac.storyteller.user.repository.LocalUserRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -81,6 +86,12 @@ public class UnknownWordServiceTest {
                 .build();
         localUserEntity = localUserRepository.save(localUserEntity);
 
+        // 서비스의 소유 확인을 통과하도록 로그인
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                localUserEntity.getUsername(), null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+        authentication.setDetails(new JWTAuthenticationDetails("local", localUserEntity.getUsername()));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
         profileEntity = ProfileEntity.builder()
                 .name("Test Name")
                 .pinNumber("1234")
@@ -108,6 +119,11 @@ public class UnknownWordServiceTest {
         pageEntity = pageRepository.save(pageEntity);
     }
 
+    @AfterEach
+    public void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("Unknown Word 저장 통합 테스트 - 성공")
     public void testSaveUnknownWord_Success() {